@@ -4,9 +4,13 @@ plugins {
     alias(libs.plugins.hilt.android)
     alias(libs.plugins.google.services)
     alias(libs.plugins.kotlin.serialization)
+    alias(libs.plugins.androidx.baselineprofile)
     id("kotlin-kapt")
 }
 
+val composeReportsDir = layout.buildDirectory.dir("compose_compiler")
+val composeStabilityBaseline = file("compose-stability-baseline.properties")
+
 android {
     namespace = "com.fitsoul.app"
     compileSdk = 34
@@ -39,6 +43,13 @@ android {
         debug {
             isMinifyEnabled = false
         }
+        // Release-equivalent build the macrobenchmarks can install and profile
+        create("benchmark") {
+            initWith(getByName("release"))
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+            isDebuggable = false
+        }
     }
     
     compileOptions {
@@ -52,6 +63,18 @@ android {
             "-opt-in=androidx.compose.material3.ExperimentalMaterial3Api",
             "-opt-in=androidx.compose.animation.ExperimentalAnimationApi"
         )
+        // Compose compiler stability reports, read by checkComposeStability
+        val composeReports = composeReportsDir.get().asFile.absolutePath
+        freeCompilerArgs += listOf(
+            "-P", "plugin:androidx.compose.compiler.plugins.kotlin:metricsDestination=$composeReports",
+            "-P", "plugin:androidx.compose.compiler.plugins.kotlin:reportsDestination=$composeReports"
+        )
+        // Models from :core are compiled without Compose; declare the immutable ones stable
+        freeCompilerArgs += listOf(
+            "-P",
+            "plugin:androidx.compose.compiler.plugins.kotlin:stabilityConfigurationPath=" +
+                file("compose-stability.conf").absolutePath
+        )
     }
     
     buildFeatures {
@@ -76,6 +99,9 @@ android {
 }
 
 dependencies {
+    // Workout engine (pure JVM)
+    implementation(project(":core"))
+    
     // Core Android
     implementation(libs.androidx.core.ktx)
     implementation(libs.androidx.lifecycle.runtime.ktx)
@@ -105,6 +131,18 @@ dependencies {
     implementation(libs.hilt.android)
     kapt(libs.hilt.compiler)
     
+    // Background sync
+    implementation(libs.androidx.work.runtime.ktx)
+    implementation(libs.androidx.hilt.work)
+    kapt(libs.androidx.hilt.compiler)
+    
+    // Local database
+    implementation(libs.androidx.room.runtime)
+    implementation(libs.androidx.room.ktx)
+    implementation(libs.androidx.room.paging)
+    kapt(libs.androidx.room.compiler)
+    implementation(libs.androidx.paging.compose)
+    
     // Firebase
     implementation(platform(libs.firebase.bom))
     implementation(libs.firebase.auth.ktx)
@@ -115,6 +153,7 @@ dependencies {
     // Google Auth
     implementation(libs.play.services.auth)
     implementation(libs.googleid)
+    implementation(libs.androidx.biometric)
     
     
     // HTTP Client for Qwen API
@@ -126,8 +165,13 @@ dependencies {
     // Lottie Animations
     implementation("com.airbnb.android:lottie-compose:6.1.0")
     
-    // Advanced Performance
-    implementation("androidx.profileinstaller:profileinstaller:1.3.1")
+    // Startup
+    implementation(libs.androidx.startup.runtime)
+    implementation(libs.androidx.profileinstaller)
+    baselineProfile(project(":baselineprofile"))
+    
+    // Trace sections for Perfetto and in-app telemetry
+    implementation(libs.androidx.tracing.ktx)
     
     // ViewPager2 for better UI
     implementation("androidx.viewpager2:viewpager2:1.0.0")
@@ -149,6 +193,9 @@ dependencies {
     // System UI Controller
     implementation(libs.accompanist.systemuicontroller)
     
+    // Immutable collections for stable Compose parameters
+    implementation(libs.kotlinx.collections.immutable)
+    
     // Coroutines
     implementation(libs.kotlinx.coroutines.android)
     implementation(libs.kotlinx.coroutines.play.services)
@@ -165,7 +212,76 @@ dependencies {
     debugImplementation(libs.androidx.compose.ui.test.manifest)
 }
 
+baselineProfile {
+    // Regenerate explicitly with :app:generateBaselineProfile; never on every release build
+    automaticGenerationDuringBuild = false
+}
+
 // Allow references to generated code
 kapt {
     correctErrorTypes = true
 }
+
+// Share of restartable composables that are also skippable, per screen package, from the
+// release compiler metrics. Lambdas are left out; they are not parameters anyone can stabilize.
+fun screenSkippableRatios(): Map<String, Double> {
+    val csv = composeReportsDir.get().file("app_release-composables.csv").asFile
+    if (!csv.exists()) throw GradleException("Compose metrics not found at $csv")
+    val rows = csv.readLines().filter { it.isNotBlank() }.map { it.split(',') }
+    val header = rows.first()
+    val pkg = header.indexOf("package")
+    val restartable = header.indexOf("restartable")
+    val skippable = header.indexOf("skippable")
+    val lambda = header.indexOf("isLambda")
+    return rows.drop(1)
+        .filter { it[pkg].startsWith("com.fitsoul.app.ui.screens") && it[restartable] == "1" && it[lambda] != "1" }
+        .groupBy { it[pkg] }
+        .mapValues { (_, composables) -> composables.count { it[skippable] == "1" }.toDouble() / composables.size }
+        .toSortedMap()
+}
+
+val checkComposeStability by tasks.registering {
+    group = "verification"
+    description = "Fails if any screen's skippable composable ratio drops below, or is missing from, the recorded baseline."
+    dependsOn("compileReleaseKotlin")
+    doLast {
+        val baseline = java.util.Properties()
+        if (composeStabilityBaseline.exists()) composeStabilityBaseline.reader().use { baseline.load(it) }
+        val ratios = screenSkippableRatios()
+        // A screen without a recorded ratio is unguarded, so it fails the check like a regression
+        val regressions = ratios.map { (screen, ratio) ->
+            val recorded = baseline.getProperty(screen)?.toDouble()
+                ?: return@map "$screen: no baseline entry; run :app:updateComposeStabilityBaseline and commit the result"
+            if (ratio + 0.0001 < recorded) "$screen: ${"%.3f".format(ratio)} < baseline ${"%.3f".format(recorded)}" else null
+        }.filterNotNull()
+        (baseline.stringPropertyNames() - ratios.keys).forEach { screen ->
+            logger.warn("Compose stability baseline lists $screen, which no longer has restartable composables")
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException(
+                "Compose skippability regressed or has no baseline (see build/compose_compiler/*-composables.txt):\n" +
+                    regressions.joinToString("\n")
+            )
+        }
+    }
+}
+
+val updateComposeStabilityBaseline by tasks.registering {
+    group = "verification"
+    description = "Records the current per-screen skippable ratios as the new baseline."
+    dependsOn("compileReleaseKotlin")
+    doLast {
+        composeStabilityBaseline.writeText(
+            "# Minimum skippable/restartable ratio per screen package; written by updateComposeStabilityBaseline\n" +
+                screenSkippableRatios().entries.joinToString("\n", postfix = "\n") { (screen, ratio) -> "$screen=${"%.3f".format(ratio)}" }
+        )
+    }
+}
+
+// Gates check only once a baseline has been recorded; with no entries every screen would fail.
+// Until then run :app:updateComposeStabilityBaseline on a machine that builds and commit the file.
+val hasComposeStabilityBaseline = composeStabilityBaseline.exists() &&
+    composeStabilityBaseline.readLines().any { it.isNotBlank() && !it.startsWith("#") }
+if (hasComposeStabilityBaseline) {
+    tasks.named("check") { dependsOn(checkComposeStability) }
+}
@@ -41,4 +41,12 @@
 }
 
 # Domain models
--keep class com.fitsoul.app.domain.model.** { *; }
+-keep class com.fitsoul.core.model.** { *; }
+
+# Release builds drop verbose, debug and info logging along with the message building that
+# feeds it; warnings and errors stay. AppLog skips these levels itself via BuildConfig.DEBUG.
+-assumenosideeffects class android.util.Log {
+    public static int v(...);
+    public static int d(...);
+    public static int i(...);
+}
@@ -0,0 +1,87 @@
+package com.fitsoul.app.benchmark
+
+import android.os.Bundle
+import androidx.activity.ComponentActivity
+import androidx.activity.compose.setContent
+import androidx.compose.foundation.background
+import androidx.compose.foundation.layout.Box
+import androidx.compose.foundation.layout.fillMaxSize
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.getValue
+import androidx.compose.runtime.mutableStateOf
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.setValue
+import androidx.compose.ui.ExperimentalComposeUiApi
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.semantics.semantics
+import androidx.compose.ui.semantics.testTagsAsResourceId
+import com.fitsoul.app.core.theme.FitsoulColors
+import com.fitsoul.app.core.theme.FitsoulTheme
+import com.fitsoul.app.ui.screens.ai.AICoachScreen
+import com.fitsoul.app.ui.screens.home.ModernDashboard
+import com.fitsoul.app.ui.screens.progress.AIProgressScreen
+import com.fitsoul.app.ui.screens.workout.AIWorkoutDetailScreen
+import com.fitsoul.app.ui.screens.workout.MyWorkoutsScreen
+import dagger.hilt.android.AndroidEntryPoint
+import javax.inject.Inject
+
+/**
+ * Opens a single screen, named by [EXTRA_SCREEN], directly over seeded data so the jank
+ * benchmarks measure that screen alone without signing in or navigating to it. Only compiled
+ * into the benchmark build type.
+ */
+@AndroidEntryPoint
+class BenchmarkActivity : ComponentActivity() {
+
+    @Inject
+    lateinit var seeder: BenchmarkSeeder
+
+    @OptIn(ExperimentalComposeUiApi::class)
+    override fun onCreate(savedInstanceState: Bundle?) {
+        super.onCreate(savedInstanceState)
+        val screen = intent.getStringExtra(EXTRA_SCREEN) ?: SCREEN_DASHBOARD
+
+        setContent {
+            FitsoulTheme {
+                var seeded by remember { mutableStateOf(false) }
+                LaunchedEffect(screen) {
+                    seeder.seedFor(screen)
+                    seeded = true
+                }
+                Box(
+                    modifier = Modifier
+                        .fillMaxSize()
+                        .background(FitsoulColors.Background)
+                        .semantics { testTagsAsResourceId = true }
+                ) {
+                    if (seeded) BenchmarkScreen(screen)
+                }
+            }
+        }
+    }
+
+    companion object {
+        const val EXTRA_SCREEN = "screen"
+        const val SCREEN_CHAT = "chat"
+        const val SCREEN_WORKOUTS = "workouts"
+        const val SCREEN_WORKOUT_SESSION = "workout_session"
+        const val SCREEN_PROGRESS = "progress"
+        const val SCREEN_DASHBOARD = "dashboard"
+    }
+}
+
+@Composable
+private fun BenchmarkScreen(screen: String) {
+    when (screen) {
+        BenchmarkActivity.SCREEN_CHAT -> AICoachScreen()
+        BenchmarkActivity.SCREEN_WORKOUTS -> MyWorkoutsScreen()
+        BenchmarkActivity.SCREEN_WORKOUT_SESSION -> AIWorkoutDetailScreen(
+            workout = BenchmarkSeeder.SESSION_WORKOUT,
+            onNavigateBack = {},
+            onWorkoutCompleted = {}
+        )
+        BenchmarkActivity.SCREEN_PROGRESS -> AIProgressScreen()
+        else -> ModernDashboard()
+    }
+}
@@ -0,0 +1,105 @@
+package com.fitsoul.app.benchmark
+
+import android.util.Log
+import com.fitsoul.app.data.repository.ChatRepository
+import com.fitsoul.app.data.repository.WorkoutRepository
+import com.fitsoul.app.ui.screens.workout.AIWorkout
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.withContext
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Fills local storage with deterministic fake data for the jank benchmarks. Seeding goes
+ * through the real repositories so the screens read it exactly as they would in production,
+ * and is skipped when a previous iteration already left enough data behind.
+ */
+@Singleton
+class BenchmarkSeeder @Inject constructor(
+    private val chatRepository: ChatRepository,
+    private val workoutRepository: WorkoutRepository
+) {
+    private val TAG = "BenchmarkSeeder"
+
+    suspend fun seedFor(screen: String) = withContext(Dispatchers.IO) {
+        when (screen) {
+            BenchmarkActivity.SCREEN_CHAT -> seedChat()
+            BenchmarkActivity.SCREEN_WORKOUTS -> seedWorkouts()
+        }
+    }
+
+    private suspend fun seedChat() {
+        if (chatRepository.size() == CHAT_MESSAGES) return
+        chatRepository.clear()
+        for (i in 0 until CHAT_MESSAGES) {
+            val isFromAI = i % 2 == 1
+            chatRepository.addMessage(if (isFromAI) coachReply(i) else userMessage(i), isFromAI)
+        }
+        Log.d(TAG, "💬 Seeded $CHAT_MESSAGES chat messages")
+    }
+
+    private suspend fun seedWorkouts() {
+        val existing = workoutRepository.savedWorkouts.first().count { it.id.startsWith(WORKOUT_ID_PREFIX) }
+        for (i in existing until SAVED_WORKOUTS) workoutRepository.saveWorkout(workout(i))
+        Log.d(TAG, "🏋️ Seeded ${SAVED_WORKOUTS - existing} saved workouts")
+    }
+
+    private fun userMessage(i: Int) = when (i % 3) {
+        0 -> "How should I warm up before leg day?"
+        1 -> "Can you make my workout #$i a bit harder? My knees are fine now."
+        else -> "What should I eat after training?"
+    }
+
+    // Mixes short replies with long formatted ones so bubbles vary in height and styling
+    private fun coachReply(i: Int) = if (i % 4 == 1) {
+        "Great question! 💪"
+    } else {
+        buildString {
+            appendLine("# Plan for session $i")
+            appendLine("Here is what I suggest for **today**:")
+            repeat(2 + i % 5) { step ->
+                appendLine("• **${EXERCISES[(i + step) % EXERCISES.size]}**: 3 sets of ${8 + step * 2} reps")
+            }
+            append("Rest 60-90 seconds between sets and keep your core braced throughout.")
+        }
+    }
+
+    private fun workout(i: Int) = AIWorkout(
+        id = "$WORKOUT_ID_PREFIX$i",
+        name = "Benchmark Workout ${i + 1}",
+        description = "Seeded workout ${i + 1} for scroll benchmarks",
+        duration = 15 + i % 46,
+        difficulty = DIFFICULTIES[i % DIFFICULTIES.size],
+        exercises = List(4 + i % 5) { EXERCISES[(i + it) % EXERCISES.size] },
+        targetMuscleGroups = List(1 + i % 3) { MUSCLES[(i + it) % MUSCLES.size] },
+        caloriesEstimate = 120 + (i * 37) % 400,
+        dateGenerated = BASE_TIME - i * 3_600_000L
+    )
+
+    companion object {
+        const val CHAT_MESSAGES = 200
+        const val SAVED_WORKOUTS = 500
+
+        /** Workout the active-session benchmark starts; its timers tick while frames are measured. */
+        val SESSION_WORKOUT = AIWorkout(
+            id = "benchmark_session",
+            name = "Benchmark Session",
+            description = "Full-body circuit used by the active workout benchmark",
+            duration = 30,
+            difficulty = "Intermediate",
+            exercises = listOf("Push-ups", "Squats", "Plank", "Lunges", "Burpees", "Mountain Climbers"),
+            targetMuscleGroups = listOf("Chest", "Legs", "Core"),
+            caloriesEstimate = 280
+        )
+
+        private const val WORKOUT_ID_PREFIX = "benchmark_"
+        private const val BASE_TIME = 1_700_000_000_000L
+        private val DIFFICULTIES = listOf("Beginner", "Intermediate", "Advanced")
+        private val EXERCISES = listOf(
+            "Push-ups", "Squats", "Plank", "Lunges", "Burpees", "Mountain Climbers",
+            "Deadlifts", "Rows", "Jumping Jacks", "Glute Bridges"
+        )
+        private val MUSCLES = listOf("Chest", "Back", "Legs", "Core", "Shoulders", "Arms", "Full Body")
+    }
+}
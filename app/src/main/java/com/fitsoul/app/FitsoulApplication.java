@@ -2,25 +2,37 @@ package com.fitsoul.app;
 
 import android.app.Application;
 import android.util.Log;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
+import androidx.annotation.NonNull;
+import androidx.hilt.work.HiltWorkerFactory;
+import androidx.work.Configuration;
 import dagger.hilt.android.HiltAndroidApp;
+import javax.inject.Inject;
 
 @HiltAndroidApp
-public class FitsoulApplication extends Application {
+public class FitsoulApplication extends Application implements Configuration.Provider {
     private static final String TAG = "FitsoulApplication";
     
+    @Inject
+    HiltWorkerFactory workerFactory;
+    
+    // WorkManager is initialized on demand with this configuration, the first time sync is scheduled
+    @NonNull
+    @Override
+    public Configuration getWorkManagerConfiguration() {
+        return new Configuration.Builder()
+                .setWorkerFactory(workerFactory)
+                .build();
+    }
+    
     @Override
     public void onCreate() {
         try {
             super.onCreate();
             Log.d(TAG, "FitsoulApplication onCreate started");
             
-            // Initialize Firebase
-            initializeFirebase();
-            
-            // Initialize any other application-wide components here
-            Log.d(TAG, "All application components initialized successfully");
+            // Firebase, Google Sign-In and the AI HTTP client are created on first use through
+            // androidx.startup initializers (see core/startup and AppModule), keeping them off
+            // the cold-start path.
             
             Log.d(TAG, "FitsoulApplication onCreate completed successfully");
         } catch (Exception e) {
@@ -28,19 +40,4 @@ public class FitsoulApplication extends Application {
             // Log the error but don't crash the app completely
         }
     }
-    
-    private void initializeFirebase() {
-        try {
-            if (FirebaseApp.getApps(this).isEmpty()) {
-                FirebaseApp.initializeApp(this);
-                Log.d(TAG, "Firebase initialized successfully");
-            } else {
-                Log.d(TAG, "Firebase already initialized");
-            }
-        } catch (Exception e) {
-            Log.e(TAG, "Firebase initialization failed", e);
-            // Don't crash the app, but log the error
-            // The app can still function without Firebase in some cases
-        }
-    }
 }
@@ -2,8 +2,8 @@
 
 import android.os.Bundle
 import android.util.Log
-import androidx.activity.ComponentActivity
 import androidx.activity.compose.setContent
+import androidx.compose.foundation.layout.Box
 import androidx.compose.foundation.layout.fillMaxSize
 import androidx.compose.foundation.layout.padding
 import androidx.compose.foundation.layout.Arrangement
@@ -11,11 +11,15 @@ import androidx.compose.foundation.layout.Column
 import androidx.compose.material3.MaterialTheme
 import androidx.compose.material3.Surface
 import androidx.compose.material3.Text
+import androidx.compose.ui.ExperimentalComposeUiApi
 import androidx.compose.ui.Modifier
+import androidx.compose.ui.semantics.semantics
+import androidx.compose.ui.semantics.testTagsAsResourceId
 import androidx.compose.ui.unit.dp
 import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.runtime.Composable
 import androidx.core.view.WindowCompat
+import androidx.fragment.app.FragmentActivity
 import com.fitsoul.app.core.auth.GoogleSignInHelper
 import com.fitsoul.app.core.auth.GoogleSignInManager
 import com.fitsoul.app.core.navigation.FitsoulNavigation
@@ -24,7 +28,8 @@ import dagger.hilt.android.AndroidEntryPoint
 import javax.inject.Inject
 
 @AndroidEntryPoint
-class MainActivity : ComponentActivity() {
+// FragmentActivity so the app-lock screen can host a BiometricPrompt
+class MainActivity : FragmentActivity() {
     companion object {
         private const val TAG = "MainActivity"
     }
@@ -32,6 +37,7 @@ class MainActivity : ComponentActivity() {
     @Inject
     lateinit var googleSignInHelper: GoogleSignInHelper
     
+    @OptIn(ExperimentalComposeUiApi::class)
     override fun onCreate(savedInstanceState: Bundle?) {
         super.onCreate(savedInstanceState)
         
@@ -42,12 +48,15 @@ class MainActivity : ComponentActivity() {
             WindowCompat.setDecorFitsSystemWindows(window, false)
             Log.d(TAG, "Edge-to-edge setup completed")
             
-            // Initialize Google Sign-In
+            // Register the Google Sign-In launcher; the client itself is built on first use
             initializeGoogleSignIn()
 
             setContent {
                 FitsoulTheme {
-                    FitsoulNavigation()
+                    // Expose test tags as resource ids so UiAutomator benchmarks can find them
+                    Box(modifier = Modifier.semantics { testTagsAsResourceId = true }) {
+                        FitsoulNavigation()
+                    }
                 }
             }
             
@@ -61,10 +70,9 @@ class MainActivity : ComponentActivity() {
     
     private fun initializeGoogleSignIn() {
         try {
-            val webClientId = getString(R.string.default_web_client_id)
-            googleSignInHelper.initialize(this, webClientId)
+            googleSignInHelper.initialize(this)
             GoogleSignInManager.setHelper(googleSignInHelper)
-            Log.d(TAG, "Google Sign-In initialized successfully")
+            Log.d(TAG, "Google Sign-In launcher registered")
         } catch (e: Exception) {
             Log.e(TAG, "Failed to initialize Google Sign-In", e)
         }
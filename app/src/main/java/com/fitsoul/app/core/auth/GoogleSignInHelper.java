@@ -11,13 +11,16 @@ import com.google.android.gms.auth.api.signin.GoogleSignInClient;
 import com.google.android.gms.auth.api.signin.GoogleSignInOptions;
 import com.google.android.gms.common.api.ApiException;
 import com.google.android.gms.tasks.Task;
+import dagger.Lazy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 @Singleton
 public class GoogleSignInHelper {
     
+    private final Lazy<GoogleSignInOptions> signInOptions;
     private GoogleSignInClient googleSignInClient;
+    private ComponentActivity activity;
     private ActivityResultLauncher<Intent> signInLauncher;
     private OnSignInResultListener listener;
     
@@ -27,16 +30,17 @@ public class GoogleSignInHelper {
     }
     
     @Inject
-    public GoogleSignInHelper() {
+    public GoogleSignInHelper(Lazy<GoogleSignInOptions> signInOptions) {
+        this.signInOptions = signInOptions;
     }
     
-    public void initialize(ComponentActivity activity, String webClientId) {
-        GoogleSignInOptions gso = new GoogleSignInOptions.Builder(GoogleSignInOptions.DEFAULT_SIGN_IN)
-                .requestIdToken(webClientId)
-                .requestEmail()
-                .build();
-                
-        googleSignInClient = GoogleSignIn.getClient(activity, gso);
+    /**
+     * Only registers the result launcher, which must happen before the activity is started.
+     * The sign-in client itself is built on the first {@link #signIn} call.
+     */
+    public void initialize(ComponentActivity activity) {
+        this.activity = activity;
+        this.googleSignInClient = null;
         
         signInLauncher = activity.registerForActivityResult(
             new ActivityResultContracts.StartActivityForResult(),
@@ -55,7 +59,7 @@ public class GoogleSignInHelper {
     
     public void signIn(OnSignInResultListener listener) {
         this.listener = listener;
-        Intent signInIntent = googleSignInClient.getSignInIntent();
+        Intent signInIntent = getClient().getSignInIntent();
         signInLauncher.launch(signInIntent);
     }
     
@@ -75,6 +79,13 @@ public class GoogleSignInHelper {
         }
     }
     
+    private GoogleSignInClient getClient() {
+        if (googleSignInClient == null) {
+            googleSignInClient = GoogleSignIn.getClient(activity, signInOptions.get());
+        }
+        return googleSignInClient;
+    }
+    
     public void signOut() {
         if (googleSignInClient != null) {
             googleSignInClient.signOut();
@@ -0,0 +1,292 @@
+package com.fitsoul.app.core.auth
+
+import android.content.Context
+import android.util.Base64
+import android.util.Log
+import androidx.datastore.preferences.core.MutablePreferences
+import androidx.datastore.preferences.core.booleanPreferencesKey
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.intPreferencesKey
+import androidx.datastore.preferences.core.longPreferencesKey
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.app.data.sync.SyncScheduler
+import com.google.firebase.FirebaseNetworkException
+import com.google.firebase.auth.FirebaseAuth
+import com.google.firebase.auth.FirebaseAuthInvalidCredentialsException
+import com.google.firebase.auth.FirebaseAuthInvalidUserException
+import com.google.firebase.auth.FirebaseUser
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.tasks.await
+import kotlinx.coroutines.withContext
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import java.security.MessageDigest
+import java.security.SecureRandom
+import javax.crypto.SecretKeyFactory
+import javax.crypto.spec.PBEKeySpec
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.sessionDataStore by preferencesDataStore("session")
+private val CACHED_SESSION_KEY = stringPreferencesKey("cached_session")
+private val GATE_ENABLED_KEY = booleanPreferencesKey("gate_enabled")
+private val PIN_HASH_KEY = stringPreferencesKey("pin_hash")
+private val PIN_SALT_KEY = stringPreferencesKey("pin_salt")
+private val PIN_FAILURES_KEY = intPreferencesKey("pin_failures")
+private val PIN_LOCKED_UNTIL_KEY = longPreferencesKey("pin_locked_until")
+
+/** The signed-in identity as last confirmed by Firebase, kept locally for instant restore. */
+@Serializable
+data class CachedSession(
+    val uid: String,
+    val email: String,
+    val displayName: String,
+    val photoUrl: String? = null,
+    val lastValidatedAt: Long = 0
+)
+
+sealed interface SessionState {
+    object Restoring : SessionState
+    object SignedOut : SessionState
+    data class Locked(val session: CachedSession) : SessionState
+    data class Active(val session: CachedSession) : SessionState
+}
+
+sealed interface PinUnlockResult {
+    object Unlocked : PinUnlockResult
+    data class Incorrect(val attemptsLeft: Int) : PinUnlockResult
+    /** Too many wrong PINs in a row; no attempt is checked before [retryAtMillis]. */
+    data class LockedOut(val retryAtMillis: Long) : PinUnlockResult
+    /** The attempt limit was reached; the session is gone and the user has to sign in again. */
+    object SignedOut : PinUnlockResult
+}
+
+/**
+ * Restores the last session from local storage so returning users land on the app without
+ * touching the network. Firebase is only consulted afterwards, in the background, to refresh
+ * the ID token; the session is dropped only when Firebase rejects the user, never when offline.
+ */
+@Singleton
+class SessionManager @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val firebaseAuth: dagger.Lazy<FirebaseAuth>,
+    private val syncScheduler: SyncScheduler
+) {
+    private val TAG = "SessionManager"
+    private val json = Json { ignoreUnknownKeys = true }
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+
+    private val _state = MutableStateFlow<SessionState>(SessionState.Restoring)
+    val state: StateFlow<SessionState> = _state.asStateFlow()
+
+    val gateEnabled = context.sessionDataStore.data.map { it[GATE_ENABLED_KEY] == true }
+
+    private var authListener: FirebaseAuth.AuthStateListener? = null
+
+    init {
+        scope.launch { restore() }
+    }
+
+    private suspend fun restore() {
+        val preferences = context.sessionDataStore.data.first()
+        val cached = decode(preferences[CACHED_SESSION_KEY])
+
+        _state.value = when {
+            cached == null -> SessionState.SignedOut
+            preferences[GATE_ENABLED_KEY] == true && preferences[PIN_HASH_KEY] != null -> SessionState.Locked(cached)
+            else -> SessionState.Active(cached)
+        }
+        Log.d(TAG, if (cached != null) "⚡ Restored cached session for ${cached.uid}" else "No cached session")
+
+        // Firebase init and token refresh happen after routing, off the critical path
+        observeFirebase()
+        if (cached != null) revalidate(cached)
+    }
+
+    private fun observeFirebase() {
+        if (authListener != null) return
+        val listener = FirebaseAuth.AuthStateListener { auth ->
+            val user = auth.currentUser
+            scope.launch {
+                if (user != null) onSignedIn(user) else onSignedOut()
+            }
+        }
+        authListener = listener
+        firebaseAuth.get().addAuthStateListener(listener)
+    }
+
+    private suspend fun revalidate(cached: CachedSession) {
+        val user = firebaseAuth.get().currentUser
+        if (user == null || user.uid != cached.uid) {
+            Log.w(TAG, "⚠️ Cached session no longer matches Firebase user")
+            onSignedOut()
+            return
+        }
+        try {
+            user.getIdToken(true).await()
+            saveSession(user)
+            Log.d(TAG, "✅ Session token revalidated")
+        } catch (e: FirebaseAuthInvalidUserException) {
+            Log.w(TAG, "⚠️ User disabled or deleted, ending session")
+            firebaseAuth.get().signOut()
+        } catch (e: FirebaseAuthInvalidCredentialsException) {
+            Log.w(TAG, "⚠️ Credentials revoked, ending session")
+            firebaseAuth.get().signOut()
+        } catch (e: FirebaseNetworkException) {
+            // Offline: keep the cached session and try again on the next launch
+            Log.d(TAG, "Offline, keeping cached session")
+        } catch (e: Exception) {
+            Log.e(TAG, "❌ Token revalidation failed: ${e.message}")
+        }
+    }
+
+    private suspend fun onSignedIn(user: FirebaseUser) {
+        val session = saveSession(user)
+        syncScheduler.schedulePeriodic()
+        // A fresh sign-in unlocks; a restored session keeps its lock until the user passes the gate
+        when (_state.value) {
+            is SessionState.Locked -> _state.value = SessionState.Locked(session)
+            else -> _state.value = SessionState.Active(session)
+        }
+    }
+
+    // The lock belongs to the account, so it goes with the session
+    private suspend fun onSignedOut() {
+        context.sessionDataStore.edit { preferences ->
+            preferences.remove(CACHED_SESSION_KEY)
+            clearGate(preferences)
+        }
+        syncScheduler.cancel()
+        _state.value = SessionState.SignedOut
+    }
+
+    private suspend fun saveSession(user: FirebaseUser): CachedSession {
+        val session = CachedSession(
+            uid = user.uid,
+            email = user.email.orEmpty(),
+            displayName = user.displayName.orEmpty(),
+            photoUrl = user.photoUrl?.toString(),
+            lastValidatedAt = System.currentTimeMillis()
+        )
+        context.sessionDataStore.edit { it[CACHED_SESSION_KEY] = json.encodeToString(session) }
+        return session
+    }
+
+    /** Called after a successful biometric prompt. */
+    fun unlock() {
+        val current = _state.value
+        if (current is SessionState.Locked) _state.value = SessionState.Active(current.session)
+        scope.launch { context.sessionDataStore.edit { preferences -> clearPinFailures(preferences) } }
+    }
+
+    /**
+     * Checks [pin] against the stored hash. Failures are counted on disk, so restarting the app
+     * does not reset them: after [FREE_PIN_ATTEMPTS] each further failure locks the PIN out for
+     * twice as long as the last, and the [MAX_PIN_ATTEMPTS]th ends the session.
+     */
+    suspend fun unlockWithPin(pin: String): PinUnlockResult {
+        val preferences = context.sessionDataStore.data.first()
+        val lockedUntil = preferences[PIN_LOCKED_UNTIL_KEY] ?: 0L
+        if (System.currentTimeMillis() < lockedUntil) return PinUnlockResult.LockedOut(lockedUntil)
+        val storedHash = preferences[PIN_HASH_KEY] ?: return PinUnlockResult.Incorrect(0)
+        val salt = preferences[PIN_SALT_KEY]?.let { Base64.decode(it, Base64.NO_WRAP) }
+            ?: return PinUnlockResult.Incorrect(0)
+
+        if (MessageDigest.isEqual(hashPin(pin, salt), Base64.decode(storedHash, Base64.NO_WRAP))) {
+            unlock()
+            return PinUnlockResult.Unlocked
+        }
+
+        var failures = 0
+        var retryAt = 0L
+        context.sessionDataStore.edit { updated ->
+            failures = (updated[PIN_FAILURES_KEY] ?: 0) + 1
+            updated[PIN_FAILURES_KEY] = failures
+            if (failures > FREE_PIN_ATTEMPTS) {
+                val lockout = BASE_PIN_LOCKOUT_MILLIS shl (failures - FREE_PIN_ATTEMPTS - 1)
+                retryAt = System.currentTimeMillis() + minOf(lockout, MAX_PIN_LOCKOUT_MILLIS)
+                updated[PIN_LOCKED_UNTIL_KEY] = retryAt
+            }
+        }
+        Log.w(TAG, "⚠️ Incorrect PIN ($failures of $MAX_PIN_ATTEMPTS)")
+
+        if (failures >= MAX_PIN_ATTEMPTS) {
+            Log.w(TAG, "⚠️ PIN attempt limit reached, ending session")
+            // Clears the cached session and the PIN, so only a full sign-in gets back in
+            onSignedOut()
+            firebaseAuth.get().signOut()
+            return PinUnlockResult.SignedOut
+        }
+        return if (retryAt > 0L) PinUnlockResult.LockedOut(retryAt) else PinUnlockResult.Incorrect(MAX_PIN_ATTEMPTS - failures)
+    }
+
+    suspend fun enableGate(pin: String) {
+        val salt = ByteArray(SALT_BYTES).also { SecureRandom().nextBytes(it) }
+        val hash = hashPin(pin, salt)
+        context.sessionDataStore.edit { preferences ->
+            preferences[PIN_SALT_KEY] = Base64.encodeToString(salt, Base64.NO_WRAP)
+            preferences[PIN_HASH_KEY] = Base64.encodeToString(hash, Base64.NO_WRAP)
+            preferences[GATE_ENABLED_KEY] = true
+            clearPinFailures(preferences)
+        }
+        Log.d(TAG, "🔒 App lock enabled")
+    }
+
+    suspend fun disableGate() {
+        context.sessionDataStore.edit { preferences -> clearGate(preferences) }
+        Log.d(TAG, "🔓 App lock disabled")
+    }
+
+    private fun clearGate(preferences: MutablePreferences) {
+        preferences.remove(GATE_ENABLED_KEY)
+        preferences.remove(PIN_HASH_KEY)
+        preferences.remove(PIN_SALT_KEY)
+        clearPinFailures(preferences)
+    }
+
+    private fun clearPinFailures(preferences: MutablePreferences) {
+        preferences.remove(PIN_FAILURES_KEY)
+        preferences.remove(PIN_LOCKED_UNTIL_KEY)
+    }
+
+    private suspend fun hashPin(pin: String, salt: ByteArray): ByteArray = withContext(Dispatchers.Default) {
+        val spec = PBEKeySpec(pin.toCharArray(), salt, PIN_HASH_ITERATIONS, PIN_HASH_BITS)
+        try {
+            SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256").generateSecret(spec).encoded
+        } finally {
+            spec.clearPassword()
+        }
+    }
+
+    private fun decode(sessionJson: String?): CachedSession? {
+        if (sessionJson.isNullOrEmpty()) return null
+        return try {
+            json.decodeFromString<CachedSession>(sessionJson)
+        } catch (e: Exception) {
+            Log.e(TAG, "❌ Error loading cached session: ${e.message}")
+            null
+        }
+    }
+
+    private companion object {
+        const val SALT_BYTES = 16
+        const val PIN_HASH_ITERATIONS = 10_000
+        const val PIN_HASH_BITS = 256
+        const val FREE_PIN_ATTEMPTS = 4
+        const val MAX_PIN_ATTEMPTS = 10
+        const val BASE_PIN_LOCKOUT_MILLIS = 30_000L
+        const val MAX_PIN_LOCKOUT_MILLIS = 15 * 60_000L
+    }
+}
@@ -0,0 +1,47 @@
+package com.fitsoul.app.core.logging
+
+import android.util.Log
+import com.fitsoul.app.BuildConfig
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * Logging facade for hot paths. Messages are lambdas that only run when the line is actually
+ * written, and debug lines sit behind [BuildConfig.DEBUG], so release builds neither format nor
+ * allocate them; the `-assumenosideeffects` rule in proguard-rules.pro strips any direct
+ * `Log.v/d/i` call left elsewhere. Warnings and errors are kept in release.
+ *
+ * Tags registered with [sample] write only every Nth debug line, for per-sample or per-tick
+ * logging that would otherwise flood logcat.
+ */
+object AppLog {
+
+    private val sampleEvery = ConcurrentHashMap<String, Int>()
+    private val sampleCounters = ConcurrentHashMap<String, AtomicLong>()
+
+    fun sample(tag: String, every: Int) {
+        sampleEvery[tag] = every.coerceAtLeast(1)
+    }
+
+    inline fun d(tag: String, message: () -> String) {
+        if (BuildConfig.DEBUG && admit(tag)) Log.d(tag, message())
+    }
+
+    inline fun i(tag: String, message: () -> String) {
+        if (BuildConfig.DEBUG && admit(tag)) Log.i(tag, message())
+    }
+
+    inline fun w(tag: String, throwable: Throwable? = null, message: () -> String) {
+        Log.w(tag, message(), throwable)
+    }
+
+    inline fun e(tag: String, throwable: Throwable? = null, message: () -> String) {
+        Log.e(tag, message(), throwable)
+    }
+
+    @PublishedApi
+    internal fun admit(tag: String): Boolean {
+        val every = sampleEvery[tag] ?: return true
+        return sampleCounters.getOrPut(tag) { AtomicLong() }.getAndIncrement() % every == 0L
+    }
+}
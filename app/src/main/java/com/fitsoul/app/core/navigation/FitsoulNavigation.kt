@@ -1,5 +1,7 @@
 package com.fitsoul.app.core.navigation
 
+import androidx.activity.compose.ReportDrawn
+import androidx.compose.foundation.background
 import androidx.compose.foundation.layout.Box
 import androidx.compose.foundation.layout.fillMaxSize
 import androidx.compose.foundation.layout.padding
@@ -7,20 +9,29 @@ import androidx.compose.material3.CircularProgressIndicator
 import androidx.compose.material3.Scaffold
 import androidx.compose.runtime.Composable
 import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.collectAsState
 import androidx.compose.runtime.getValue
 import androidx.compose.runtime.remember
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.hilt.navigation.compose.hiltViewModel
-import androidx.compose.runtime.livedata.observeAsState
+import androidx.navigation.NamedNavArgument
+import androidx.navigation.NavBackStackEntry
+import androidx.navigation.NavGraphBuilder
 import androidx.navigation.compose.NavHost
 import androidx.navigation.compose.composable
 import androidx.navigation.compose.rememberNavController
+import com.fitsoul.app.core.auth.SessionState
+import com.fitsoul.app.core.telemetry.TraceFirstFrame
+import com.fitsoul.app.core.telemetry.TrackNavigation
+import com.fitsoul.app.core.theme.FitsoulColors
+import com.fitsoul.app.data.repository.AuthState
 import com.fitsoul.app.ui.screens.onboarding.SplashScreen
 import com.fitsoul.app.ui.screens.home.ModernDashboard
 import com.fitsoul.app.ui.screens.auth.ModernLoginScreen
 import com.fitsoul.app.ui.screens.auth.ModernSignUpScreen
 import com.fitsoul.app.ui.screens.auth.ForgotPasswordScreen
+import com.fitsoul.app.ui.screens.auth.SessionLockScreen
 import com.fitsoul.app.ui.screens.onboarding.ObjectivesScreen
 import com.fitsoul.app.ui.screens.analysis.AnalysisScreen
 import com.fitsoul.app.ui.screens.challenges.ChallengesScreen
@@ -31,7 +42,10 @@ import com.fitsoul.app.ui.screens.workout.AIWorkoutGeneratorScreen
 import com.fitsoul.app.ui.screens.workout.WorkoutDetailScreen
 import com.fitsoul.app.ui.screens.workout.AIWorkout
 import com.fitsoul.app.ui.screens.progress.AIProgressScreen
+import com.fitsoul.app.ui.screens.debug.TelemetryScreen
 import com.fitsoul.app.ui.viewmodel.AuthViewModel
+import com.fitsoul.app.ui.viewmodel.ProfileViewModel
+import com.fitsoul.app.ui.viewmodel.SessionViewModel
 import com.fitsoul.app.ui.viewmodel.WorkoutViewModel
 import com.fitsoul.app.ui.components.FitsoulBottomNavigationBar
 import androidx.navigation.navArgument
@@ -43,32 +57,77 @@ import java.net.URLEncoder
 import java.net.URLDecoder
 import java.nio.charset.StandardCharsets
 
+private val AUTH_ROUTES = setOf("login", "signup", "forgot_password", "session_lock")
+
 @Composable
 fun FitsoulNavigation() {
     val navController = rememberNavController()
+    TrackNavigation(navController)
     val authViewModel: AuthViewModel = hiltViewModel()
+    val sessionViewModel: SessionViewModel = hiltViewModel()
     
-    val authState by authViewModel.authState.observeAsState()
+    val authState by authViewModel.authState.collectAsState()
+    val sessionState by sessionViewModel.state.collectAsState()
     
-    // Force sign out on app start - always require login
-    LaunchedEffect(Unit) {
-        authViewModel.signOut()
+    // The cached session is read from local storage in a few milliseconds; hold the
+    // plain background until then so returning users never flash the login screen
+    if (sessionState is SessionState.Restoring) {
+        Box(
+            modifier = Modifier
+                .fillMaxSize()
+                .background(FitsoulColors.Background)
+        )
+        return
     }
     
-    // Always start with login screen to require sign-in
-    val startDestination = "login"
+    val startDestination = remember {
+        when (sessionState) {
+            is SessionState.Active -> "main_app"
+            is SessionState.Locked -> "session_lock"
+            else -> "login"
+        }
+    }
+    
+    // Background revalidation or a sign-out elsewhere ends the session
+    LaunchedEffect(sessionState) {
+        if (sessionState is SessionState.SignedOut) {
+            val route = navController.currentDestination?.route
+            if (route !in AUTH_ROUTES) {
+                navController.navigate("login") {
+                    popUpTo(0) { inclusive = true }
+                }
+            }
+        }
+    }
     
     NavHost(
         navController = navController,
         startDestination = startDestination
     ) {
         // Splash Screen
-        composable("splash") {
+        screen("splash") {
             SplashScreen()
         }
         
         // Authentication Flow
-        composable("login") {
+        screen("session_lock") {
+            SessionLockScreen(
+                onSignOut = {
+                    authViewModel.signOut()
+                }
+            )
+            LaunchedEffect(sessionState) {
+                if (sessionState is SessionState.Active) {
+                    navController.navigate("main_app") {
+                        popUpTo("session_lock") { inclusive = true }
+                    }
+                }
+            }
+        }
+        
+        screen("login") {
+            // Login is the first fully drawn screen of a signed-out cold start
+            ReportDrawn()
             ModernLoginScreen(
                 onLoginSuccess = {
                     navController.navigate("objectives") {
@@ -84,7 +143,7 @@ fun FitsoulNavigation() {
             )
         }
 
-        composable("signup") {
+        screen("signup") {
             ModernSignUpScreen(
                 onSignUpSuccess = {
                     navController.navigate("objectives") {
@@ -97,7 +156,7 @@ fun FitsoulNavigation() {
             )
         }
         
-        composable("forgot_password") {
+        screen("forgot_password") {
             ForgotPasswordScreen(
                 onNavigateBack = {
                     navController.popBackStack()
@@ -106,10 +165,11 @@ fun FitsoulNavigation() {
         }
         
         // Onboarding Flow
-        composable("objectives") {
+        screen("objectives") {
+            val profileViewModel: ProfileViewModel = hiltViewModel()
             ObjectivesScreen(
-                onContinue = { _ ->
-                    // Save selected objectives (implement later)
+                onContinue = { objectives ->
+                    profileViewModel.updateGoals(objectives)
                     navController.navigate("main_app") {
                         popUpTo(0) { inclusive = true }
                     }
@@ -118,12 +178,13 @@ fun FitsoulNavigation() {
         }
         
         // Main App with Bottom Navigation
-        composable("main_app") {
+        screen("main_app") {
+            ReportDrawn()
             MainAppScreen(authViewModel = authViewModel)
         }
         
         // Individual Screens for Bottom Navigation
-        composable("home") {
+        screen("home") {
             ProtectedRoute(
                 authState = authState,
                 navController = navController,
@@ -140,7 +201,7 @@ fun FitsoulNavigation() {
             )
         }
         
-        composable("analysis") {
+        screen("analysis") {
             ProtectedRoute(
                 authState = authState,
                 navController = navController,
@@ -150,7 +211,7 @@ fun FitsoulNavigation() {
             )
         }
         
-        composable("challenges") {
+        screen("challenges") {
             ProtectedRoute(
                 authState = authState,
                 navController = navController,
@@ -160,7 +221,7 @@ fun FitsoulNavigation() {
             )
         }
         
-        composable("profile") {
+        screen("profile") {
             ProtectedRoute(
                 authState = authState,
                 navController = navController,
@@ -184,7 +245,8 @@ private fun MainAppScreen(
     authViewModel: AuthViewModel
 ) {
     val navController = rememberNavController()
-    val authState by authViewModel.authState.observeAsState()
+    TrackNavigation(navController)
+    val authState by authViewModel.authState.collectAsState()
     
     Scaffold(
         bottomBar = {
@@ -196,11 +258,11 @@ private fun MainAppScreen(
             startDestination = "ai_coach",
             modifier = Modifier.padding(paddingValues)
         ) {
-            composable("ai_coach") {
+            screen("ai_coach") {
                 AICoachScreen()
             }
             
-            composable("my_workouts") {
+            screen("my_workouts") {
                 MyWorkoutsScreen(
                     onWorkoutClick = { workout ->
                         // Serialize workout and navigate to detail screen
@@ -214,7 +276,7 @@ private fun MainAppScreen(
                 )
             }
             
-            composable(
+            screen(
                 "workout_detail/{workoutJson}",
                 arguments = listOf(navArgument("workoutJson") { type = NavType.StringType })
             ) { backStackEntry ->
@@ -243,7 +305,7 @@ private fun MainAppScreen(
                 )
             }
             
-            composable("generate_workout") {
+            screen("generate_workout") {
                 AIWorkoutGeneratorScreen(
                     onBackPressed = {
                         navController.popBackStack()
@@ -254,29 +316,40 @@ private fun MainAppScreen(
                 )
             }
             
-            composable("progress") {
+            screen("progress") {
                 AIProgressScreen()
             }
             
-            composable("profile") {
+            screen("profile") {
                 ProfileScreen(
                     onSignOut = {
                         authViewModel.signOut()
                         // Navigate back to login - this will be handled by auth state change
+                    },
+                    onOpenTelemetry = {
+                        navController.navigate("telemetry")
+                    }
+                )
+            }
+            
+            screen("telemetry") {
+                TelemetryScreen(
+                    onNavigateBack = {
+                        navController.popBackStack()
                     }
                 )
             }
             
             // Legacy routes for backward compatibility
-            composable("home") {
+            screen("home") {
                 AICoachScreen() // Redirect home to AI Coach
             }
             
-            composable("analysis") {
+            screen("analysis") {
                 AIProgressScreen() // Redirect analysis to AI Progress
             }
             
-            composable("challenges") {
+            screen("challenges") {
                 ChallengesScreen()
             }
         }
@@ -284,27 +357,37 @@ private fun MainAppScreen(
     
     // Handle auth state changes
     LaunchedEffect(authState) {
-        if (authState?.isUnauthenticated() == true) {
+        if (authState.isUnauthenticated) {
             // Navigate to login screen when signed out
             // This will be handled by the main navigation
         }
     }
 }
 
+// Every destination reports its first frame, which also closes the transition span into it
+private fun NavGraphBuilder.screen(
+    route: String,
+    arguments: List<NamedNavArgument> = emptyList(),
+    content: @Composable (NavBackStackEntry) -> Unit
+) = composable(route, arguments) { entry ->
+    TraceFirstFrame(route)
+    content(entry)
+}
+
 /**
  * Composable that protects routes requiring authentication
  */
 @Composable
 private fun ProtectedRoute(
-    authState: AuthViewModel.AuthState?,
+    authState: AuthState,
     navController: androidx.navigation.NavController,
     onAuthenticated: @Composable () -> Unit
 ) {
     when {
-        authState?.isAuthenticated() == true -> {
+        authState.isAuthenticated -> {
             onAuthenticated()
         }
-        authState?.isUnauthenticated() == true -> {
+        authState.isUnauthenticated -> {
             // Redirect to login if not authenticated
             LaunchedEffect(Unit) {
                 navController.navigate("login") {
@@ -0,0 +1,25 @@
+package com.fitsoul.app.core.startup
+
+import android.content.Context
+import androidx.startup.Initializer
+import com.fitsoul.app.core.telemetry.HttpTelemetryListener
+import okhttp3.OkHttpClient
+import java.util.concurrent.TimeUnit
+
+/**
+ * Shared HTTP client for the AI services. Callers that need different timeouts derive from it
+ * with [OkHttpClient.newBuilder] so the connection pool, dispatcher and phase timing are reused.
+ */
+class AiClientInitializer : Initializer<OkHttpClient> {
+
+    override fun create(context: Context): OkHttpClient =
+        OkHttpClient.Builder()
+            .connectTimeout(45, TimeUnit.SECONDS)
+            .readTimeout(60, TimeUnit.SECONDS)
+            .writeTimeout(45, TimeUnit.SECONDS)
+            .retryOnConnectionFailure(true)
+            .eventListenerFactory(HttpTelemetryListener.FACTORY)
+            .build()
+
+    override fun dependencies(): List<Class<out Initializer<*>>> = emptyList()
+}
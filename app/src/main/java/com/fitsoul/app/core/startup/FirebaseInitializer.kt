@@ -0,0 +1,29 @@
+package com.fitsoul.app.core.startup
+
+import android.content.Context
+import android.util.Log
+import androidx.startup.Initializer
+import com.google.firebase.FirebaseApp
+
+/**
+ * Initializes Firebase on first use instead of from a content provider at process start.
+ * Run through [androidx.startup.AppInitializer] so concurrent callers share one instance.
+ */
+class FirebaseInitializer : Initializer<FirebaseApp> {
+
+    override fun create(context: Context): FirebaseApp {
+        val existing = FirebaseApp.getApps(context)
+        if (existing.isNotEmpty()) return existing.first()
+
+        val app = FirebaseApp.initializeApp(context)
+            ?: throw IllegalStateException("Firebase options missing from google-services resources")
+        Log.d(TAG, "🔥 Firebase initialized lazily")
+        return app
+    }
+
+    override fun dependencies(): List<Class<out Initializer<*>>> = emptyList()
+
+    private companion object {
+        const val TAG = "FirebaseInitializer"
+    }
+}
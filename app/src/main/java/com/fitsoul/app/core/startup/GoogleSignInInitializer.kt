@@ -0,0 +1,18 @@
+package com.fitsoul.app.core.startup
+
+import android.content.Context
+import androidx.startup.Initializer
+import com.fitsoul.app.R
+import com.google.android.gms.auth.api.signin.GoogleSignInOptions
+
+/** Builds the Google Sign-In options the first time a sign-in is requested. */
+class GoogleSignInInitializer : Initializer<GoogleSignInOptions> {
+
+    override fun create(context: Context): GoogleSignInOptions =
+        GoogleSignInOptions.Builder(GoogleSignInOptions.DEFAULT_SIGN_IN)
+            .requestIdToken(context.getString(R.string.default_web_client_id))
+            .requestEmail()
+            .build()
+
+    override fun dependencies(): List<Class<out Initializer<*>>> = emptyList()
+}
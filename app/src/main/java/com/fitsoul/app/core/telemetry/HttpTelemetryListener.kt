@@ -0,0 +1,94 @@
+package com.fitsoul.app.core.telemetry
+
+import okhttp3.Call
+import okhttp3.EventListener
+import okhttp3.Handshake
+import okhttp3.Protocol
+import okhttp3.Request
+import okhttp3.Response
+import java.io.IOException
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.Proxy
+
+/**
+ * Splits each HTTP call into phases (DNS, connect, TLS, time to first byte, body) and records
+ * each as a `http.*` span. One listener per call, so no state is shared between calls.
+ */
+class HttpTelemetryListener private constructor() : EventListener() {
+
+    private var callStart = 0L
+    private var dnsStart = 0L
+    private var connectStart = 0L
+    private var tlsStart = 0L
+    private var requestEnd = 0L
+    private var bodyStart = 0L
+
+    override fun callStart(call: Call) {
+        callStart = System.nanoTime()
+        Telemetry.count("http.calls")
+    }
+
+    override fun dnsStart(call: Call, domainName: String) {
+        dnsStart = System.nanoTime()
+    }
+
+    override fun dnsEnd(call: Call, domainName: String, inetAddressList: List<InetAddress>) {
+        span("http.dns", dnsStart)
+    }
+
+    override fun connectStart(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy) {
+        connectStart = System.nanoTime()
+    }
+
+    override fun secureConnectStart(call: Call) {
+        tlsStart = System.nanoTime()
+    }
+
+    override fun secureConnectEnd(call: Call, handshake: Handshake?) {
+        span("http.tls", tlsStart)
+    }
+
+    override fun connectEnd(call: Call, inetSocketAddress: InetSocketAddress, proxy: Proxy, protocol: Protocol?) {
+        span("http.connect", connectStart)
+    }
+
+    override fun requestHeadersEnd(call: Call, request: Request) {
+        requestEnd = System.nanoTime()
+    }
+
+    override fun requestBodyEnd(call: Call, byteCount: Long) {
+        requestEnd = System.nanoTime()
+    }
+
+    override fun responseHeadersEnd(call: Call, response: Response) {
+        // Server processing plus one round trip; for the AI endpoints this is model time
+        span("http.ttfb", requestEnd)
+    }
+
+    override fun responseBodyStart(call: Call) {
+        bodyStart = System.nanoTime()
+    }
+
+    override fun responseBodyEnd(call: Call, byteCount: Long) {
+        span("http.response_body", bodyStart)
+    }
+
+    override fun callEnd(call: Call) {
+        span("http.call", callStart)
+    }
+
+    override fun callFailed(call: Call, ioe: IOException) {
+        Telemetry.count("http.failures")
+        span("http.call", callStart)
+    }
+
+    private fun span(name: String, start: Long) {
+        if (start == 0L) return
+        Telemetry.record(name, start, System.nanoTime(), async = true)
+    }
+
+    companion object {
+        val FACTORY = Factory { HttpTelemetryListener() }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fitsoul.app.core.telemetry
+
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.DisposableEffect
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.remember
+import androidx.compose.runtime.withFrameNanos
+import androidx.navigation.NavController
+
+/**
+ * Starts a `nav.<route>` span whenever [navController] changes destination. The span ends when
+ * that destination's [TraceFirstFrame] sees its first frame.
+ */
+@Composable
+fun TrackNavigation(navController: NavController) {
+    DisposableEffect(navController) {
+        val listener = NavController.OnDestinationChangedListener { _, destination, _ ->
+            destination.route?.let(Telemetry::navigationStarted)
+        }
+        navController.addOnDestinationChangedListener(listener)
+        onDispose { navController.removeOnDestinationChangedListener(listener) }
+    }
+}
+
+/**
+ * Records `screen.<route>.first_frame`, from the first composition of [screen] to the first
+ * frame after it, and ends the `nav.<route>` span that led here.
+ */
+@Composable
+fun TraceFirstFrame(screen: String) {
+    val composedAt = remember { System.nanoTime() }
+    LaunchedEffect(Unit) {
+        withFrameNanos { }
+        Telemetry.screenDrawn(screen, composedAt)
+    }
+}
@@ -0,0 +1,74 @@
+package com.fitsoul.app.core.telemetry
+
+import kotlinx.serialization.json.JsonPrimitive
+import java.io.Writer
+
+/**
+ * Ring buffer of the most recent completed spans in parallel primitive arrays, exported in the
+ * Chrome trace-event JSON format that ui.perfetto.dev opens directly.
+ */
+class SpanRecorder(private val capacity: Int) {
+
+    private val names = arrayOfNulls<String>(capacity)
+    private val starts = LongArray(capacity)
+    private val durations = LongArray(capacity)
+    private val tracks = LongArray(capacity)
+    private var next = 0
+    private var size = 0
+
+    @Synchronized
+    fun add(name: String, startNanos: Long, durationNanos: Long, track: Long) {
+        names[next] = name
+        starts[next] = startNanos
+        durations[next] = durationNanos
+        tracks[next] = track
+        next = (next + 1) % capacity
+        if (size < capacity) size++
+    }
+
+    @Synchronized
+    fun clear() {
+        next = 0
+        size = 0
+        names.fill(null)
+    }
+
+    /** Writes the buffered spans oldest first; timestamps are `System.nanoTime` in microseconds. */
+    fun writeTraceJson(out: Writer, processId: Int) {
+        val count: Int
+        val first: Int
+        val nameCopy: Array<String?>
+        val startCopy: LongArray
+        val durationCopy: LongArray
+        val trackCopy: LongArray
+        synchronized(this) {
+            count = size
+            first = (next - size + capacity) % capacity
+            nameCopy = names.copyOf()
+            startCopy = starts.copyOf()
+            durationCopy = durations.copyOf()
+            trackCopy = tracks.copyOf()
+        }
+
+        out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[")
+        for (i in 0 until count) {
+            val slot = (first + i) % capacity
+            val name = JsonPrimitive(nameCopy[slot]).toString()
+            val startMicros = startCopy[slot] / 1_000
+            val durationMicros = durationCopy[slot] / 1_000
+            if (i > 0) out.write(",")
+            if (trackCopy[slot] == ASYNC_TRACK) {
+                // Async spans may overlap, so they are begin/end pairs rather than nested slices
+                out.write("{\"name\":$name,\"cat\":\"async\",\"ph\":\"b\",\"id\":$i,\"ts\":$startMicros,\"pid\":$processId,\"tid\":$processId},")
+                out.write("{\"name\":$name,\"cat\":\"async\",\"ph\":\"e\",\"id\":$i,\"ts\":${startMicros + durationMicros},\"pid\":$processId,\"tid\":$processId}")
+            } else {
+                out.write("{\"name\":$name,\"ph\":\"X\",\"ts\":$startMicros,\"dur\":$durationMicros,\"pid\":$processId,\"tid\":${trackCopy[slot]}}")
+            }
+        }
+        out.write("]}")
+    }
+
+    companion object {
+        const val ASYNC_TRACK = 0L
+    }
+}
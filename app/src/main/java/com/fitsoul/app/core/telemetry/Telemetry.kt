@@ -0,0 +1,84 @@
+package com.fitsoul.app.core.telemetry
+
+import androidx.tracing.Trace
+import com.fitsoul.core.metrics.MetricsRegistry
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Process-wide performance telemetry. Every span is emitted as an `androidx.tracing` section,
+ * so it shows up in Perfetto and macrobenchmark traces, and is also timed into [metrics] and
+ * kept in [spans] for the in-app debug screen and its export.
+ *
+ * Span names are `area.operation`, e.g. `ai.generate_plan` or `repo.workouts.write`.
+ */
+object Telemetry {
+
+    val metrics = MetricsRegistry()
+    val spans = SpanRecorder(capacity = 4096)
+
+    @PublishedApi
+    internal val cookies = AtomicInteger()
+
+    /** Times [block] on the current thread. Must not suspend across threads; see [tracedAsync]. */
+    inline fun <T> traced(name: String, block: () -> T): T {
+        val start = System.nanoTime()
+        Trace.beginSection(name)
+        try {
+            return block()
+        } finally {
+            Trace.endSection()
+            record(name, start, System.nanoTime(), async = false)
+        }
+    }
+
+    /** Times a suspending [block] as an async section, which may end on a different thread. */
+    suspend inline fun <T> tracedAsync(name: String, block: () -> T): T {
+        val cookie = cookies.incrementAndGet()
+        val start = System.nanoTime()
+        Trace.beginAsyncSection(name, cookie)
+        try {
+            return block()
+        } finally {
+            Trace.endAsyncSection(name, cookie)
+            record(name, start, System.nanoTime(), async = true)
+        }
+    }
+
+    private class PendingNavigation(val startNanos: Long, val cookie: Int)
+
+    // Keyed by route: the main graph and the tab graph each have a transition in flight
+    private val pendingNavigations = ConcurrentHashMap<String, PendingNavigation>()
+
+    fun count(name: String, by: Long = 1) = metrics.increment(name, by)
+
+    fun navigationStarted(route: String) {
+        val cookie = cookies.incrementAndGet()
+        Trace.beginAsyncSection("nav.$route", cookie)
+        // A destination left before its first frame never reports; close its section here
+        pendingNavigations.put(route, PendingNavigation(System.nanoTime(), cookie))
+            ?.let { Trace.endAsyncSection("nav.$route", it.cookie) }
+    }
+
+    /** Ends the transition span into [screen], if any, and records the screen's own first-frame time. */
+    fun screenDrawn(screen: String, composedAtNanos: Long) {
+        val now = System.nanoTime()
+        val navigation = pendingNavigations.remove(screen)
+        if (navigation != null) {
+            Trace.endAsyncSection("nav.$screen", navigation.cookie)
+            record("nav.$screen", navigation.startNanos, now, async = true)
+        }
+        record("screen.$screen.first_frame", composedAtNanos, now, async = true)
+    }
+
+    fun record(name: String, startNanos: Long, endNanos: Long, async: Boolean) {
+        val duration = endNanos - startNanos
+        metrics.recordNanos(name, duration)
+        spans.add(name, startNanos, duration, if (async) SpanRecorder.ASYNC_TRACK else Thread.currentThread().id)
+    }
+
+    fun reset() {
+        metrics.reset()
+        spans.clear()
+    }
+}
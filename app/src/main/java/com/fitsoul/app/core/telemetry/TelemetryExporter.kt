@@ -0,0 +1,40 @@
+package com.fitsoul.app.core.telemetry
+
+import android.content.Context
+import android.os.Process
+import android.util.Log
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import java.io.File
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Writes the recorded spans as a trace ui.perfetto.dev can open, plus a JSON metrics snapshot,
+ * to the app's external files dir so they can be pulled with
+ * `adb pull /sdcard/Android/data/com.fitsoul.app/files/telemetry`.
+ */
+@Singleton
+class TelemetryExporter @Inject constructor(
+    @ApplicationContext private val context: Context
+) {
+    private val TAG = "TelemetryExporter"
+    private val json = Json { prettyPrint = true }
+
+    /** Returns the directory both files were written to. */
+    suspend fun export(): File = withContext(Dispatchers.IO) {
+        val directory = File(context.getExternalFilesDir(null) ?: context.filesDir, "telemetry").apply { mkdirs() }
+        val stamp = System.currentTimeMillis()
+
+        File(directory, "trace-$stamp.json").bufferedWriter().use { writer ->
+            Telemetry.spans.writeTraceJson(writer, Process.myPid())
+        }
+        File(directory, "metrics-$stamp.json").writeText(json.encodeToString(Telemetry.metrics.snapshot(stamp)))
+
+        Log.d(TAG, "📤 Exported telemetry to ${directory.absolutePath}")
+        directory
+    }
+}
@@ -0,0 +1,184 @@
+package com.fitsoul.app.data.ai
+
+import android.content.Context
+import android.util.Log
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.app.data.local.ChatMessageDao
+import com.fitsoul.app.data.local.ChatMessageEntity
+import com.fitsoul.app.data.repository.AuthRepository
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.JsonArrayBuilder
+import kotlinx.serialization.json.addJsonObject
+import kotlinx.serialization.json.put
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.contextDataStore by preferencesDataStore("coach_context")
+private fun summaryKey(uid: String) = stringPreferencesKey("summary_$uid")
+
+/** One entry of a chat-completions `messages` array. */
+data class ContextMessage(val role: String, val content: String)
+
+/** Rolling digest of the turns that no longer fit verbatim, extended as the conversation moves on. */
+@Serializable
+private data class ConversationSummary(
+    val coveredThroughId: Long = 0,
+    val lines: List<String> = emptyList()
+)
+
+/**
+ * Builds the conversation history sent with each AI request. The newest turns go verbatim
+ * until [VERBATIM_TOKEN_BUDGET] is spent or [MAX_RECENT_MESSAGES] rows are used; every older
+ * turn is condensed into a one-line-per-turn summary capped at [SUMMARY_TOKEN_BUDGET]. The
+ * summary is cached and only ever extended by turns it does not cover yet, read with one
+ * bounded range query, so assembling the context costs the same at message 20 as at message
+ * 2000.
+ * Each account has its own summary, like its own stored conversation.
+ */
+@Singleton
+class ConversationContextManager @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val chatMessageDao: ChatMessageDao,
+    private val authRepository: AuthRepository
+) {
+    private val TAG = "ConversationContext"
+    private val json = Json { ignoreUnknownKeys = true }
+    private val mutex = Mutex()
+    private var cachedSummary: Pair<String, ConversationSummary>? = null
+
+    /**
+     * History to place between the system prompt and [pendingInput]. If [pendingInput] is
+     * already stored as the newest message it is left out here, since the caller sends it.
+     */
+    suspend fun history(pendingInput: String): List<ContextMessage> {
+        val uid = authRepository.currentUser()?.uid.orEmpty()
+        val recent = chatMessageDao.recent(uid, MAX_RECENT_MESSAGES).let { newestFirst ->
+            val newest = newestFirst.firstOrNull()
+            if (newest != null && !newest.isFromAI && newest.content.trim() == pendingInput.trim()) {
+                newestFirst.drop(1)
+            } else {
+                newestFirst
+            }
+        }
+
+        val window = mutableListOf<ContextMessage>()
+        var used = 0
+        var windowSize = 0
+        for (message in recent) {
+            val text = clip(message.content, MAX_MESSAGE_TOKENS)
+            val cost = estimateTokens(text) + MESSAGE_OVERHEAD_TOKENS
+            if (used + cost > VERBATIM_TOKEN_BUDGET) break
+            window += ContextMessage(if (message.isFromAI) "assistant" else "user", text)
+            used += cost
+            windowSize++
+        }
+
+        // Everything older than the oldest verbatim turn is summarized, including rows past the read window
+        val summarizeBelow = when {
+            windowSize > 0 -> recent[windowSize - 1].id
+            recent.isNotEmpty() -> recent.first().id + 1
+            else -> 0L
+        }
+        val summary = summaryCovering(uid, summarizeBelow)
+        val verbatim = recent.take(windowSize).zip(window)
+            .filter { (message, _) -> message.id > summary.coveredThroughId }
+            .map { it.second }
+            .asReversed()
+
+        Log.d(TAG, "🧠 Context: ${verbatim.size} turn(s) verbatim (~$used tokens), ${summary.lines.size} summarized")
+        return buildList {
+            if (summary.lines.isNotEmpty()) {
+                add(ContextMessage("system", "Summary of the earlier conversation:\n" + summary.lines.joinToString("\n")))
+            }
+            addAll(verbatim)
+        }
+    }
+
+    /** Forgets [uid]'s summary; called whenever that conversation is cleared. */
+    suspend fun reset(uid: String) = mutex.withLock {
+        if (cachedSummary?.first == uid) cachedSummary = null
+        context.contextDataStore.edit { it.remove(summaryKey(uid)) }
+        Log.d(TAG, "🧹 Conversation summary reset")
+    }
+
+    private suspend fun summaryCovering(uid: String, belowId: Long): ConversationSummary = mutex.withLock {
+        val current = cachedSummary?.takeIf { it.first == uid }?.second
+            ?: loadSummary(uid).also { cachedSummary = uid to it }
+        if (belowId <= current.coveredThroughId + 1) return@withLock current
+        // Lines older than this many turns would be trimmed off the digest anyway
+        val fresh = chatMessageDao.between(uid, current.coveredThroughId, belowId, MAX_SUMMARIZED_MESSAGES).asReversed()
+        if (fresh.isEmpty()) return@withLock current
+
+        val lines = ArrayDeque(current.lines)
+        fresh.mapTo(lines) { summarizeTurn(it) }
+        // Oldest detail goes first once the digest is over budget
+        while (lines.size > 1 && lines.sumOf { estimateTokens(it) } > SUMMARY_TOKEN_BUDGET) lines.removeFirst()
+
+        val updated = ConversationSummary(fresh.last().id, lines.toList())
+        cachedSummary = uid to updated
+        context.contextDataStore.edit { it[summaryKey(uid)] = json.encodeToString(updated) }
+        updated
+    }
+
+    // The user's own words carry the intent, so they keep more room than the coach's reply
+    private fun summarizeTurn(message: ChatMessageEntity): String {
+        val firstLine = message.content.lineSequence()
+            .map { it.replace("**", "").replace("#", "").trim() }
+            .firstOrNull { it.any(Char::isLetterOrDigit) }
+            .orEmpty()
+        return if (message.isFromAI) {
+            "- Coach: ${firstLine.take(COACH_LINE_CHARS)}"
+        } else {
+            "- User: ${message.content.trim().replace('\n', ' ').take(USER_LINE_CHARS)}"
+        }
+    }
+
+    private suspend fun loadSummary(uid: String): ConversationSummary {
+        val stored = context.contextDataStore.data.first()[summaryKey(uid)]
+        if (stored.isNullOrEmpty()) return ConversationSummary()
+        return try {
+            json.decodeFromString(stored)
+        } catch (e: Exception) {
+            Log.e(TAG, "❌ Error loading conversation summary: ${e.message}")
+            ConversationSummary()
+        }
+    }
+
+    private companion object {
+        const val MAX_RECENT_MESSAGES = 40
+        const val VERBATIM_TOKEN_BUDGET = 2_000
+        const val SUMMARY_TOKEN_BUDGET = 500
+        const val MAX_SUMMARIZED_MESSAGES = 200
+        const val MAX_MESSAGE_TOKENS = 600
+        const val MESSAGE_OVERHEAD_TOKENS = 4
+        const val COACH_LINE_CHARS = 120
+        const val USER_LINE_CHARS = 200
+        // Rough chars-per-token for English text; good enough for budgeting
+        const val CHARS_PER_TOKEN = 4
+
+        fun estimateTokens(text: String): Int = (text.length + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN
+
+        fun clip(text: String, maxTokens: Int): String {
+            val maxChars = maxTokens * CHARS_PER_TOKEN
+            return if (text.length <= maxChars) text else text.take(maxChars) + "…"
+        }
+    }
+}
+
+fun JsonArrayBuilder.addContextMessages(messages: List<ContextMessage>) {
+    for (message in messages) {
+        addJsonObject {
+            put("role", message.role)
+            put("content", message.content)
+        }
+    }
+}
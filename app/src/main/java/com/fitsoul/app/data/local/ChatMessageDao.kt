@@ -0,0 +1,41 @@
+package com.fitsoul.app.data.local
+
+import androidx.paging.PagingSource
+import androidx.room.Dao
+import androidx.room.Insert
+import androidx.room.Query
+
+/** Every read and trim is scoped to one account's conversation. */
+@Dao
+interface ChatMessageDao {
+
+    @Insert
+    suspend fun insert(message: ChatMessageEntity): Long
+
+    /** Newest first, paged by id, for a bottom-anchored chat list. */
+    @Query("SELECT * FROM chat_messages WHERE uid = :uid ORDER BY id DESC")
+    fun pagingSource(uid: String): PagingSource<Int, ChatMessageEntity>
+
+    @Query("SELECT * FROM chat_messages WHERE uid = :uid ORDER BY id DESC LIMIT :limit")
+    suspend fun recent(uid: String, limit: Int): List<ChatMessageEntity>
+
+    /** Newest first, at most [limit] messages of [uid] with [afterId] < id < [beforeId]. */
+    @Query(
+        "SELECT * FROM chat_messages WHERE uid = :uid AND id > :afterId AND id < :beforeId " +
+            "ORDER BY id DESC LIMIT :limit"
+    )
+    suspend fun between(uid: String, afterId: Long, beforeId: Long, limit: Int): List<ChatMessageEntity>
+
+    @Query("SELECT COUNT(*) FROM chat_messages WHERE uid = :uid")
+    suspend fun count(uid: String): Int
+
+    /** Deletes everything older than the newest [keep] messages of [uid]. */
+    @Query(
+        "DELETE FROM chat_messages WHERE uid = :uid AND id <= " +
+            "(SELECT id FROM chat_messages WHERE uid = :uid ORDER BY id DESC LIMIT 1 OFFSET :keep)"
+    )
+    suspend fun trimTo(uid: String, keep: Int)
+
+    @Query("DELETE FROM chat_messages WHERE uid = :uid")
+    suspend fun clear(uid: String)
+}
@@ -0,0 +1,18 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Entity
+import androidx.room.Index
+import androidx.room.PrimaryKey
+
+/**
+ * One AI coach chat line, owned by the account that wrote it ([uid] is empty while signed out).
+ * The auto-generated id is monotonic, so it orders the conversation.
+ */
+@Entity(tableName = "chat_messages", indices = [Index(value = ["uid", "id"])])
+data class ChatMessageEntity(
+    @PrimaryKey(autoGenerate = true) val id: Long = 0,
+    val uid: String,
+    val content: String,
+    val isFromAI: Boolean,
+    val timestamp: Long = System.currentTimeMillis()
+)
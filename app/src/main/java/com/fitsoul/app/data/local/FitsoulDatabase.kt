@@ -0,0 +1,19 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Database
+import androidx.room.RoomDatabase
+
+@Database(
+    entities = [ChatMessageEntity::class, OutboxEntry::class, WorkoutSessionEntity::class],
+    version = 1,
+    exportSchema = false
+)
+abstract class FitsoulDatabase : RoomDatabase() {
+    abstract fun chatMessageDao(): ChatMessageDao
+    abstract fun outboxDao(): OutboxDao
+    abstract fun workoutSessionDao(): WorkoutSessionDao
+
+    companion object {
+        const val NAME = "fitsoul.db"
+    }
+}
@@ -0,0 +1,28 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Dao
+import androidx.room.Insert
+import androidx.room.OnConflictStrategy
+import androidx.room.Query
+import kotlinx.coroutines.flow.Flow
+
+@Dao
+interface OutboxDao {
+
+    /** Inserts the entry, replacing any pending one for the same document. */
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    suspend fun upsert(entry: OutboxEntry)
+
+    @Query("SELECT * FROM sync_outbox WHERE uid = :uid ORDER BY sequence")
+    suspend fun pending(uid: String): List<OutboxEntry>
+
+    @Query("SELECT documentId FROM sync_outbox WHERE uid = :uid AND collection = :collection")
+    suspend fun pendingDocumentIds(uid: String, collection: String): List<String>
+
+    /** Rows replaced by a later edit have a new sequence, so they survive this delete. */
+    @Query("DELETE FROM sync_outbox WHERE sequence IN (:sequences)")
+    suspend fun delete(sequences: List<Long>)
+
+    @Query("SELECT COUNT(*) FROM sync_outbox")
+    fun count(): Flow<Int>
+}
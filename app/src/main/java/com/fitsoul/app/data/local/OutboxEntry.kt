@@ -0,0 +1,21 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Entity
+import androidx.room.Index
+import androidx.room.PrimaryKey
+
+/**
+ * One pending local mutation; a null [payload] is a deletion. One row per document: enqueueing
+ * the same document again replaces the row, and the replacement gets a new, higher [sequence].
+ */
+@Entity(
+    tableName = "sync_outbox",
+    indices = [Index(value = ["uid", "collection", "documentId"], unique = true)]
+)
+data class OutboxEntry(
+    val uid: String,
+    val collection: String,
+    val documentId: String,
+    val payload: String?,
+    @PrimaryKey(autoGenerate = true) val sequence: Long = 0
+)
@@ -0,0 +1,57 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Dao
+import androidx.room.Insert
+import androidx.room.OnConflictStrategy
+import androidx.room.Query
+import kotlinx.coroutines.flow.Flow
+
+@Dao
+interface WorkoutSessionDao {
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    suspend fun upsert(session: WorkoutSessionEntity)
+
+    /** Adds sessions that are not stored yet; existing rows, and their samples, are kept. */
+    @Insert(onConflict = OnConflictStrategy.IGNORE)
+    suspend fun insertMissing(sessions: List<WorkoutSessionEntity>)
+
+    @Query(
+        "UPDATE workout_sessions SET workoutName = :workoutName, startedAt = :startedAt, " +
+            "durationMillis = :durationMillis, calories = :calories, modelSignature = :signature " +
+            "WHERE uid = :uid AND id = :id"
+    )
+    suspend fun updateTotals(
+        uid: String,
+        id: String,
+        workoutName: String,
+        startedAt: Long,
+        durationMillis: Long,
+        calories: Float,
+        signature: String
+    )
+
+    @Query("DELETE FROM workout_sessions WHERE uid = :uid AND id IN (:ids)")
+    suspend fun delete(uid: String, ids: List<String>)
+
+    /** Everything but the samples, oldest first, for the workout stats. */
+    @Query(
+        "SELECT id, workoutName, startedAt, durationMillis, calories FROM workout_sessions " +
+            "WHERE uid = :uid ORDER BY startedAt"
+    )
+    fun summaries(uid: String): Flow<List<WorkoutSessionSummary>>
+
+    /**
+     * Keyset page over the account's sessions whose calories came from another energy model, so
+     * history is never loaded all at once and up-to-date sessions are not read at all. Sessions
+     * synced from another device have no samples here; that device recomputes them.
+     */
+    @Query(
+        "SELECT * FROM workout_sessions WHERE uid = :uid AND modelSignature != :signature AND id > :afterId " +
+            "AND length(samples) > 0 ORDER BY id LIMIT :limit"
+    )
+    suspend fun stalePage(uid: String, signature: String, afterId: String, limit: Int): List<WorkoutSessionEntity>
+
+    @Query("UPDATE workout_sessions SET calories = :calories, modelSignature = :signature WHERE uid = :uid AND id = :id")
+    suspend fun updateCalories(uid: String, id: String, calories: Float, signature: String)
+}
@@ -0,0 +1,60 @@
+package com.fitsoul.app.data.local
+
+import androidx.room.Entity
+import androidx.room.Index
+import com.fitsoul.core.energy.SessionSampleLog
+import java.nio.ByteBuffer
+
+/**
+ * One finished workout session of the account [uid], with the raw samples its [calories] were
+ * integrated from, so the total can be recomputed when the profile changes. [modelSignature]
+ * names the energy model that produced [calories]. [samples] holds every timestamp, then every
+ * heart rate, then every MET (see [packSamples]).
+ */
+@Entity(
+    tableName = "workout_sessions",
+    primaryKeys = ["uid", "id"],
+    indices = [Index(value = ["uid", "startedAt"])]
+)
+class WorkoutSessionEntity(
+    val uid: String,
+    val id: String,
+    val workoutName: String,
+    val startedAt: Long,
+    val durationMillis: Long,
+    val calories: Float,
+    val modelSignature: String,
+    val samples: ByteArray
+)
+
+data class WorkoutSessionSummary(
+    val id: String,
+    val workoutName: String,
+    val startedAt: Long,
+    val durationMillis: Long,
+    val calories: Float
+)
+
+private const val BYTES_PER_SAMPLE = Long.SIZE_BYTES + Int.SIZE_BYTES + Float.SIZE_BYTES
+
+fun packSamples(log: SessionSampleLog): ByteArray {
+    val count = log.size
+    val buffer = ByteBuffer.allocate(count * BYTES_PER_SAMPLE)
+    buffer.asLongBuffer().put(log.timestampsMillis, 0, count)
+    buffer.position(count * Long.SIZE_BYTES)
+    buffer.asIntBuffer().put(log.heartRates, 0, count)
+    buffer.position(count * (Long.SIZE_BYTES + Int.SIZE_BYTES))
+    buffer.asFloatBuffer().put(log.mets, 0, count)
+    return buffer.array()
+}
+
+fun unpackSamples(samples: ByteArray): SessionSampleLog {
+    val count = samples.size / BYTES_PER_SAMPLE
+    val buffer = ByteBuffer.wrap(samples)
+    val timestamps = LongArray(count).also { buffer.asLongBuffer().get(it) }
+    buffer.position(count * Long.SIZE_BYTES)
+    val heartRates = IntArray(count).also { buffer.asIntBuffer().get(it) }
+    buffer.position(count * (Long.SIZE_BYTES + Int.SIZE_BYTES))
+    val mets = FloatArray(count).also { buffer.asFloatBuffer().get(it) }
+    return SessionSampleLog.wrap(timestamps, heartRates, mets)
+}
@@ -0,0 +1,147 @@
+package com.fitsoul.app.data.repository
+
+import android.util.Log
+import com.fitsoul.core.model.User
+import com.google.firebase.auth.FirebaseAuth
+import com.google.firebase.auth.FirebaseUser
+import com.google.firebase.auth.GoogleAuthProvider
+import kotlinx.coroutines.CancellationException
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.currentCoroutineContext
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.tasks.await
+import kotlinx.coroutines.withContext
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/** Authentication status as seen by the UI. */
+data class AuthState(
+    val user: User? = null,
+    val isAuthenticated: Boolean = false,
+    val isLoading: Boolean = false
+) {
+    val isUnauthenticated: Boolean get() = !isAuthenticated && !isLoading
+
+    companion object {
+        val Loading = AuthState(isLoading = true)
+        val Unauthenticated = AuthState()
+        fun authenticated(user: User) = AuthState(user = user, isAuthenticated = true)
+    }
+}
+
+/**
+ * Coroutine-first Firebase authentication. Every call runs on a small dedicated dispatcher so
+ * auth never queues behind, or starves, other background work, and is cancelled with its
+ * caller. Firebase itself is only resolved on that dispatcher, on first use.
+ *
+ * Firebase Auth tasks take no CancellationToken, so cancelling a call stops the wait but not the
+ * request. A result that arrives after cancellation is dropped: each step checks for it before
+ * acting on the result, and [authState] reports whatever Firebase ends up doing.
+ */
+@Singleton
+class AuthRepository @Inject constructor(
+    private val firebaseAuth: dagger.Lazy<FirebaseAuth>,
+    private val userDocumentWriter: UserDocumentWriter
+) {
+    private val TAG = "AuthRepository"
+
+    @OptIn(ExperimentalCoroutinesApi::class)
+    private val authDispatcher: CoroutineDispatcher = Dispatchers.IO.limitedParallelism(AUTH_PARALLELISM)
+
+    /** Emits on every Firebase sign-in or sign-out; the listener is removed when collection stops. */
+    val authState: Flow<AuthState> = callbackFlow {
+        val auth = firebaseAuth.get()
+        val listener = FirebaseAuth.AuthStateListener { changed ->
+            trySend(changed.currentUser?.let { AuthState.authenticated(it.toUser()) } ?: AuthState.Unauthenticated)
+        }
+        auth.addAuthStateListener(listener)
+        awaitClose { auth.removeAuthStateListener(listener) }
+    }.distinctUntilChanged().flowOn(authDispatcher)
+
+    suspend fun currentUser(): User? = withContext(authDispatcher) {
+        firebaseAuth.get().currentUser?.toUser()
+    }
+
+    suspend fun signInWithEmail(email: String, password: String): Result<User> = authCall("Sign in failed") {
+        val user = firebaseAuth.get().signInWithEmailAndPassword(email, password).await().user
+            ?: throw IllegalStateException("Authentication result is null")
+        user.toUser()
+    }
+
+    suspend fun signUpWithEmail(email: String, password: String): Result<User> = authCall("Sign up failed") {
+        val user = firebaseAuth.get().createUserWithEmailAndPassword(email, password).await().user
+            ?: throw IllegalStateException("Authentication result is null")
+        currentCoroutineContext().ensureActive()
+        user.toUser().also { saveUserToFirestore(it, isNewUser = true) }
+    }
+
+    suspend fun signInWithGoogle(idToken: String): Result<User> = authCall("Google sign in failed") {
+        val credential = GoogleAuthProvider.getCredential(idToken, null)
+        val result = firebaseAuth.get().signInWithCredential(credential).await()
+        val user = result.user ?: throw IllegalStateException("Google sign in result is null")
+        currentCoroutineContext().ensureActive()
+        user.toUser().also { saveUserToFirestore(it, isNewUser = result.additionalUserInfo?.isNewUser == true) }
+    }
+
+    suspend fun sendPasswordResetEmail(email: String): Result<Unit> = authCall("Password reset failed") {
+        firebaseAuth.get().sendPasswordResetEmail(email).await()
+        Unit
+    }
+
+    suspend fun sendEmailVerification(): Result<Unit> = authCall("Email verification failed") {
+        val user = firebaseAuth.get().currentUser ?: throw IllegalStateException("No authenticated user")
+        user.sendEmailVerification().await()
+        Unit
+    }
+
+    suspend fun isEmailVerified(): Boolean = withContext(authDispatcher) {
+        firebaseAuth.get().currentUser?.isEmailVerified == true
+    }
+
+    suspend fun signOut() = withContext(authDispatcher) {
+        // Queued profile edits still belong to the outgoing user
+        userDocumentWriter.flush()
+        firebaseAuth.get().signOut()
+    }
+
+    // Merge-only, so a failed profile write can never fail an auth that already succeeded
+    private fun saveUserToFirestore(user: User, isNewUser: Boolean) {
+        userDocumentWriter.recordSignIn(user.uid, user.email, user.displayName, isNewUser)
+    }
+
+    /**
+     * Runs [block] on the auth dispatcher. Cancellation is rethrown so it reaches the caller's
+     * scope, even when it lands after the task completed; any other failure becomes a [Result]
+     * with a readable message.
+     */
+    private suspend fun <T> authCall(fallbackMessage: String, block: suspend () -> T): Result<T> =
+        withContext(authDispatcher) {
+            try {
+                val value = block()
+                ensureActive()
+                Result.success(value)
+            } catch (e: CancellationException) {
+                throw e
+            } catch (e: Exception) {
+                Log.e(TAG, "❌ $fallbackMessage: ${e.message}")
+                Result.failure(if (e.message.isNullOrBlank()) Exception(fallbackMessage, e) else e)
+            }
+        }
+
+    private fun FirebaseUser.toUser(): User = User.Builder()
+        .setUid(uid)
+        .setEmail(email.orEmpty())
+        .setDisplayName(displayName.orEmpty())
+        .build()
+
+    private companion object {
+        const val AUTH_PARALLELISM = 2
+    }
+}
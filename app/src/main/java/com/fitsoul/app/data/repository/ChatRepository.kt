@@ -0,0 +1,95 @@
+package com.fitsoul.app.data.repository
+
+import android.util.Log
+import androidx.paging.Pager
+import androidx.paging.PagingConfig
+import androidx.paging.PagingData
+import androidx.paging.map
+import com.fitsoul.app.core.telemetry.Telemetry
+import com.fitsoul.app.data.ai.ConversationContextManager
+import com.fitsoul.app.data.local.ChatMessageDao
+import com.fitsoul.app.data.local.ChatMessageEntity
+import com.fitsoul.app.ui.screens.ai.ChatMessage
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flatMapLatest
+import kotlinx.coroutines.flow.map
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * AI coach conversation stored on device. The UI pages through it newest first and holds at
+ * most [MAX_LOADED_MESSAGES] in memory; older pages are loaded as the user scrolls up and
+ * dropped again as they scroll back down. Storage itself is capped at [MAX_STORED_MESSAGES].
+ *
+ * Each account has its own conversation; signing in as someone else switches the list to theirs.
+ */
+@Singleton
+class ChatRepository @Inject constructor(
+    private val chatMessageDao: ChatMessageDao,
+    private val authRepository: AuthRepository,
+    private val conversationContext: ConversationContextManager
+) {
+    private val TAG = "ChatRepository"
+
+    @OptIn(ExperimentalCoroutinesApi::class)
+    fun messages(): Flow<PagingData<ChatMessage>> = authRepository.authState
+        .map { it.user?.uid.orEmpty() }
+        .distinctUntilChanged()
+        .flatMapLatest { uid ->
+            Pager(
+                config = PagingConfig(
+                    pageSize = PAGE_SIZE,
+                    prefetchDistance = PAGE_SIZE / 2,
+                    maxSize = MAX_LOADED_MESSAGES,
+                    enablePlaceholders = false
+                ),
+                pagingSourceFactory = { chatMessageDao.pagingSource(uid) }
+            ).flow
+        }
+        .map { page -> page.map { it.toChatMessage() } }
+
+    suspend fun addMessage(content: String, isFromAI: Boolean): ChatMessage = Telemetry.tracedAsync("repo.chat.write") {
+        val uid = currentUid()
+        val entity = ChatMessageEntity(uid = uid, content = content, isFromAI = isFromAI)
+        val id = chatMessageDao.insert(entity)
+        if (id % TRIM_INTERVAL == 0L) chatMessageDao.trimTo(uid, MAX_STORED_MESSAGES)
+        entity.copy(id = id).toChatMessage()
+    }
+
+    /** Seeds an empty conversation with [content]; returns false if there is already history. */
+    suspend fun addWelcomeIfEmpty(content: String): Boolean {
+        if (size() > 0) return false
+        addMessage(content, isFromAI = true)
+        Log.d(TAG, "👋 Started new coach conversation")
+        return true
+    }
+
+    suspend fun size(): Int = chatMessageDao.count(currentUid())
+
+    suspend fun clear() {
+        val uid = currentUid()
+        chatMessageDao.clear(uid)
+        // The summary describes turns that no longer exist
+        conversationContext.reset(uid)
+    }
+
+    // Signed-out chat is kept under the empty uid, apart from every account's
+    private suspend fun currentUid(): String = authRepository.currentUser()?.uid.orEmpty()
+
+    private fun ChatMessageEntity.toChatMessage() = ChatMessage(
+        id = id,
+        content = content,
+        isFromAI = isFromAI,
+        timestamp = timestamp
+    )
+
+    private companion object {
+        const val PAGE_SIZE = 30
+        const val MAX_LOADED_MESSAGES = 150
+        const val MAX_STORED_MESSAGES = 2_000
+        // Trimming is a single indexed delete, but there is no need to run it on every insert
+        const val TRIM_INTERVAL = 50L
+    }
+}
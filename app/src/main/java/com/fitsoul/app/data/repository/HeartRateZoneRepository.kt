@@ -0,0 +1,85 @@
+package com.fitsoul.app.data.repository
+
+import android.content.Context
+import android.util.Log
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.app.data.sync.SyncOutbox
+import com.fitsoul.app.data.sync.SyncableCollection
+import com.fitsoul.core.heartrate.HeartRateZoneSummary
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.map
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.zoneDataStore by preferencesDataStore("heart_rate_zones")
+private val ZONE_SUMMARIES_KEY = stringPreferencesKey("zone_summaries")
+
+@Singleton
+class HeartRateZoneRepository @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val syncOutbox: SyncOutbox
+) : SyncableCollection {
+    private val TAG = "HeartRateZoneRepository"
+    private val json = Json { ignoreUnknownKeys = true }
+
+    override val collectionName = "sessions"
+
+    // Per-session zone histograms, oldest first
+    val summaries: Flow<List<HeartRateZoneSummary>> = context.zoneDataStore.data.map { preferences ->
+        decode(preferences[ZONE_SUMMARIES_KEY])
+    }
+
+    suspend fun saveSummary(summary: HeartRateZoneSummary) {
+        context.zoneDataStore.edit { preferences ->
+            val current = decode(preferences[ZONE_SUMMARIES_KEY])
+            val updated = (current.filter { it.sessionId != summary.sessionId } + summary).takeLast(MAX_SESSIONS)
+            preferences[ZONE_SUMMARIES_KEY] = json.encodeToString(updated)
+
+            Log.d(TAG, "✅ Saved zone summary for session ${summary.sessionId}")
+        }
+        syncOutbox.enqueueUpsert(collectionName, summary.sessionId, json.encodeToString(summary))
+    }
+
+    override suspend fun applyRemote(upserts: Map<String, String>, deletions: Set<String>) {
+        val incoming = upserts.values.mapNotNull { summaryJson ->
+            try {
+                json.decodeFromString<HeartRateZoneSummary>(summaryJson)
+            } catch (e: Exception) {
+                Log.e(TAG, "❌ Skipping unreadable remote session: ${e.message}")
+                null
+            }
+        }
+        if (incoming.isEmpty() && deletions.isEmpty()) return
+
+        context.zoneDataStore.edit { preferences ->
+            val incomingIds = incoming.mapTo(HashSet()) { it.sessionId }
+            val updated = (decode(preferences[ZONE_SUMMARIES_KEY])
+                .filter { it.sessionId !in incomingIds && it.sessionId !in deletions } + incoming)
+                .sortedBy { it.startedAt }
+                .takeLast(MAX_SESSIONS)
+            preferences[ZONE_SUMMARIES_KEY] = json.encodeToString(updated)
+
+            Log.d(TAG, "🔄 Applied ${incoming.size} remote session(s), ${deletions.size} deletion(s)")
+        }
+    }
+
+    private fun decode(summariesJson: String?): List<HeartRateZoneSummary> {
+        if (summariesJson.isNullOrEmpty()) return emptyList()
+        return try {
+            json.decodeFromString(summariesJson)
+        } catch (e: Exception) {
+            Log.e(TAG, "❌ Error loading zone summaries: ${e.message}")
+            emptyList()
+        }
+    }
+
+    private companion object {
+        const val MAX_SESSIONS = 2000
+    }
+}
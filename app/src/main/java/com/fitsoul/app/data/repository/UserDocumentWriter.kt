@@ -0,0 +1,93 @@
+package com.fitsoul.app.data.repository
+
+import android.util.Log
+import com.google.firebase.firestore.FieldValue
+import com.google.firebase.firestore.FirebaseFirestore
+import com.google.firebase.firestore.SetOptions
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Field-level writer for `users/{uid}`. Every write is a merge that carries only the changed
+ * fields plus a server `updatedAt`; edits arriving within [DEBOUNCE_MS] of each other are
+ * coalesced into a single document write, with later values winning per field.
+ */
+@Singleton
+class UserDocumentWriter @Inject constructor(
+    private val firestore: dagger.Lazy<FirebaseFirestore>
+) {
+    private val TAG = "UserDocumentWriter"
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+    // Held only for map updates, never across a suspension or a write
+    private val lock = Any()
+
+    private val pending = mutableMapOf<String, MutableMap<String, Any?>>()
+    private var flushJob: Job? = null
+
+    /**
+     * Queues [fields] for [uid]; the write goes out once edits pause for [DEBOUNCE_MS]. The
+     * fields are recorded before this returns, so a [flush] called afterwards always sends them.
+     */
+    fun update(uid: String, fields: Map<String, Any?>) {
+        synchronized(lock) {
+            pending.getOrPut(uid) { mutableMapOf() }.putAll(fields)
+            flushJob?.cancel()
+            flushJob = scope.launch {
+                delay(DEBOUNCE_MS)
+                flush()
+            }
+        }
+    }
+
+    /** Fields queued for [uid] whose write has not gone out yet. */
+    fun pendingFields(uid: String): Set<String> = synchronized(lock) {
+        pending[uid]?.keys?.toSet().orEmpty()
+    }
+
+    /**
+     * Records a sign-in immediately. `createdAt` is only ever written for a new account, so
+     * later sign-ins can no longer overwrite it.
+     */
+    fun recordSignIn(uid: String, email: String, displayName: String, isNewUser: Boolean) {
+        val fields = mutableMapOf<String, Any?>(
+            "uid" to uid,
+            "email" to email,
+            "displayName" to displayName,
+            "lastLoginAt" to FieldValue.serverTimestamp()
+        )
+        if (isNewUser) fields["createdAt"] = FieldValue.serverTimestamp()
+        write(uid, fields)
+    }
+
+    /** Sends everything still queued, e.g. before sign-out. */
+    fun flush() {
+        val batches = synchronized(lock) {
+            flushJob?.cancel()
+            flushJob = null
+            pending.toMap().also { pending.clear() }
+        }
+        for ((uid, fields) in batches) write(uid, fields)
+    }
+
+    // Not awaited: Firestore applies the merge locally at once and queues it while offline,
+    // and the server acknowledgement can take arbitrarily long without a connection
+    private fun write(uid: String, fields: Map<String, Any?>) {
+        if (fields.isEmpty()) return
+        val payload = fields + ("updatedAt" to FieldValue.serverTimestamp())
+        firestore.get().collection(USERS_COLLECTION).document(uid)
+            .set(payload, SetOptions.merge())
+            .addOnSuccessListener { Log.d(TAG, "✅ Merged ${fields.size} field(s) into user $uid") }
+            .addOnFailureListener { e -> Log.e(TAG, "❌ Failed to write user $uid: ${e.message}") }
+    }
+
+    private companion object {
+        const val USERS_COLLECTION = "users"
+        const val DEBOUNCE_MS = 1_500L
+    }
+}
@@ -0,0 +1,199 @@
+package com.fitsoul.app.data.repository
+
+import android.content.Context
+import android.util.Log
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.core.model.User
+import com.fitsoul.core.model.UserProfile
+import com.google.firebase.firestore.DocumentSnapshot
+import com.google.firebase.firestore.FirebaseFirestore
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.channels.awaitClose
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.callbackFlow
+import kotlinx.coroutines.flow.channelFlow
+import kotlinx.coroutines.flow.collectLatest
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.shareIn
+import kotlinx.coroutines.launch
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.profileDataStore by preferencesDataStore("user_profile")
+private val CACHED_PROFILE_KEY = stringPreferencesKey("cached_profile")
+
+/** Last-known copy of the `users/{uid}` document: identity, goals and body metrics. */
+@Serializable
+data class StoredProfile(
+    val uid: String,
+    val email: String = "",
+    val displayName: String = "",
+    val goals: List<String> = emptyList(),
+    val age: Int = 0,
+    val gender: String? = null,
+    val heightCm: Int = 0,
+    val weightKg: Float = 0f,
+    val fitnessLevel: String? = null,
+    val maxHeartRate: Int = 0,
+    val restingHeartRate: Int = 0
+) {
+    fun toUser(): User = User(uid, email, displayName, goals)
+
+    fun toUserProfile(): UserProfile = UserProfile(age, gender, heightCm, weightKg, fitnessLevel).also {
+        it.maxHeartRate = maxHeartRate
+        it.restingHeartRate = restingHeartRate
+    }
+
+    /** Document fields whose values differ from [previous]; identity fields are never sent. */
+    fun changedFieldsFrom(previous: StoredProfile): Map<String, Any?> = buildMap {
+        if (displayName != previous.displayName) put("displayName", displayName)
+        if (goals != previous.goals) put("goals", goals)
+        if (age != previous.age) put("age", age)
+        if (gender != previous.gender) put("gender", gender)
+        if (heightCm != previous.heightCm) put("heightCm", heightCm)
+        if (weightKg != previous.weightKg) put("weightKg", weightKg.toDouble())
+        if (fitnessLevel != previous.fitnessLevel) put("fitnessLevel", fitnessLevel)
+        if (maxHeartRate != previous.maxHeartRate) put("maxHeartRate", maxHeartRate)
+        if (restingHeartRate != previous.restingHeartRate) put("restingHeartRate", restingHeartRate)
+    }
+}
+
+/**
+ * Stale-while-revalidate profile source. Collectors get the disk copy immediately, then every
+ * change Firestore reports through a snapshot listener on the signed-in user's document. Only
+ * fields present in a snapshot overwrite the cache, and unchanged snapshots are not rewritten.
+ * Fields edited here but still waiting in [UserDocumentWriter]'s debounce keep their local value,
+ * so a snapshot taken before the write cannot undo the edit.
+ */
+@Singleton
+class UserProfileRepository @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val firestore: dagger.Lazy<FirebaseFirestore>,
+    private val authRepository: AuthRepository,
+    private val userDocumentWriter: UserDocumentWriter
+) {
+    private val TAG = "UserProfileRepository"
+    private val json = Json { ignoreUnknownKeys = true }
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.IO)
+
+    private val cachedProfile: Flow<StoredProfile?> = context.profileDataStore.data
+        .map { preferences -> decode(preferences[CACHED_PROFILE_KEY]) }
+        .distinctUntilChanged()
+
+    /** Disk first; the Firestore listener stays attached only while someone is collecting. */
+    val storedProfile: Flow<StoredProfile?> = channelFlow {
+        launch { syncWithFirestore() }
+        cachedProfile.collect { send(it) }
+    }.shareIn(scope, SharingStarted.WhileSubscribed(STOP_TIMEOUT_MS), replay = 1)
+
+    val profile: Flow<UserProfile?> = storedProfile.map { it?.toUserProfile() }
+
+    /**
+     * Applies [transform] to the cached profile straight away and queues only the changed
+     * fields for a debounced merge into Firestore. Runs on the repository scope so an edit
+     * made just before leaving a screen is not lost.
+     */
+    fun update(transform: (StoredProfile) -> StoredProfile) {
+        scope.launch {
+            val user = authRepository.currentUser() ?: return@launch
+            context.profileDataStore.edit { preferences ->
+                val current = decode(preferences[CACHED_PROFILE_KEY])?.takeIf { it.uid == user.uid }
+                    ?: StoredProfile(user.uid, user.email, user.displayName)
+                val updated = transform(current).copy(uid = current.uid)
+                val changes = updated.changedFieldsFrom(current)
+                if (changes.isNotEmpty()) {
+                    preferences[CACHED_PROFILE_KEY] = json.encodeToString(updated)
+                    // Queued within the edit, so the next snapshot applied already sees them as pending
+                    userDocumentWriter.update(user.uid, changes)
+                }
+            }
+        }
+    }
+
+    private suspend fun syncWithFirestore() {
+        authRepository.authState
+            .map { it.user?.uid }
+            .distinctUntilChanged()
+            .collectLatest { uid ->
+                if (uid == null) {
+                    clear()
+                } else {
+                    documentSnapshots(uid).collect { snapshot -> applySnapshot(uid, snapshot) }
+                }
+            }
+    }
+
+    private fun documentSnapshots(uid: String): Flow<DocumentSnapshot> = callbackFlow {
+        val registration = firestore.get().collection(USERS_COLLECTION).document(uid)
+            .addSnapshotListener { snapshot, error ->
+                if (error != null) {
+                    Log.e(TAG, "❌ Profile listener error: ${error.message}")
+                    return@addSnapshotListener
+                }
+                if (snapshot != null && snapshot.exists()) trySend(snapshot)
+            }
+        awaitClose { registration.remove() }
+    }
+
+    private suspend fun applySnapshot(uid: String, snapshot: DocumentSnapshot) {
+        context.profileDataStore.edit { preferences ->
+            // A different account's cache is discarded rather than merged into
+            val current = decode(preferences[CACHED_PROFILE_KEY])?.takeIf { it.uid == uid } ?: StoredProfile(uid)
+            val merged = current.mergedWith(snapshot, keep = userDocumentWriter.pendingFields(uid))
+            if (merged != current) {
+                preferences[CACHED_PROFILE_KEY] = json.encodeToString(merged)
+                Log.d(TAG, "✅ Profile updated from ${if (snapshot.metadata.isFromCache) "cache" else "server"}")
+            }
+        }
+    }
+
+    /** Snapshot values over the cache, except for the fields in [keep]. */
+    @Suppress("UNCHECKED_CAST")
+    private fun StoredProfile.mergedWith(snapshot: DocumentSnapshot, keep: Set<String>): StoredProfile {
+        fun <T> field(name: String, local: T, remote: (String) -> T?): T =
+            if (name in keep) local else remote(name) ?: local
+
+        return copy(
+            email = field("email", email) { snapshot.getString(it) },
+            displayName = field("displayName", displayName) { snapshot.getString(it) },
+            goals = field("goals", goals) { snapshot.get(it) as? List<String> },
+            age = field("age", age) { snapshot.getLong(it)?.toInt() },
+            gender = field("gender", gender) { snapshot.getString(it) },
+            heightCm = field("heightCm", heightCm) { snapshot.getLong(it)?.toInt() },
+            weightKg = field("weightKg", weightKg) { snapshot.getDouble(it)?.toFloat() },
+            fitnessLevel = field("fitnessLevel", fitnessLevel) { snapshot.getString(it) },
+            maxHeartRate = field("maxHeartRate", maxHeartRate) { snapshot.getLong(it)?.toInt() },
+            restingHeartRate = field("restingHeartRate", restingHeartRate) { snapshot.getLong(it)?.toInt() }
+        )
+    }
+
+    private suspend fun clear() {
+        context.profileDataStore.edit { it.remove(CACHED_PROFILE_KEY) }
+    }
+
+    private fun decode(profileJson: String?): StoredProfile? {
+        if (profileJson.isNullOrEmpty()) return null
+        return try {
+            json.decodeFromString<StoredProfile>(profileJson)
+        } catch (e: Exception) {
+            Log.e(TAG, "❌ Error loading cached profile: ${e.message}")
+            null
+        }
+    }
+
+    private companion object {
+        const val USERS_COLLECTION = "users"
+        const val STOP_TIMEOUT_MS = 5_000L
+    }
+}
@@ -1,42 +1,71 @@
 package com.fitsoul.app.data.repository
 
 import android.content.Context
-import android.util.Log
+import com.fitsoul.app.core.logging.AppLog
 import androidx.datastore.core.DataStore
+import androidx.datastore.preferences.core.MutablePreferences
 import androidx.datastore.preferences.core.Preferences
 import androidx.datastore.preferences.core.edit
 import androidx.datastore.preferences.core.stringPreferencesKey
 import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.app.core.telemetry.Telemetry
+import com.fitsoul.app.data.sync.HybridLogicalClock
+import com.fitsoul.app.data.sync.ReplicatedLibrary
+import com.fitsoul.app.data.sync.ReplicatedRecord
+import com.fitsoul.app.data.sync.SyncOutbox
+import com.fitsoul.app.data.sync.SyncableCollection
 import com.fitsoul.app.ui.screens.workout.AIWorkout
+import com.fitsoul.core.workout.WorkoutTextParser
 import dagger.hilt.android.qualifiers.ApplicationContext
 import kotlinx.coroutines.flow.Flow
 import kotlinx.coroutines.flow.map
 import kotlinx.serialization.decodeFromString
 import kotlinx.serialization.encodeToString
 import kotlinx.serialization.json.Json
+import kotlinx.serialization.json.decodeFromJsonElement
+import kotlinx.serialization.json.encodeToJsonElement
+import kotlinx.serialization.json.jsonObject
 import java.util.UUID
 import javax.inject.Inject
 import javax.inject.Singleton
 
 private val Context.dataStore by preferencesDataStore("workouts")
 private val SAVED_WORKOUTS_KEY = stringPreferencesKey("saved_workouts")
+private val WORKOUT_LIBRARY_KEY = stringPreferencesKey("workout_library")
+private val NODE_ID_KEY = stringPreferencesKey("node_id")
 
 @Singleton
 class WorkoutRepository @Inject constructor(
-    @ApplicationContext private val context: Context
-) {
+    @ApplicationContext private val context: Context,
+    private val syncOutbox: SyncOutbox
+) : SyncableCollection {
     private val TAG = "WorkoutRepository"
     private val json = Json { ignoreUnknownKeys = true }
+
+    // Defaults are encoded so resetting a field to its default value is still a recorded edit
+    private val crdtJson = Json {
+        ignoreUnknownKeys = true
+        encodeDefaults = true
+    }
+    
+    @Volatile
+    private var clock: HybridLogicalClock? = null
+    
+    // Last library written, with the exact string stored for it, so consecutive local edits
+    // skip re-parsing the whole library. Only touched inside dataStore.edit, which serializes.
+    private var lastWritten: Pair<String, ReplicatedLibrary>? = null
+
+    override val collectionName = "workout_library"
     
     // Get all saved workouts as Flow
     val savedWorkouts: Flow<List<AIWorkout>> = context.dataStore.data.map { preferences ->
         val workoutsJson = preferences[SAVED_WORKOUTS_KEY] ?: "[]"
         try {
-            val workouts: List<AIWorkout> = json.decodeFromString(workoutsJson)
-            Log.d(TAG, "✅ Loaded ${workouts.size} saved workouts")
+            val workouts: List<AIWorkout> = Telemetry.traced("repo.workouts.read") { json.decodeFromString(workoutsJson) }
+            AppLog.d(TAG) { "✅ Loaded ${workouts.size} saved workouts" }
             workouts
         } catch (e: Exception) {
-            Log.e(TAG, "❌ Error loading workouts: ${e.message}")
+            AppLog.e(TAG) { "❌ Error loading workouts: ${e.message}" }
             // Return default sample workouts if loading fails
             getSampleWorkouts()
         }
@@ -44,115 +73,134 @@ class WorkoutRepository @Inject constructor(
     
     // Save a workout from AI content
     suspend fun saveWorkoutFromAI(content: String): AIWorkout {
-        Log.d(TAG, "💾 Saving workout from AI content: ${content.take(100)}...")
+        AppLog.d(TAG) { "💾 Saving workout from AI content: ${content.take(100)}..." }
         
         val workout = parseWorkoutFromAI(content)
         return saveWorkout(workout)
     }
     
-    // Save a workout
+    // Save a workout; only the fields that changed are stamped, so edits from other devices survive
     suspend fun saveWorkout(workout: AIWorkout): AIWorkout {
-        context.dataStore.edit { preferences ->
-            val currentWorkoutsJson = preferences[SAVED_WORKOUTS_KEY] ?: "[]"
-            val currentWorkouts: List<AIWorkout> = try {
-                json.decodeFromString(currentWorkoutsJson)
-            } catch (e: Exception) {
-                emptyList()
-            }
-            
-            val updatedWorkouts = listOf(workout) + currentWorkouts // Add to beginning
-            preferences[SAVED_WORKOUTS_KEY] = json.encodeToString(updatedWorkouts)
-            
-            Log.d(TAG, "✅ Saved workout: ${workout.name}")
-        }
+        val fields = crdtJson.encodeToJsonElement(workout).jsonObject
+        updateLibrary(publish = true) { library, clock -> library.put(workout.id, fields, clock) }
+        AppLog.d(TAG) { "✅ Saved workout: ${workout.name}" }
         
         return workout
     }
     
     // Delete a workout
     suspend fun deleteWorkout(workoutId: String) {
-        context.dataStore.edit { preferences ->
-            val currentWorkoutsJson = preferences[SAVED_WORKOUTS_KEY] ?: "[]"
-            val currentWorkouts: List<AIWorkout> = try {
-                json.decodeFromString(currentWorkoutsJson)
+        updateLibrary(publish = true) { library, _ -> library.remove(workoutId) }
+        AppLog.d(TAG) { "🗑️ Deleted workout: $workoutId" }
+    }
+    
+    // Merge record deltas pulled from other devices. Documents are never deleted remotely;
+    // removals travel inside the records as observed add tags.
+    override suspend fun applyRemote(upserts: Map<String, String>, deletions: Set<String>) {
+        val incoming = upserts.values.mapNotNull { recordJson ->
+            try {
+                crdtJson.decodeFromString<ReplicatedRecord>(recordJson)
             } catch (e: Exception) {
-                emptyList()
+                AppLog.e(TAG) { "❌ Skipping unreadable remote workout: ${e.message}" }
+                null
             }
-            
-            val updatedWorkouts = currentWorkouts.filter { it.id != workoutId }
-            preferences[SAVED_WORKOUTS_KEY] = json.encodeToString(updatedWorkouts)
-            
-            Log.d(TAG, "🗑️ Deleted workout: $workoutId")
         }
+        if (incoming.isEmpty()) return
+        
+        updateLibrary(publish = false) { library, clock ->
+            incoming.fold(library) { merged, record ->
+                record.latestTimestamp?.let(clock::observe)
+                merged.merge(record)
+            }
+        }
+        AppLog.d(TAG) { "🔄 Merged ${incoming.size} remote workout record(s)" }
     }
     
-    // Parse AI content into a structured workout
-    private fun parseWorkoutFromAI(content: String): AIWorkout {
-        Log.d(TAG, "🔍 Parsing AI workout content...")
-        
-        // Extract workout name from content
-        val titleRegex = """(?:^|\n)\s*(?:🔥|💪|🏋️|📋|Workout:\s*)?([A-Z][^.\n]{10,80})""".toRegex()
-        val titleMatch = titleRegex.find(content)
-        val name = titleMatch?.groupValues?.get(1)?.trim() ?: "AI Generated Workout"
-        
-        // Extract exercises
-        val exerciseRegex = """(?:•|-|▪|[0-9]+\.)\s*([A-Za-z][^:\n]{5,50})""".toRegex()
-        val exercises = exerciseRegex.findAll(content)
-            .map { it.groupValues[1].trim() }
-            .filter { it.length > 3 }
-            .take(10)
-            .toList()
-        
-        // Extract muscle groups
-        val muscleRegex = """(chest|back|legs|arms|shoulders|core|abs|cardio|full body|glutes|biceps|triceps)""".toRegex(RegexOption.IGNORE_CASE)
-        val targetMuscleGroups = muscleRegex.findAll(content)
-            .map { it.value.lowercase().replaceFirstChar { char -> char.uppercaseChar() } }
-            .distinct()
-            .take(3)
-            .toList()
-            .ifEmpty { listOf("Full Body") }
-        
-        // Extract duration (look for numbers followed by "min" or "minutes")
-        val durationRegex = """(\d+)\s*(?:min|minutes?)""".toRegex(RegexOption.IGNORE_CASE)
-        val durationMatch = durationRegex.find(content)
-        val duration = durationMatch?.groupValues?.get(1)?.toIntOrNull() ?: when {
-            exercises.size <= 4 -> 20
-            exercises.size <= 6 -> 30
-            exercises.size <= 8 -> 45
-            else -> 60
+    /**
+     * Applies [operation] to the replicated library and rewrites the materialized list the UI
+     * reads. With [publish], every record the operation touched is queued for upload as this
+     * device's document for that workout. That document holds the device's full merged record
+     * for the workout, not the single edit, so a later upload simply supersedes an earlier one.
+     *
+     * The merge itself only touches the affected records, but both the library and the list are
+     * single DataStore strings, so every call still re-encodes them: O(n) in the library size.
+     */
+    private suspend fun updateLibrary(
+        publish: Boolean,
+        operation: (ReplicatedLibrary, HybridLogicalClock) -> ReplicatedLibrary
+    ) {
+        var outgoing: List<ReplicatedRecord> = emptyList()
+        var node = ""
+        Telemetry.tracedAsync("repo.workouts.write") {
+            context.dataStore.edit { preferences ->
+                val storedJson = preferences[WORKOUT_LIBRARY_KEY]
+                val stored = lastWritten?.takeIf { it.first == storedJson }?.second ?: decodeLibrary(storedJson)
+                val clock = clockFor(preferences, stored)
+                node = clock.node
+                // First run after upgrade: seed the library from the plain list and publish all of it
+                val library = stored ?: decodeWorkouts(preferences[SAVED_WORKOUTS_KEY]).fold(ReplicatedLibrary()) { seeded, workout ->
+                    seeded.put(workout.id, crdtJson.encodeToJsonElement(workout).jsonObject, clock)
+                }
+                val updated = operation(library, clock)
+                if (stored == null || updated !== library) {
+                    val updatedJson = crdtJson.encodeToString(updated)
+                    preferences[WORKOUT_LIBRARY_KEY] = updatedJson
+                    lastWritten = updatedJson to updated
+                    preferences[SAVED_WORKOUTS_KEY] = json.encodeToString(materialize(updated))
+                }
+                if (publish) {
+                    outgoing = if (stored == null) updated.records.values.toList() else updated.changedSince(library)
+                }
+            }
         }
-        
-        // Extract difficulty
-        val difficultyRegex = """(beginner|intermediate|advanced)""".toRegex(RegexOption.IGNORE_CASE)
-        val difficultyMatch = difficultyRegex.find(content)
-        val difficulty = difficultyMatch?.value?.replaceFirstChar { it.uppercaseChar() } ?: "Intermediate"
-        
-        // Estimate calories
-        val caloriesEstimate = when (duration) {
-            in 0..20 -> 150
-            in 21..35 -> 250
-            in 36..50 -> 350
-            else -> 450
+        for (record in outgoing) {
+            syncOutbox.enqueueUpsert(collectionName, "${record.id}_$node", crdtJson.encodeToString(record))
         }
-        
-        // Create description from first few sentences
-        val descriptionMatch = content.split("\n")
-            .find { it.trim().length > 20 && !it.contains("🔥") && !it.contains("💪") }
-        val description = descriptionMatch?.trim()?.take(120) ?: "AI-generated personalized workout plan"
-        
-        val workout = AIWorkout(
-            id = UUID.randomUUID().toString(),
-            name = name.take(60),
-            description = description,
-            duration = duration,
-            difficulty = difficulty,
-            exercises = exercises.ifEmpty { listOf("Push-ups", "Squats", "Plank", "Jumping Jacks") },
-            targetMuscleGroups = targetMuscleGroups,
-            caloriesEstimate = caloriesEstimate,
-            dateGenerated = System.currentTimeMillis()
-        )
-        
-        Log.d(TAG, "✅ Parsed workout: ${workout.name} (${workout.duration}min, ${workout.difficulty})")
+    }
+    
+    // The node id is generated once per install; the clock resumes after the newest stored timestamp
+    private fun clockFor(preferences: MutablePreferences, library: ReplicatedLibrary?): HybridLogicalClock {
+        clock?.let { return it }
+        val node = preferences[NODE_ID_KEY] ?: UUID.randomUUID().toString().also { preferences[NODE_ID_KEY] = it }
+        return HybridLogicalClock(node).also { created ->
+            library?.records?.values?.mapNotNull { it.latestTimestamp }?.maxOrNull()?.let(created::observe)
+            clock = created
+        }
+    }
+    
+    private fun materialize(library: ReplicatedLibrary): List<AIWorkout> =
+        library.present
+            .mapNotNull { record ->
+                try {
+                    crdtJson.decodeFromJsonElement<AIWorkout>(record.toJson())
+                } catch (e: Exception) {
+                    AppLog.e(TAG) { "❌ Skipping incomplete workout ${record.id}: ${e.message}" }
+                    null
+                }
+            }
+            .sortedByDescending { it.dateGenerated }
+    
+    private fun decodeLibrary(libraryJson: String?): ReplicatedLibrary? {
+        if (libraryJson.isNullOrEmpty()) return null
+        return try {
+            crdtJson.decodeFromString<ReplicatedLibrary>(libraryJson)
+        } catch (e: Exception) {
+            AppLog.e(TAG) { "❌ Error loading workout library: ${e.message}" }
+            null
+        }
+    }
+    
+    private fun decodeWorkouts(workoutsJson: String?): List<AIWorkout> = try {
+        json.decodeFromString(workoutsJson ?: "[]")
+    } catch (e: Exception) {
+        emptyList()
+    }
+    
+    // Parse AI content into a structured workout
+    private fun parseWorkoutFromAI(content: String): AIWorkout {
+        AppLog.d(TAG) { "🔍 Parsing AI workout content..." }
+        val workout = Telemetry.traced("workout.parse") { WorkoutTextParser.parse(content) }
+        AppLog.d(TAG) { "✅ Parsed workout: ${workout.name} (${workout.duration}min, ${workout.difficulty})" }
         return workout
     }
     
@@ -0,0 +1,202 @@
+package com.fitsoul.app.data.repository
+
+import android.util.Log
+import com.fitsoul.app.data.local.WorkoutSessionDao
+import com.fitsoul.app.data.local.WorkoutSessionEntity
+import com.fitsoul.app.data.local.WorkoutSessionSummary
+import com.fitsoul.app.data.local.packSamples
+import com.fitsoul.app.data.local.unpackSamples
+import com.fitsoul.app.data.sync.SyncOutbox
+import com.fitsoul.app.data.sync.SyncableCollection
+import com.fitsoul.core.energy.CalorieEngine
+import com.fitsoul.core.energy.EnergyModel
+import com.fitsoul.core.energy.SessionSampleLog
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.distinctUntilChanged
+import kotlinx.coroutines.flow.flatMapLatest
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.coroutines.withContext
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/** Change in stored calories per recomputed session, by the session's start time. */
+class CalorieRecompute(
+    private val startedAt: LongArray,
+    private val deltas: FloatArray
+) {
+    val sessions: Int get() = startedAt.size
+
+    fun deltaSince(millis: Long): Float {
+        var delta = 0f
+        for (i in startedAt.indices) {
+            if (startedAt[i] >= millis) delta += deltas[i]
+        }
+        return delta
+    }
+}
+
+/**
+ * Finished workout sessions with their raw samples, per account ([uid] is empty while signed
+ * out). Saves and recomputes are serialized in call order, so a session saved before a profile
+ * change is always recomputed by it.
+ *
+ * Sessions sync without their samples: a document holds the totals the workout stats are built
+ * from, and stays small enough for a full [WriteBatch][com.google.firebase.firestore.WriteBatch].
+ * Only the device that recorded a session can recompute it, and it uploads the new totals.
+ */
+@Singleton
+class WorkoutSessionRepository @Inject constructor(
+    private val workoutSessionDao: WorkoutSessionDao,
+    private val authRepository: AuthRepository,
+    private val syncOutbox: SyncOutbox
+) : SyncableCollection {
+    private val TAG = "WorkoutSessionRepository"
+    private val json = Json { ignoreUnknownKeys = true }
+    private val mutex = Mutex()
+
+    override val collectionName = "workout_sessions"
+
+    /** The signed-in account's sessions without their samples, oldest first. */
+    @OptIn(ExperimentalCoroutinesApi::class)
+    val summaries: Flow<List<WorkoutSessionSummary>> = authRepository.authState
+        .map { it.user?.uid.orEmpty() }
+        .distinctUntilChanged()
+        .flatMapLatest { uid -> workoutSessionDao.summaries(uid) }
+
+    suspend fun save(
+        sessionId: String,
+        workoutName: String,
+        startedAt: Long,
+        durationMillis: Long,
+        calories: Float,
+        model: EnergyModel,
+        samples: SessionSampleLog
+    ) {
+        val session = WorkoutSessionEntity(
+            uid = currentUid(),
+            id = sessionId,
+            workoutName = workoutName,
+            startedAt = startedAt,
+            durationMillis = durationMillis,
+            calories = calories,
+            modelSignature = model.signature,
+            samples = packSamples(samples)
+        )
+        mutex.withLock { workoutSessionDao.upsert(session) }
+        syncOutbox.enqueueUpsert(collectionName, sessionId, encode(session))
+        Log.d(TAG, "✅ Saved session $sessionId (${samples.size} samples)")
+    }
+
+    /**
+     * Re-integrates every stored session not yet computed with [model], [RECOMPUTE_BATCH]
+     * sessions at a time, stores the new totals and queues them for upload.
+     */
+    suspend fun recomputeCalories(calorieEngine: CalorieEngine, model: EnergyModel): CalorieRecompute = mutex.withLock {
+        val uid = currentUid()
+        var startedAt = LongArray(RECOMPUTE_BATCH)
+        var deltas = FloatArray(RECOMPUTE_BATCH)
+        val totals = FloatArray(RECOMPUTE_BATCH)
+        var count = 0
+        var afterId = ""
+        while (true) {
+            val batch = workoutSessionDao.stalePage(uid, model.signature, afterId, RECOMPUTE_BATCH)
+            if (batch.isEmpty()) break
+            withContext(Dispatchers.Default) {
+                calorieEngine.recomputeHistory(batch.map { unpackSamples(it.samples) }, model, totals)
+            }
+            if (count + batch.size > startedAt.size) {
+                startedAt = startedAt.copyOf(startedAt.size * 2)
+                deltas = deltas.copyOf(deltas.size * 2)
+            }
+            for (i in batch.indices) {
+                val session = batch[i]
+                workoutSessionDao.updateCalories(uid, session.id, totals[i], model.signature)
+                syncOutbox.enqueueUpsert(
+                    collectionName,
+                    session.id,
+                    encode(session.copyTotals(calories = totals[i], modelSignature = model.signature))
+                )
+                startedAt[count] = session.startedAt
+                deltas[count] = totals[i] - session.calories
+                count++
+            }
+            afterId = batch.last().id
+        }
+        Log.d(TAG, "🔄 Recomputed calories for $count session(s)")
+        CalorieRecompute(startedAt.copyOf(count), deltas.copyOf(count))
+    }
+
+    override suspend fun applyRemote(upserts: Map<String, String>, deletions: Set<String>) {
+        val uid = currentUid()
+        val incoming = upserts.mapNotNull { (sessionId, documentJson) ->
+            try {
+                json.decodeFromString<SessionDocument>(documentJson).toEntity(uid, sessionId)
+            } catch (e: Exception) {
+                Log.e(TAG, "❌ Skipping unreadable remote session: ${e.message}")
+                null
+            }
+        }
+        if (incoming.isEmpty() && deletions.isEmpty()) return
+
+        mutex.withLock {
+            // New sessions arrive without samples; known ones keep the samples stored here
+            workoutSessionDao.insertMissing(incoming)
+            for (session in incoming) {
+                workoutSessionDao.updateTotals(
+                    uid, session.id, session.workoutName, session.startedAt,
+                    session.durationMillis, session.calories, session.modelSignature
+                )
+            }
+            if (deletions.isNotEmpty()) workoutSessionDao.delete(uid, deletions.toList())
+        }
+        Log.d(TAG, "🔄 Applied ${incoming.size} remote session(s), ${deletions.size} deletion(s)")
+    }
+
+    private fun encode(session: WorkoutSessionEntity): String = json.encodeToString(
+        SessionDocument(
+            workoutName = session.workoutName,
+            startedAt = session.startedAt,
+            durationMillis = session.durationMillis,
+            calories = session.calories,
+            modelSignature = session.modelSignature
+        )
+    )
+
+    private fun WorkoutSessionEntity.copyTotals(calories: Float, modelSignature: String) = WorkoutSessionEntity(
+        uid, id, workoutName, startedAt, durationMillis, calories, modelSignature, samples
+    )
+
+    private suspend fun currentUid(): String = authRepository.currentUser()?.uid.orEmpty()
+
+    @Serializable
+    private class SessionDocument(
+        val workoutName: String,
+        val startedAt: Long,
+        val durationMillis: Long,
+        val calories: Float,
+        val modelSignature: String
+    ) {
+        fun toEntity(uid: String, sessionId: String) = WorkoutSessionEntity(
+            uid = uid,
+            id = sessionId,
+            workoutName = workoutName,
+            startedAt = startedAt,
+            durationMillis = durationMillis,
+            calories = calories,
+            modelSignature = modelSignature,
+            samples = ByteArray(0)
+        )
+    }
+
+    private companion object {
+        const val RECOMPUTE_BATCH = 32
+    }
+}
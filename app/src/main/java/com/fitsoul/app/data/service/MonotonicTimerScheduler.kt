@@ -0,0 +1,137 @@
+package com.fitsoul.app.data.service
+
+import android.os.SystemClock
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.channels.Channel
+import kotlinx.coroutines.flow.MutableSharedFlow
+import kotlinx.coroutines.flow.SharedFlow
+import kotlinx.coroutines.flow.asSharedFlow
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.withTimeoutOrNull
+import javax.inject.Inject
+import javax.inject.Singleton
+
+data class TimerEvent(
+    val id: String,
+    val deadlineNanos: Long,
+    val firedAtNanos: Long
+) {
+    val latenessNanos: Long get() = firedAtNanos - deadlineNanos
+}
+
+/**
+ * Deadline-based timers on [SystemClock.elapsedRealtimeNanos], all served by a single ticker.
+ *
+ * Remaining time is always computed from the deadline, never by counting ticks, and periodic
+ * timers advance their deadline by whole periods from the original anchor. Late wake-ups
+ * therefore never accumulate: a 45-minute interval session stays within one wake-up latency
+ * (well under a frame) of its schedule.
+ */
+@Singleton
+class MonotonicTimerScheduler @Inject constructor() {
+
+    private class Timer(
+        val id: String,
+        var deadlineNanos: Long,
+        val periodNanos: Long,
+        val onFire: (TimerEvent) -> Unit
+    )
+
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Main.immediate)
+    private val timers = LinkedHashMap<String, Timer>()
+    private val wakeups = Channel<Unit>(Channel.CONFLATED)
+    private var tickerJob: Job? = null
+
+    private val _events = MutableSharedFlow<TimerEvent>(extraBufferCapacity = 16)
+    val events: SharedFlow<TimerEvent> = _events.asSharedFlow()
+
+    fun nowNanos(): Long = SystemClock.elapsedRealtimeNanos()
+
+    /** Schedules (or replaces) timer [id] to fire at an absolute monotonic deadline. */
+    fun scheduleAt(
+        id: String,
+        deadlineNanos: Long,
+        periodNanos: Long = 0L,
+        onFire: (TimerEvent) -> Unit = {}
+    ) {
+        timers[id] = Timer(id, deadlineNanos, periodNanos, onFire)
+        ensureTicker()
+    }
+
+    fun schedule(
+        id: String,
+        delayNanos: Long,
+        periodNanos: Long = 0L,
+        onFire: (TimerEvent) -> Unit = {}
+    ) = scheduleAt(id, nowNanos() + delayNanos, periodNanos, onFire)
+
+    fun cancel(id: String) {
+        if (timers.remove(id) != null) wakeups.trySend(Unit)
+    }
+
+    fun isScheduled(id: String): Boolean = timers.containsKey(id)
+
+    fun deadlineNanos(id: String): Long = timers[id]?.deadlineNanos ?: -1L
+
+    /** Time left until [id] fires, derived from its deadline; 0 when it is not scheduled. */
+    fun remainingNanos(id: String): Long {
+        val timer = timers[id] ?: return 0L
+        return (timer.deadlineNanos - nowNanos()).coerceAtLeast(0L)
+    }
+
+    private fun ensureTicker() {
+        if (tickerJob?.isActive == true) {
+            wakeups.trySend(Unit)
+            return
+        }
+        tickerJob = scope.launch { runTicker() }
+    }
+
+    private suspend fun runTicker() {
+        while (timers.isNotEmpty()) {
+            var next = Long.MAX_VALUE
+            for (timer in timers.values) {
+                if (timer.deadlineNanos < next) next = timer.deadlineNanos
+            }
+
+            val waitNanos = next - nowNanos()
+            if (waitNanos > 0) {
+                // Round up so we never wake before the deadline and spin
+                val waitMillis = (waitNanos + NANOS_PER_MILLI - 1) / NANOS_PER_MILLI
+                withTimeoutOrNull(waitMillis) { wakeups.receive() }
+                continue
+            }
+            fireDue()
+        }
+    }
+
+    private fun fireDue() {
+        val now = nowNanos()
+        val due = timers.values.filter { it.deadlineNanos <= now }.sortedBy { it.deadlineNanos }
+
+        for (timer in due) {
+            // A callback may have cancelled or replaced this timer already
+            if (timers[timer.id] !== timer) continue
+
+            val event = TimerEvent(timer.id, timer.deadlineNanos, now)
+            if (timer.periodNanos > 0) {
+                // Stay on the original grid, skipping any periods we slept through
+                val missed = (now - timer.deadlineNanos) / timer.periodNanos + 1
+                timer.deadlineNanos += missed * timer.periodNanos
+            } else {
+                timers.remove(timer.id)
+            }
+
+            timer.onFire(event)
+            _events.tryEmit(event)
+        }
+    }
+
+    companion object {
+        const val NANOS_PER_MILLI = 1_000_000L
+        const val NANOS_PER_SECOND = 1_000_000_000L
+    }
+}
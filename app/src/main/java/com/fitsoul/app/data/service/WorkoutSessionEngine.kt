@@ -0,0 +1,259 @@
+package com.fitsoul.app.data.service
+
+import android.content.Context
+import android.content.Intent
+import android.util.Log
+import androidx.core.content.ContextCompat
+import com.fitsoul.app.services.WorkoutTrackingService
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.filter
+import javax.inject.Inject
+import javax.inject.Singleton
+
+enum class WorkoutState {
+    NOT_STARTED, ACTIVE, RESTING, COMPLETED, PAUSED
+}
+
+data class SessionExercise(
+    val name: String,
+    val sets: Int,
+    val restSeconds: Int
+)
+
+data class WorkoutSessionState(
+    val status: WorkoutState = WorkoutState.NOT_STARTED,
+    val workoutId: String = "",
+    val workoutName: String = "",
+    val exercises: List<SessionExercise> = emptyList(),
+    val exerciseIndex: Int = 0,
+    val currentSet: Int = 1,
+    val elapsedMillis: Long = 0,
+    val restRemainingMillis: Long = 0,
+    val restDurationMillis: Long = 0
+) {
+    val currentExercise: SessionExercise? get() = exercises.getOrNull(exerciseIndex)
+    val elapsedSeconds: Int get() = (elapsedMillis / 1000).toInt()
+    val restRemainingSeconds: Int get() = ((restRemainingMillis + 999) / 1000).toInt()
+    val isRunning: Boolean get() = status != WorkoutState.NOT_STARTED && status != WorkoutState.COMPLETED
+}
+
+/**
+ * Authoritative workout session state machine shared by [WorkoutTrackingService] and every
+ * workout screen. All timing is derived from monotonic deadlines on [MonotonicTimerScheduler]
+ * so elapsed and rest time neither drift nor stop when the UI leaves composition.
+ */
+@Singleton
+class WorkoutSessionEngine @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val scheduler: MonotonicTimerScheduler
+) {
+    private val TAG = "WorkoutSessionEngine"
+
+    private val _state = MutableStateFlow(WorkoutSessionState())
+    val state: StateFlow<WorkoutSessionState> = _state.asStateFlow()
+
+    /** Fires exactly at each rest deadline, independent of the once-per-second display tick. */
+    val restFinished: Flow<TimerEvent> = scheduler.events.filter { it.id == REST_TIMER }
+
+    // Active time accumulated before the current running segment
+    private var accumulatedNanos = 0L
+    // Monotonic start of the current running segment, or -1 while paused/idle
+    private var segmentStart = -1L
+    // Rest left when the session was paused mid-rest
+    private var pausedRestNanos = 0L
+    private var statusBeforePause = WorkoutState.ACTIVE
+
+    fun start(workoutId: String, workoutName: String, exercises: List<SessionExercise>) {
+        if (_state.value.isRunning && _state.value.workoutId == workoutId) {
+            Log.d(TAG, "Session for $workoutName already running")
+            return
+        }
+
+        scheduler.cancel(REST_TIMER)
+        accumulatedNanos = 0L
+        segmentStart = scheduler.nowNanos()
+        pausedRestNanos = 0L
+
+        _state.value = WorkoutSessionState(
+            status = WorkoutState.ACTIVE,
+            workoutId = workoutId,
+            workoutName = workoutName,
+            exercises = exercises
+        )
+
+        ContextCompat.startForegroundService(context, Intent(context, WorkoutTrackingService::class.java))
+        anchorDisplayTick()
+        Log.d(TAG, "Started session: $workoutName (${exercises.size} exercises)")
+    }
+
+    fun completeSet() {
+        val current = _state.value
+        if (current.status != WorkoutState.ACTIVE) return
+        val exercise = current.currentExercise ?: return
+
+        when {
+            current.currentSet < exercise.sets ->
+                beginRest(current.copy(currentSet = current.currentSet + 1), exercise.restSeconds)
+            current.exerciseIndex < current.exercises.size - 1 -> {
+                val nextIndex = current.exerciseIndex + 1
+                beginRest(
+                    current.copy(exerciseIndex = nextIndex, currentSet = 1),
+                    current.exercises[nextIndex].restSeconds
+                )
+            }
+            else -> complete()
+        }
+    }
+
+    fun skipRest() {
+        if (_state.value.status != WorkoutState.RESTING) return
+        scheduler.cancel(REST_TIMER)
+        endRest()
+    }
+
+    fun pause() {
+        val current = _state.value
+        if (current.status != WorkoutState.ACTIVE && current.status != WorkoutState.RESTING) return
+
+        accumulatedNanos += scheduler.nowNanos() - segmentStart
+        segmentStart = -1L
+        pausedRestNanos = scheduler.remainingNanos(REST_TIMER)
+        scheduler.cancel(REST_TIMER)
+        scheduler.cancel(DISPLAY_TIMER)
+        statusBeforePause = current.status
+
+        _state.value = current.copy(
+            status = WorkoutState.PAUSED,
+            elapsedMillis = accumulatedNanos / NANOS_PER_MILLI,
+            restRemainingMillis = pausedRestNanos / NANOS_PER_MILLI
+        )
+    }
+
+    fun resume() {
+        val current = _state.value
+        if (current.status != WorkoutState.PAUSED) return
+
+        segmentStart = scheduler.nowNanos()
+        val resting = statusBeforePause == WorkoutState.RESTING && pausedRestNanos > 0
+        if (resting) {
+            scheduleRestEnd(segmentStart + pausedRestNanos)
+        }
+
+        _state.value = current.copy(status = if (resting) WorkoutState.RESTING else WorkoutState.ACTIVE)
+        anchorDisplayTick()
+    }
+
+    fun togglePause() {
+        if (_state.value.status == WorkoutState.PAUSED) resume() else pause()
+    }
+
+    fun complete() {
+        val current = _state.value
+        if (!current.isRunning) return
+
+        if (segmentStart >= 0) accumulatedNanos += scheduler.nowNanos() - segmentStart
+        segmentStart = -1L
+        scheduler.cancel(REST_TIMER)
+        scheduler.cancel(DISPLAY_TIMER)
+
+        _state.value = current.copy(
+            status = WorkoutState.COMPLETED,
+            elapsedMillis = accumulatedNanos / NANOS_PER_MILLI,
+            restRemainingMillis = 0,
+            restDurationMillis = 0
+        )
+        Log.d(TAG, "Completed session: ${current.workoutName} in ${accumulatedNanos / NANOS_PER_SECOND}s")
+    }
+
+    fun reset() {
+        scheduler.cancel(REST_TIMER)
+        scheduler.cancel(DISPLAY_TIMER)
+        accumulatedNanos = 0L
+        segmentStart = -1L
+        pausedRestNanos = 0L
+        _state.value = WorkoutSessionState()
+    }
+
+    /** Current state with elapsed and rest time read from the clock instead of the last tick. */
+    fun snapshot(): WorkoutSessionState {
+        val current = _state.value
+        if (current.status != WorkoutState.ACTIVE && current.status != WorkoutState.RESTING) return current
+        return current.copy(
+            elapsedMillis = elapsedMillis(),
+            restRemainingMillis = scheduler.remainingNanos(REST_TIMER) / NANOS_PER_MILLI
+        )
+    }
+
+    /** Active time so far, computed from the monotonic clock rather than the last tick. */
+    fun elapsedMillis(): Long = elapsedNanos() / NANOS_PER_MILLI
+
+    private fun elapsedNanos(): Long =
+        accumulatedNanos + if (segmentStart >= 0) scheduler.nowNanos() - segmentStart else 0L
+
+    private fun beginRest(next: WorkoutSessionState, restSeconds: Int) {
+        if (restSeconds <= 0) {
+            _state.value = next.copy(status = WorkoutState.ACTIVE)
+            return
+        }
+        val duration = restSeconds * NANOS_PER_SECOND
+        scheduleRestEnd(scheduler.nowNanos() + duration)
+        _state.value = next.copy(
+            status = WorkoutState.RESTING,
+            restRemainingMillis = duration / NANOS_PER_MILLI,
+            restDurationMillis = duration / NANOS_PER_MILLI
+        )
+        anchorDisplayTick()
+    }
+
+    private fun scheduleRestEnd(deadlineNanos: Long) {
+        scheduler.scheduleAt(REST_TIMER, deadlineNanos) { endRest() }
+    }
+
+    private fun endRest() {
+        _state.value = _state.value.copy(
+            status = WorkoutState.ACTIVE,
+            elapsedMillis = elapsedMillis(),
+            restRemainingMillis = 0,
+            restDurationMillis = 0
+        )
+        anchorDisplayTick()
+    }
+
+    private fun refresh() {
+        val current = _state.value
+        when (current.status) {
+            WorkoutState.RESTING -> _state.value = current.copy(
+                elapsedMillis = elapsedMillis(),
+                restRemainingMillis = scheduler.remainingNanos(REST_TIMER) / NANOS_PER_MILLI
+            )
+            WorkoutState.ACTIVE -> _state.value = current.copy(elapsedMillis = elapsedMillis())
+            else -> Unit
+        }
+    }
+
+    /**
+     * Puts the once-per-second UI refresh on the grid where the visible value changes: whole
+     * seconds of rest remaining while resting, whole seconds of elapsed time otherwise.
+     */
+    private fun anchorDisplayTick() {
+        val now = scheduler.nowNanos()
+        val phase = if (scheduler.isScheduled(REST_TIMER)) {
+            scheduler.remainingNanos(REST_TIMER) % NANOS_PER_SECOND
+        } else {
+            NANOS_PER_SECOND - elapsedNanos() % NANOS_PER_SECOND
+        }
+        refresh()
+        scheduler.scheduleAt(DISPLAY_TIMER, now + phase, NANOS_PER_SECOND) { refresh() }
+    }
+
+    private companion object {
+        const val REST_TIMER = "session_rest"
+        const val DISPLAY_TIMER = "session_display"
+        const val NANOS_PER_MILLI = MonotonicTimerScheduler.NANOS_PER_MILLI
+        const val NANOS_PER_SECOND = MonotonicTimerScheduler.NANOS_PER_SECOND
+    }
+}
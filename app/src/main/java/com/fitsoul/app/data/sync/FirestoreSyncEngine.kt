@@ -0,0 +1,155 @@
+package com.fitsoul.app.data.sync
+
+import android.content.Context
+import android.util.Log
+import androidx.datastore.preferences.core.edit
+import androidx.datastore.preferences.core.stringPreferencesKey
+import androidx.datastore.preferences.preferencesDataStore
+import com.fitsoul.app.data.repository.AuthRepository
+import com.fitsoul.app.data.repository.HeartRateZoneRepository
+import com.fitsoul.app.data.repository.WorkoutRepository
+import com.fitsoul.app.data.repository.WorkoutSessionRepository
+import com.google.firebase.Timestamp
+import com.google.firebase.firestore.CollectionReference
+import com.google.firebase.firestore.FieldPath
+import com.google.firebase.firestore.FieldValue
+import com.google.firebase.firestore.FirebaseFirestore
+import com.google.firebase.firestore.Source
+import dagger.hilt.android.qualifiers.ApplicationContext
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
+import kotlinx.coroutines.tasks.await
+import javax.inject.Inject
+import javax.inject.Singleton
+
+private val Context.syncCursorDataStore by preferencesDataStore("sync_cursors")
+
+/** Resume point of an incremental pull: the last document applied, in `(updatedAt, id)` order. */
+private data class SyncCursor(val updatedAt: Timestamp, val documentId: String)
+
+/**
+ * Two-way sync of the local stores with `users/{uid}/{collection}/{docId}`.
+ *
+ * Push drains the [SyncOutbox] in [WriteBatch][com.google.firebase.firestore.WriteBatch]es of up
+ * to [MAX_BATCH_WRITES] documents, so a backlog of edits costs one round trip per batch rather
+ * than one per edit. Pull then reads only documents changed since the stored cursor, a page at a
+ * time. Deletions are uploaded as tombstones so other devices see them on their next pull.
+ * Both directions are idempotent: replaying a batch or a page leaves the same state.
+ */
+@Singleton
+class FirestoreSyncEngine @Inject constructor(
+    @ApplicationContext private val context: Context,
+    private val firestore: dagger.Lazy<FirebaseFirestore>,
+    private val authRepository: AuthRepository,
+    private val syncOutbox: SyncOutbox,
+    workoutRepository: WorkoutRepository,
+    heartRateZoneRepository: HeartRateZoneRepository,
+    workoutSessionRepository: WorkoutSessionRepository
+) {
+    private val TAG = "FirestoreSyncEngine"
+    private val mutex = Mutex()
+
+    private val collections: List<SyncableCollection> =
+        listOf(workoutRepository, heartRateZoneRepository, workoutSessionRepository)
+
+    /** Pushes pending local changes, then pulls remote ones. Throws so the worker can retry. */
+    suspend fun sync() = mutex.withLock {
+        val uid = authRepository.currentUser()?.uid ?: return@withLock
+        push(uid)
+        for (collection in collections) pull(uid, collection)
+    }
+
+    private suspend fun push(uid: String) {
+        val entries = syncOutbox.pending(uid)
+        if (entries.isEmpty()) return
+
+        for (chunk in entries.chunked(MAX_BATCH_WRITES)) {
+            val batch = firestore.get().batch()
+            for (entry in chunk) {
+                val document = userCollection(uid, entry.collection).document(entry.documentId)
+                batch.set(
+                    document,
+                    mapOf(
+                        FIELD_PAYLOAD to entry.payload,
+                        FIELD_DELETED to (entry.payload == null),
+                        FIELD_UPDATED_AT to FieldValue.serverTimestamp()
+                    )
+                )
+            }
+            batch.commit().await()
+            syncOutbox.acknowledge(chunk)
+        }
+        Log.d(TAG, "⬆️ Pushed ${entries.size} change(s)")
+    }
+
+    private suspend fun pull(uid: String, collection: SyncableCollection) {
+        var cursor = loadCursor(uid, collection.collectionName)
+        var pulled = 0
+
+        while (true) {
+            var query = userCollection(uid, collection.collectionName)
+                .orderBy(FIELD_UPDATED_AT)
+                .orderBy(FieldPath.documentId())
+            cursor?.let { query = query.startAfter(it.updatedAt, it.documentId) }
+            val page = query.limit(PAGE_SIZE.toLong()).get(Source.SERVER).await()
+            if (page.isEmpty) break
+
+            // A document still waiting in the outbox carries a newer local edit; it wins until pushed
+            val pendingIds = syncOutbox.pendingDocumentIds(uid, collection.collectionName)
+            val upserts = mutableMapOf<String, String>()
+            val deletions = mutableSetOf<String>()
+            for (document in page.documents) {
+                if (document.id in pendingIds) continue
+                val payload = document.getString(FIELD_PAYLOAD)
+                if (document.getBoolean(FIELD_DELETED) == true || payload == null) {
+                    deletions += document.id
+                } else {
+                    upserts[document.id] = payload
+                }
+            }
+            collection.applyRemote(upserts, deletions)
+
+            val last = page.documents.last()
+            val lastUpdatedAt = last.getTimestamp(FIELD_UPDATED_AT) ?: break
+            cursor = SyncCursor(lastUpdatedAt, last.id)
+            saveCursor(uid, collection.collectionName, cursor)
+            pulled += page.size()
+
+            if (page.size() < PAGE_SIZE) break
+        }
+        if (pulled > 0) Log.d(TAG, "⬇️ Pulled $pulled change(s) for ${collection.collectionName}")
+    }
+
+    private fun userCollection(uid: String, collection: String): CollectionReference =
+        firestore.get().collection(USERS_COLLECTION).document(uid).collection(collection)
+
+    // Cursors are per account so switching users starts a full pull
+    private suspend fun loadCursor(uid: String, collection: String): SyncCursor? {
+        val stored = context.syncCursorDataStore.data.first()[cursorKey(uid, collection)] ?: return null
+        val parts = stored.split(':', limit = 3)
+        if (parts.size != 3) return null
+        val seconds = parts[0].toLongOrNull() ?: return null
+        val nanos = parts[1].toIntOrNull() ?: return null
+        return SyncCursor(Timestamp(seconds, nanos), parts[2])
+    }
+
+    private suspend fun saveCursor(uid: String, collection: String, cursor: SyncCursor) {
+        context.syncCursorDataStore.edit { preferences ->
+            preferences[cursorKey(uid, collection)] =
+                "${cursor.updatedAt.seconds}:${cursor.updatedAt.nanoseconds}:${cursor.documentId}"
+        }
+    }
+
+    private fun cursorKey(uid: String, collection: String) = stringPreferencesKey("cursor_${uid}_$collection")
+
+    private companion object {
+        const val USERS_COLLECTION = "users"
+        const val FIELD_PAYLOAD = "payload"
+        const val FIELD_DELETED = "deleted"
+        const val FIELD_UPDATED_AT = "updatedAt"
+        // Firestore's per-batch write limit
+        const val MAX_BATCH_WRITES = 500
+        const val PAGE_SIZE = 500
+    }
+}
@@ -0,0 +1,55 @@
+package com.fitsoul.app.data.sync
+
+import kotlinx.serialization.Serializable
+
+/** Totally ordered event time; the node id breaks ties between replicas. */
+@Serializable
+data class HlcTimestamp(
+    val wallMillis: Long,
+    val counter: Int,
+    val node: String
+) : Comparable<HlcTimestamp> {
+    override fun compareTo(other: HlcTimestamp): Int =
+        compareValuesBy(this, other, { it.wallMillis }, { it.counter }, { it.node })
+
+    /** Unique per event, so it doubles as an OR-Set add tag. */
+    fun tag(): String = "$wallMillis.$counter.$node"
+}
+
+/**
+ * Hybrid logical clock: timestamps track wall time but never go backwards and always exceed
+ * every timestamp this replica has observed, so last-writer-wins picks the causally later
+ * edit even when the devices' clocks disagree.
+ */
+class HybridLogicalClock(
+    val node: String,
+    private val wallClock: () -> Long = System::currentTimeMillis
+) {
+    private var wallMillis = 0L
+    private var counter = 0
+
+    @Synchronized
+    fun now(): HlcTimestamp {
+        val wall = wallClock()
+        if (wall > wallMillis) {
+            wallMillis = wall
+            counter = 0
+        } else {
+            counter++
+        }
+        return HlcTimestamp(wallMillis, counter, node)
+    }
+
+    /** Advances past [remote] so the next local event orders after it. */
+    @Synchronized
+    fun observe(remote: HlcTimestamp) {
+        val next = maxOf(wallClock(), wallMillis, remote.wallMillis)
+        counter = when {
+            next == wallMillis && next == remote.wallMillis -> maxOf(counter, remote.counter) + 1
+            next == wallMillis -> counter + 1
+            next == remote.wallMillis -> remote.counter + 1
+            else -> 0
+        }
+        wallMillis = next
+    }
+}
@@ -0,0 +1,105 @@
+package com.fitsoul.app.data.sync
+
+import kotlinx.collections.immutable.PersistentMap
+import kotlinx.collections.immutable.persistentMapOf
+import kotlinx.collections.immutable.toPersistentMap
+import kotlinx.serialization.KSerializer
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.builtins.MapSerializer
+import kotlinx.serialization.builtins.serializer
+import kotlinx.serialization.encoding.Decoder
+import kotlinx.serialization.encoding.Encoder
+import kotlinx.serialization.json.JsonElement
+import kotlinx.serialization.json.JsonObject
+
+@Serializable
+data class LwwRegister(
+    val value: JsonElement,
+    val timestamp: HlcTimestamp
+) {
+    fun merge(other: LwwRegister): LwwRegister = if (other.timestamp > timestamp) other else this
+}
+
+/**
+ * One element of a [ReplicatedLibrary]: observed-remove set membership plus a
+ * last-writer-wins register per field. The element is present while it has an add tag that
+ * no removal has observed, so a re-add on one device beats a concurrent delete on another.
+ */
+@Serializable
+data class ReplicatedRecord(
+    val id: String,
+    val addTags: Set<String> = emptySet(),
+    val removedTags: Set<String> = emptySet(),
+    val fields: Map<String, LwwRegister> = emptyMap()
+) {
+    val isPresent: Boolean get() = addTags.any { it !in removedTags }
+
+    val latestTimestamp: HlcTimestamp? get() = fields.values.maxOfOrNull { it.timestamp }
+
+    /** Commutative, associative and idempotent, so records can arrive in any order, any number of times. */
+    fun merge(other: ReplicatedRecord): ReplicatedRecord {
+        val mergedFields = HashMap(fields)
+        for ((name, register) in other.fields) {
+            mergedFields[name] = fields[name]?.merge(register) ?: register
+        }
+        return ReplicatedRecord(id, addTags + other.addTags, removedTags + other.removedTags, mergedFields)
+    }
+
+    fun toJson(): JsonObject = JsonObject(fields.mapValues { it.value.value })
+}
+
+/**
+ * Immutable CRDT state of a keyed collection. Every operation returns a new library that shares
+ * all untouched records with the old one through a persistent map, so merging one record costs
+ * O(log n) rather than a copy of the library. Operations that change nothing return the same
+ * instance. Encoding the library is still O(n); see WorkoutRepository for what it persists.
+ */
+@Serializable
+data class ReplicatedLibrary(
+    @Serializable(with = RecordMapSerializer::class)
+    val records: PersistentMap<String, ReplicatedRecord> = persistentMapOf()
+) {
+    val present: List<ReplicatedRecord> get() = records.values.filter { it.isPresent }
+
+    /** Adds or edits [id]; only fields whose value actually changed get a new timestamp. */
+    fun put(id: String, values: JsonObject, clock: HybridLogicalClock): ReplicatedLibrary {
+        val current = records[id] ?: ReplicatedRecord(id)
+        val changed = values.filter { (name, value) -> current.fields[name]?.value != value }
+        if (changed.isEmpty() && current.isPresent) return this
+
+        val timestamp = clock.now()
+        return merge(
+            ReplicatedRecord(
+                id = id,
+                addTags = if (current.isPresent) emptySet() else setOf(timestamp.tag()),
+                fields = changed.mapValues { LwwRegister(it.value, timestamp) }
+            )
+        )
+    }
+
+    /** Removes [id] as observed here; adds made concurrently elsewhere survive. */
+    fun remove(id: String): ReplicatedLibrary {
+        val current = records[id]?.takeIf { it.isPresent } ?: return this
+        return merge(ReplicatedRecord(id, removedTags = current.addTags - current.removedTags))
+    }
+
+    fun merge(delta: ReplicatedRecord): ReplicatedLibrary {
+        val current = records[delta.id] ?: return copy(records = records.put(delta.id, delta))
+        val merged = current.merge(delta)
+        return if (merged == current) this else copy(records = records.put(delta.id, merged))
+    }
+
+    /** Records that differ from [previous], by identity: unchanged records are shared between versions. O(n). */
+    fun changedSince(previous: ReplicatedLibrary): List<ReplicatedRecord> =
+        records.values.filter { previous.records[it.id] !== it }
+}
+
+// Persisted as a plain JSON object; decoded straight into a persistent map
+internal object RecordMapSerializer : KSerializer<PersistentMap<String, ReplicatedRecord>> {
+    private val delegate = MapSerializer(String.serializer(), ReplicatedRecord.serializer())
+    override val descriptor = delegate.descriptor
+    override fun serialize(encoder: Encoder, value: PersistentMap<String, ReplicatedRecord>) =
+        delegate.serialize(encoder, value)
+    override fun deserialize(decoder: Decoder): PersistentMap<String, ReplicatedRecord> =
+        delegate.deserialize(decoder).toPersistentMap()
+}
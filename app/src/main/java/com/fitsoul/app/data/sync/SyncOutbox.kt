@@ -0,0 +1,45 @@
+package com.fitsoul.app.data.sync
+
+import com.fitsoul.app.data.local.OutboxDao
+import com.fitsoul.app.data.local.OutboxEntry
+import com.fitsoul.app.data.repository.AuthRepository
+import kotlinx.coroutines.flow.Flow
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Durable queue of local mutations awaiting upload, one Room row per document. Repeated edits
+ * to the same document replace its row, so they collapse into the latest one and cost a single
+ * remote write; each enqueue is one indexed insert regardless of queue length.
+ */
+@Singleton
+class SyncOutbox @Inject constructor(
+    private val outboxDao: OutboxDao,
+    private val authRepository: AuthRepository,
+    private val syncScheduler: SyncScheduler
+) {
+    val size: Flow<Int> = outboxDao.count()
+
+    suspend fun enqueueUpsert(collection: String, documentId: String, payload: String) =
+        enqueue(collection, documentId, payload)
+
+    suspend fun enqueueDelete(collection: String, documentId: String) =
+        enqueue(collection, documentId, null)
+
+    suspend fun pending(uid: String): List<OutboxEntry> = outboxDao.pending(uid)
+
+    suspend fun pendingDocumentIds(uid: String, collection: String): Set<String> =
+        outboxDao.pendingDocumentIds(uid, collection).toHashSet()
+
+    /** Drops uploaded entries unless the document was edited again while they were in flight. */
+    suspend fun acknowledge(entries: List<OutboxEntry>) {
+        outboxDao.delete(entries.map { it.sequence })
+    }
+
+    private suspend fun enqueue(collection: String, documentId: String, payload: String?) {
+        // Signed-out edits stay local; there is no account to sync them to
+        val uid = authRepository.currentUser()?.uid ?: return
+        outboxDao.upsert(OutboxEntry(uid, collection, documentId, payload))
+        syncScheduler.requestSync()
+    }
+}
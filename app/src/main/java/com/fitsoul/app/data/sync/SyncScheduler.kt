@@ -0,0 +1,58 @@
+package com.fitsoul.app.data.sync
+
+import android.content.Context
+import androidx.work.BackoffPolicy
+import androidx.work.Constraints
+import androidx.work.ExistingPeriodicWorkPolicy
+import androidx.work.ExistingWorkPolicy
+import androidx.work.NetworkType
+import androidx.work.OneTimeWorkRequestBuilder
+import androidx.work.PeriodicWorkRequestBuilder
+import androidx.work.WorkManager
+import dagger.hilt.android.qualifiers.ApplicationContext
+import java.util.concurrent.TimeUnit
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/** Runs [SyncWorker] only on unmetered networks while charging, backing off exponentially. */
+@Singleton
+class SyncScheduler @Inject constructor(
+    @ApplicationContext private val context: Context
+) {
+    private val constraints = Constraints.Builder()
+        .setRequiredNetworkType(NetworkType.UNMETERED)
+        .setRequiresCharging(true)
+        .build()
+
+    private val workManager: WorkManager get() = WorkManager.getInstance(context)
+
+    /** Periodic pull of other devices' changes, plus upload of anything left in the outbox. */
+    fun schedulePeriodic() {
+        val request = PeriodicWorkRequestBuilder<SyncWorker>(PERIODIC_INTERVAL_HOURS, TimeUnit.HOURS)
+            .setConstraints(constraints)
+            .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY_SECONDS, TimeUnit.SECONDS)
+            .build()
+        workManager.enqueueUniquePeriodicWork(PERIODIC_WORK, ExistingPeriodicWorkPolicy.KEEP, request)
+    }
+
+    /** One upload as soon as constraints allow; a request already waiting covers new entries too. */
+    fun requestSync() {
+        val request = OneTimeWorkRequestBuilder<SyncWorker>()
+            .setConstraints(constraints)
+            .setBackoffCriteria(BackoffPolicy.EXPONENTIAL, BACKOFF_DELAY_SECONDS, TimeUnit.SECONDS)
+            .build()
+        workManager.enqueueUniqueWork(ONE_TIME_WORK, ExistingWorkPolicy.KEEP, request)
+    }
+
+    fun cancel() {
+        workManager.cancelUniqueWork(PERIODIC_WORK)
+        workManager.cancelUniqueWork(ONE_TIME_WORK)
+    }
+
+    private companion object {
+        const val PERIODIC_WORK = "fitsoul_sync_periodic"
+        const val ONE_TIME_WORK = "fitsoul_sync_now"
+        const val PERIODIC_INTERVAL_HOURS = 6L
+        const val BACKOFF_DELAY_SECONDS = 30L
+    }
+}
@@ -0,0 +1,33 @@
+package com.fitsoul.app.data.sync
+
+import android.content.Context
+import android.util.Log
+import androidx.hilt.work.HiltWorker
+import androidx.work.CoroutineWorker
+import androidx.work.WorkerParameters
+import dagger.assisted.Assisted
+import dagger.assisted.AssistedInject
+import kotlinx.coroutines.CancellationException
+
+@HiltWorker
+class SyncWorker @AssistedInject constructor(
+    @Assisted context: Context,
+    @Assisted params: WorkerParameters,
+    private val syncEngine: FirestoreSyncEngine
+) : CoroutineWorker(context, params) {
+
+    override suspend fun doWork(): Result = try {
+        syncEngine.sync()
+        Result.success()
+    } catch (e: CancellationException) {
+        throw e
+    } catch (e: Exception) {
+        Log.e(TAG, "❌ Sync attempt $runAttemptCount failed: ${e.message}")
+        if (runAttemptCount < MAX_ATTEMPTS) Result.retry() else Result.failure()
+    }
+
+    private companion object {
+        const val TAG = "SyncWorker"
+        const val MAX_ATTEMPTS = 8
+    }
+}
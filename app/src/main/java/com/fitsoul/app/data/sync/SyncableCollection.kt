@@ -0,0 +1,12 @@
+package com.fitsoul.app.data.sync
+
+/**
+ * A local store mirrored to `users/{uid}/{collectionName}`. Documents travel as the store's
+ * own JSON encoding, so the sync engine never needs to know the entity types.
+ */
+interface SyncableCollection {
+    val collectionName: String
+
+    /** Applies a page of remote changes without recording them in the outbox again. */
+    suspend fun applyRemote(upserts: Map<String, String>, deletions: Set<String>)
+}
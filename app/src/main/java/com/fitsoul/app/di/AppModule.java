@@ -1,33 +1,97 @@
 package com.fitsoul.app.di;
 
+import android.content.Context;
+import androidx.room.Room;
+import androidx.startup.AppInitializer;
 import com.fitsoul.app.core.auth.GoogleSignInHelper;
+import com.fitsoul.app.core.startup.AiClientInitializer;
+import com.fitsoul.app.core.startup.FirebaseInitializer;
+import com.fitsoul.app.core.startup.GoogleSignInInitializer;
+import com.fitsoul.app.data.local.ChatMessageDao;
+import com.fitsoul.app.data.local.FitsoulDatabase;
+import com.fitsoul.app.data.local.OutboxDao;
+import com.fitsoul.app.data.local.WorkoutSessionDao;
+import com.fitsoul.core.energy.CalorieEngine;
+import com.fitsoul.core.exercise.ExerciseCatalog;
+import com.google.android.gms.auth.api.signin.GoogleSignInOptions;
+import com.google.firebase.FirebaseApp;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.firestore.FirebaseFirestore;
 import dagger.Module;
 import dagger.Provides;
 import dagger.hilt.InstallIn;
+import dagger.hilt.android.qualifiers.ApplicationContext;
 import dagger.hilt.components.SingletonComponent;
 import javax.inject.Singleton;
+import okhttp3.OkHttpClient;
 
 @Module
 @InstallIn(SingletonComponent.class)
 public class AppModule {
     
+    // Startup components are created on first injection rather than in Application.onCreate
     @Provides
     @Singleton
-    public FirebaseAuth provideFirebaseAuth() {
-        return FirebaseAuth.getInstance();
+    public FirebaseApp provideFirebaseApp(@ApplicationContext Context context) {
+        return AppInitializer.getInstance(context).initializeComponent(FirebaseInitializer.class);
     }
     
     @Provides
     @Singleton
-    public FirebaseFirestore provideFirebaseFirestore() {
-        return FirebaseFirestore.getInstance();
+    public FirebaseAuth provideFirebaseAuth(FirebaseApp firebaseApp) {
+        return FirebaseAuth.getInstance(firebaseApp);
     }
     
     @Provides
     @Singleton
-    public GoogleSignInHelper provideGoogleSignInHelper() {
-        return new GoogleSignInHelper();
+    public FirebaseFirestore provideFirebaseFirestore(FirebaseApp firebaseApp) {
+        return FirebaseFirestore.getInstance(firebaseApp);
+    }
+    
+    @Provides
+    @Singleton
+    public GoogleSignInOptions provideGoogleSignInOptions(@ApplicationContext Context context) {
+        return AppInitializer.getInstance(context).initializeComponent(GoogleSignInInitializer.class);
+    }
+    
+    @Provides
+    @Singleton
+    public OkHttpClient provideAiHttpClient(@ApplicationContext Context context) {
+        return AppInitializer.getInstance(context).initializeComponent(AiClientInitializer.class);
+    }
+    
+    @Provides
+    @Singleton
+    public FitsoulDatabase provideDatabase(@ApplicationContext Context context) {
+        return Room.databaseBuilder(context, FitsoulDatabase.class, FitsoulDatabase.NAME)
+                .build();
+    }
+    
+    @Provides
+    public ChatMessageDao provideChatMessageDao(FitsoulDatabase database) {
+        return database.chatMessageDao();
+    }
+    
+    @Provides
+    public OutboxDao provideOutboxDao(FitsoulDatabase database) {
+        return database.outboxDao();
+    }
+    
+    @Provides
+    public WorkoutSessionDao provideWorkoutSessionDao(FitsoulDatabase database) {
+        return database.workoutSessionDao();
+    }
+    
+    // :core has no DI annotations, so its catalog and stateless engines are bound here
+    @Provides
+    @Singleton
+    public ExerciseCatalog provideExerciseCatalog() {
+        return ExerciseCatalog.getDefault();
+    }
+    
+    @Provides
+    @Singleton
+    public CalorieEngine provideCalorieEngine(ExerciseCatalog catalog) {
+        return new CalorieEngine(catalog);
     }
 }
@@ -8,8 +8,10 @@ import android.content.Intent
 import android.os.Build
 import android.util.Log
 import androidx.core.app.NotificationCompat
+import androidx.startup.AppInitializer
 import com.fitsoul.app.MainActivity
 import com.fitsoul.app.R
+import com.fitsoul.app.core.startup.FirebaseInitializer
 import com.google.firebase.messaging.FirebaseMessagingService
 import com.google.firebase.messaging.RemoteMessage
 
@@ -20,6 +22,12 @@ class FitsoulFirebaseMessagingService : FirebaseMessagingService() {
         private const val NOTIFICATION_CHANNEL_NAME = "Fitsoul Notifications"
     }
     
+    override fun onCreate() {
+        // Pushes can start the process before anything has touched Firebase
+        AppInitializer.getInstance(this).initializeComponent(FirebaseInitializer::class.java)
+        super.onCreate()
+    }
+    
     override fun onMessageReceived(remoteMessage: RemoteMessage) {
         super.onMessageReceived(remoteMessage)
         Log.d(TAG, "From: ${remoteMessage.from}")
@@ -0,0 +1,193 @@
+package com.fitsoul.app.services
+
+import android.app.Notification
+import android.app.NotificationManager
+import android.app.PendingIntent
+import android.content.Context
+import android.os.Handler
+import android.os.Looper
+import android.os.SystemClock
+import android.widget.RemoteViews
+import androidx.core.app.NotificationCompat
+import com.fitsoul.app.R
+import com.fitsoul.app.data.service.WorkoutSessionState
+import com.fitsoul.app.data.service.WorkoutState
+import kotlin.math.abs
+
+/**
+ * Keeps the ongoing workout notification live without rebuilding it every second.
+ *
+ * The builder and its [RemoteViews] are created once; each update only re-applies the fields
+ * that actually changed and is posted at most once per [minPostIntervalMillis]. Elapsed and
+ * rest time are rendered by a system chronometer, so steady ticking needs no posts at all.
+ */
+class WorkoutNotificationUpdater(
+    private val context: Context,
+    channelId: String,
+    private val notificationId: Int,
+    contentIntent: PendingIntent,
+    private val minPostIntervalMillis: Long = DEFAULT_MIN_POST_INTERVAL_MS
+) {
+    private data class Content(
+        val title: String,
+        val detail: String,
+        val heartRate: String,
+        val chronometerBase: Long,
+        val chronometerRunning: Boolean,
+        val countDown: Boolean
+    )
+
+    private val notificationManager =
+        context.getSystemService(Context.NOTIFICATION_SERVICE) as NotificationManager
+    private val handler = Handler(Looper.getMainLooper())
+
+    private var remoteViews = RemoteViews(context.packageName, R.layout.notification_workout)
+    private val builder = NotificationCompat.Builder(context, channelId)
+        .setSmallIcon(R.drawable.ic_launcher_foreground)
+        .setContentIntent(contentIntent)
+        .setStyle(NotificationCompat.DecoratedCustomViewStyle())
+        .setCustomContentView(remoteViews)
+        .setCategory(NotificationCompat.CATEGORY_WORKOUT)
+        .setOngoing(true)
+        .setOnlyAlertOnce(true)
+        .setSilent(true)
+
+    private var applied: Content? = null
+    private var pending: Content? = null
+    private var lastPostAt = 0L
+    private var actionsSinceRebuild = 0
+    private val postRunnable = Runnable { flush() }
+
+    /** Notification for [android.app.Service.startForeground]; also primes the diff state. */
+    fun initialNotification(state: WorkoutSessionState, heartRate: Int): Notification {
+        val content = contentFor(state, heartRate)
+        applyFull(content)
+        lastPostAt = SystemClock.elapsedRealtime()
+        return builder.build()
+    }
+
+    fun update(state: WorkoutSessionState, heartRate: Int) {
+        val content = contentFor(state, heartRate)
+        if (content.sameAs(pending ?: applied)) return
+        pending = content
+
+        val wait = lastPostAt + minPostIntervalMillis - SystemClock.elapsedRealtime()
+        handler.removeCallbacks(postRunnable)
+        if (wait <= 0) flush() else handler.postDelayed(postRunnable, wait)
+    }
+
+    fun release() {
+        handler.removeCallbacks(postRunnable)
+        pending = null
+    }
+
+    private fun flush() {
+        val content = pending ?: return
+        pending = null
+        val previous = applied
+
+        // RemoteViews records every setter as an action, so compact it once in a while
+        if (previous == null || actionsSinceRebuild >= MAX_ACTIONS_BEFORE_REBUILD) {
+            remoteViews = RemoteViews(context.packageName, R.layout.notification_workout)
+            builder.setCustomContentView(remoteViews)
+            applyFull(content)
+        } else {
+            applyDiff(previous, content)
+        }
+
+        lastPostAt = SystemClock.elapsedRealtime()
+        notificationManager.notify(notificationId, builder.build())
+    }
+
+    private fun applyFull(content: Content) {
+        actionsSinceRebuild = 0
+        setTitle(content)
+        setDetail(content)
+        setHeartRate(content)
+        setChronometer(content)
+        applied = content
+    }
+
+    private fun applyDiff(previous: Content, content: Content) {
+        if (previous.title != content.title) setTitle(content)
+        if (previous.detail != content.detail) setDetail(content)
+        if (previous.heartRate != content.heartRate) setHeartRate(content)
+        if (!previous.sameChronometerAs(content)) setChronometer(content)
+        applied = content
+    }
+
+    private fun setTitle(content: Content) {
+        remoteViews.setTextViewText(R.id.notification_workout_title, content.title)
+        builder.setContentTitle(content.title)
+        actionsSinceRebuild++
+    }
+
+    private fun setDetail(content: Content) {
+        remoteViews.setTextViewText(R.id.notification_workout_detail, content.detail)
+        builder.setContentText(content.detail)
+        actionsSinceRebuild++
+    }
+
+    private fun setHeartRate(content: Content) {
+        remoteViews.setTextViewText(R.id.notification_workout_heart_rate, content.heartRate)
+        actionsSinceRebuild++
+    }
+
+    private fun setChronometer(content: Content) {
+        remoteViews.setChronometer(
+            R.id.notification_workout_chronometer,
+            content.chronometerBase,
+            null,
+            content.chronometerRunning
+        )
+        remoteViews.setChronometerCountDown(R.id.notification_workout_chronometer, content.countDown)
+        actionsSinceRebuild += 2
+    }
+
+    private fun contentFor(state: WorkoutSessionState, heartRate: Int): Content {
+        val now = SystemClock.elapsedRealtime()
+        val exercise = state.currentExercise
+        val resting = state.status == WorkoutState.RESTING
+
+        val title = when (state.status) {
+            WorkoutState.RESTING -> "Resting · ${state.workoutName}"
+            WorkoutState.PAUSED -> "Paused · ${state.workoutName}"
+            WorkoutState.COMPLETED -> "Workout complete"
+            else -> state.workoutName.ifBlank { "Workout in Progress" }
+        }
+        val detail = if (exercise != null) {
+            "${exercise.name} · Set ${state.currentSet}/${exercise.sets}"
+        } else {
+            "Tracking your workout activity"
+        }
+
+        return Content(
+            title = title,
+            detail = detail,
+            heartRate = if (heartRate > 0) "♥ $heartRate bpm" else "",
+            // Rest counts down to its deadline; otherwise count up from the session start
+            chronometerBase = if (resting) now + state.restRemainingMillis else now - state.elapsedMillis,
+            chronometerRunning = state.status == WorkoutState.ACTIVE || resting,
+            countDown = resting
+        )
+    }
+
+    private fun Content.sameAs(other: Content?): Boolean =
+        other != null &&
+            title == other.title &&
+            detail == other.detail &&
+            heartRate == other.heartRate &&
+            sameChronometerAs(other)
+
+    // Bases are recomputed from a moving clock, so tolerate scheduling jitter
+    private fun Content.sameChronometerAs(other: Content): Boolean =
+        chronometerRunning == other.chronometerRunning &&
+            countDown == other.countDown &&
+            abs(chronometerBase - other.chronometerBase) < CHRONOMETER_TOLERANCE_MS
+
+    companion object {
+        const val DEFAULT_MIN_POST_INTERVAL_MS = 2_000L
+        private const val CHRONOMETER_TOLERANCE_MS = 500L
+        private const val MAX_ACTIONS_BEFORE_REBUILD = 64
+    }
+}
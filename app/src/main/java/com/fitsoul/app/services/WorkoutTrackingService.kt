@@ -1,18 +1,43 @@
 package com.fitsoul.app.services
 
+import android.Manifest
 import android.app.NotificationChannel
 import android.app.NotificationManager
 import android.app.PendingIntent
 import android.app.Service
 import android.content.Context
 import android.content.Intent
+import android.content.pm.PackageManager
+import android.hardware.Sensor
+import android.hardware.SensorEvent
+import android.hardware.SensorEventListener
+import android.hardware.SensorManager
 import android.os.Build
 import android.os.IBinder
 import android.util.Log
-import androidx.core.app.NotificationCompat
+import androidx.core.app.ServiceCompat
+import androidx.core.content.ContextCompat
 import com.fitsoul.app.MainActivity
-import com.fitsoul.app.R
+import com.fitsoul.app.data.repository.UserProfileRepository
+import com.fitsoul.app.data.service.FitnessTrackingService
+import com.fitsoul.app.data.service.WorkoutSessionEngine
+import dagger.hilt.android.AndroidEntryPoint
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.cancel
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.distinctUntilChangedBy
+import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+import kotlin.math.roundToInt
 
+/**
+ * Foreground host for [WorkoutSessionEngine]. Keeps the process alive while a session is
+ * running and stops itself as soon as the engine leaves the running states.
+ */
+@AndroidEntryPoint
 class WorkoutTrackingService : Service() {
     companion object {
         private const val TAG = "WorkoutTrackingService"
@@ -21,6 +46,30 @@ class WorkoutTrackingService : Service() {
         private const val CHANNEL_NAME = "Workout Tracking"
     }
     
+    @Inject
+    lateinit var sessionEngine: WorkoutSessionEngine
+    
+    @Inject
+    lateinit var fitnessTrackingService: FitnessTrackingService
+    
+    @Inject
+    lateinit var userProfileRepository: UserProfileRepository
+    
+    private val serviceScope = CoroutineScope(SupervisorJob() + Dispatchers.Main.immediate)
+    private var notificationUpdater: WorkoutNotificationUpdater? = null
+    private var isObservingSession = false
+    private var sensorManager: SensorManager? = null
+    
+    // Sensor callbacks arrive on the main looper, the thread the tracking service runs on
+    private val heartRateListener = object : SensorEventListener {
+        override fun onSensorChanged(event: SensorEvent) {
+            if (event.accuracy <= SensorManager.SENSOR_STATUS_UNRELIABLE) return
+            fitnessTrackingService.onHeartRate(event.values[0].roundToInt())
+        }
+        
+        override fun onAccuracyChanged(sensor: Sensor, accuracy: Int) = Unit
+    }
+    
     override fun onCreate() {
         super.onCreate()
         createNotificationChannel()
@@ -32,33 +81,85 @@ class WorkoutTrackingService : Service() {
     override fun onStartCommand(intent: Intent?, flags: Int, startId: Int): Int {
         Log.d(TAG, "WorkoutTrackingService started")
         
-        // Create a pending intent for the notification
-        val notificationIntent = Intent(this, MainActivity::class.java)
-        val pendingIntent = PendingIntent.getActivity(
-            this, 0, notificationIntent, 
-            PendingIntent.FLAG_IMMUTABLE
+        val updater = notificationUpdater ?: createNotificationUpdater().also { notificationUpdater = it }
+        val notification = updater.initialNotification(
+            sessionEngine.snapshot(),
+            fitnessTrackingService.workoutProgress.value.heartRate
         )
         
-        // Build the notification
-        val notification = NotificationCompat.Builder(this, CHANNEL_ID)
-            .setContentTitle("Workout in Progress")
-            .setContentText("Tracking your workout activity")
-            .setSmallIcon(R.drawable.ic_launcher_foreground)
-            .setContentIntent(pendingIntent)
-            .setOngoing(true)
-            .build()
-        
         // Start as a foreground service with the notification
         startForeground(NOTIFICATION_ID, notification)
         
-        return START_STICKY
+        observeSession()
+        startHeartRateSensor()
+        
+        // The engine is the source of truth; never resurrect the service without it
+        return START_NOT_STICKY
     }
     
     override fun onDestroy() {
+        sensorManager?.unregisterListener(heartRateListener)
+        notificationUpdater?.release()
+        serviceScope.cancel()
         super.onDestroy()
         Log.d(TAG, "WorkoutTrackingService destroyed")
     }
     
+    private fun observeSession() {
+        if (isObservingSession) return
+        isObservingSession = true
+        
+        serviceScope.launch {
+            // Chronometer bases need live times, not the values from the last 1 Hz tick
+            combine(sessionEngine.state, fitnessTrackingService.workoutProgress) { _, progress ->
+                sessionEngine.snapshot() to progress.heartRate
+            }.collect { (session, heartRate) ->
+                notificationUpdater?.update(session, heartRate)
+            }
+        }
+        
+        serviceScope.launch {
+            // Calorie and zone models use the cached profile, refreshed as Firestore syncs
+            userProfileRepository.profile.collect { profile ->
+                fitnessTrackingService.setUserProfile(profile)
+            }
+        }
+        
+        serviceScope.launch {
+            // Stay in the foreground exactly as long as the engine reports a running session
+            sessionEngine.state
+                .distinctUntilChangedBy { it.isRunning }
+                .first { !it.isRunning }
+            
+            Log.d(TAG, "Session finished, stopping foreground service")
+            ServiceCompat.stopForeground(this@WorkoutTrackingService, ServiceCompat.STOP_FOREGROUND_REMOVE)
+            stopSelf()
+        }
+    }
+    
+    /** Feeds zone and calorie tracking from the device heart-rate sensor, when there is one. */
+    private fun startHeartRateSensor() {
+        if (sensorManager != null) return
+        if (ContextCompat.checkSelfPermission(this, Manifest.permission.BODY_SENSORS) != PackageManager.PERMISSION_GRANTED) {
+            Log.d(TAG, "No body sensor permission, heart rate not tracked")
+            return
+        }
+        val manager = getSystemService(SensorManager::class.java) ?: return
+        val sensor = manager.getDefaultSensor(Sensor.TYPE_HEART_RATE) ?: return
+        if (manager.registerListener(heartRateListener, sensor, SensorManager.SENSOR_DELAY_NORMAL)) {
+            sensorManager = manager
+        }
+    }
+    
+    private fun createNotificationUpdater(): WorkoutNotificationUpdater {
+        val notificationIntent = Intent(this, MainActivity::class.java)
+        val pendingIntent = PendingIntent.getActivity(
+            this, 0, notificationIntent, 
+            PendingIntent.FLAG_IMMUTABLE
+        )
+        return WorkoutNotificationUpdater(this, CHANNEL_ID, NOTIFICATION_ID, pendingIntent)
+    }
+    
     private fun createNotificationChannel() {
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
             val channel = NotificationChannel(
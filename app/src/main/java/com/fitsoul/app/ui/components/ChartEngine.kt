@@ -0,0 +1,246 @@
+package com.fitsoul.app.ui.components
+
+import androidx.compose.animation.core.Animatable
+import androidx.compose.animation.core.EaseOutCubic
+import androidx.compose.animation.core.tween
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.LaunchedEffect
+import androidx.compose.runtime.remember
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.draw.drawWithCache
+import androidx.compose.ui.geometry.CornerRadius
+import androidx.compose.ui.geometry.Offset
+import androidx.compose.ui.geometry.Size
+import androidx.compose.ui.graphics.Brush
+import androidx.compose.ui.graphics.Color
+import androidx.compose.ui.graphics.Path
+import androidx.compose.ui.graphics.PathEffect
+import androidx.compose.ui.graphics.StrokeCap
+import androidx.compose.ui.graphics.drawscope.Stroke
+import androidx.compose.ui.graphics.drawscope.clipRect
+import androidx.compose.ui.graphics.drawscope.scale
+import androidx.compose.ui.unit.Dp
+import kotlin.math.abs
+
+/*
+ * Chart drawing shared by the dashboard and progress screens. Geometry is built once per data
+ * set and size inside drawWithCache; the entry animation only changes a clip, scale or sweep
+ * at draw time, so animating frames allocate nothing and never recompose. Line series longer
+ * than the chart is wide are reduced with Largest-Triangle-Three-Buckets first, which keeps
+ * peaks and troughs that plain striding would drop. Bar series are summed into wider periods
+ * instead, since a bar's height is a total and picking one sample would misstate it.
+ */
+
+/** Entry animation from 0 to 1, restarted whenever [key] changes. Read its value only while drawing. */
+@Composable
+fun rememberChartReveal(key: Any?, durationMillis: Int = 1500): Animatable<Float, *> {
+    val reveal = remember { Animatable(0f) }
+    LaunchedEffect(key) {
+        reveal.snapTo(0f)
+        reveal.animateTo(1f, tween(durationMillis, easing = EaseOutCubic))
+    }
+    return reveal
+}
+
+/**
+ * Indices of at most [threshold] points of [values] chosen by Largest-Triangle-Three-Buckets.
+ * The first and last points are always kept; each bucket in between contributes the point that
+ * forms the largest triangle with the previous pick and the next bucket's average.
+ */
+fun largestTriangleThreeBuckets(values: FloatArray, threshold: Int): IntArray {
+    val count = values.size
+    if (threshold >= count || threshold < 3) return IntArray(count) { it }
+
+    val sampled = IntArray(threshold)
+    val bucketSize = (count - 2).toDouble() / (threshold - 2)
+    var previous = 0
+
+    for (bucket in 0 until threshold - 2) {
+        val nextStart = ((bucket + 1) * bucketSize).toInt() + 1
+        val nextEnd = minOf(((bucket + 2) * bucketSize).toInt() + 1, count)
+        var averageX = 0.0
+        var averageY = 0.0
+        for (j in nextStart until nextEnd) {
+            averageX += j
+            averageY += values[j]
+        }
+        val nextCount = nextEnd - nextStart
+        averageX /= nextCount
+        averageY /= nextCount
+
+        val start = (bucket * bucketSize).toInt() + 1
+        val end = ((bucket + 1) * bucketSize).toInt() + 1
+        var maxArea = -1.0
+        var chosen = start
+        for (j in start until end) {
+            val area = abs(
+                (previous - averageX) * (values[j] - values[previous]) -
+                    (previous - j) * (averageY - values[previous])
+            )
+            if (area > maxArea) {
+                maxArea = area
+                chosen = j
+            }
+        }
+        sampled[bucket + 1] = chosen
+        previous = chosen
+    }
+    sampled[threshold - 1] = count - 1
+    return sampled
+}
+
+/**
+ * [values] summed into at most [maxBuckets] runs of equal length. Runs are aligned to the end,
+ * so the newest bars cover whole periods and only the oldest one may be shorter.
+ */
+fun sumBuckets(values: FloatArray, maxBuckets: Int): FloatArray {
+    val count = values.size
+    if (maxBuckets < 1 || count <= maxBuckets) return values
+
+    val perBucket = (count + maxBuckets - 1) / maxBuckets
+    val buckets = (count + perBucket - 1) / perBucket
+    val sums = FloatArray(buckets)
+    for (i in 0 until count) {
+        sums[buckets - 1 - (count - 1 - i) / perBucket] += values[i]
+    }
+    return sums
+}
+
+/**
+ * Line chart with a gradient fill and a dashed target line, revealed left to right by
+ * [reveal]. Point markers are only drawn while there are few enough to tell apart.
+ */
+fun Modifier.lineChart(
+    data: List<Float>,
+    targetValue: Float,
+    color: Color,
+    lineWidth: Dp,
+    markerRadius: Dp,
+    reveal: () -> Float
+): Modifier = drawWithCache {
+    val width = size.width
+    val height = size.height
+    val values = data.toFloatArray()
+    val maxValue = maxOf(values.maxOrNull() ?: 0f, targetValue).takeIf { it > 0f } ?: 1f
+    val stepX = width / (values.size - 1).coerceAtLeast(1)
+    val indices = largestTriangleThreeBuckets(values, width.toInt().coerceAtLeast(3))
+
+    val xs = FloatArray(indices.size) { indices[it] * stepX }
+    val ys = FloatArray(indices.size) { height - (values[indices[it]] / maxValue) * height }
+
+    val line = Path()
+    val fill = Path()
+    if (indices.isNotEmpty()) {
+        line.moveTo(xs[0], ys[0])
+        for (i in 1 until xs.size) line.lineTo(xs[i], ys[i])
+        fill.addPath(line)
+        fill.lineTo(xs.last(), height)
+        fill.lineTo(xs.first(), height)
+        fill.close()
+    }
+
+    val lineStroke = Stroke(width = lineWidth.toPx(), cap = StrokeCap.Round)
+    val fillBrush = Brush.verticalGradient(listOf(color.copy(alpha = 0.3f), color.copy(alpha = 0f)))
+    val targetY = height - (targetValue / maxValue) * height
+    val targetEffect = PathEffect.dashPathEffect(floatArrayOf(10f, 10f))
+    val targetStroke = lineWidth.toPx() * 2 / 3
+    val markerOuter = markerRadius.toPx()
+    val showMarkers = indices.size <= MAX_MARKERS
+
+    onDrawBehind {
+        drawLine(
+            color = color.copy(alpha = 0.3f),
+            start = Offset(0f, targetY),
+            end = Offset(width, targetY),
+            strokeWidth = targetStroke,
+            pathEffect = targetEffect
+        )
+        if (indices.isEmpty()) return@onDrawBehind
+
+        // Pad the clip by the marker radius so the last point is not cut in half
+        clipRect(right = width * reveal() + markerOuter) {
+            drawPath(fill, brush = fillBrush)
+            drawPath(line, color = color, style = lineStroke)
+            if (showMarkers) {
+                for (i in xs.indices) {
+                    val center = Offset(xs[i], ys[i])
+                    drawCircle(color = color, radius = markerOuter, center = center)
+                    drawCircle(color = Color.White, radius = markerOuter / 2, center = center)
+                }
+            }
+        }
+    }
+}
+
+/**
+ * Bars spaced evenly across the width, each [barWidth] wide and [unitHeight] tall per unit.
+ * When the tallest bar would not fit, the unit shrinks so that bar spans the full height and the
+ * rest keep their proportions. They grow from the baseline as [reveal] goes from 0 to 1. When
+ * there are more values than fit, neighbouring values are merged into one bar holding their sum.
+ */
+fun Modifier.barChart(
+    values: List<Float>,
+    color: Color,
+    barWidth: Dp,
+    unitHeight: Dp,
+    cornerRadius: Dp,
+    reveal: () -> Float
+): Modifier = drawWithCache {
+    val maxBars = (size.width / (barWidth.toPx() / 2)).toInt()
+    val bars = sumBuckets(values.toFloatArray(), maxBars.coerceAtLeast(1))
+    val slot = size.width / bars.size.coerceAtLeast(1)
+    val drawnWidth = minOf(barWidth.toPx(), slot * 0.6f)
+    val radius = CornerRadius(cornerRadius.toPx(), cornerRadius.toPx())
+    val brush = Brush.verticalGradient(listOf(color, color.copy(alpha = 0.7f)))
+
+    val tallest = bars.maxOrNull() ?: 0f
+    val unit = if (tallest > 0f) minOf(unitHeight.toPx(), size.height / tallest) else unitHeight.toPx()
+    val tops = FloatArray(bars.size) { i ->
+        size.height - (bars[i] * unit).coerceIn(0f, size.height)
+    }
+    val lefts = FloatArray(bars.size) { i -> slot * i + (slot - drawnWidth) / 2 }
+
+    onDrawBehind {
+        scale(scaleX = 1f, scaleY = reveal(), pivot = Offset(0f, size.height)) {
+            for (i in tops.indices) {
+                drawRoundRect(
+                    brush = brush,
+                    topLeft = Offset(lefts[i], tops[i]),
+                    size = Size(drawnWidth, size.height - tops[i]),
+                    cornerRadius = radius
+                )
+            }
+        }
+    }
+}
+
+/** Ring gauge filled to [progress], sweeping in with [reveal]. */
+fun Modifier.ringProgress(
+    progress: Float,
+    color: Color,
+    strokeWidth: Dp,
+    reveal: () -> Float
+): Modifier = drawWithCache {
+    val stroke = Stroke(width = strokeWidth.toPx(), cap = StrokeCap.Round)
+    val radius = (size.minDimension - stroke.width) / 2
+    val center = Offset(size.width / 2, size.height / 2)
+    val arcTopLeft = Offset(center.x - radius, center.y - radius)
+    val arcSize = Size(radius * 2, radius * 2)
+    val trackColor = color.copy(alpha = 0.1f)
+    val sweep = progress.coerceIn(0f, 1f) * 360f
+
+    onDrawBehind {
+        drawCircle(color = trackColor, radius = radius, center = center, style = stroke)
+        drawArc(
+            color = color,
+            startAngle = -90f,
+            sweepAngle = sweep * reveal(),
+            useCenter = false,
+            topLeft = arcTopLeft,
+            size = arcSize,
+            style = stroke
+        )
+    }
+}
+
+private const val MAX_MARKERS = 31
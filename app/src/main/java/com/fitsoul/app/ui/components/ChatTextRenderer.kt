@@ -0,0 +1,138 @@
+package com.fitsoul.app.ui.components
+
+import android.util.LruCache
+import androidx.compose.foundation.layout.Spacer
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.remember
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.draw.drawBehind
+import androidx.compose.ui.layout.layout
+import androidx.compose.ui.semantics.semantics
+import androidx.compose.ui.semantics.text
+import androidx.compose.ui.text.AnnotatedString
+import androidx.compose.ui.text.ParagraphStyle
+import androidx.compose.ui.text.SpanStyle
+import androidx.compose.ui.text.TextLayoutResult
+import androidx.compose.ui.text.TextMeasurer
+import androidx.compose.ui.text.TextStyle
+import androidx.compose.ui.text.buildAnnotatedString
+import androidx.compose.ui.text.drawText
+import androidx.compose.ui.text.font.FontWeight
+import androidx.compose.ui.text.style.TextIndent
+import androidx.compose.ui.unit.Constraints
+import androidx.compose.ui.unit.sp
+import com.fitsoul.app.core.telemetry.Telemetry
+import com.fitsoul.app.ui.screens.ai.ChatMessage
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * Turns coach replies into styled text once, off the main thread, and keeps the most recent
+ * results by message id. Messages never change after they are stored, so the id is a safe key.
+ */
+@Singleton
+class ChatTextRenderer @Inject constructor() {
+    private val cache = LruCache<Long, AnnotatedString>(CACHE_SIZE)
+
+    suspend fun render(message: ChatMessage): AnnotatedString {
+        cache.get(message.id)?.let { return it }
+        val rendered = if (message.isFromAI) {
+            withContext(Dispatchers.Default) { Telemetry.traced("chat.render") { parseMarkdownLite(message.content) } }
+        } else {
+            AnnotatedString(message.content)
+        }
+        cache.put(message.id, rendered)
+        return rendered
+    }
+
+    private companion object {
+        const val CACHE_SIZE = 200
+    }
+}
+
+private val BULLET_PREFIX = Regex("""^(?:[•▪]|[-*](?=\s)|\d+\.(?=\s))\s*""")
+private val BOLD_SPAN = SpanStyle(fontWeight = FontWeight.Bold)
+private val BULLET_PARAGRAPH = ParagraphStyle(textIndent = TextIndent(firstLine = 0.sp, restLine = 14.sp))
+
+/**
+ * The subset of markdown the coach produces: `**bold**`, `#` headings and bulleted or numbered
+ * lines, which get a hanging indent so wrapped lines align under the text, not the bullet.
+ */
+internal fun parseMarkdownLite(content: String): AnnotatedString = buildAnnotatedString {
+    val lines = content.lines()
+    lines.forEachIndexed { index, rawLine ->
+        val line = rawLine.trimEnd()
+        val trimmed = line.trimStart()
+        val bullet = BULLET_PREFIX.find(trimmed)?.value
+        when {
+            trimmed.startsWith("#") -> {
+                pushStyle(BOLD_SPAN)
+                appendInline(trimmed.trimStart('#').trimStart())
+                pop()
+            }
+            bullet != null -> {
+                pushStyle(BULLET_PARAGRAPH)
+                // Plain dashes and asterisks are shown as a proper bullet
+                append(if (bullet.first() == '-' || bullet.first() == '*') "• " else bullet)
+                appendInline(trimmed.substring(bullet.length))
+                pop()
+            }
+            else -> appendInline(line)
+        }
+        if (index < lines.lastIndex) append('\n')
+    }
+}
+
+private fun AnnotatedString.Builder.appendInline(text: String) {
+    var cursor = 0
+    while (cursor < text.length) {
+        val open = text.indexOf("**", cursor)
+        val close = if (open >= 0) text.indexOf("**", open + 2) else -1
+        if (open < 0 || close < 0) {
+            // Unpaired markers are shown as typed
+            append(text, cursor, text.length)
+            return
+        }
+        append(text, cursor, open)
+        pushStyle(BOLD_SPAN)
+        append(text, open + 2, close)
+        pop()
+        cursor = close + 2
+    }
+}
+
+/**
+ * Draws [text] from a [TextLayoutResult] obtained through a shared [TextMeasurer], whose cache
+ * hands back the previous layout when a bubble scrolls back into view instead of laying the
+ * paragraph out again.
+ */
+@Composable
+fun PrecomputedText(
+    text: AnnotatedString,
+    style: TextStyle,
+    textMeasurer: TextMeasurer,
+    modifier: Modifier = Modifier
+) {
+    val holder = remember { LayoutHolder() }
+    Spacer(
+        modifier = modifier
+            .semantics { this.text = text }
+            .layout { measurable, constraints ->
+                val result = textMeasurer.measure(
+                    text = text,
+                    style = style,
+                    constraints = Constraints(maxWidth = constraints.maxWidth)
+                )
+                holder.result = result
+                val placeable = measurable.measure(Constraints.fixed(result.size.width, result.size.height))
+                layout(result.size.width, result.size.height) { placeable.place(0, 0) }
+            }
+            .drawBehind { holder.result?.let { drawText(it) } }
+    )
+}
+
+private class LayoutHolder {
+    var result: TextLayoutResult? = null
+}
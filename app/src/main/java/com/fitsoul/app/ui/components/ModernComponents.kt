@@ -23,9 +23,7 @@ import androidx.compose.ui.geometry.Offset
 import androidx.compose.ui.geometry.Size
 import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
-import androidx.compose.ui.graphics.Path
 import androidx.compose.ui.graphics.StrokeCap
-import androidx.compose.ui.graphics.drawscope.DrawScope
 import androidx.compose.ui.graphics.drawscope.Stroke
 import androidx.compose.ui.graphics.vector.ImageVector
 import androidx.compose.ui.hapticfeedback.HapticFeedbackType
@@ -36,6 +34,7 @@ import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 import kotlin.math.cos
 import kotlin.math.sin
+import kotlinx.collections.immutable.ImmutableList
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
@@ -193,22 +192,23 @@ fun MetricCard(
 
 @Composable
 fun ProgressChart(
-    data: List<Float>,
+    data: ImmutableList<Float>,
     modifier: Modifier = Modifier,
     targetValue: Float = 6f,
     currentValue: Float = 3.4f
 ) {
-    var animationProgress by remember { mutableStateOf(0f) }
-    
-    LaunchedEffect(data) {
-        animationProgress = 0f
-        animate(
-            initialValue = 0f,
-            targetValue = 1f,
-            animationSpec = tween(1500, easing = EaseOutCubic)
-        ) { value, _ ->
-            animationProgress = value
-        }
+    val reveal = rememberChartReveal(data)
+    val primaryColor = FitsoulColors.Primary
+    // Rebuilt only when the series changes; animation frames just move the clip
+    val chart = remember(data, targetValue, primaryColor) {
+        Modifier.lineChart(
+            data = data,
+            targetValue = targetValue,
+            color = primaryColor,
+            lineWidth = 3.dp,
+            markerRadius = 4.dp,
+            reveal = { reveal.value }
+        )
     }
     
     Card(
@@ -307,19 +307,12 @@ fun ProgressChart(
             Spacer(modifier = Modifier.height(24.dp))
             
             // Chart
-            Canvas(
+            Spacer(
                 modifier = Modifier
                     .fillMaxWidth()
                     .height(120.dp)
-            ) {
-                drawProgressChart(
-                    data = data,
-                    animationProgress = animationProgress,
-                    size = size,
-                    primaryColor = FitsoulColors.Primary,
-                    targetValue = targetValue
-                )
-            }
+                    .then(chart)
+            )
             
             Spacer(modifier = Modifier.height(16.dp))
             
@@ -342,100 +335,6 @@ fun ProgressChart(
     }
 }
 
-private fun DrawScope.drawProgressChart(
-    data: List<Float>,
-    animationProgress: Float,
-    size: Size,
-    primaryColor: androidx.compose.ui.graphics.Color,
-    targetValue: Float
-) {
-    if (data.isEmpty()) return
-    
-    val maxValue = maxOf(data.maxOrNull() ?: 0f, targetValue)
-    val stepX = size.width / (data.size - 1).coerceAtLeast(1)
-    
-    // Draw target line
-    val targetY = size.height - (targetValue / maxValue) * size.height
-    drawLine(
-        color = primaryColor.copy(alpha = 0.3f),
-        start = Offset(0f, targetY),
-        end = Offset(size.width, targetY),
-        strokeWidth = 2.dp.toPx(),
-        pathEffect = androidx.compose.ui.graphics.PathEffect.dashPathEffect(floatArrayOf(10f, 10f))
-    )
-    
-    // Draw chart path
-    val path = Path()
-    val points = data.mapIndexed { index, value ->
-        val x = index * stepX
-        val y = size.height - (value / maxValue) * size.height
-        Offset(x, y)
-    }
-    
-    if (points.isNotEmpty()) {
-        path.moveTo(points[0].x, points[0].y)
-        for (i in 1 until points.size) {
-            val animatedIndex = (i * animationProgress).coerceAtMost(points.size - 1f)
-            if (animatedIndex >= i) {
-                path.lineTo(points[i].x, points[i].y)
-            } else {
-                val prevPoint = points[i - 1]
-                val currentPoint = points[i]
-                val progress = animatedIndex - (i - 1)
-                val animatedX = prevPoint.x + (currentPoint.x - prevPoint.x) * progress
-                val animatedY = prevPoint.y + (currentPoint.y - prevPoint.y) * progress
-                path.lineTo(animatedX, animatedY)
-                break
-            }
-        }
-        
-        drawPath(
-            path = path,
-            color = primaryColor,
-            style = Stroke(
-                width = 3.dp.toPx(),
-                cap = StrokeCap.Round
-            )
-        )
-        
-        // Draw gradient fill
-        val fillPath = Path()
-        fillPath.addPath(path)
-        if (points.isNotEmpty()) {
-            fillPath.lineTo(points.last().x, size.height)
-            fillPath.lineTo(points.first().x, size.height)
-            fillPath.close()
-        }
-        
-        drawPath(
-            path = fillPath,
-            brush = Brush.verticalGradient(
-                colors = listOf(
-                    primaryColor.copy(alpha = 0.3f),
-                    primaryColor.copy(alpha = 0.0f)
-                )
-            )
-        )
-        
-        // Draw points
-        points.forEachIndexed { index, point ->
-            val animatedIndex = (index * animationProgress).coerceAtMost(points.size - 1f)
-            if (animatedIndex >= index) {
-                drawCircle(
-                    color = primaryColor,
-                    radius = 4.dp.toPx(),
-                    center = point
-                )
-                drawCircle(
-                    color = androidx.compose.ui.graphics.Color.White,
-                    radius = 2.dp.toPx(),
-                    center = point
-                )
-            }
-        }
-    }
-}
-
 @Composable
 fun CircularProgress(
     progress: Float,
@@ -16,11 +16,12 @@ import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 import com.fitsoul.app.ui.components.*
+import kotlinx.collections.immutable.persistentListOf
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
 fun AnalysisScreen() {
-    val runningData = listOf(1.5f, 2.8f, 2.5f, 3.8f, 3.4f, 2.9f, 4.2f)
+    val runningData = persistentListOf(1.5f, 2.8f, 2.5f, 3.8f, 3.4f, 2.9f, 4.2f)
     
     LazyColumn(
         modifier = Modifier
@@ -12,7 +12,6 @@ import androidx.compose.material.icons.filled.ArrowBack
 import androidx.compose.material.icons.filled.Email
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.graphics.Brush
@@ -32,8 +31,8 @@ fun ForgotPasswordScreen(
     onNavigateBack: () -> Unit,
     authViewModel: AuthViewModel = hiltViewModel()
 ) {
-    val uiState by authViewModel.uiState.observeAsState()
-    val validationErrors by authViewModel.validationErrors.observeAsState()
+    val uiState by authViewModel.uiState.collectAsState()
+    val validationErrors by authViewModel.validationErrors.collectAsState()
     
     var email by remember { mutableStateOf("") }
     val focusManager = LocalFocusManager.current
@@ -132,9 +131,9 @@ fun ForgotPasswordScreen(
                                     authViewModel.resetPassword(email)
                                 }
                             ),
-                            isError = validationErrors?.containsKey("email") == true,
+                            isError = validationErrors.containsKey("email"),
                             supportingText = {
-                                validationErrors?.get("email")?.let { error ->
+                                validationErrors.get("email")?.let { error ->
                                     Text(
                                         text = error,
                                         color = MaterialTheme.colorScheme.error
@@ -157,9 +156,9 @@ fun ForgotPasswordScreen(
                             colors = ButtonDefaults.buttonColors(
                                 containerColor = FitsoulColors.Primary
                             ),
-                            enabled = !(uiState?.isLoading() == true) && email.isNotBlank()
+                            enabled = !uiState.isLoading && email.isNotBlank()
                         ) {
-                            if (uiState?.isLoading() == true) {
+                            if (uiState.isLoading) {
                                 CircularProgressIndicator(
                                     modifier = Modifier.size(24.dp),
                                     color = FitsoulColors.OnPrimary
@@ -174,7 +173,7 @@ fun ForgotPasswordScreen(
                         }
                         
                         // Error Message
-                        uiState?.errorMessage?.let { error ->
+                        uiState.errorMessage?.let { error ->
                             Spacer(modifier = Modifier.height(16.dp))
                             Card(
                                 modifier = Modifier.fillMaxWidth(),
@@ -192,7 +191,7 @@ fun ForgotPasswordScreen(
                         }
                         
                         // Success Message
-                        uiState?.successMessage?.let { message ->
+                        uiState.successMessage?.let { message ->
                             Spacer(modifier = Modifier.height(16.dp))
                             Card(
                                 modifier = Modifier.fillMaxWidth(),
@@ -15,9 +15,9 @@ import androidx.compose.material.icons.filled.Visibility
 import androidx.compose.material.icons.filled.VisibilityOff
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.focus.FocusDirection
 import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
@@ -43,9 +43,9 @@ fun ModernLoginScreen(
     onNavigateToForgotPassword: () -> Unit,
     authViewModel: AuthViewModel = hiltViewModel()
 ) {
-    val uiState by authViewModel.uiState.observeAsState()
-    val authState by authViewModel.authState.observeAsState()
-    val validationErrors by authViewModel.validationErrors.observeAsState()
+    val uiState by authViewModel.uiState.collectAsState()
+    val authState by authViewModel.authState.collectAsState()
+    val validationErrors by authViewModel.validationErrors.collectAsState()
     
     var email by remember { mutableStateOf("") }
     var password by remember { mutableStateOf("") }
@@ -56,7 +56,7 @@ fun ModernLoginScreen(
     
     // Handle navigation when login succeeds
     LaunchedEffect(authState) {
-        if (authState?.isAuthenticated() == true) {
+        if (authState.isAuthenticated) {
             onLoginSuccess()
         }
     }
@@ -124,7 +124,9 @@ fun ModernLoginScreen(
                                 contentDescription = "Email"
                             )
                         },
-                        modifier = Modifier.fillMaxWidth(),
+                        modifier = Modifier
+                            .fillMaxWidth()
+                            .testTag("login_email"),
                         keyboardOptions = KeyboardOptions(
                             keyboardType = KeyboardType.Email,
                             imeAction = ImeAction.Next
@@ -132,9 +134,9 @@ fun ModernLoginScreen(
                         keyboardActions = KeyboardActions(
                             onNext = { focusManager.moveFocus(FocusDirection.Down) }
                         ),
-                        isError = validationErrors?.containsKey("email") == true,
+                        isError = validationErrors.containsKey("email"),
                         supportingText = {
-                            validationErrors?.get("email")?.let { error ->
+                            validationErrors.get("email")?.let { error ->
                                 Text(
                                     text = error,
                                     color = MaterialTheme.colorScheme.error
@@ -167,7 +169,9 @@ fun ModernLoginScreen(
                             }
                         },
                         visualTransformation = if (passwordVisible) VisualTransformation.None else PasswordVisualTransformation(),
-                        modifier = Modifier.fillMaxWidth(),
+                        modifier = Modifier
+                            .fillMaxWidth()
+                            .testTag("login_password"),
                         keyboardOptions = KeyboardOptions(
                             keyboardType = KeyboardType.Password,
                             imeAction = ImeAction.Done
@@ -178,9 +182,9 @@ fun ModernLoginScreen(
                                 authViewModel.signInWithEmail(email, password)
                             }
                         ),
-                        isError = validationErrors?.containsKey("password") == true,
+                        isError = validationErrors.containsKey("password"),
                         supportingText = {
-                            validationErrors?.get("password")?.let { error ->
+                            validationErrors.get("password")?.let { error ->
                                 Text(
                                     text = error,
                                     color = MaterialTheme.colorScheme.error
@@ -211,14 +215,15 @@ fun ModernLoginScreen(
                         },
                         modifier = Modifier
                             .fillMaxWidth()
-                            .height(56.dp),
+                            .height(56.dp)
+                            .testTag("login_sign_in"),
                         shape = RoundedCornerShape(12.dp),
                         colors = ButtonDefaults.buttonColors(
                             containerColor = FitsoulColors.Primary
                         ),
-                        enabled = !(uiState?.isLoading() == true) && email.isNotBlank() && password.isNotBlank()
+                        enabled = !uiState.isLoading && email.isNotBlank() && password.isNotBlank()
                     ) {
-                        if (uiState?.isLoading() == true) {
+                        if (uiState.isLoading) {
                             CircularProgressIndicator(
                                 modifier = Modifier.size(24.dp),
                                 color = FitsoulColors.OnPrimary
@@ -233,7 +238,7 @@ fun ModernLoginScreen(
                     }
                     
                     // Error Message
-                    uiState?.errorMessage?.let { error ->
+                    uiState.errorMessage?.let { error ->
                         Spacer(modifier = Modifier.height(16.dp))
                         Card(
                             modifier = Modifier.fillMaxWidth(),
@@ -251,7 +256,7 @@ fun ModernLoginScreen(
                     }
                     
                     // Success Message
-                    uiState?.successMessage?.let { message ->
+                    uiState.successMessage?.let { message ->
                         Spacer(modifier = Modifier.height(16.dp))
                         Card(
                             modifier = Modifier.fillMaxWidth(),
@@ -305,7 +310,7 @@ fun ModernLoginScreen(
                             .height(56.dp),
                         shape = RoundedCornerShape(12.dp),
                         border = BorderStroke(1.dp, FitsoulColors.Primary),
-                        enabled = !(uiState?.isLoading() == true)
+                        enabled = !uiState.isLoading
                     ) {
                         Row(
                             verticalAlignment = Alignment.CenterVertically,
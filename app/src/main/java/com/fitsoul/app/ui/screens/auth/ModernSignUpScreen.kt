@@ -16,7 +16,6 @@ import androidx.compose.material.icons.filled.Visibility
 import androidx.compose.material.icons.filled.VisibilityOff
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.focus.FocusDirection
@@ -43,9 +42,9 @@ fun ModernSignUpScreen(
     onNavigateToLogin: () -> Unit,
     authViewModel: AuthViewModel = hiltViewModel()
 ) {
-    val uiState by authViewModel.uiState.observeAsState()
-    val authState by authViewModel.authState.observeAsState()
-    val validationErrors by authViewModel.validationErrors.observeAsState()
+    val uiState by authViewModel.uiState.collectAsState()
+    val authState by authViewModel.authState.collectAsState()
+    val validationErrors by authViewModel.validationErrors.collectAsState()
     
     var email by remember { mutableStateOf("") }
     var password by remember { mutableStateOf("") }
@@ -58,7 +57,7 @@ fun ModernSignUpScreen(
     
     // Handle navigation when signup succeeds
     LaunchedEffect(authState) {
-        if (authState?.isAuthenticated() == true) {
+        if (authState.isAuthenticated) {
             onSignUpSuccess()
         }
     }
@@ -134,9 +133,9 @@ fun ModernSignUpScreen(
                         keyboardActions = KeyboardActions(
                             onNext = { focusManager.moveFocus(FocusDirection.Down) }
                         ),
-                        isError = validationErrors?.containsKey("email") == true,
+                        isError = validationErrors.containsKey("email"),
                         supportingText = {
-                            validationErrors?.get("email")?.let { error ->
+                            validationErrors.get("email")?.let { error ->
                                 Text(
                                     text = error,
                                     color = MaterialTheme.colorScheme.error
@@ -177,9 +176,9 @@ fun ModernSignUpScreen(
                         keyboardActions = KeyboardActions(
                             onNext = { focusManager.moveFocus(FocusDirection.Down) }
                         ),
-                        isError = validationErrors?.containsKey("password") == true,
+                        isError = validationErrors.containsKey("password"),
                         supportingText = {
-                            validationErrors?.get("password")?.let { error ->
+                            validationErrors.get("password")?.let { error ->
                                 Text(
                                     text = error,
                                     color = MaterialTheme.colorScheme.error
@@ -283,13 +282,13 @@ fun ModernSignUpScreen(
                         colors = ButtonDefaults.buttonColors(
                             containerColor = FitsoulColors.Primary
                         ),
-                        enabled = !(uiState?.isLoading() == true) && 
+                        enabled = !uiState.isLoading && 
                                  email.isNotBlank() && 
                                  password.isNotBlank() && 
                                  password == confirmPassword &&
                                  password.length >= 6
                     ) {
-                        if (uiState?.isLoading() == true) {
+                        if (uiState.isLoading) {
                             CircularProgressIndicator(
                                 modifier = Modifier.size(24.dp),
                                 color = FitsoulColors.OnPrimary
@@ -304,7 +303,7 @@ fun ModernSignUpScreen(
                     }
                     
                     // Error Message
-                    uiState?.errorMessage?.let { error ->
+                    uiState.errorMessage?.let { error ->
                         Spacer(modifier = Modifier.height(16.dp))
                         Card(
                             modifier = Modifier.fillMaxWidth(),
@@ -322,7 +321,7 @@ fun ModernSignUpScreen(
                     }
                     
                     // Success Message
-                    uiState?.successMessage?.let { message ->
+                    uiState.successMessage?.let { message ->
                         Spacer(modifier = Modifier.height(16.dp))
                         Card(
                             modifier = Modifier.fillMaxWidth(),
@@ -376,7 +375,7 @@ fun ModernSignUpScreen(
                             .height(56.dp),
                         shape = RoundedCornerShape(12.dp),
                         border = BorderStroke(1.dp, FitsoulColors.Primary),
-                        enabled = !(uiState?.isLoading() == true)
+                        enabled = !uiState.isLoading
                     ) {
                         Row(
                             verticalAlignment = Alignment.CenterVertically,
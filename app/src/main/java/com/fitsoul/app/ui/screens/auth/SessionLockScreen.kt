@@ -0,0 +1,159 @@
+package com.fitsoul.app.ui.screens.auth
+
+import androidx.biometric.BiometricManager
+import androidx.biometric.BiometricManager.Authenticators.BIOMETRIC_WEAK
+import androidx.biometric.BiometricPrompt
+import androidx.compose.foundation.background
+import androidx.compose.foundation.layout.*
+import androidx.compose.foundation.shape.RoundedCornerShape
+import androidx.compose.foundation.text.KeyboardActions
+import androidx.compose.foundation.text.KeyboardOptions
+import androidx.compose.material.icons.Icons
+import androidx.compose.material.icons.filled.Fingerprint
+import androidx.compose.material.icons.filled.Lock
+import androidx.compose.material3.*
+import androidx.compose.runtime.*
+import androidx.compose.ui.Alignment
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.platform.LocalContext
+import androidx.compose.ui.text.font.FontWeight
+import androidx.compose.ui.text.input.ImeAction
+import androidx.compose.ui.text.input.KeyboardType
+import androidx.compose.ui.text.input.PasswordVisualTransformation
+import androidx.compose.ui.text.style.TextAlign
+import androidx.compose.ui.unit.dp
+import androidx.core.content.ContextCompat
+import androidx.fragment.app.FragmentActivity
+import androidx.hilt.navigation.compose.hiltViewModel
+import com.fitsoul.app.core.theme.FitsoulColors
+import com.fitsoul.app.ui.viewmodel.SessionViewModel
+
+/**
+ * Gate shown on launch when app lock is enabled. The restored session is already loaded
+ * behind it, so unlocking goes straight to the dashboard.
+ */
+@Composable
+fun SessionLockScreen(
+    onSignOut: () -> Unit,
+    sessionViewModel: SessionViewModel = hiltViewModel()
+) {
+    val context = LocalContext.current
+    val activity = context as? FragmentActivity
+    val pinError by sessionViewModel.pinError.collectAsState()
+    var pin by remember { mutableStateOf("") }
+
+    val biometricAvailable = remember {
+        activity != null &&
+            BiometricManager.from(context).canAuthenticate(BIOMETRIC_WEAK) == BiometricManager.BIOMETRIC_SUCCESS
+    }
+
+    val showBiometricPrompt: () -> Unit = showPrompt@{
+        val host = activity ?: return@showPrompt
+        val prompt = BiometricPrompt(
+            host,
+            ContextCompat.getMainExecutor(host),
+            object : BiometricPrompt.AuthenticationCallback() {
+                override fun onAuthenticationSucceeded(result: BiometricPrompt.AuthenticationResult) {
+                    sessionViewModel.unlockWithBiometric()
+                }
+            }
+        )
+        prompt.authenticate(
+            BiometricPrompt.PromptInfo.Builder()
+                .setTitle("Unlock Fitsoul")
+                .setAllowedAuthenticators(BIOMETRIC_WEAK)
+                .setNegativeButtonText("Use PIN")
+                .build()
+        )
+    }
+
+    LaunchedEffect(Unit) {
+        if (biometricAvailable) showBiometricPrompt()
+    }
+
+    Column(
+        modifier = Modifier
+            .fillMaxSize()
+            .background(FitsoulColors.Background)
+            .padding(24.dp),
+        horizontalAlignment = Alignment.CenterHorizontally,
+        verticalArrangement = Arrangement.Center
+    ) {
+        Icon(
+            imageVector = Icons.Default.Lock,
+            contentDescription = null,
+            tint = FitsoulColors.Primary,
+            modifier = Modifier.size(48.dp)
+        )
+
+        Spacer(modifier = Modifier.height(16.dp))
+
+        Text(
+            text = "Enter your PIN",
+            style = MaterialTheme.typography.headlineSmall,
+            fontWeight = FontWeight.Bold,
+            color = FitsoulColors.TextPrimary,
+            textAlign = TextAlign.Center
+        )
+
+        Spacer(modifier = Modifier.height(24.dp))
+
+        OutlinedTextField(
+            value = pin,
+            onValueChange = { value -> pin = value.filter { it.isDigit() }.take(MAX_PIN_LENGTH) },
+            label = { Text("PIN") },
+            singleLine = true,
+            visualTransformation = PasswordVisualTransformation(),
+            keyboardOptions = KeyboardOptions(
+                keyboardType = KeyboardType.NumberPassword,
+                imeAction = ImeAction.Done
+            ),
+            keyboardActions = KeyboardActions(
+                onDone = { sessionViewModel.unlockWithPin(pin) }
+            ),
+            isError = pinError != null,
+            supportingText = {
+                pinError?.let { error ->
+                    Text(text = error, color = MaterialTheme.colorScheme.error)
+                }
+            },
+            modifier = Modifier.fillMaxWidth()
+        )
+
+        Spacer(modifier = Modifier.height(16.dp))
+
+        Button(
+            onClick = { sessionViewModel.unlockWithPin(pin) },
+            enabled = pin.length >= MIN_PIN_LENGTH,
+            modifier = Modifier
+                .fillMaxWidth()
+                .height(56.dp),
+            shape = RoundedCornerShape(12.dp),
+            colors = ButtonDefaults.buttonColors(containerColor = FitsoulColors.Primary)
+        ) {
+            Text(text = "Unlock", fontWeight = FontWeight.SemiBold)
+        }
+
+        if (biometricAvailable) {
+            Spacer(modifier = Modifier.height(8.dp))
+            TextButton(onClick = showBiometricPrompt) {
+                Icon(
+                    imageVector = Icons.Default.Fingerprint,
+                    contentDescription = null,
+                    tint = FitsoulColors.Primary
+                )
+                Spacer(modifier = Modifier.width(8.dp))
+                Text(text = "Use biometrics", color = FitsoulColors.Primary)
+            }
+        }
+
+        Spacer(modifier = Modifier.height(24.dp))
+
+        TextButton(onClick = onSignOut) {
+            Text(text = "Sign in with a different account", color = FitsoulColors.TextSecondary)
+        }
+    }
+}
+
+const val MIN_PIN_LENGTH = 4
+const val MAX_PIN_LENGTH = 6
@@ -18,6 +18,7 @@ import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 
+@Immutable
 data class Challenge(
     val title: String,
     val type: String,
@@ -221,7 +222,7 @@ fun ChallengesScreen() {
             )
         }
         
-        items(challenges.filter { !it.isActive }) { challenge ->
+        items(challenges.filter { !it.isActive }, key = { it.title }) { challenge ->
             ChallengeVariationCard(
                 challenge = challenge,
                 modifier = Modifier.fillMaxWidth()
@@ -0,0 +1,140 @@
+package com.fitsoul.app.ui.screens.debug
+
+import androidx.compose.foundation.background
+import androidx.compose.foundation.layout.*
+import androidx.compose.foundation.lazy.LazyColumn
+import androidx.compose.foundation.lazy.items
+import androidx.compose.foundation.shape.RoundedCornerShape
+import androidx.compose.material.icons.Icons
+import androidx.compose.material.icons.filled.ArrowBack
+import androidx.compose.material3.*
+import androidx.compose.runtime.Composable
+import androidx.compose.runtime.collectAsState
+import androidx.compose.runtime.getValue
+import androidx.compose.ui.Alignment
+import androidx.compose.ui.Modifier
+import androidx.compose.ui.text.font.FontFamily
+import androidx.compose.ui.text.font.FontWeight
+import androidx.compose.ui.unit.dp
+import androidx.hilt.navigation.compose.hiltViewModel
+import com.fitsoul.app.core.theme.FitsoulColors
+import com.fitsoul.app.ui.viewmodel.TelemetryViewModel
+import com.fitsoul.core.metrics.HistogramSnapshot
+
+/**
+ * Debug-only view of the in-process telemetry: latency percentiles per span and counters,
+ * refreshed every second, with export of the trace and a metrics snapshot.
+ */
+@Composable
+fun TelemetryScreen(
+    onNavigateBack: () -> Unit,
+    viewModel: TelemetryViewModel = hiltViewModel()
+) {
+    val snapshot by viewModel.snapshot.collectAsState()
+    val exportedTo by viewModel.exportedTo.collectAsState()
+
+    Column(
+        modifier = Modifier
+            .fillMaxSize()
+            .background(FitsoulColors.Background)
+    ) {
+        TopAppBar(
+            title = { Text("Performance Telemetry") },
+            navigationIcon = {
+                IconButton(onClick = onNavigateBack) {
+                    Icon(imageVector = Icons.Default.ArrowBack, contentDescription = "Back")
+                }
+            },
+            colors = TopAppBarDefaults.topAppBarColors(containerColor = FitsoulColors.Surface)
+        )
+
+        LazyColumn(
+            modifier = Modifier.fillMaxSize(),
+            contentPadding = PaddingValues(16.dp),
+            verticalArrangement = Arrangement.spacedBy(8.dp)
+        ) {
+            item(key = "actions") {
+                Row(horizontalArrangement = Arrangement.spacedBy(12.dp)) {
+                    Button(onClick = viewModel::export) { Text("Export") }
+                    OutlinedButton(onClick = viewModel::reset) { Text("Reset") }
+                }
+                exportedTo?.let { path ->
+                    Text(
+                        text = "Saved to $path",
+                        style = MaterialTheme.typography.bodySmall,
+                        color = FitsoulColors.TextSecondary,
+                        modifier = Modifier.padding(top = 8.dp)
+                    )
+                }
+            }
+
+            item(key = "spans_header") { SectionHeader("Spans (µs)") }
+            if (snapshot.histograms.isEmpty()) {
+                item(key = "spans_empty") {
+                    Text("Nothing recorded yet", color = FitsoulColors.TextSecondary)
+                }
+            }
+            items(snapshot.histograms, key = { it.name }) { histogram ->
+                HistogramRow(histogram)
+            }
+
+            item(key = "counters_header") { SectionHeader("Counters") }
+            items(snapshot.counters.entries.toList(), key = { "counter:${it.key}" }) { (name, value) ->
+                Row(
+                    modifier = Modifier.fillMaxWidth(),
+                    horizontalArrangement = Arrangement.SpaceBetween
+                ) {
+                    Text(name, color = FitsoulColors.TextPrimary, style = MaterialTheme.typography.bodyMedium)
+                    Text(value.toString(), color = FitsoulColors.Primary, fontFamily = FontFamily.Monospace)
+                }
+            }
+        }
+    }
+}
+
+@Composable
+private fun SectionHeader(title: String) {
+    Text(
+        text = title,
+        style = MaterialTheme.typography.titleMedium,
+        fontWeight = FontWeight.Bold,
+        color = FitsoulColors.TextPrimary,
+        modifier = Modifier.padding(top = 16.dp, bottom = 4.dp)
+    )
+}
+
+@Composable
+private fun HistogramRow(histogram: HistogramSnapshot) {
+    Card(
+        modifier = Modifier.fillMaxWidth(),
+        shape = RoundedCornerShape(12.dp),
+        colors = CardDefaults.cardColors(containerColor = FitsoulColors.SurfaceVariant)
+    ) {
+        Column(modifier = Modifier.padding(12.dp)) {
+            Row(
+                modifier = Modifier.fillMaxWidth(),
+                horizontalArrangement = Arrangement.SpaceBetween,
+                verticalAlignment = Alignment.CenterVertically
+            ) {
+                Text(
+                    text = histogram.name,
+                    style = MaterialTheme.typography.bodyMedium,
+                    fontWeight = FontWeight.SemiBold,
+                    color = FitsoulColors.TextPrimary
+                )
+                Text(
+                    text = "n=${histogram.count}",
+                    style = MaterialTheme.typography.bodySmall,
+                    color = FitsoulColors.TextSecondary
+                )
+            }
+            Text(
+                text = "p50 ${histogram.p50Micros}  p90 ${histogram.p90Micros}  " +
+                    "p99 ${histogram.p99Micros}  max ${histogram.maxMicros}",
+                style = MaterialTheme.typography.bodySmall,
+                fontFamily = FontFamily.Monospace,
+                color = FitsoulColors.Primary
+            )
+        }
+    }
+}
@@ -14,7 +14,6 @@ import androidx.compose.material.icons.Icons
 import androidx.compose.material.icons.filled.*
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
@@ -24,6 +23,7 @@ import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
 import androidx.compose.ui.hapticfeedback.HapticFeedbackType
 import androidx.compose.ui.platform.LocalHapticFeedback
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.unit.dp
@@ -31,8 +31,10 @@ import androidx.hilt.navigation.compose.hiltViewModel
 import com.fitsoul.app.core.theme.FitsoulColors
 import com.fitsoul.app.ui.components.*
 import com.fitsoul.app.ui.viewmodel.AuthViewModel
+import kotlinx.collections.immutable.persistentListOf
 import kotlinx.coroutines.delay
 
+@Immutable
 data class WorkoutSession(
     val name: String,
     val type: String,
@@ -41,6 +43,7 @@ data class WorkoutSession(
     val isCompleted: Boolean = false
 )
 
+@Immutable
 data class FriendActivity(
     val name: String,
     val activity: String,
@@ -57,11 +60,11 @@ fun ModernDashboard(
     authViewModel: AuthViewModel = hiltViewModel()
 ) {
 
-    val authState by authViewModel.authState.observeAsState()
-    val user = authState?.getUser()
+    val authState by authViewModel.authState.collectAsState()
+    val user = authState.user
     
     // Sample data for demonstration
-    val runningData = listOf(2.1f, 3.5f, 2.8f, 4.2f, 3.4f, 2.9f, 3.4f)
+    val runningData = persistentListOf(2.1f, 3.5f, 2.8f, 4.2f, 3.4f, 2.9f, 3.4f)
     val recentWorkouts = listOf(
         WorkoutSession("Upper Body", "Push Up", "02/16", "02 / 16", true),
         WorkoutSession("Lower Body", "Bodyweight Squats", "06/10", "06 / 10"),
@@ -88,7 +91,8 @@ fun ModernDashboard(
     LazyColumn(
         modifier = Modifier
             .fillMaxSize()
-            .background(FitsoulColors.Background),
+            .background(FitsoulColors.Background)
+            .testTag("dashboard_list"),
         contentPadding = PaddingValues(0.dp),
         verticalArrangement = Arrangement.spacedBy(0.dp)
     ) {
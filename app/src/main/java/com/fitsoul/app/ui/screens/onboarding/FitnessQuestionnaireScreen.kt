@@ -21,13 +21,17 @@ import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 import com.fitsoul.app.core.theme.FitsoulTypography
 import com.fitsoul.app.ui.components.FitsoulPrimaryButton
+import kotlinx.collections.immutable.ImmutableList
+import kotlinx.collections.immutable.persistentListOf
+import kotlinx.collections.immutable.toPersistentList
 
+@Immutable
 data class FitnessQuestionnaire(
     val fitnessLevel: String = "",
     val workoutFrequency: String = "",
     val availableTime: String = "",
-    val preferredWorkoutTypes: List<String> = emptyList(),
-    val equipment: List<String> = emptyList(),
+    val preferredWorkoutTypes: ImmutableList<String> = persistentListOf(),
+    val equipment: ImmutableList<String> = persistentListOf(),
     val injuries: String = "",
     val primaryGoal: String = ""
 )
@@ -133,7 +137,7 @@ private fun FitnessLevelStep(
     QuestionStep(
         title = "What's your current fitness level?",
         subtitle = "Help us tailor workouts to your ability",
-        options = listOf(
+        options = persistentListOf(
             "Beginner" to "New to fitness or returning after a break",
             "Intermediate" to "Regularly active with some experience",
             "Advanced" to "Experienced athlete or fitness enthusiast"
@@ -151,7 +155,7 @@ private fun WorkoutFrequencyStep(
     QuestionStep(
         title = "How often do you want to work out?",
         subtitle = "We'll plan your schedule accordingly",
-        options = listOf(
+        options = persistentListOf(
             "2-3 times per week" to "Perfect for beginners or busy schedules",
             "4-5 times per week" to "Great for steady progress",
             "6-7 times per week" to "For serious fitness enthusiasts"
@@ -169,7 +173,7 @@ private fun AvailableTimeStep(
     QuestionStep(
         title = "How much time do you have per workout?",
         subtitle = "We'll create efficient workouts for your schedule",
-        options = listOf(
+        options = persistentListOf(
             "15-30 minutes" to "Quick and effective sessions",
             "30-45 minutes" to "Balanced workout duration",
             "45-60 minutes" to "Comprehensive training sessions",
@@ -182,13 +186,13 @@ private fun AvailableTimeStep(
 
 @Composable
 private fun WorkoutTypesStep(
-    selectedTypes: List<String>,
-    onTypesSelected: (List<String>) -> Unit
+    selectedTypes: ImmutableList<String>,
+    onTypesSelected: (ImmutableList<String>) -> Unit
 ) {
     MultiSelectQuestionStep(
         title = "What types of workouts do you enjoy?",
         subtitle = "Select all that apply - we'll mix and match",
-        options = listOf(
+        options = persistentListOf(
             "Strength Training" to "Build muscle and power",
             "Cardio" to "Improve heart health and endurance",
             "HIIT" to "High-intensity interval training",
@@ -203,13 +207,13 @@ private fun WorkoutTypesStep(
 
 @Composable
 private fun EquipmentStep(
-    selectedEquipment: List<String>,
-    onEquipmentSelected: (List<String>) -> Unit
+    selectedEquipment: ImmutableList<String>,
+    onEquipmentSelected: (ImmutableList<String>) -> Unit
 ) {
     MultiSelectQuestionStep(
         title = "What equipment do you have access to?",
         subtitle = "We'll design workouts with what you have",
-        options = listOf(
+        options = persistentListOf(
             "No Equipment" to "Bodyweight exercises only",
             "Dumbbells" to "Versatile weight training",
             "Resistance Bands" to "Portable strength training",
@@ -230,7 +234,7 @@ private fun InjuriesStep(
     QuestionStep(
         title = "Do you have any injuries or limitations?",
         subtitle = "We'll modify exercises to keep you safe",
-        options = listOf(
+        options = persistentListOf(
             "No limitations" to "Ready for any exercise",
             "Lower back issues" to "We'll focus on core stability",
             "Knee problems" to "Low-impact alternatives available",
@@ -250,7 +254,7 @@ private fun PrimaryGoalStep(
     QuestionStep(
         title = "What's your primary fitness goal?",
         subtitle = "We'll prioritize this in your workout plans",
-        options = listOf(
+        options = persistentListOf(
             "Weight Loss" to "Burn calories and lose fat",
             "Muscle Building" to "Gain strength and size",
             "Endurance" to "Improve cardiovascular fitness",
@@ -267,7 +271,7 @@ private fun PrimaryGoalStep(
 private fun QuestionStep(
     title: String,
     subtitle: String,
-    options: List<Pair<String, String>>,
+    options: ImmutableList<Pair<String, String>>,
     selectedOption: String,
     onOptionSelected: (String) -> Unit
 ) {
@@ -301,7 +305,7 @@ private fun QuestionStep(
             Spacer(modifier = Modifier.height(32.dp))
         }
         
-        items(options.size) { index ->
+        items(options.size, key = { options[it].first }) { index ->
             val (option, description) = options[index]
             OptionCard(
                 title = option,
@@ -317,9 +321,9 @@ private fun QuestionStep(
 private fun MultiSelectQuestionStep(
     title: String,
     subtitle: String,
-    options: List<Pair<String, String>>,
-    selectedOptions: List<String>,
-    onOptionsSelected: (List<String>) -> Unit
+    options: ImmutableList<Pair<String, String>>,
+    selectedOptions: ImmutableList<String>,
+    onOptionsSelected: (ImmutableList<String>) -> Unit
 ) {
     LazyColumn(
         modifier = Modifier
@@ -351,18 +355,15 @@ private fun MultiSelectQuestionStep(
             Spacer(modifier = Modifier.height(32.dp))
         }
         
-        items(options.size) { index ->
+        items(options.size, key = { options[it].first }) { index ->
             val (option, description) = options[index]
             OptionCard(
                 title = option,
                 description = description,
                 isSelected = selectedOptions.contains(option),
                 onClick = {
-                    val newSelection = if (selectedOptions.contains(option)) {
-                        selectedOptions - option
-                    } else {
-                        selectedOptions + option
-                    }
+                    val current = selectedOptions.toPersistentList()
+                    val newSelection = if (option in current) current.remove(option) else current.add(option)
                     onOptionsSelected(newSelection)
                 }
             )
@@ -12,12 +12,14 @@ import androidx.compose.material3.*
 import androidx.compose.runtime.*
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.graphics.Color
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 
+@Immutable
 data class FitnessObjective(
     val title: String,
     val description: String,
@@ -79,9 +81,10 @@ fun ObjectivesScreen(
             modifier = Modifier.weight(1f),
             verticalArrangement = Arrangement.spacedBy(16.dp)
         ) {
-            items(objectives.size) { index ->
+            items(objectives.size, key = { objectives[it].title }) { index ->
                 ObjectiveCard(
                     objective = objectives[index],
+                    modifier = Modifier.testTag("objective_$index"),
                     onClick = {
                         objectives = objectives.mapIndexed { i, obj ->
                             if (i == index) obj.copy(isSelected = !obj.isSelected)
@@ -104,7 +107,8 @@ fun ObjectivesScreen(
             },
             modifier = Modifier
                 .fillMaxWidth()
-                .height(56.dp),
+                .height(56.dp)
+                .testTag("objectives_continue"),
             shape = RoundedCornerShape(16.dp),
             colors = ButtonDefaults.buttonColors(
                 containerColor = FitsoulColors.Primary
@@ -13,7 +13,6 @@ import androidx.compose.material.icons.Icons
 import androidx.compose.material.icons.filled.FitnessCenter
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.alpha
@@ -39,7 +38,7 @@ import kotlin.math.sin
 fun SplashScreen(
     authViewModel: AuthViewModel = hiltViewModel()
 ) {
-    val authState by authViewModel.authState.observeAsState()
+    val authState by authViewModel.authState.collectAsState()
     
     // Premium animation states
     var showLogo by remember { mutableStateOf(false) }
@@ -215,9 +214,9 @@ fun SplashScreen(
                     
                     // Status text based on auth state
                     val statusText = when {
-                        authState?.isLoading() == true -> "Initializing AI Coach..."
-                        authState?.isAuthenticated() == true -> "Welcome back, champion!"
-                        authState?.isUnauthenticated() == true && minTimeElapsed -> "Ready to transform?"
+                        authState.isLoading -> "Initializing AI Coach..."
+                        authState.isAuthenticated -> "Welcome back, champion!"
+                        authState.isUnauthenticated && minTimeElapsed -> "Ready to transform?"
                         else -> "Loading premium experience..."
                     }
                     
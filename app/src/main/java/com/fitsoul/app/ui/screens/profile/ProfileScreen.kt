@@ -5,11 +5,11 @@ import androidx.compose.foundation.layout.*
 import androidx.compose.foundation.lazy.LazyColumn
 import androidx.compose.foundation.shape.CircleShape
 import androidx.compose.foundation.shape.RoundedCornerShape
+import androidx.compose.foundation.text.KeyboardOptions
 import androidx.compose.material.icons.Icons
 import androidx.compose.material.icons.filled.*
 import androidx.compose.material3.*
 import androidx.compose.runtime.*
-import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
@@ -17,11 +17,19 @@ import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
 import androidx.compose.ui.graphics.vector.ImageVector
 import androidx.compose.ui.text.font.FontWeight
+import androidx.compose.ui.text.input.KeyboardType
+import androidx.compose.ui.text.input.PasswordVisualTransformation
 import androidx.compose.ui.unit.dp
 import androidx.hilt.navigation.compose.hiltViewModel
 import com.fitsoul.app.core.theme.FitsoulColors
+import com.fitsoul.app.BuildConfig
+import com.fitsoul.app.ui.screens.auth.MAX_PIN_LENGTH
+import com.fitsoul.app.ui.screens.auth.MIN_PIN_LENGTH
 import com.fitsoul.app.ui.viewmodel.AuthViewModel
+import com.fitsoul.app.ui.viewmodel.ProfileViewModel
+import com.fitsoul.app.ui.viewmodel.SessionViewModel
 
+@Immutable
 data class ProfileMenuItem(
     val title: String,
     val icon: ImageVector,
@@ -32,12 +40,19 @@ data class ProfileMenuItem(
 @Composable
 fun ProfileScreen(
     onSignOut: () -> Unit,
-    authViewModel: AuthViewModel = hiltViewModel()
+    onOpenTelemetry: () -> Unit = {},
+    authViewModel: AuthViewModel = hiltViewModel(),
+    sessionViewModel: SessionViewModel = hiltViewModel(),
+    profileViewModel: ProfileViewModel = hiltViewModel()
 ) {
-    val authState by authViewModel.authState.observeAsState()
-    val user = authState?.getUser()
+    val authState by authViewModel.authState.collectAsState()
+    val profile by profileViewModel.profile.collectAsState()
+    // The cached profile is available before Firebase has restored the auth user
+    val user = profile?.toUser() ?: authState.user
+    val appLockEnabled by sessionViewModel.gateEnabled.collectAsState()
     
     var showLogoutDialog by remember { mutableStateOf(false) }
+    var showAppLockDialog by remember { mutableStateOf(false) }
     
     val menuItems = listOf(
         ProfileMenuItem(
@@ -60,6 +75,11 @@ fun ProfileScreen(
             icon = Icons.Default.EmojiEvents,
             onClick = { /* Navigate to achievements */ }
         ),
+        ProfileMenuItem(
+            title = if (appLockEnabled) "App Lock: On" else "App Lock: Off",
+            icon = Icons.Default.Lock,
+            onClick = { showAppLockDialog = true }
+        ),
         ProfileMenuItem(
             title = "Settings",
             icon = Icons.Default.Settings,
@@ -75,6 +95,15 @@ fun ProfileScreen(
             icon = Icons.Default.PrivacyTip,
             onClick = { /* Navigate to privacy */ }
         )
+    ) + listOfNotNull(
+        // Span latencies and trace export for profiling on real devices
+        if (BuildConfig.DEBUG) {
+            ProfileMenuItem(
+                title = "Performance Telemetry",
+                icon = Icons.Default.Speed,
+                onClick = onOpenTelemetry
+            )
+        } else null
     )
     
     LazyColumn(
@@ -145,6 +174,17 @@ fun ProfileScreen(
                             )
                         }
                         
+                        val levelAndGoals = listOfNotNull(profile?.fitnessLevel?.takeIf { it.isNotBlank() })
+                            .plus(profile?.goals.orEmpty())
+                        if (levelAndGoals.isNotEmpty()) {
+                            Spacer(modifier = Modifier.height(8.dp))
+                            Text(
+                                text = levelAndGoals.joinToString(" · "),
+                                style = MaterialTheme.typography.bodySmall,
+                                color = Color.White.copy(alpha = 0.8f)
+                            )
+                        }
+                        
                         Spacer(modifier = Modifier.height(20.dp))
                         
                         // Stats Row
@@ -271,6 +311,80 @@ fun ProfileScreen(
             containerColor = FitsoulColors.SurfaceVariant
         )
     }
+    
+    if (showAppLockDialog) {
+        AppLockDialog(
+            enabled = appLockEnabled,
+            onEnable = { pin ->
+                sessionViewModel.enableGate(pin)
+                showAppLockDialog = false
+            },
+            onDisable = {
+                sessionViewModel.disableGate()
+                showAppLockDialog = false
+            },
+            onDismiss = { showAppLockDialog = false }
+        )
+    }
+}
+
+@Composable
+private fun AppLockDialog(
+    enabled: Boolean,
+    onEnable: (String) -> Unit,
+    onDisable: () -> Unit,
+    onDismiss: () -> Unit
+) {
+    var pin by remember { mutableStateOf("") }
+    
+    AlertDialog(
+        onDismissRequest = onDismiss,
+        title = {
+            Text(
+                text = "App Lock",
+                fontWeight = FontWeight.Bold
+            )
+        },
+        text = {
+            if (enabled) {
+                Text("Turn off the PIN and biometric lock shown when Fitsoul opens?")
+            } else {
+                Column {
+                    Text("Choose a $MIN_PIN_LENGTH–$MAX_PIN_LENGTH digit PIN. Biometrics can be used instead when available.")
+                    Spacer(modifier = Modifier.height(12.dp))
+                    OutlinedTextField(
+                        value = pin,
+                        onValueChange = { value -> pin = value.filter { it.isDigit() }.take(MAX_PIN_LENGTH) },
+                        label = { Text("PIN") },
+                        singleLine = true,
+                        visualTransformation = PasswordVisualTransformation(),
+                        keyboardOptions = KeyboardOptions(keyboardType = KeyboardType.NumberPassword)
+                    )
+                }
+            }
+        },
+        confirmButton = {
+            TextButton(
+                onClick = { if (enabled) onDisable() else onEnable(pin) },
+                enabled = enabled || pin.length >= MIN_PIN_LENGTH
+            ) {
+                Text(
+                    text = if (enabled) "Turn Off" else "Turn On",
+                    color = FitsoulColors.Primary,
+                    fontWeight = FontWeight.SemiBold
+                )
+            }
+        },
+        dismissButton = {
+            TextButton(onClick = onDismiss) {
+                Text(
+                    text = "Cancel",
+                    color = FitsoulColors.TextSecondary
+                )
+            }
+        },
+        containerColor = FitsoulColors.SurfaceVariant
+    )
 }
 
 @Composable
@@ -2,7 +2,6 @@ package com.fitsoul.app.ui.screens.progress
 
 import androidx.compose.animation.*
 import androidx.compose.animation.core.*
-import androidx.compose.foundation.Canvas
 import androidx.compose.foundation.background
 import androidx.compose.foundation.layout.*
 import androidx.compose.foundation.lazy.LazyColumn
@@ -18,13 +17,8 @@ import androidx.compose.runtime.livedata.observeAsState
 import androidx.compose.ui.Alignment
 import androidx.compose.ui.Modifier
 import androidx.compose.ui.draw.clip
-import androidx.compose.ui.geometry.Offset
-import androidx.compose.ui.geometry.Size
-import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
-import androidx.compose.ui.graphics.StrokeCap
-import androidx.compose.ui.graphics.drawscope.DrawScope
-import androidx.compose.ui.graphics.drawscope.Stroke
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.unit.dp
@@ -33,14 +27,20 @@ import com.fitsoul.app.core.theme.FitsoulColors
 import com.fitsoul.app.data.service.FitnessTrackingService
 import com.fitsoul.app.data.service.WorkoutStats
 import com.fitsoul.app.data.service.FitnessMetrics
+import com.fitsoul.core.heartrate.ZoneDistribution
 import com.fitsoul.app.ui.components.*
 import com.fitsoul.app.ui.viewmodel.AuthViewModel
+import com.fitsoul.app.ui.viewmodel.ProgressViewModel
+import kotlinx.collections.immutable.ImmutableList
+import kotlinx.collections.immutable.ImmutableMap
+import kotlinx.collections.immutable.persistentListOf
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
 import kotlin.math.cos
 import kotlin.math.sin
 import kotlin.random.Random
 
+@Immutable
 data class ProgressInsight(
     val title: String,
     val description: String,
@@ -54,6 +54,7 @@ enum class InsightType {
     ACHIEVEMENT, WARNING, TIP, MILESTONE
 }
 
+@Immutable
 data class WeeklyProgress(
     val week: String,
     val workouts: Int,
@@ -64,7 +65,8 @@ data class WeeklyProgress(
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
 fun AIProgressScreen(
-    authViewModel: AuthViewModel = hiltViewModel()
+    authViewModel: AuthViewModel = hiltViewModel(),
+    progressViewModel: ProgressViewModel = hiltViewModel()
 ) {
     var aiInsights by remember { mutableStateOf<List<ProgressInsight>>(emptyList()) }
     var isGeneratingInsights by remember { mutableStateOf(false) }
@@ -74,8 +76,14 @@ fun AIProgressScreen(
     val workoutStats by remember { mutableStateOf(com.fitsoul.app.data.service.WorkoutStats()) }
     val dailyMetrics by remember { mutableStateOf(com.fitsoul.app.data.service.FitnessMetrics()) }
     
+    val zoneDistribution by progressViewModel.zoneDistribution.collectAsState()
+    
     val coroutineScope = rememberCoroutineScope()
     
+    LaunchedEffect(selectedTimeRange) {
+        progressViewModel.setTimeRange(selectedTimeRange)
+    }
+    
     // Generate AI insights on first load
     LaunchedEffect(Unit) {
         generateAIInsights(
@@ -90,7 +98,8 @@ fun AIProgressScreen(
     LazyColumn(
         modifier = Modifier
             .fillMaxSize()
-            .background(FitsoulColors.Background),
+            .background(FitsoulColors.Background)
+            .testTag("progress_list"),
         verticalArrangement = Arrangement.spacedBy(16.dp),
         contentPadding = PaddingValues(16.dp)
     ) {
@@ -139,7 +148,7 @@ fun AIProgressScreen(
                 )
             }
             
-            items(aiInsights) { insight ->
+            items(aiInsights, key = { it.title }) { insight ->
                 AIInsightCard(insight = insight)
             }
         }
@@ -161,6 +170,13 @@ fun AIProgressScreen(
             )
         }
         
+        item {
+            HeartRateZoneChart(
+                distribution = zoneDistribution,
+                timeRange = selectedTimeRange
+            )
+        }
+        
         item {
             Row(
                 modifier = Modifier.fillMaxWidth(),
@@ -294,10 +310,11 @@ fun TimeRangeSelector(
     LazyRow(
         horizontalArrangement = Arrangement.spacedBy(8.dp)
     ) {
-        items(ranges) { range ->
+        items(ranges, key = { it }) { range ->
             FilterChip(
                 onClick = { onRangeSelected(range) },
                 label = { Text(text = range) },
+                modifier = Modifier.testTag("range_$range"),
                 selected = selectedRange == range,
                 colors = FilterChipDefaults.filterChipColors(
                     selectedContainerColor = FitsoulColors.Primary,
@@ -546,7 +563,7 @@ fun AIInsightCard(insight: ProgressInsight) {
 
 @Composable
 fun WorkoutFrequencyChart(
-    weeklyProgress: List<WeeklyProgress>,
+    weeklyProgress: ImmutableList<WeeklyProgress>,
     timeRange: String
 ) {
     Card(
@@ -567,46 +584,134 @@ fun WorkoutFrequencyChart(
             
             Spacer(modifier = Modifier.height(16.dp))
             
-            // Simple bar chart visualization
+            // All bars are drawn by one cached draw node; long histories merge weeks into one bar
+            val reveal = rememberChartReveal(weeklyProgress, durationMillis = 800)
+            val primaryColor = FitsoulColors.Primary
+            val bars = remember(weeklyProgress, primaryColor) {
+                Modifier.barChart(
+                    values = weeklyProgress.map { it.workouts.toFloat() },
+                    color = primaryColor,
+                    barWidth = 24.dp,
+                    unitHeight = 10.dp,
+                    cornerRadius = 4.dp,
+                    reveal = { reveal.value }
+                )
+            }
+            Spacer(
+                modifier = Modifier
+                    .fillMaxWidth()
+                    .height(100.dp)
+                    .then(bars)
+            )
+            
+            // Per-bar labels only while each bar still has room for them
+            if (weeklyProgress.size <= MAX_LABELED_BARS) {
+                Spacer(modifier = Modifier.height(4.dp))
+                Row(modifier = Modifier.fillMaxWidth()) {
+                    weeklyProgress.forEach { week ->
+                        Column(
+                            horizontalAlignment = Alignment.CenterHorizontally,
+                            modifier = Modifier.weight(1f)
+                        ) {
+                            Text(
+                                text = week.workouts.toString(),
+                                style = MaterialTheme.typography.labelSmall,
+                                fontWeight = FontWeight.SemiBold,
+                                color = FitsoulColors.TextPrimary
+                            )
+                            
+                            Text(
+                                text = week.week,
+                                style = MaterialTheme.typography.labelSmall,
+                                color = FitsoulColors.TextTertiary
+                            )
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
+
+@Composable
+fun HeartRateZoneChart(
+    distribution: ZoneDistribution,
+    timeRange: String
+) {
+    val zoneLabels = listOf("Z1 Recovery", "Z2 Endurance", "Z3 Tempo", "Z4 Threshold", "Z5 Max")
+    val zoneColors = listOf(
+        FitsoulColors.Recovery,
+        FitsoulColors.Endurance,
+        FitsoulColors.Primary,
+        FitsoulColors.Warning,
+        FitsoulColors.Cardio
+    )
+    
+    Card(
+        colors = CardDefaults.cardColors(
+            containerColor = FitsoulColors.Surface
+        ),
+        shape = RoundedCornerShape(16.dp)
+    ) {
+        Column(
+            modifier = Modifier.padding(16.dp)
+        ) {
             Row(
                 modifier = Modifier.fillMaxWidth(),
                 horizontalArrangement = Arrangement.SpaceBetween,
-                verticalAlignment = Alignment.Bottom
+                verticalAlignment = Alignment.CenterVertically
             ) {
-                weeklyProgress.forEach { week ->
-                    Column(
-                        horizontalAlignment = Alignment.CenterHorizontally,
-                        modifier = Modifier.weight(1f)
+                Text(
+                    text = "Heart Rate Zones",
+                    style = MaterialTheme.typography.titleMedium,
+                    fontWeight = FontWeight.SemiBold,
+                    color = FitsoulColors.TextPrimary
+                )
+                Text(
+                    text = "Load ${distribution.trimp.toInt()} · $timeRange",
+                    style = MaterialTheme.typography.labelSmall,
+                    color = FitsoulColors.TextSecondary
+                )
+            }
+            
+            Spacer(modifier = Modifier.height(16.dp))
+            
+            if (distribution.totalSeconds == 0) {
+                Text(
+                    text = "Track a workout with a heart rate sensor to see your zones",
+                    style = MaterialTheme.typography.bodySmall,
+                    color = FitsoulColors.TextTertiary
+                )
+            } else {
+                zoneLabels.forEachIndexed { zone, label ->
+                    Row(
+                        modifier = Modifier
+                            .fillMaxWidth()
+                            .padding(vertical = 4.dp),
+                        verticalAlignment = Alignment.CenterVertically
                     ) {
-                        // Bar
-                        Box(
-                            modifier = Modifier
-                                .width(24.dp)
-                                .height((week.workouts * 10).dp.coerceAtMost(100.dp))
-                                .clip(RoundedCornerShape(topStart = 4.dp, topEnd = 4.dp))
-                                .background(
-                                    Brush.verticalGradient(
-                                        colors = listOf(
-                                            FitsoulColors.Primary,
-                                            FitsoulColors.Primary.copy(alpha = 0.7f)
-                                        )
-                                    )
-                                )
-                        )
-                        
-                        Spacer(modifier = Modifier.height(4.dp))
-                        
                         Text(
-                            text = week.workouts.toString(),
-                            style = MaterialTheme.typography.labelSmall,
-                            fontWeight = FontWeight.SemiBold,
-                            color = FitsoulColors.TextPrimary
+                            text = label,
+                            style = MaterialTheme.typography.bodySmall,
+                            color = FitsoulColors.TextSecondary,
+                            modifier = Modifier.width(96.dp)
                         )
-                        
+                        LinearProgressIndicator(
+                            progress = distribution.fractionIn(zone),
+                            modifier = Modifier
+                                .weight(1f)
+                                .height(8.dp)
+                                .clip(RoundedCornerShape(4.dp)),
+                            color = zoneColors[zone],
+                            trackColor = zoneColors[zone].copy(alpha = 0.2f)
+                        )
+                        Spacer(modifier = Modifier.width(8.dp))
                         Text(
-                            text = week.week,
+                            text = "${distribution.zoneSeconds[zone] / 60}m",
                             style = MaterialTheme.typography.labelSmall,
-                            color = FitsoulColors.TextTertiary
+                            color = FitsoulColors.TextPrimary,
+                            modifier = Modifier.width(40.dp),
+                            textAlign = TextAlign.End
                         )
                     }
                 }
@@ -622,6 +727,16 @@ fun CaloriesProgressChart(
     modifier: Modifier = Modifier
 ) {
     val progress = (totalCalories.toFloat() / goalCalories).coerceAtMost(1f)
+    val reveal = rememberChartReveal(progress, durationMillis = 1000)
+    val primaryColor = FitsoulColors.Primary
+    val ring = remember(progress, primaryColor) {
+        Modifier.ringProgress(
+            progress = progress,
+            color = primaryColor,
+            strokeWidth = 12.dp,
+            reveal = { reveal.value }
+        )
+    }
     
     Card(
         modifier = modifier,
@@ -648,14 +763,11 @@ fun CaloriesProgressChart(
                 contentAlignment = Alignment.Center,
                 modifier = Modifier.size(120.dp)
             ) {
-                Canvas(
-                    modifier = Modifier.size(120.dp)
-                ) {
-                    drawCircularProgress(
-                        progress = progress,
-                        color = FitsoulColors.Primary
-                    )
-                }
+                Spacer(
+                    modifier = Modifier
+                        .size(120.dp)
+                        .then(ring)
+                )
                 
                 Column(
                     horizontalAlignment = Alignment.CenterHorizontally
@@ -746,8 +858,8 @@ fun StreakProgressChart(
 
 @Composable
 fun PersonalRecordsSection(
-    strengthPRs: Map<String, Float>,
-    cardioRecords: Map<String, Float>
+    strengthPRs: ImmutableMap<String, Float>,
+    cardioRecords: ImmutableMap<String, Float>
 ) {
     Card(
         colors = CardDefaults.cardColors(
@@ -859,37 +971,6 @@ fun PersonalRecordsSection(
     }
 }
 
-private fun DrawScope.drawCircularProgress(
-    progress: Float,
-    color: Color
-) {
-    val strokeWidth = 12.dp.toPx()
-    val radius = (size.minDimension - strokeWidth) / 2
-    val center = Offset(size.width / 2, size.height / 2)
-    
-    // Background circle
-    drawCircle(
-        color = color.copy(alpha = 0.1f),
-        radius = radius,
-        center = center,
-        style = Stroke(width = strokeWidth, cap = StrokeCap.Round)
-    )
-    
-    // Progress arc
-    drawArc(
-        color = color,
-        startAngle = -90f,
-        sweepAngle = progress * 360f,
-        useCenter = false,
-        topLeft = Offset(
-            center.x - radius,
-            center.y - radius
-        ),
-        size = Size(radius * 2, radius * 2),
-        style = Stroke(width = strokeWidth, cap = StrokeCap.Round)
-    )
-}
-
 private fun generateAIInsights(
     workoutStats: WorkoutStats,
     dailyMetrics: FitnessMetrics,
@@ -1006,7 +1087,9 @@ private fun generateAIInsights(
     }
 }
 
-private fun getSampleWeeklyProgress() = listOf(
+private const val MAX_LABELED_BARS = 12
+
+private fun getSampleWeeklyProgress() = persistentListOf(
     WeeklyProgress("W1", 3, 450, 25),
     WeeklyProgress("W2", 5, 720, 30),
     WeeklyProgress("W3", 4, 580, 28),
@@ -8,6 +8,7 @@ import androidx.compose.foundation.layout.*
 import androidx.compose.foundation.lazy.LazyColumn
 import androidx.compose.foundation.lazy.LazyRow
 import androidx.compose.foundation.lazy.items
+import androidx.compose.foundation.lazy.itemsIndexed
 import androidx.compose.foundation.shape.CircleShape
 import androidx.compose.foundation.shape.RoundedCornerShape
 import androidx.compose.material.icons.Icons
@@ -25,19 +26,27 @@ import androidx.compose.ui.graphics.drawscope.DrawScope
 import androidx.compose.ui.graphics.drawscope.Stroke
 import androidx.compose.ui.hapticfeedback.HapticFeedbackType
 import androidx.compose.ui.platform.LocalHapticFeedback
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.unit.dp
 import androidx.hilt.navigation.compose.hiltViewModel
 import com.fitsoul.app.core.theme.FitsoulColors
-import com.fitsoul.app.data.service.FitnessTrackingService
+import com.fitsoul.app.data.service.SessionExercise
+import com.fitsoul.app.data.service.WorkoutState
+import com.fitsoul.app.ui.viewmodel.WorkoutSessionViewModel
 import com.fitsoul.app.ui.components.*
+import com.fitsoul.core.exercise.ExerciseCatalog
+import com.fitsoul.core.exercise.ExerciseResolver
+import kotlinx.collections.immutable.ImmutableList
+import kotlinx.collections.immutable.toImmutableList
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
 import kotlin.math.PI
 import kotlin.math.cos
 import kotlin.math.sin
 
+@Immutable
 data class WorkoutExercise(
     val name: String,
     val sets: Int,
@@ -51,61 +60,40 @@ data class WorkoutExercise(
     val completedSets: Int = 0
 )
 
-enum class WorkoutState {
-    NOT_STARTED, ACTIVE, RESTING, COMPLETED, PAUSED
-}
-
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
 fun AIWorkoutDetailScreen(
     workout: AIWorkout,
     onNavigateBack: () -> Unit,
-    onWorkoutCompleted: () -> Unit
+    onWorkoutCompleted: () -> Unit,
+    sessionViewModel: WorkoutSessionViewModel = hiltViewModel()
 ) {
-    var workoutState by remember { mutableStateOf(WorkoutState.NOT_STARTED) }
-    var currentExerciseIndex by remember { mutableIntStateOf(0) }
-    var currentSet by remember { mutableIntStateOf(1) }
-    var restTimeRemaining by remember { mutableIntStateOf(0) }
-    var workoutTimeElapsed by remember { mutableIntStateOf(0) }
+    val session by sessionViewModel.session.collectAsState()
     var aiCoachMessage by remember { mutableStateOf("") }
     var isAICoachVisible by remember { mutableStateOf(false) }
     
-    val exercises = remember { getWorkoutExercises(workout) }
+    val exercises = remember { getWorkoutExercises(workout).toImmutableList() }
+    
+    // The engine may be running a different workout; treat this one as not started then
+    val isThisWorkout = session.workoutId == workout.id
+    val workoutState = if (isThisWorkout) session.status else WorkoutState.NOT_STARTED
+    val currentExerciseIndex = if (isThisWorkout) session.exerciseIndex else 0
+    val currentSet = if (isThisWorkout) session.currentSet else 1
+    val workoutTimeElapsed = if (isThisWorkout) session.elapsedSeconds else 0
     val currentExercise = if (currentExerciseIndex < exercises.size) exercises[currentExerciseIndex] else null
     
     val haptic = LocalHapticFeedback.current
     val coroutineScope = rememberCoroutineScope()
     
-    // Timer effects
-    LaunchedEffect(workoutState, restTimeRemaining) {
-        if (workoutState == WorkoutState.RESTING && restTimeRemaining > 0) {
-            delay(1000)
-            restTimeRemaining--
-            if (restTimeRemaining == 0) {
-                workoutState = WorkoutState.ACTIVE
-                showAICoachMessage(
-                    message = "Rest complete! Let's keep the momentum going. You're doing great! 💪",
-                    isVisible = isAICoachVisible,
-                    onVisibilityChange = { isAICoachVisible = it },
-                    coroutineScope = coroutineScope
-                )
-            }
-        }
-    }
-    
-    LaunchedEffect(workoutState) {
-        if (workoutState == WorkoutState.ACTIVE) {
-            while (workoutState == WorkoutState.ACTIVE) {
-                delay(1000)
-                workoutTimeElapsed++
-            }
-        }
-    }
-    
-    // Mock start workout tracking (replace with actual service when available)
-    LaunchedEffect(workoutState) {
-        if (workoutState == WorkoutState.ACTIVE && currentExerciseIndex == 0 && currentSet == 1) {
-            // Mock workout started
+    // Rest countdown runs in the session engine; it posts an event exactly at the rest deadline
+    LaunchedEffect(sessionViewModel) {
+        sessionViewModel.restFinished.collect {
+            showAICoachMessage(
+                message = "Rest complete! Let's keep the momentum going. You're doing great! 💪",
+                isVisible = isAICoachVisible,
+                onVisibilityChange = { isAICoachVisible = it },
+                coroutineScope = coroutineScope
+            )
         }
     }
     
@@ -121,11 +109,7 @@ fun AIWorkoutDetailScreen(
             timeElapsed = workoutTimeElapsed,
             onNavigateBack = onNavigateBack,
             onPauseResume = {
-                workoutState = if (workoutState == WorkoutState.PAUSED) {
-                    WorkoutState.ACTIVE
-                } else {
-                    WorkoutState.PAUSED
-                }
+                sessionViewModel.togglePause()
                 haptic.performHapticFeedback(HapticFeedbackType.LongPress)
             }
         )
@@ -154,7 +138,11 @@ fun AIWorkoutDetailScreen(
                 workout = workout,
                 exercises = exercises,
                 onStartWorkout = {
-                    workoutState = WorkoutState.ACTIVE
+                    sessionViewModel.startWorkout(
+                        workoutId = workout.id,
+                        workoutName = workout.name,
+                        exercises = exercises.map { SessionExercise(it.name, it.sets, it.restTime) }
+                    )
                     showAICoachMessage(
                         message = "Let's crush this workout! 🔥 Remember, I'm here to guide you through every rep. You've got this!",
                         isVisible = isAICoachVisible,
@@ -169,14 +157,16 @@ fun AIWorkoutDetailScreen(
                 workout = workout,
                 totalTime = workoutTimeElapsed,
                 onFinish = {
-                    // Mock complete workout
+                    sessionViewModel.finishWorkout()
                     onWorkoutCompleted()
                 }
             )
         } else {
             // Active Workout
             LazyColumn(
-                modifier = Modifier.fillMaxSize(),
+                modifier = Modifier
+                    .fillMaxSize()
+                    .testTag("workout_session_list"),
                 contentPadding = PaddingValues(16.dp),
                 verticalArrangement = Arrangement.spacedBy(16.dp)
             ) {
@@ -194,11 +184,10 @@ fun AIWorkoutDetailScreen(
                 if (workoutState == WorkoutState.RESTING) {
                     item {
                         RestTimerCard(
-                            timeRemaining = restTimeRemaining,
-                            totalRestTime = currentExercise?.restTime ?: 60,
+                            timeRemaining = session.restRemainingSeconds,
+                            totalRestTime = (session.restDurationMillis / 1000).toInt(),
                             onSkipRest = {
-                                restTimeRemaining = 0
-                                workoutState = WorkoutState.ACTIVE
+                                sessionViewModel.skipRest()
                             }
                         )
                     }
@@ -214,14 +203,11 @@ fun AIWorkoutDetailScreen(
                             onSetCompleted = {
                                 haptic.performHapticFeedback(HapticFeedbackType.LongPress)
                                 
+                                val nextExerciseIndex = currentExerciseIndex + 1
+                                sessionViewModel.completeSet()
+                                
                                 if (currentSet < exercise.sets) {
-                                    // Move to next set
-                                    currentSet++
-                                    restTimeRemaining = exercise.restTime
-                                    workoutState = WorkoutState.RESTING
-                                    
-                                    // Mock update workout progress
-                                    
+                                    // Engine moved to the next set and started the rest period
                                     showAICoachMessage(
                                         message = "Great set! 💪 Take your rest and prepare for the next one.",
                                         isVisible = isAICoachVisible,
@@ -230,23 +216,15 @@ fun AIWorkoutDetailScreen(
                                     )
                                 } else {
                                     // Move to next exercise or complete workout
-                                    if (currentExerciseIndex < exercises.size - 1) {
-                                        currentExerciseIndex++
-                                        currentSet = 1
-                                        restTimeRemaining = exercises[currentExerciseIndex].restTime
-                                        workoutState = WorkoutState.RESTING
-                                        
-                                        // Mock update workout progress
-                                        
+                                    if (nextExerciseIndex < exercises.size) {
                                         showAICoachMessage(
-                                            message = "Excellent! Moving to the next exercise: ${exercises[currentExerciseIndex].name}",
+                                            message = "Excellent! Moving to the next exercise: ${exercises[nextExerciseIndex].name}",
                                             isVisible = isAICoachVisible,
                                             onVisibilityChange = { isAICoachVisible = it },
                                             coroutineScope = coroutineScope
                                         )
                                     } else {
                                         // Workout completed
-                                        workoutState = WorkoutState.COMPLETED
                                         showAICoachMessage(
                                             message = "🎉 WORKOUT COMPLETE! You absolutely crushed it! That's what champions are made of!",
                                             isVisible = isAICoachVisible,
@@ -288,7 +266,10 @@ fun AIWorkoutDetailScreen(
                         )
                     }
                     
-                    items(exercises.drop(currentExerciseIndex + 1).take(2)) { exercise ->
+                    itemsIndexed(
+                        exercises.drop(currentExerciseIndex + 1).take(2),
+                        key = { offset, exercise -> "${currentExerciseIndex + 1 + offset}:${exercise.name}" }
+                    ) { _, exercise ->
                         UpcomingExerciseCard(exercise = exercise)
                     }
                 }
@@ -431,7 +412,7 @@ fun AICoachMessage(
 @Composable
 fun WorkoutOverview(
     workout: AIWorkout,
-    exercises: List<WorkoutExercise>,
+    exercises: ImmutableList<WorkoutExercise>,
     onStartWorkout: () -> Unit
 ) {
     LazyColumn(
@@ -490,7 +471,9 @@ fun WorkoutOverview(
                         onClick = onStartWorkout,
                         icon = Icons.Default.PlayArrow,
                         variant = ButtonVariant.Primary,
-                        modifier = Modifier.fillMaxWidth()
+                        modifier = Modifier
+                            .fillMaxWidth()
+                            .testTag("start_workout")
                     )
                 }
             }
@@ -506,7 +489,7 @@ fun WorkoutOverview(
             )
         }
         
-        items(exercises) { exercise ->
+        itemsIndexed(exercises, key = { index, exercise -> "$index:${exercise.name}" }) { _, exercise ->
             ExercisePreviewCard(exercise = exercise)
         }
     }
@@ -618,7 +601,7 @@ fun CurrentExerciseCard(
                 LazyRow(
                     horizontalArrangement = Arrangement.spacedBy(8.dp)
                 ) {
-                    items(exercise.targetMuscles) { muscle ->
+                    items(exercise.targetMuscles.distinct(), key = { it }) { muscle ->
                         Card(
                             colors = CardDefaults.cardColors(
                                 containerColor = FitsoulColors.Secondary.copy(alpha = 0.1f)
@@ -644,7 +627,9 @@ fun CurrentExerciseCard(
                 onClick = onSetCompleted,
                 icon = Icons.Default.Check,
                 variant = ButtonVariant.Primary,
-                modifier = Modifier.fillMaxWidth(),
+                modifier = Modifier
+                    .fillMaxWidth()
+                    .testTag("complete_set"),
                 enabled = workoutState == WorkoutState.ACTIVE
             )
         }
@@ -1041,59 +1026,20 @@ private fun showAICoachMessage(
 }
 
 private fun getWorkoutExercises(workout: AIWorkout): List<WorkoutExercise> {
-    // Convert AIWorkout exercises to detailed WorkoutExercise objects
+    // Names the resolver cannot place get the catalog's generic defaults
+    val catalog = ExerciseCatalog.default
+    val resolver = ExerciseResolver.default
     return workout.exercises.map { exerciseName ->
+        val id = resolver.resolve(exerciseName)
         WorkoutExercise(
             name = exerciseName,
-            sets = when (exerciseName.lowercase()) {
-                "plank" -> 3
-                "burpees" -> 3
-                "jumping jacks" -> 3
-                else -> 3
-            },
-            reps = when (exerciseName.lowercase()) {
-                "plank" -> "30-60s"
-                "burpees" -> "8-12"
-                "jumping jacks" -> "20-30"
-                "push-ups" -> "8-15"
-                "squats" -> "12-20"
-                "lunges" -> "10-15 each"
-                "mountain climbers" -> "20-30"
-                "russian twists" -> "15-25"
-                else -> "10-15"
-            },
-            restTime = when (exerciseName.lowercase()) {
-                "plank" -> 45
-                "burpees" -> 90
-                else -> 60
-            },
-            instructions = when (exerciseName.lowercase()) {
-                "push-ups" -> "Keep your body straight, lower chest to ground, push back up"
-                "squats" -> "Keep feet shoulder-width apart, lower hips back and down"
-                "plank" -> "Hold your body straight from head to heels"
-                "burpees" -> "Squat down, jump back to plank, do push-up, jump forward, jump up"
-                "lunges" -> "Step forward, lower back knee toward ground, push back to start"
-                "jumping jacks" -> "Jump feet apart while raising arms, jump back to start"
-                "mountain climbers" -> "In plank position, alternate bringing knees to chest"
-                "russian twists" -> "Sit with knees bent, lean back slightly, rotate torso side to side"
-                else -> "Focus on proper form and controlled movement"
-            },
-            targetMuscles = when (exerciseName.lowercase()) {
-                "push-ups" -> listOf("Chest", "Arms", "Core")
-                "squats" -> listOf("Legs", "Glutes")
-                "plank" -> listOf("Core", "Shoulders")
-                "burpees" -> listOf("Full Body", "Cardio")
-                "lunges" -> listOf("Legs", "Glutes")
-                "jumping jacks" -> listOf("Cardio", "Legs")
-                "mountain climbers" -> listOf("Core", "Cardio")
-                "russian twists" -> listOf("Core", "Abs")
-                else -> listOf("Full Body")
-            },
+            sets = catalog.sets(id),
+            reps = catalog.reps(id),
+            restTime = catalog.restSeconds(id),
+            instructions = catalog.instructions(id),
+            targetMuscles = catalog.muscles(id),
             difficulty = workout.difficulty,
-            equipment = when (exerciseName.lowercase()) {
-                "push-ups", "plank", "burpees", "lunges", "jumping jacks", "mountain climbers", "russian twists" -> listOf("Bodyweight")
-                else -> listOf("Bodyweight")
-            }
+            equipment = catalog.equipment(id)
         )
     }
 }
\ No newline at end of file
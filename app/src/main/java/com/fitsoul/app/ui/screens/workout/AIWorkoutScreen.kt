@@ -7,7 +7,7 @@ import androidx.compose.animation.slideInVertically
 import androidx.compose.foundation.background
 import androidx.compose.foundation.layout.*
 import androidx.compose.foundation.lazy.LazyColumn
-import androidx.compose.foundation.lazy.items
+import androidx.compose.foundation.lazy.itemsIndexed
 import androidx.compose.foundation.shape.CircleShape
 import androidx.compose.foundation.shape.RoundedCornerShape
 import androidx.compose.material.icons.Icons
@@ -25,8 +25,10 @@ import androidx.compose.ui.text.style.TextAlign
 import androidx.compose.ui.unit.dp
 import com.fitsoul.app.core.theme.FitsoulColors
 import com.fitsoul.app.ui.components.*
+import com.fitsoul.core.exercise.ExerciseCatalog
 import kotlinx.coroutines.delay
 
+@Immutable
 data class WorkoutPlan(
     val name: String,
     val description: String,
@@ -35,6 +37,7 @@ data class WorkoutPlan(
     val exercises: List<Exercise>
 )
 
+@Immutable
 data class Exercise(
     val name: String,
     val sets: String,
@@ -55,46 +58,15 @@ fun AIWorkoutScreen(
     var showWorkout by remember { mutableStateOf(false) }
     
     // Sample workout data
-    val sampleWorkout = WorkoutPlan(
-        name = "🔥 AI-Powered HIIT Blast",
-        description = "High-intensity workout designed specifically for your fitness level and goals",
-        duration = "30 minutes",
-        difficulty = "Intermediate",
-        exercises = listOf(
-            Exercise(
-                name = "Burpees",
-                sets = "3",
-                reps = "12-15",
-                restTime = "45s",
-                instructions = "Start standing, squat down, jump back to plank, push-up, jump forward, jump up",
-                muscleGroups = listOf("Full Body", "Cardio")
-            ),
-            Exercise(
-                name = "Mountain Climbers",
-                sets = "3",
-                reps = "20 per leg",
-                restTime = "30s",
-                instructions = "Start in plank position, alternate bringing knees to chest rapidly",
-                muscleGroups = listOf("Core", "Cardio")
-            ),
-            Exercise(
-                name = "Jump Squats",
-                sets = "3",
-                reps = "15-18",
-                restTime = "45s",
-                instructions = "Squat down, then explode up into a jump. Land softly and repeat",
-                muscleGroups = listOf("Legs", "Glutes")
-            ),
-            Exercise(
-                name = "Push-up to T",
-                sets = "3",
-                reps = "10-12",
-                restTime = "60s",
-                instructions = "Do a push-up, then rotate to side plank, alternate sides",
-                muscleGroups = listOf("Chest", "Core", "Arms")
-            )
+    val sampleWorkout = remember {
+        WorkoutPlan(
+            name = "🔥 AI-Powered HIIT Blast",
+            description = "High-intensity workout designed specifically for your fitness level and goals",
+            duration = "30 minutes",
+            difficulty = "Intermediate",
+            exercises = listOf("Burpees", "Mountain Climbers", "Jump Squats", "Push-up to T").map(::catalogExercise)
         )
-    )
+    }
     
     LaunchedEffect(Unit) {
         // Simulate AI generation
@@ -160,7 +132,7 @@ fun AIWorkoutScreen(
                     }
                 }
                 
-                items(workoutPlan!!.exercises) { exercise ->
+                itemsIndexed(workoutPlan!!.exercises, key = { index, exercise -> "$index:${exercise.name}" }) { _, exercise ->
                     AnimatedVisibility(
                         visible = true,
                         enter = fadeIn(
@@ -597,4 +569,17 @@ fun ExerciseCard(
             }
         }
     }
-}
\ No newline at end of file
+}
+
+private fun catalogExercise(name: String): Exercise {
+    val catalog = ExerciseCatalog.default
+    val id = catalog.idOf(name)
+    return Exercise(
+        name = name,
+        sets = catalog.sets(id).toString(),
+        reps = catalog.reps(id),
+        restTime = "${catalog.restSeconds(id)}s",
+        instructions = catalog.instructions(id),
+        muscleGroups = catalog.muscles(id)
+    )
+}
@@ -21,6 +21,7 @@ import androidx.compose.ui.graphics.Brush
 import androidx.compose.ui.graphics.Color
 import androidx.compose.ui.hapticfeedback.HapticFeedbackType
 import androidx.compose.ui.platform.LocalHapticFeedback
+import androidx.compose.ui.platform.testTag
 import androidx.compose.ui.text.font.FontWeight
 import androidx.compose.ui.text.style.TextOverflow
 import androidx.compose.ui.unit.dp
@@ -32,23 +33,10 @@ import com.fitsoul.app.ui.viewmodel.AuthViewModel
 import com.fitsoul.app.ui.viewmodel.WorkoutViewModel
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
-import kotlinx.serialization.Serializable
 
-@Serializable
-data class AIWorkout(
-    val id: String,
-    val name: String,
-    val description: String,
-    val duration: Int, // minutes
-    val difficulty: String,
-    val exercises: List<String>,
-    val targetMuscleGroups: List<String>,
-    val caloriesEstimate: Int,
-    val isGenerating: Boolean = false,
-    val dateGenerated: Long = System.currentTimeMillis(),
-    val completionCount: Int = 0,
-    val lastCompleted: Long? = null
-)
+// Defined in :core so the parser and generators can build it off-device; marked stable for
+// Compose in compose-stability.conf
+typealias AIWorkout = com.fitsoul.core.workout.AIWorkout
 
 @OptIn(ExperimentalMaterial3Api::class)
 @Composable
@@ -124,7 +112,8 @@ fun MyWorkoutsScreen(
         LazyColumn(
             modifier = Modifier
                 .fillMaxSize()
-                .padding(horizontal = 16.dp),
+                .padding(horizontal = 16.dp)
+                .testTag("workout_list"),
             verticalArrangement = Arrangement.spacedBy(12.dp),
             contentPadding = PaddingValues(bottom = 100.dp) // Account for bottom nav
         ) {
@@ -143,7 +132,7 @@ fun MyWorkoutsScreen(
                 else -> workouts
             }
             
-            items(filteredWorkouts) { workout ->
+            items(filteredWorkouts, key = { it.id }) { workout ->
                 WorkoutCard(
                     workout = workout,
                     onClick = { 
@@ -541,7 +530,7 @@ fun WorkoutCard(
                 LazyRow(
                     horizontalArrangement = Arrangement.spacedBy(6.dp)
                 ) {
-                    items(workout.targetMuscleGroups.take(3)) { muscle ->
+                    items(workout.targetMuscleGroups.distinct().take(3), key = { it }) { muscle ->
                         Card(
                             colors = CardDefaults.cardColors(
                                 containerColor = FitsoulColors.Primary.copy(alpha = 0.1f)
@@ -326,7 +326,7 @@ private fun MuscleGroupsCard(muscleGroups: List<String>) {
             LazyRow(
                 horizontalArrangement = Arrangement.spacedBy(8.dp)
             ) {
-                items(muscleGroups) { muscle ->
+                items(muscleGroups.distinct(), key = { it }) { muscle ->
                     Card(
                         colors = CardDefaults.cardColors(
                             containerColor = FitsoulColors.Primary.copy(alpha = 0.1f)
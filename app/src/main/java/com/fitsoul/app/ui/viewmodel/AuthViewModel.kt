@@ -0,0 +1,113 @@
+package com.fitsoul.app.ui.viewmodel
+
+import android.util.Patterns
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.fitsoul.app.data.repository.AuthRepository
+import com.fitsoul.app.data.repository.AuthState
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.onEach
+import kotlinx.coroutines.flow.stateIn
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+data class AuthUiState(
+    val isLoading: Boolean = false,
+    val errorMessage: String? = null,
+    val successMessage: String? = null
+)
+
+@HiltViewModel
+class AuthViewModel @Inject constructor(
+    private val authRepository: AuthRepository
+) : ViewModel() {
+    
+    private val _uiState = MutableStateFlow(AuthUiState())
+    val uiState: StateFlow<AuthUiState> = _uiState.asStateFlow()
+    
+    private val _validationErrors = MutableStateFlow<Map<String, String>>(emptyMap())
+    val validationErrors: StateFlow<Map<String, String>> = _validationErrors.asStateFlow()
+    
+    val authState: StateFlow<AuthState> = authRepository.authState
+        .onEach { state -> if (state.isUnauthenticated) _validationErrors.value = emptyMap() }
+        .stateIn(viewModelScope, SharingStarted.Eagerly, AuthState.Loading)
+    
+    // Only one auth request in flight; a new one supersedes it, and all die with the screen
+    private var authJob: Job? = null
+    
+    fun signInWithEmail(email: String, password: String) {
+        if (!validateEmailPassword(email, password)) return
+        runAuth { authRepository.signInWithEmail(email, password).map { null } }
+    }
+    
+    fun signUpWithEmail(email: String, password: String) {
+        if (!validateEmailPassword(email, password)) return
+        runAuth { authRepository.signUpWithEmail(email, password).map { "Account created successfully!" } }
+    }
+    
+    fun sendPasswordResetEmail(email: String) {
+        if (email.isBlank()) {
+            _validationErrors.value = _validationErrors.value + ("email" to "Email is required")
+            return
+        }
+        runAuth { authRepository.sendPasswordResetEmail(email).map { "Password reset email sent" } }
+    }
+    
+    fun resetPassword(email: String) {
+        sendPasswordResetEmail(email)
+    }
+    
+    fun signInWithGoogle(idToken: String?) {
+        if (idToken.isNullOrBlank()) {
+            _uiState.value = _uiState.value.copy(errorMessage = "Google Sign-In failed: Invalid token", successMessage = null)
+            return
+        }
+        runAuth { authRepository.signInWithGoogle(idToken).map { null } }
+    }
+    
+    fun signOut() {
+        authJob?.cancel()
+        _validationErrors.value = emptyMap()
+        _uiState.value = AuthUiState()
+        viewModelScope.launch { authRepository.signOut() }
+    }
+    
+    fun clearErrors() {
+        _uiState.value = _uiState.value.copy(errorMessage = null, successMessage = null)
+        _validationErrors.value = emptyMap()
+    }
+    
+    /** [request] yields the success message to show, or null for none. */
+    private fun runAuth(request: suspend () -> Result<String?>) {
+        _validationErrors.value = emptyMap()
+        _uiState.value = AuthUiState(isLoading = true)
+        
+        authJob?.cancel()
+        authJob = viewModelScope.launch {
+            request()
+                .onSuccess { message -> _uiState.value = AuthUiState(successMessage = message) }
+                .onFailure { error -> _uiState.value = AuthUiState(errorMessage = error.message) }
+        }
+    }
+    
+    private fun validateEmailPassword(email: String, password: String): Boolean {
+        val errors = mutableMapOf<String, String>()
+        
+        when {
+            email.isBlank() -> errors["email"] = "Email is required"
+            !Patterns.EMAIL_ADDRESS.matcher(email).matches() -> errors["email"] = "Please enter a valid email address"
+        }
+        when {
+            password.isBlank() -> errors["password"] = "Password is required"
+            password.length < 6 -> errors["password"] = "Password must be at least 6 characters"
+        }
+        
+        _validationErrors.value = errors
+        return errors.isEmpty()
+    }
+}
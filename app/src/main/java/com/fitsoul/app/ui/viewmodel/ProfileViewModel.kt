@@ -0,0 +1,25 @@
+package com.fitsoul.app.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.fitsoul.app.data.repository.StoredProfile
+import com.fitsoul.app.data.repository.UserProfileRepository
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.stateIn
+import javax.inject.Inject
+
+@HiltViewModel
+class ProfileViewModel @Inject constructor(
+    private val userProfileRepository: UserProfileRepository
+) : ViewModel() {
+    
+    // Served from disk first, then kept in sync with Firestore in the background
+    val profile: StateFlow<StoredProfile?> = userProfileRepository.storedProfile
+        .stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000), null)
+    
+    fun updateGoals(goals: List<String>) {
+        userProfileRepository.update { it.copy(goals = goals) }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitsoul.app.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.fitsoul.app.data.repository.HeartRateZoneRepository
+import com.fitsoul.core.heartrate.HeartRateZoneTracker
+import com.fitsoul.core.heartrate.ZoneDistribution
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.combine
+import kotlinx.coroutines.flow.stateIn
+import java.util.concurrent.TimeUnit
+import javax.inject.Inject
+
+@HiltViewModel
+class ProgressViewModel @Inject constructor(
+    heartRateZoneRepository: HeartRateZoneRepository
+) : ViewModel() {
+    
+    private val selectedTimeRange = MutableStateFlow("Week")
+    
+    // Aggregated from the stored per-session histograms; raw samples are never re-read
+    val zoneDistribution: StateFlow<ZoneDistribution> = combine(
+        heartRateZoneRepository.summaries,
+        selectedTimeRange
+    ) { summaries, range ->
+        val from = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(daysFor(range))
+        HeartRateZoneTracker.aggregate(summaries.filter { it.startedAt >= from })
+    }.stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000), ZoneDistribution())
+    
+    fun setTimeRange(range: String) {
+        selectedTimeRange.value = range
+    }
+    
+    private fun daysFor(range: String): Long = when (range) {
+        "Week" -> 7
+        "Month" -> 30
+        "3 Months" -> 90
+        "Year" -> 365
+        else -> 7
+    }
+}
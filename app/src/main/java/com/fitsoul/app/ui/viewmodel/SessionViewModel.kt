@@ -0,0 +1,55 @@
+package com.fitsoul.app.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.fitsoul.app.core.auth.PinUnlockResult
+import com.fitsoul.app.core.auth.SessionManager
+import com.fitsoul.app.core.auth.SessionState
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.stateIn
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+@HiltViewModel
+class SessionViewModel @Inject constructor(
+    private val sessionManager: SessionManager
+) : ViewModel() {
+    
+    val state: StateFlow<SessionState> = sessionManager.state
+    
+    val gateEnabled: StateFlow<Boolean> = sessionManager.gateEnabled
+        .stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000), false)
+    
+    private val _pinError = MutableStateFlow<String?>(null)
+    val pinError: StateFlow<String?> = _pinError.asStateFlow()
+    
+    fun unlockWithPin(pin: String) {
+        viewModelScope.launch {
+            _pinError.value = when (val result = sessionManager.unlockWithPin(pin)) {
+                PinUnlockResult.Unlocked, PinUnlockResult.SignedOut -> null
+                is PinUnlockResult.Incorrect -> "Incorrect PIN"
+                is PinUnlockResult.LockedOut -> {
+                    val seconds = ((result.retryAtMillis - System.currentTimeMillis()) / 1000).coerceAtLeast(1)
+                    "Too many attempts. Try again in ${seconds}s"
+                }
+            }
+        }
+    }
+    
+    fun unlockWithBiometric() {
+        _pinError.value = null
+        sessionManager.unlock()
+    }
+    
+    fun enableGate(pin: String) {
+        viewModelScope.launch { sessionManager.enableGate(pin) }
+    }
+    
+    fun disableGate() {
+        viewModelScope.launch { sessionManager.disableGate() }
+    }
+}
@@ -0,0 +1,49 @@
+package com.fitsoul.app.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import androidx.lifecycle.viewModelScope
+import com.fitsoul.app.core.telemetry.Telemetry
+import com.fitsoul.app.core.telemetry.TelemetryExporter
+import com.fitsoul.core.metrics.MetricsSnapshot
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.SharingStarted
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.stateIn
+import kotlinx.coroutines.launch
+import javax.inject.Inject
+
+@HiltViewModel
+class TelemetryViewModel @Inject constructor(
+    private val exporter: TelemetryExporter
+) : ViewModel() {
+
+    // Polled rather than pushed so recording never pays for observers
+    val snapshot: StateFlow<MetricsSnapshot> = flow {
+        while (true) {
+            emit(Telemetry.metrics.snapshot())
+            delay(REFRESH_INTERVAL_MS)
+        }
+    }.stateIn(viewModelScope, SharingStarted.WhileSubscribed(5000), Telemetry.metrics.snapshot())
+
+    private val _exportedTo = MutableStateFlow<String?>(null)
+    val exportedTo: StateFlow<String?> = _exportedTo.asStateFlow()
+
+    fun export() {
+        viewModelScope.launch {
+            _exportedTo.value = exporter.export().absolutePath
+        }
+    }
+
+    fun reset() {
+        Telemetry.reset()
+        _exportedTo.value = null
+    }
+
+    private companion object {
+        const val REFRESH_INTERVAL_MS = 1_000L
+    }
+}
@@ -0,0 +1,37 @@
+package com.fitsoul.app.ui.viewmodel
+
+import androidx.lifecycle.ViewModel
+import com.fitsoul.app.data.service.SessionExercise
+import com.fitsoul.app.data.service.TimerEvent
+import com.fitsoul.app.data.service.WorkoutSessionEngine
+import com.fitsoul.app.data.service.WorkoutSessionState
+import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.StateFlow
+import javax.inject.Inject
+
+/**
+ * Thin screen binding for [WorkoutSessionEngine]. The engine outlives this ViewModel, so
+ * leaving the screen never stops or resets the running session.
+ */
+@HiltViewModel
+class WorkoutSessionViewModel @Inject constructor(
+    private val sessionEngine: WorkoutSessionEngine
+) : ViewModel() {
+    
+    val session: StateFlow<WorkoutSessionState> = sessionEngine.state
+    
+    val restFinished: Flow<TimerEvent> = sessionEngine.restFinished
+    
+    fun startWorkout(workoutId: String, workoutName: String, exercises: List<SessionExercise>) {
+        sessionEngine.start(workoutId, workoutName, exercises)
+    }
+    
+    fun completeSet() = sessionEngine.completeSet()
+    
+    fun skipRest() = sessionEngine.skipRest()
+    
+    fun togglePause() = sessionEngine.togglePause()
+    
+    fun finishWorkout() = sessionEngine.reset()
+}
@@ -0,0 +1,34 @@
+package com.fitsoul.baselineprofile
+
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.test.platform.app.InstrumentationRegistry
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Until
+
+const val TARGET_PACKAGE = "com.fitsoul.app"
+private const val UI_TIMEOUT_MS = 10_000L
+
+/**
+ * The critical user journey shared by profile generation: login → objectives → main_app.
+ * Credentials come from the `email` and `password` instrumentation arguments; without them
+ * the journey stops at the login screen, which is still the cold-start critical path.
+ */
+fun MacrobenchmarkScope.loginToMainApp() {
+    // A restored session opens straight on main_app
+    val onLogin = device.wait(Until.hasObject(By.res("login_email")), UI_TIMEOUT_MS) == true
+    if (!onLogin) return
+
+    val arguments = InstrumentationRegistry.getArguments()
+    val email = arguments.getString("email").orEmpty()
+    val password = arguments.getString("password").orEmpty()
+    if (email.isBlank() || password.isBlank()) return
+
+    device.findObject(By.res("login_email")).text = email
+    device.findObject(By.res("login_password")).text = password
+    device.findObject(By.res("login_sign_in")).click()
+
+    device.wait(Until.hasObject(By.res("objective_0")), UI_TIMEOUT_MS)
+    device.findObject(By.res("objective_0"))?.click() ?: return
+    device.findObject(By.res("objectives_continue")).click()
+    device.waitForIdle()
+}
@@ -2,10 +2,15 @@
 plugins {
     alias(libs.plugins.android.application) apply false
     alias(libs.plugins.android.library) apply false
+    alias(libs.plugins.android.test) apply false
     alias(libs.plugins.kotlin.android) apply false
+    alias(libs.plugins.kotlin.jvm) apply false
     alias(libs.plugins.hilt.android) apply false
     alias(libs.plugins.google.services) apply false
     alias(libs.plugins.kotlin.serialization) apply false
+    alias(libs.plugins.androidx.baselineprofile) apply false
+    alias(libs.plugins.androidx.benchmark) apply false
+    alias(libs.plugins.jmh) apply false
 }
 
 tasks.register("clean", Delete::class) {
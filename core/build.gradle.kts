@@ -0,0 +1,35 @@
+plugins {
+    alias(libs.plugins.kotlin.jvm)
+    alias(libs.plugins.kotlin.serialization)
+    alias(libs.plugins.jmh)
+    `java-test-fixtures`
+}
+
+// Pure JVM: no Android classes, so the engine runs under JMH and off-device
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+kotlin {
+    compilerOptions {
+        jvmTarget.set(org.jetbrains.kotlin.gradle.dsl.JvmTarget.JVM_11)
+    }
+}
+
+dependencies {
+    implementation(libs.kotlinx.serialization.json)
+
+    testImplementation(libs.junit)
+
+    testFixturesImplementation(libs.kotlinx.serialization.json)
+    jmhImplementation(testFixtures(project(":core")))
+}
+
+// ./gradlew :core:jmh; results land in build/results/jmh. The gc profiler adds allocated
+// bytes per operation next to each time score.
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,46 @@
+package com.fitsoul.core.coach
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Offline coach turn: matching a chat message to a [CoachIntent] and building the reply.
+ * Messages cover early, late and unmatched intents since matching stops at the first hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class CoachIntentBenchmark {
+
+    private val messages = listOf(
+        "Give me a push day please",
+        "I want to work on my legs today",
+        "Something for my shoulders and deltoids",
+        "I only have a few minutes, something quick",
+        "Can I train at home without a gym?",
+        "How do I stay motivated?",
+        "What should I do after a long break from exercise? I'm feeling a bit rusty and unsure"
+    )
+
+    @Benchmark
+    fun match(blackhole: Blackhole) {
+        for (message in messages) blackhole.consume(CoachIntent.match(message))
+    }
+
+    @Benchmark
+    fun reply(blackhole: Blackhole) {
+        for (message in messages) blackhole.consume(CoachReplies.replyFor(CoachIntent.match(message)))
+    }
+}
@@ -0,0 +1,65 @@
+package com.fitsoul.core.energy
+
+import com.fitsoul.core.exercise.ExerciseCatalog
+import com.fitsoul.core.heartrate.HeartRateZoneSummary
+import com.fitsoul.core.heartrate.HeartRateZoneTracker
+import com.fitsoul.core.model.UserProfile
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+import kotlin.math.sin
+
+/**
+ * Per-session work done when a workout completes: calorie integration and heart-rate zone
+ * analytics over a 1 Hz sample stream, by session length in minutes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class SessionAnalyticsBenchmark {
+
+    @Param("30", "60", "120")
+    @JvmField
+    var minutes = 0
+
+    private val engine = CalorieEngine(ExerciseCatalog.default)
+    private val profile = UserProfile(30, "male", 180, 80f, "Intermediate")
+    private val model = EnergyModel.from(profile)
+    private val log = SessionSampleLog()
+    private lateinit var cumulative: FloatArray
+
+    @Setup
+    fun setUp() {
+        log.clear()
+        val exercises = listOf("Squats", "Push-ups", "Burpees", "Plank", "Jump Rope")
+        for (second in 0 until minutes * 60) {
+            // Intervals of work and rest so the heart rate crosses every zone
+            val heartRate = 125 + (45 * sin(second / 90.0)).toInt()
+            val met = engine.metFor(exercises[second / 120 % exercises.size], isResting = second % 120 >= 90)
+            log.add(second * 1000L, heartRate, met)
+        }
+        cumulative = FloatArray(log.size)
+    }
+
+    @Benchmark
+    fun integrateCalories(): Float = engine.integrate(log, model, cumulative)
+
+    @Benchmark
+    fun trackZones(): HeartRateZoneSummary {
+        val tracker = HeartRateZoneTracker(profile)
+        for (i in 0 until log.size) tracker.addSample(log.timestampsMillis[i], log.heartRates[i])
+        return tracker.summary("benchmark", 0L)
+    }
+}
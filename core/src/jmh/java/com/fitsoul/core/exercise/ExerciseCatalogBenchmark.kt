@@ -0,0 +1,51 @@
+package com.fitsoul.core.exercise
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Catalog lookups as the workout screens make them: canonical names, aliases in other spellings
+ * and names the catalog does not know. [load] is the one-off cost of parsing the bundled file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class ExerciseCatalogBenchmark {
+
+    private val catalog = ExerciseCatalog.default
+    private val json = ExerciseCatalog::class.java.getResourceAsStream("exercises.json")!!
+        .bufferedReader().use { it.readText() }
+
+    private val names = listOf(
+        "Push-ups",
+        "pushups",
+        "Mountain Climbers",
+        "Dumbbell overhead press",
+        "Lunges: 10 per leg",
+        "Turkish get-up"
+    )
+
+    @Benchmark
+    fun lookup(blackhole: Blackhole) {
+        for (name in names) {
+            val id = catalog.idOf(name)
+            blackhole.consume(catalog.reps(id))
+            blackhole.consume(catalog.muscles(id))
+        }
+    }
+
+    @Benchmark
+    fun load(): ExerciseCatalog = ExerciseCatalog.fromJson(json)
+}
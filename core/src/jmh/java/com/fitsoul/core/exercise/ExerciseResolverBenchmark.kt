@@ -0,0 +1,57 @@
+package com.fitsoul.core.exercise
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OperationsPerInvocation
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Resolving names the way model output spells them, covering each resolution step: exact,
+ * abbreviated, variant, misspelt and unknown. Scores are per name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class ExerciseResolverBenchmark {
+
+    private val catalog = ExerciseCatalog.default
+    private val cached = ExerciseResolver(catalog)
+    // A one-entry cache misses on every call while the names rotate
+    private val uncached = ExerciseResolver(catalog, cacheSize = 1)
+
+    private val names = arrayOf(
+        "Push-ups",
+        "DB bench",
+        "Bulgarian split squats: 10 each leg",
+        "Diamond push-ups",
+        "Mountian climbers",
+        "Turkish get-up"
+    )
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    fun resolveCached(blackhole: Blackhole) {
+        for (name in names) blackhole.consume(cached.resolve(name))
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NAMES)
+    fun resolveUncached(blackhole: Blackhole) {
+        for (name in names) blackhole.consume(uncached.resolve(name))
+    }
+
+    private companion object {
+        const val NAMES = 6
+    }
+}
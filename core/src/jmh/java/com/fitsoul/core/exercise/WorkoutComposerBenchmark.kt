@@ -0,0 +1,43 @@
+package com.fitsoul.core.exercise
+
+import com.fitsoul.core.workout.BenchmarkInputs
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OperationsPerInvocation
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Composing plans over every goal, level, time and equipment combination; the budget is well
+ * under a millisecond per plan. [build] is the one-off cost of precomputing the bitsets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class WorkoutComposerBenchmark {
+
+    private val catalog = ExerciseCatalog.default
+    private val composer = WorkoutComposer(catalog)
+    private val inputs = BenchmarkInputs.ALL.map { TrainingGoal.from(it.goalsText) to it }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.COMBINATIONS)
+    fun compose(blackhole: Blackhole) {
+        for ((goal, input) in inputs) {
+            blackhole.consume(composer.compose(goal, input.level, input.time, input.equipment))
+        }
+    }
+
+    @Benchmark
+    fun build(): WorkoutComposer = WorkoutComposer(catalog)
+}
@@ -0,0 +1,36 @@
+package com.fitsoul.core.metrics
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Threads
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/** Overhead every traced span pays on top of its trace section, under contention from 4 threads. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+open class MetricsRecordingBenchmark {
+
+    private val registry = MetricsRegistry().apply { recordNanos(SPAN, 1_000) }
+
+    @Benchmark
+    fun recordSpan() = registry.recordNanos(SPAN, System.nanoTime() and 0xFFFFFF)
+
+    @Benchmark
+    fun incrementCounter() = registry.increment(SPAN)
+
+    private companion object {
+        const val SPAN = "repo.workouts.write"
+    }
+}
@@ -0,0 +1,48 @@
+package com.fitsoul.core.workout
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OperationsPerInvocation
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Offline and fallback generation over every goal, level, time and equipment combination.
+ * Scores are per generated workout, averaged over the whole input space.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class OfflineGenerationBenchmark {
+
+    private val inputs = BenchmarkInputs.ALL
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.COMBINATIONS)
+    fun offlineResponse(blackhole: Blackhole) {
+        for (input in inputs) {
+            val prompt = workoutPlanPrompt(input.goalsText, input.level, input.time, input.equipmentText)
+            blackhole.consume(
+                OfflineWorkoutGenerator.generate(prompt, input.goalsText, input.level, input.time, input.equipmentText)
+            )
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.COMBINATIONS)
+    fun fallbackWorkout(blackhole: Blackhole) {
+        for (input in inputs) {
+            blackhole.consume(FallbackWorkoutGenerator.generate(input.goals, input.level, input.time, input.equipment))
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.fitsoul.core.workout
+
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/** The saved-workouts JSON the repository reads and writes, by library size. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class WorkoutJsonBenchmark {
+
+    @Param("1", "100", "500")
+    @JvmField
+    var workouts = 0
+
+    // Same configuration as WorkoutRepository
+    private val json = Json { ignoreUnknownKeys = true }
+    private lateinit var library: List<AIWorkout>
+    private lateinit var encoded: String
+
+    @Setup
+    fun setUp() {
+        library = BenchmarkInputs.library(workouts)
+        encoded = json.encodeToString(library)
+    }
+
+    @Benchmark
+    fun encode(): String = json.encodeToString(library)
+
+    @Benchmark
+    fun decode(): List<AIWorkout> = json.decodeFromString(encoded)
+
+    @Benchmark
+    fun roundTrip(): List<AIWorkout> = json.decodeFromString(json.encodeToString(library))
+}
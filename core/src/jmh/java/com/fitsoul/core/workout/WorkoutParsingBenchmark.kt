@@ -0,0 +1,38 @@
+package com.fitsoul.core.workout
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/** Parsing a saved AI response into an [AIWorkout], by response size. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+open class WorkoutParsingBenchmark {
+
+    @Param("1", "2", "5", "10")
+    @JvmField
+    var responseKb = 0
+
+    private lateinit var response: String
+
+    @Setup
+    fun setUp() {
+        response = BenchmarkInputs.response(responseKb)
+    }
+
+    @Benchmark
+    fun parse(): AIWorkout = WorkoutTextParser.parse(response, id = "benchmark", generatedAt = 0L)
+}
@@ -0,0 +1,59 @@
+package com.fitsoul.core.coach
+
+/**
+ * What a chat message is asking for, decided by keyword. Entries are checked in declaration
+ * order and the first one with a matching keyword wins, so prebuilt programmes come before the
+ * body-part intents and [GENERAL] catches everything else.
+ */
+enum class CoachIntent(private vararg val keywords: String) {
+    PUSH_DAY("push day", "push workout"),
+    PULL_DAY("pull day", "pull workout"),
+    HIIT("hiit", "high intensity"),
+    YOGA("yoga", "mindful"),
+    PILATES("pilates"),
+    FUNCTIONAL("functional"),
+    LEGS("legs", "leg", "squat", "thigh"),
+    ARMS("arms", "arm", "bicep", "tricep"),
+    CHEST("chest", "push", "pec"),
+    BACK("back", "pull", "lat"),
+    CORE("abs", "core", "stomach", "plank"),
+    CARDIO("cardio", "run", "hiit", "fat"),
+    BEGINNER("beginner", "start", "new", "easy"),
+    ADVANCED("advanced", "hard", "intense", "expert"),
+    SHOULDERS("shoulders", "shoulder", "deltoid"),
+    UPPER_BODY("upper body", "upper", "top"),
+    FULL_BODY("full body", "everything", "complete"),
+    FLEXIBILITY("stretch", "flexibility", "yoga"),
+    QUICK("quick", "short", "10", "15"),
+    HOME("home", "no gym", "bodyweight"),
+    GENERAL;
+
+    companion object {
+        // Cached because values() copies the array on every call
+        private val ORDERED = values()
+
+        fun match(userInput: String): CoachIntent {
+            val input = userInput.lowercase()
+            for (intent in ORDERED) {
+                if (intent.keywords.any { input.contains(it) }) return intent
+            }
+            return GENERAL
+        }
+
+        /** Body area named in the message, phrased for the model prompt; empty when none. */
+        fun focusArea(userInput: String): String {
+            val input = userInput.lowercase()
+            return when {
+                input.contains("legs") || input.contains("leg") -> "legs and lower body"
+                input.contains("arms") || input.contains("arm") -> "arms and upper body"
+                input.contains("chest") -> "chest muscles"
+                input.contains("back") -> "back muscles"
+                input.contains("abs") || input.contains("core") -> "core and abs"
+                input.contains("cardio") -> "cardiovascular fitness"
+                input.contains("shoulders") || input.contains("shoulder") -> "shoulders and upper body"
+                input.contains("upper body") || input.contains("upper boady") -> "upper body"
+                else -> ""
+            }
+        }
+    }
+}
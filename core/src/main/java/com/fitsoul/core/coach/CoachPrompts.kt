@@ -0,0 +1,19 @@
+package com.fitsoul.core.coach
+
+/** Prompt sent to the remote model for a free-form coaching request. */
+fun coachPrompt(userInput: String): String {
+    val bodyPart = CoachIntent.focusArea(userInput)
+    return """
+    You are an expert personal trainer with 10+ years experience. A client says: "$userInput"
+    ${if (bodyPart.isNotEmpty()) "They want to focus on: $bodyPart" else ""}
+    
+    Create a comprehensive workout plan including:
+    🏋️ STRUCTURE: Warm-up, main exercises, cool-down
+    💪 DETAILS: Specific exercises with sets, reps, rest periods
+    🎯 FORM TIPS: Safety cues and proper technique
+    📊 TIMING: Total workout duration and frequency
+    🔥 MOTIVATION: Encouraging and enthusiastic tone
+    
+    Use emojis, bullet points, and make it immediately actionable. Keep under 500 words.
+    """.trimIndent()
+}
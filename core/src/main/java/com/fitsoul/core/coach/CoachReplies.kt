@@ -0,0 +1,865 @@
+package com.fitsoul.core.coach
+
+/**
+ * Offline coach replies: one formatted workout write-up per [CoachIntent]. Used whenever the
+ * remote model is disabled or unreachable.
+ */
+object CoachReplies {
+
+    fun replyFor(intent: CoachIntent): String = when (intent) {
+        CoachIntent.PUSH_DAY -> generatePrebuiltPushWorkout()
+        CoachIntent.PULL_DAY -> generatePrebuiltPullWorkout()
+        CoachIntent.HIIT -> generatePrebuiltHIITWorkout()
+        CoachIntent.YOGA -> generatePrebuiltYogaWorkout()
+        CoachIntent.PILATES -> generatePrebuiltPilatesWorkout()
+        CoachIntent.FUNCTIONAL -> generatePrebuiltFunctionalWorkout()
+        CoachIntent.LEGS -> generateLegsWorkout()
+        CoachIntent.ARMS -> generateArmsWorkout()
+        CoachIntent.CHEST -> generateChestWorkout()
+        CoachIntent.BACK -> generateBackWorkout()
+        CoachIntent.CORE -> generateCoreWorkout()
+        CoachIntent.CARDIO -> generateCardioWorkout()
+        CoachIntent.BEGINNER -> generateBeginnerWorkout()
+        CoachIntent.ADVANCED -> generateAdvancedWorkout()
+        CoachIntent.SHOULDERS -> generateShouldersWorkout()
+        CoachIntent.UPPER_BODY -> generateUpperBodyWorkout()
+        CoachIntent.FULL_BODY -> generateFullBodyWorkout()
+        CoachIntent.FLEXIBILITY -> generateFlexibilityWorkout()
+        CoachIntent.QUICK -> generateQuickWorkout()
+        CoachIntent.HOME -> generateHomeWorkout()
+        CoachIntent.GENERAL -> generateGeneralFitnessResponse()
+    }
+
+    private fun generateLegsWorkout(): String {
+        return """
+🦵 **COMPLETE LEGS POWER WORKOUT**
+
+Ready to build those powerful legs? This comprehensive routine targets all major lower body muscles!
+
+🔥 **WARM-UP (5 minutes)**
+• Leg swings: 10 each direction per leg
+• Hip circles: 10 clockwise, 10 counterclockwise  
+• Bodyweight squats: 15 slow, controlled reps
+• Calf raises: 20 reps to activate calves
+• Walking in place: 1 minute to get blood flowing
+
+💪 **MAIN WORKOUT (25-30 minutes)**
+
+**🎯 QUAD & GLUTE BUILDERS:**
+• **Squats**: 4 sets of 12-15 reps
+  - Rest: 60 seconds between sets
+  - Form: Chest up, knees track over toes, sit back like sitting in chair
+  
+• **Walking Lunges**: 3 sets of 10 per leg (20 total)
+  - Rest: 45 seconds between sets  
+  - Form: Step far enough for 90° angles in both knees
+  
+• **Wall Sits**: 3 sets of 30-45 seconds
+  - Rest: 60 seconds between sets
+  - Challenge: Add 5 seconds each week!
+
+**🎯 POSTERIOR CHAIN:**
+• **Glute Bridges**: 3 sets of 15-20 reps
+  - Rest: 30 seconds between sets
+  - Form: Squeeze glutes hard at top, hold 2 seconds
+  
+• **Single-leg Deadlifts**: 3 sets of 8 per leg
+  - Rest: 45 seconds between sets
+  - Form: Keep planted leg slightly bent, hinge at hip
+
+**🎯 CALF POWER:**
+• **Calf Raises**: 3 sets of 20-25 reps
+  - Rest: 30 seconds between sets
+  - Progression: Single leg or use step for extra range
+
+**🎯 EXPLOSIVE FINISH:**
+• **Jump Squats**: 2 sets of 8-10 reps
+  - Rest: 60 seconds between sets
+  - Focus: Soft landings, explosive jumps
+
+🧘 **COOL-DOWN (5 minutes)**
+• Quad stretch: 30 seconds each leg
+• Hamstring stretch: 30 seconds each leg  
+• Calf stretch: 30 seconds each leg
+• Hip flexor stretch: 30 seconds each leg
+
+📊 **WORKOUT SUMMARY:**
+• **Total Time**: 35-40 minutes
+• **Frequency**: 2-3 times per week with 48 hours rest
+• **Progression**: Add 2-3 reps every week
+• **Expected Results**: Stronger legs in 2-3 weeks!
+
+💡 **LEG DAY SECRETS:**
+• Focus on form over speed - quality reps build quality muscle
+• Feel the target muscles working, not just going through motions  
+• Breathe out during the hard part of each exercise
+• Stay hydrated and fuel up with protein after!
+
+Ready to feel those legs BURN in the best way? Let's dominate this workout! 🔥💪
+
+Your legs will thank you tomorrow (even if they're sore)! 🚀
+        """.trimIndent()
+    }
+    
+    private fun generateArmsWorkout(): String {
+        return """
+💪 **ARMS SCULPTING INTENSIVE**
+
+Time to build strong, defined arms! This complete routine targets biceps, triceps, and shoulders.
+
+🔥 **WARM-UP (4 minutes)**
+• Arm circles: 15 forward, 15 backward
+• Shoulder rolls: 10 each direction
+• Cross-body arm stretches: 20 seconds each arm
+• Light arm swings: 15 each arm
+
+💪 **MAIN WORKOUT (25 minutes)**
+
+**🎯 PUSHING POWER (Triceps & Shoulders):**
+• **Push-ups**: 4 sets of 8-12 reps
+  - Modification: Knee push-ups if needed
+  - Form: Straight line from head to heels
+  
+• **Tricep Dips**: 3 sets of 8-12 reps
+  - Use chair or bench edge
+  - Form: Keep elbows close to body, lower slow
+  
+• **Pike Push-ups**: 3 sets of 6-10 reps
+  - Targets shoulders specifically  
+  - Form: Butt high in air, look at your feet
+
+• **Diamond Push-ups**: 2 sets of 5-8 reps
+  - Ultimate tricep challenge!
+  - Form: Hands form diamond shape under chest
+
+**🎯 PULLING STRENGTH (Biceps):**
+• **Reverse Push-ups**: 3 sets of 8-10 reps
+  - Lie under sturdy table, pull body up
+  - Alternative: Use resistance band if available
+
+• **Isometric Bicep Hold**: 3 sets of 15-30 seconds  
+  - Hold arms at 90 degrees, flex biceps hard
+  - Feel that bicep burn!
+
+**🎯 DYNAMIC POWER:**
+• **Boxing Punches**: 3 sets of 30 seconds
+  - Shadow boxing with purpose
+  - Keep core engaged, arms moving fast!
+
+🧘 **COOL-DOWN (5 minutes)**
+• Overhead tricep stretch: 30 seconds each
+• Cross-body shoulder stretch: 30 seconds each
+• Gentle arm circles: 30 seconds
+• Arm shaking: 30 seconds to release tension
+
+📊 **ARM TRANSFORMATION PLAN:**
+• **Total Time**: 34 minutes
+• **Frequency**: 3 times per week
+• **Rest**: 45-60 seconds between sets
+• **Progression**: Add 1-2 reps weekly
+
+Your arms will feel incredible and look even better! 🚀💪
+        """.trimIndent()
+    }
+    
+    private fun generateGeneralFitnessResponse(): String {
+        return """
+🤖 **YOUR PERSONAL AI FITNESS COACH**
+
+Hey champion! I'm thrilled to help you crush your fitness goals! 
+
+💪 **I can create detailed workouts for:**
+• **🦵 LEGS**: Squats, lunges, glute bridges, calf raises
+• **💪 ARMS**: Push-ups, dips, tricep work, bicep builders  
+• **🫀 CHEST**: Various push-up variations, chest power
+• **🏋️ BACK**: Superman, reverse flies, posture builders
+• **🤸 SHOULDERS**: Pike push-ups, handstand holds, deltoid targeting
+• **🏋️ UPPER BODY**: Complete chest, back, shoulders, and arms
+• **🎯 CORE**: Planks, crunches, stability work
+• **❤️ CARDIO**: HIIT circuits, fat-burning sessions
+• **🔥 FULL BODY**: Complete transformation routines
+
+🎯 **Just tell me what you want to work on:**
+• "I want to work my legs today"
+• "Give me an arms workout"  
+• "I need some cardio"
+• "Core workout please"
+• "Shoulders workout"
+• "Upper body training"
+• "I'm a beginner, help me start"
+
+Each workout includes:
+✅ Complete warm-up and cool-down
+✅ Specific sets, reps, and rest periods
+✅ Form tips and safety notes  
+✅ Progression guidelines
+✅ Expected results and timing
+
+What body part are you most excited to train today? Let's make it happen! 🔥💪
+        """.trimIndent()
+    }
+    
+    private fun generateChestWorkout(): String {
+        return """
+🫀 **CHEST POWER DEVELOPMENT**
+
+Build that strong, impressive chest with this comprehensive pushing routine!
+
+🔥 **WARM-UP (4 minutes)**
+• Arm swings: 15 each direction
+• Chest opener stretches: 30 seconds
+• Wall push-ups: 10 easy reps
+• Shoulder blade squeezes: 15 reps
+
+💪 **MAIN WORKOUT (25 minutes)**
+
+**🎯 CHEST BUILDERS:**
+• **Standard Push-ups**: 4 sets of 10-15 reps
+  - Form: Chest touches ground, straight body line
+  - Rest: 60 seconds between sets
+
+• **Wide-Grip Push-ups**: 3 sets of 8-12 reps
+  - Targets outer chest muscles
+  - Hands wider than shoulders
+
+• **Incline Push-ups**: 3 sets of 12-15 reps
+  - Hands on elevated surface
+  - Great for building strength
+
+• **Chest Squeeze**: 3 sets of 15 reps
+  - Press palms together, hold 3 seconds
+  - Feel chest muscles contract
+
+🧘 **COOL-DOWN (5 minutes)**
+• Doorway chest stretch: 45 seconds
+• Cross-body arm stretch: 30 seconds each
+
+Time to build that powerful chest! 💥🔥
+        """.trimIndent()
+    }
+    
+    private fun generateBackWorkout(): String {
+        return """
+🏋️ **BACK STRENGTH FOUNDATION**
+
+A strong back supports everything! Build yours with this complete routine.
+
+🔥 **WARM-UP (4 minutes)**
+• Arm circles: 15 each direction
+• Shoulder blade squeezes: 15 reps
+• Cat-cow stretches: 10 reps
+
+💪 **MAIN WORKOUT (25 minutes)**
+
+**🎯 BACK BUILDERS:**
+• **Superman**: 4 sets of 12-15 reps
+  - Hold for 2 seconds at top
+  - Feel your back muscles working
+
+• **Reverse Snow Angels**: 3 sets of 10-12 reps
+  - Lying face down, sweep arms up and back
+  - Great for posture improvement
+
+• **Bird Dog**: 3 sets of 8 per side
+  - Opposite arm and leg extensions
+  - Hold for 3 seconds each rep
+
+• **Wall Slides**: 3 sets of 10-12 reps
+  - Back against wall, slide arms up and down
+  - Perfect posture exercise
+
+Your posture will improve dramatically! 📐💪
+        """.trimIndent()
+    }
+    
+    private fun generateCoreWorkout(): String {
+        return """
+🎯 **CORE CRUSHER WORKOUT**
+
+Time to build that rock-solid core! This routine targets all core muscles.
+
+🔥 **WARM-UP (3 minutes)**
+• Gentle torso twists: 15 each direction
+• Hip circles: 10 each direction
+• Cat-cow stretches: 10 reps
+
+💪 **MAIN WORKOUT (22 minutes)**
+
+**🎯 CORE DOMINANCE:**
+• **Plank**: 4 sets of 30-60 seconds
+  - Hold strong, breathe steadily
+  - Progress by adding 5 seconds weekly
+
+• **Bicycle Crunches**: 3 sets of 20 total
+  - Slow, controlled movement
+  - Feel obliques working
+
+• **Russian Twists**: 3 sets of 16-20 reps
+  - Feet off ground for extra challenge
+  - Twist from core, not just arms
+
+• **Mountain Climbers**: 3 sets of 20 total
+  - Keep core tight throughout
+  - Drive knees to chest
+
+• **Dead Bug**: 3 sets of 8 per side
+  - Opposite arm and leg extensions
+  - Keep lower back pressed down
+
+Your core will be on fire in the best way! 🔥💪
+        """.trimIndent()
+    }
+    
+    private fun generateCardioWorkout(): String {
+        return """
+❤️ **CARDIO BLAST SESSION**
+
+Get that heart pumping with this high-energy HIIT routine!
+
+🔥 **WARM-UP (3 minutes)**
+• Marching in place: 1 minute
+• Arm swings: 1 minute
+• Light bouncing: 1 minute
+
+💪 **MAIN HIIT CIRCUIT (20 minutes)**
+
+**🎯 4 ROUNDS OF:**
+• **Jumping Jacks**: 45 seconds work, 15 seconds rest
+• **High Knees**: 45 seconds work, 15 seconds rest
+• **Burpees**: 30 seconds work, 30 seconds rest
+• **Mountain Climbers**: 45 seconds work, 15 seconds rest
+• **Rest**: 1 minute between rounds
+
+🧘 **COOL-DOWN (5 minutes)**
+• Walking in place: 2 minutes
+• Deep breathing: 3 minutes
+
+Your heart will be stronger after every session! 💓🚀
+        """.trimIndent()
+    }
+    
+    private fun generateBeginnerWorkout(): String {
+        return """
+🌟 **PERFECT BEGINNER START**
+
+Welcome to fitness! This gentle routine builds your foundation safely.
+
+🔥 **WARM-UP (5 minutes)**
+• Gentle marching: 2 minutes
+• Arm circles: 1 minute
+• Body stretches: 2 minutes
+
+💪 **BEGINNER CIRCUIT (20 minutes)**
+
+**🎯 FOUNDATION BUILDERS:**
+• **Wall Push-ups**: 3 sets of 8-10 reps
+  - Start here, progress to knee push-ups
+  - Focus on form over quantity
+
+• **Chair-Assisted Squats**: 3 sets of 10-12 reps
+  - Use chair for support if needed
+  - Build leg strength gradually
+
+• **Modified Plank**: 3 sets of 15-30 seconds
+  - On knees if needed
+  - Build core strength slowly
+
+• **Gentle Marching**: 3 sets of 30 seconds
+  - Lift knees moderately high
+  - Build cardiovascular base
+
+🧘 **COOL-DOWN (8 minutes)**
+• Full body gentle stretching
+
+Every expert was once a beginner! You've got this! 🎯💪
+        """.trimIndent()
+    }
+    
+    private fun generateAdvancedWorkout(): String {
+        return """
+🔥 **ADVANCED ATHLETIC CHALLENGE**
+
+Ready to push your limits? This elite routine will test your fitness!
+
+🔥 **WARM-UP (6 minutes)**
+• Dynamic movement prep
+• Joint mobility
+• Activation exercises
+
+💪 **ELITE CIRCUIT (35 minutes)**
+
+**🎯 ADVANCED CHALLENGES:**
+• **Pistol Squats**: 4 sets of 5 per leg
+  - Single-leg squat mastery
+  - Ultimate leg strength test
+
+• **One-arm Push-ups**: 4 sets of 3-5 per arm
+  - Elite pushing strength
+  - Work up to these gradually
+
+• **Handstand Push-ups**: 3 sets of 3-8 reps
+  - Against wall if needed
+  - Ultimate shoulder power
+
+• **Plyometric Burpees**: 3 sets of 8-10 reps
+  - Add jump at end
+  - Explosive full-body power
+
+• **L-sit Hold**: 3 sets of 10-30 seconds
+  - Ultimate core challenge
+  - Advanced gymnastic strength
+
+🧘 **RECOVERY (8 minutes)**
+• Comprehensive stretching
+• Recovery breathing
+
+Time to unleash your inner athlete! ⚡🔥
+        """.trimIndent()
+    }
+
+    private fun generateShouldersWorkout(): String {
+        return """
+💪 **SHOULDER STRENGTH & DEFINITION**
+
+Let's build strong, sculpted shoulders! This routine focuses on all heads of the deltoid for a balanced look.
+
+🔥 **WARM-UP (4 minutes)**
+• Arm circles: 15 forward, 15 backward
+• Shoulder rolls: 10 each direction
+• Light arm swings: 15 each arm
+• Band pull-aparts (if available): 10-15 reps
+
+💪 **MAIN WORKOUT (25 minutes)**
+
+**🎯 OVERALL SHOULDER DEVELOPMENT:**
+• **Pike Push-ups**: 4 sets of 8-12 reps
+  - Rest: 60 seconds between sets
+  - Form: Hips high, head towards the floor, push through shoulders
+  - Progression: Elevate feet for more challenge
+  
+• **Wall Handstand Holds**: 3 sets of 20-45 seconds
+  - Rest: 60 seconds between sets
+  - Form: Keep body straight, core tight, hands shoulder-width
+  - Benefit: Builds isometric strength and stability
+
+**🎯 LATERAL & REAR DELTOIDS:**
+• **Side Plank with Arm Raise**: 3 sets of 10-12 per side
+  - Rest: 45 seconds between sets
+  - Form: Keep body in a straight line, raise top arm slowly
+  - Focus: Engages core and lateral deltoid
+
+• **Reverse Snow Angels**: 3 sets of 12-15 reps
+  - Rest: 30 seconds between sets
+  - Form: Lie face down, lift chest slightly, sweep arms up and back
+  - Benefit: Targets rear deltoids and upper back for posture
+
+**🎯 FRONT DELTOIDS & FINISHER:**
+• **Front Arm Raises (Bodyweight)**: 3 sets of 15-20 reps
+  - Rest: 30 seconds between sets
+  - Form: Keep arms straight, lift to shoulder height, control descent
+  - Focus: Isolates front deltoids
+
+• **Shoulder Taps (in Plank)**: 3 sets of 20 total (10 per side)
+  - Rest: 30 seconds between sets
+  - Form: Maintain stable plank, minimize hip sway
+  - Benefit: Core stability and shoulder endurance
+
+🧘 **COOL-DOWN (5 minutes)**
+• Cross-body shoulder stretch: 30 seconds each arm
+• Overhead tricep stretch: 30 seconds each arm
+• Child's pose: 1 minute
+• Gentle neck rolls: 30 seconds
+
+📊 **WORKOUT SUMMARY:**
+• **Total Time**: 34 minutes
+• **Frequency**: 2-3 times per week
+• **Rest Days**: 48 hours between shoulder sessions
+• **Progression**: Increase reps/hold time, or try advanced variations
+
+💡 **SHOULDER TRAINING TIPS:**
+• Always warm up thoroughly to prevent injury
+• Focus on controlled movements, especially on the way down
+• Listen to your body and don't push through sharp pain
+• Maintain good posture throughout the day to support shoulder health
+
+Get ready for strong, resilient shoulders that stand out! You've got this! 💪🚀
+        """.trimIndent()
+    }
+    
+    private fun generateUpperBodyWorkout(): String {
+        return """
+🏋️ **COMPLETE UPPER BODY POWERHOUSE**
+
+This workout is designed to build strength and definition across your chest, back, shoulders, and arms!
+
+🔥 **WARM-UP (5 minutes)**
+• Arm circles: 20 forward, 20 backward
+• Shoulder rolls: 10 each direction
+• Cat-cow stretch: 10 reps
+• Light push-up prep: 10 easy reps
+• Thoracic rotations: 10 per side
+
+💪 **MAIN WORKOUT (30-35 minutes)**
+
+**🎯 CHEST & TRICEPS:**
+• **Push-ups**: 4 sets of 10-15 reps
+  - Rest: 60 seconds
+  - Form: Chest to floor, elbows slightly tucked
+  - Modification: Knee push-ups or incline push-ups
+  
+• **Tricep Dips (using a chair/bench)**: 3 sets of 10-15 reps
+  - Rest: 45 seconds
+  - Form: Keep elbows close, lower until arms are 90 degrees
+
+**🎯 BACK & BICEPS:**
+• **Superman**: 3 sets of 15-20 reps
+  - Rest: 45 seconds
+  - Form: Lift chest and legs simultaneously, squeeze back
+  - Benefit: Strengthens lower back and glutes
+  
+• **Reverse Tabletop Row**: 3 sets of 10-12 reps
+  - Rest: 45 seconds
+  - Form: Sit with knees bent, hands behind you, lift hips, pull chest to hands
+  - Focus: Targets biceps and upper back
+
+**🎯 SHOULDERS:**
+• **Pike Push-ups**: 3 sets of 8-12 reps
+  - Rest: 60 seconds
+  - Form: Hips high, push through shoulders
+  - Progression: Elevate feet for more challenge
+  
+• **Wall Handstand Holds**: 2 sets of 20-30 seconds
+  - Rest: 60 seconds
+  - Form: Keep body straight, core tight
+  - Benefit: Builds isometric strength and stability
+
+**🎯 CORE FINISHER:**
+• **Plank**: 3 sets of 30-60 seconds
+  - Rest: 30 seconds
+  - Form: Straight line from head to heels, core engaged
+
+🧘 **COOL-DOWN (5 minutes)**
+• Chest stretch (doorway or floor): 45 seconds
+• Overhead tricep stretch: 30 seconds each arm
+• Child's pose: 1 minute
+• Gentle arm swings: 30 seconds
+
+📊 **WORKOUT SUMMARY:**
+• **Total Time**: 40-45 minutes
+• **Frequency**: 2-3 times per week
+• **Rest Days**: Allow 48 hours for muscle recovery
+• **Expected Results**: Increased upper body strength, improved posture, and muscle definition.
+
+💡 **UPPER BODY TRAINING TIPS:**
+• Focus on the mind-muscle connection for each exercise.
+• Control both the lifting and lowering phases of each movement.
+• Stay hydrated and ensure adequate protein intake for muscle repair and growth.
+• Don't forget to breathe! Exhale on exertion.
+
+Get ready to feel powerful and confident with your new upper body strength! Let's crush it! 💪🔥
+        """.trimIndent()
+    }
+    
+    private fun generateFullBodyWorkout(): String {
+        return """
+⚡ **ULTIMATE FULL BODY TRANSFORMATION**
+
+Ready for a complete body workout? This routine targets every muscle group for maximum results!
+
+🔥 **WARM-UP (5 minutes)**
+• Arm circles: 15 each direction
+• Leg swings: 10 each leg, each direction
+• Torso twists: 15 each side
+• Light bouncing: 1 minute
+• Joint rotations: 1 minute
+
+💪 **MAIN CIRCUIT (35 minutes)**
+
+**🎯 ROUND 1: POWER BUILDERS (12 minutes)**
+• **Burpees**: 4 sets of 8-12 reps
+  - Rest: 60 seconds between sets
+  - Form: Chest to ground, explosive jump at top
+  
+• **Mountain Climbers**: 4 sets of 20 total
+  - Rest: 45 seconds between sets
+  - Form: Keep core tight, drive knees to chest
+  
+• **Jump Squats**: 3 sets of 10-12 reps
+  - Rest: 60 seconds between sets
+  - Form: Land softly, explosive upward movement
+
+**🎯 ROUND 2: STRENGTH BUILDERS (12 minutes)**
+• **Push-ups**: 3 sets of 10-15 reps
+  - Rest: 60 seconds between sets
+  - Form: Straight line from head to heels
+  
+• **Single-leg Deadlifts**: 3 sets of 8 per leg
+  - Rest: 45 seconds between sets
+  - Form: Keep planted leg slightly bent
+  
+• **Pike Push-ups**: 3 sets of 6-10 reps
+  - Rest: 60 seconds between sets
+  - Form: Hips high, target shoulders
+
+**🎯 ROUND 3: CORE FINISHER (11 minutes)**
+• **Plank to Push-up**: 3 sets of 6-10 reps
+  - Rest: 45 seconds between sets
+  - Form: Maintain straight body throughout
+  
+• **Russian Twists**: 3 sets of 20 total
+  - Rest: 30 seconds between sets
+  - Form: Feet off ground for extra challenge
+  
+• **Dead Bug**: 3 sets of 8 per side
+  - Rest: 45 seconds between sets
+  - Form: Keep lower back pressed down
+
+🧘 **COOL-DOWN (5 minutes)**
+• Full body stretching routine
+• Deep breathing exercises
+• Gentle walking in place
+
+📊 **FULL BODY RESULTS:**
+• **Total Time**: 45 minutes
+• **Frequency**: 3 times per week
+• **Calories Burned**: 400-600
+• **Expected Results**: Total body strength in 3-4 weeks!
+
+💡 **FULL BODY SECRETS:**
+• This targets every major muscle group in one session
+• Perfect for busy schedules - maximum results, minimum time
+• Builds functional strength for daily activities
+• Improves cardiovascular health while building muscle
+
+Get ready to feel stronger everywhere! This is the ultimate efficiency workout! 🚀💪
+        """.trimIndent()
+    }
+    
+    private fun generateFlexibilityWorkout(): String {
+        return """
+🧘 **FLEXIBILITY & MOBILITY FLOW**
+
+Time to improve your range of motion and feel amazing! This routine enhances flexibility and reduces tension.
+
+🌱 **GENTLE WARM-UP (3 minutes)**
+• Neck rolls: 5 each direction
+• Shoulder rolls: 10 each direction  
+• Gentle arm swings: 15 each direction
+• Light marching in place: 1 minute
+
+🌸 **FLEXIBILITY FLOW (25 minutes)**
+
+**🎯 UPPER BODY RELEASE:**
+• **Doorway Chest Stretch**: 3 holds of 45 seconds
+  - Feel: Deep stretch across chest and shoulders
+  - Breathing: Deep, slow breaths
+  
+• **Overhead Tricep Stretch**: 3 holds of 30 seconds each arm
+  - Form: Gentle pull, don't force
+  - Focus: Feel stretch down back of arm
+  
+• **Cat-Cow Stretches**: 3 sets of 10 slow reps
+  - Form: Arch and round spine slowly
+  - Benefit: Spinal mobility and back relief
+
+**🎯 LOWER BODY FLOW:**
+• **Forward Fold**: 3 holds of 60 seconds
+  - Form: Let arms hang, bend knees if needed
+  - Feel: Stretch in hamstrings and lower back
+  
+• **Hip Flexor Stretch**: 3 holds of 45 seconds per leg
+  - Form: Lunge position, sink hips forward
+  - Benefit: Opens tight hip flexors
+  
+• **Pigeon Pose**: 2 holds of 60 seconds per side
+  - Form: One leg forward, one back
+  - Feel: Deep hip and glute stretch
+
+**🎯 SPINAL MOBILITY:**
+• **Seated Spinal Twist**: 3 holds of 30 seconds each side
+  - Form: Gentle rotation, look over shoulder
+  - Benefit: Improves spinal rotation
+  
+• **Child's Pose**: 2 holds of 90 seconds
+  - Form: Knees wide, arms extended forward
+  - Feel: Full back and shoulder stretch
+
+🌙 **RELAXATION FINISH (7 minutes)**
+• Gentle leg shaking: 30 seconds
+• Full body tension and release: 2 minutes
+• Deep breathing meditation: 4 minutes
+• Gentle neck and shoulder circles: 30 seconds
+
+📊 **FLEXIBILITY BENEFITS:**
+• **Total Time**: 35 minutes
+• **Frequency**: Daily if possible, minimum 3x per week
+• **Results**: Improved range of motion in 1-2 weeks
+• **Bonus**: Better sleep, reduced stress, less muscle tension
+
+💡 **FLEXIBILITY TIPS:**
+• Never bounce or force stretches
+• Breathe deeply and relax into each position
+• Hold stretches for at least 30 seconds
+• Listen to your body - some tension is good, pain is not
+
+Feel the tension melt away and your body open up! 🌸✨
+        """.trimIndent()
+    }
+    
+    private fun generateQuickWorkout(): String {
+        return """
+⏱️ **15-MINUTE EXPRESS WORKOUT**
+
+Short on time? No problem! This quick session delivers maximum results in minimal time.
+
+🚀 **QUICK WARM-UP (2 minutes)**
+• Jumping jacks: 30 seconds
+• Arm swings: 30 seconds
+• Leg swings: 30 seconds each leg
+• Quick bouncing: 30 seconds
+
+💪 **EXPRESS CIRCUIT (12 minutes)**
+
+**🎯 CIRCUIT A (4 minutes) - Repeat 2x**
+*Work: 45 seconds | Rest: 15 seconds*
+
+1. **Burpees** (45s work, 15s rest)
+   - Form: Chest to floor, explosive jump
+   - Intensity: Go at your own pace
+
+2. **Push-ups** (45s work, 15s rest)
+   - Modification: Knee push-ups if needed
+   - Focus: Quality over quantity
+
+3. **Jump Squats** (45s work, 15s rest)
+   - Form: Soft landings, explosive jumps
+   - Alternative: Regular squats if needed
+
+4. **Plank** (45s work, 15s rest)
+   - Form: Straight line from head to heels
+   - Goal: Hold strong throughout
+
+**🎯 CIRCUIT B (4 minutes) - Repeat 2x**
+*Work: 45 seconds | Rest: 15 seconds*
+
+1. **Mountain Climbers** (45s work, 15s rest)
+   - Form: Keep hips level, drive knees up
+   - Pace: Controlled but quick
+
+2. **Tricep Dips** (45s work, 15s rest)
+   - Using chair or bench edge
+   - Form: Keep elbows close to body
+
+3. **High Knees** (45s work, 15s rest)
+   - Form: Drive knees toward chest
+   - Arms: Pump actively
+
+4. **Russian Twists** (45s work, 15s rest)
+   - Form: Feet off ground if possible
+   - Focus: Controlled rotation
+
+🧘 **QUICK COOL-DOWN (1 minute)**
+• Walking in place: 30 seconds
+• Deep breathing: 30 seconds
+
+📊 **EXPRESS RESULTS:**
+• **Total Time**: 15 minutes
+• **Frequency**: Daily for best results
+• **Calories Burned**: 120-200
+• **Perfect For**: Busy mornings, lunch breaks, before bed
+
+💡 **QUICK WORKOUT SECRETS:**
+• High intensity makes up for short duration
+• Can be done anywhere - no equipment needed
+• Great for maintaining fitness when busy
+• Builds cardiovascular fitness and strength
+
+No excuses! Everyone has 15 minutes to invest in their health! 🚀💪
+        """.trimIndent()
+    }
+    
+    private fun generateHomeWorkout(): String {
+        return """
+🏠 **COMPLETE HOME FITNESS SOLUTION**
+
+No gym? No problem! This comprehensive routine uses only your body weight and household items.
+
+🌱 **HOME WARM-UP (4 minutes)**
+• Marching in place: 1 minute
+• Arm circles using light books/water bottles: 1 minute
+• Gentle squats holding chair for balance: 1 minute
+• Light stretching: 1 minute
+
+💪 **HOME CIRCUIT (30 minutes)**
+
+**🎯 LIVING ROOM CARDIO (10 minutes)**
+• **Step-ups using stairs/sturdy box**: 3 sets of 12 per leg
+  - Rest: 45 seconds between sets
+  - Safety: Use handrail for balance
+  
+• **Chair-supported jumping jacks**: 3 sets of 15-20 reps
+  - Rest: 30 seconds between sets
+  - Modification: Step-touch if space is limited
+  
+• **Wall push-ups**: 3 sets of 10-15 reps
+  - Rest: 45 seconds between sets
+  - Progression: Move feet further from wall
+
+**🎯 KITCHEN COUNTER STRENGTH (10 minutes)**
+• **Counter push-ups**: 3 sets of 8-12 reps
+  - Rest: 60 seconds between sets
+  - Form: Body at 45-degree angle
+  
+• **Chair dips**: 3 sets of 6-10 reps
+  - Rest: 60 seconds between sets
+  - Safety: Ensure chair is stable against wall
+  
+• **Water jug bicep curls**: 3 sets of 12-15 reps
+  - Rest: 45 seconds between sets
+  - Equipment: Use gallon water jugs or detergent bottles
+
+**🎯 BEDROOM FLOOR WORK (10 minutes)**
+• **Carpet crunches**: 3 sets of 15-20 reps
+  - Rest: 30 seconds between sets
+  - Form: Hands behind head, lift shoulders
+  
+• **Towel hamstring stretch**: 3 sets of 30 seconds per leg
+  - Equipment: Use bath towel as resistance
+  - Form: Lying down, loop towel around foot
+  
+• **Pillow squeezes**: 3 sets of 20 reps
+  - Equipment: Use couch pillow between knees
+  - Target: Inner thigh muscles
+
+🧘 **HOME COOL-DOWN (6 minutes)**
+• Gentle stretching using doorway: 2 minutes
+• Relaxation on carpet/bed: 2 minutes
+• Deep breathing: 2 minutes
+
+📊 **HOME FITNESS RESULTS:**
+• **Total Time**: 40 minutes
+• **Equipment Needed**: Chair, stairs/sturdy box, water jugs, towel, pillow
+• **Space Required**: 6x6 feet
+• **Frequency**: 4-5 times per week
+• **Results**: Full-body strength in 3-4 weeks
+
+💡 **HOME WORKOUT ADVANTAGES:**
+• Privacy and comfort of your own space
+• No commute time to gym
+• Can pause for family interruptions
+• Weather doesn't matter
+• Cost-effective fitness solution
+• Use household items creatively
+
+🏠 **HOUSEHOLD EQUIPMENT IDEAS:**
+• Water jugs = weights
+• Stairs = cardio machine
+• Chair = workout bench
+• Wall = resistance for push-ups
+• Towel = resistance band
+• Books = light weights
+
+Your home is your gym! Everything you need is already there! 🏠💪
+        """.trimIndent()
+    }
+}
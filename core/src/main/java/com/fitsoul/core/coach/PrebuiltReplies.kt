@@ -1,10 +1,10 @@
-package com.fitsoul.app.ui.screens.ai
+package com.fitsoul.core.coach
 
 /**
- * Extension file containing prebuilt workout functions for AICoachScreen
+ * Prebuilt workout write-ups (push, pull, HIIT, yoga, pilates, functional) for [CoachReplies].
  */
 
-fun AICoachViewModel.generatePrebuiltPushWorkout(): String {
+internal fun generatePrebuiltPushWorkout(): String {
     return """
     💪 **PUSH DAY WORKOUT**
 
@@ -73,7 +73,7 @@ fun AICoachViewModel.generatePrebuiltPushWorkout(): String {
     """.trimIndent()
 }
 
-fun AICoachViewModel.generatePrebuiltPullWorkout(): String {
+internal fun generatePrebuiltPullWorkout(): String {
     return """
     💪 **PULL DAY WORKOUT**
 
@@ -142,7 +142,7 @@ fun AICoachViewModel.generatePrebuiltPullWorkout(): String {
     """.trimIndent()
 }
 
-fun AICoachViewModel.generatePrebuiltHIITWorkout(): String {
+internal fun generatePrebuiltHIITWorkout(): String {
     return """
     ⚡ **HIGH INTENSITY INTERVAL TRAINING (HIIT)**
 
@@ -210,7 +210,7 @@ fun AICoachViewModel.generatePrebuiltHIITWorkout(): String {
     """.trimIndent()
 }
 
-fun AICoachViewModel.generatePrebuiltYogaWorkout(): String {
+internal fun generatePrebuiltYogaWorkout(): String {
     return """
     🧘 **ENERGIZING YOGA FLOW**
 
@@ -293,7 +293,7 @@ fun AICoachViewModel.generatePrebuiltYogaWorkout(): String {
     """.trimIndent()
 }
 
-fun AICoachViewModel.generatePrebuiltPilatesWorkout(): String {
+internal fun generatePrebuiltPilatesWorkout(): String {
     return """
     🧠 **CORE POWER PILATES**
 
@@ -391,7 +391,7 @@ fun AICoachViewModel.generatePrebuiltPilatesWorkout(): String {
     """.trimIndent()
 }
 
-fun AICoachViewModel.generatePrebuiltFunctionalWorkout(): String {
+internal fun generatePrebuiltFunctionalWorkout(): String {
     return """
     🏋️ **FUNCTIONAL FITNESS WORKOUT**
 
@@ -0,0 +1,212 @@
+package com.fitsoul.core.energy
+
+import com.fitsoul.core.exercise.ExerciseCatalog
+import com.fitsoul.core.model.UserProfile
+
+/**
+ * Energy-expenditure coefficients resolved once per profile so the integration loops are
+ * plain multiply-adds over primitive arrays.
+ */
+class EnergyModel private constructor(
+    // kcal/min per MET: MET * 3.5 ml/kg/min * kg / 200
+    private val kcalPerMetMinute: Float,
+    // Keytel et al. (2005): kcal/min = (a + b * HR + c * kg + d * age) / 4.184
+    private val hrIntercept: Float,
+    private val hrSlope: Float,
+    private val hasBodyData: Boolean,
+    /** Identifies the resolved coefficients; totals computed with an equal signature need no recompute. */
+    val signature: String
+) {
+    fun kcalPerMinute(heartRate: Int, met: Float): Float {
+        val metRate = met * kcalPerMetMinute
+        if (heartRate < MIN_VALID_HEART_RATE || !hasBodyData) return metRate
+        // Below ~90 bpm the HR regression underestimates, so never drop under the MET floor
+        return maxOf(hrIntercept + hrSlope * heartRate, kcalPerMetMinute * CalorieEngine.REST_MET)
+    }
+
+    companion object {
+        private const val MIN_VALID_HEART_RATE = 40
+        private const val DEFAULT_WEIGHT_KG = 70f
+        private const val DEFAULT_AGE = 30
+
+        fun from(profile: UserProfile?): EnergyModel {
+            val weight = profile?.weightKg?.takeIf { it > 0f } ?: DEFAULT_WEIGHT_KG
+            val age = profile?.age?.takeIf { it > 0 } ?: DEFAULT_AGE
+            val gender = profile?.gender?.lowercase().orEmpty()
+
+            val male = floatArrayOf(-55.0969f, 0.6309f, 0.1988f, 0.2017f)
+            val female = floatArrayOf(-20.4022f, 0.4472f, -0.1263f, 0.074f)
+            val sex = when {
+                gender.startsWith("m") -> "m"
+                gender.startsWith("f") || gender.startsWith("w") -> "f"
+                else -> "x"
+            }
+            val coefficients = when (sex) {
+                "m" -> male
+                "f" -> female
+                else -> FloatArray(4) { (male[it] + female[it]) / 2f }
+            }
+            val hasBodyData = profile != null && profile.weightKg > 0f && profile.age > 0
+
+            return EnergyModel(
+                kcalPerMetMinute = 3.5f * weight / 200f,
+                hrIntercept = (coefficients[0] + coefficients[2] * weight + coefficients[3] * age) / 4.184f,
+                hrSlope = coefficients[1] / 4.184f,
+                hasBodyData = hasBodyData,
+                signature = "$weight/$age/$sex/$hasBodyData"
+            )
+        }
+    }
+}
+
+/**
+ * Append-only per-session samples stored in growable primitive arrays.
+ */
+class SessionSampleLog(initialCapacity: Int = 256) {
+    var timestampsMillis = LongArray(initialCapacity)
+        private set
+    var heartRates = IntArray(initialCapacity)
+        private set
+    var mets = FloatArray(initialCapacity)
+        private set
+    var size = 0
+        private set
+
+    fun add(timestampMillis: Long, heartRate: Int, met: Float) {
+        if (size == timestampsMillis.size) {
+            val capacity = maxOf(size * 2, MIN_GROWTH)
+            timestampsMillis = timestampsMillis.copyOf(capacity)
+            heartRates = heartRates.copyOf(capacity)
+            mets = mets.copyOf(capacity)
+        }
+        timestampsMillis[size] = timestampMillis
+        heartRates[size] = heartRate
+        mets[size] = met
+        size++
+    }
+
+    fun clear() {
+        size = 0
+    }
+
+    companion object {
+        private const val MIN_GROWTH = 16
+
+        /** A log over stored samples, without copying them; the arrays must be the same length. */
+        fun wrap(timestampsMillis: LongArray, heartRates: IntArray, mets: FloatArray): SessionSampleLog {
+            require(heartRates.size == timestampsMillis.size && mets.size == timestampsMillis.size) {
+                "Sample arrays differ in length: ${timestampsMillis.size}, ${heartRates.size}, ${mets.size}"
+            }
+            val log = SessionSampleLog(0)
+            log.timestampsMillis = timestampsMillis
+            log.heartRates = heartRates
+            log.mets = mets
+            log.size = timestampsMillis.size
+            return log
+        }
+    }
+}
+
+/**
+ * Calorie estimation from per-exercise MET values and a heart-rate energy-expenditure model,
+ * integrated continuously over sample intervals instead of whole minutes. Stateless; the app
+ * provides a single instance from `AppModule`.
+ */
+class CalorieEngine(private val catalog: ExerciseCatalog) {
+
+    fun metFor(exerciseName: String?, isResting: Boolean = false): Float {
+        if (isResting) return REST_MET
+        val name = exerciseName?.lowercase()?.trim().orEmpty()
+        if (name.isEmpty()) return DEFAULT_MET
+        val id = catalog.idOf(name)
+        if (id != ExerciseCatalog.NO_ID) return catalog.met(id)
+        for ((keyword, met) in MET_KEYWORDS) {
+            if (name.contains(keyword)) return met
+        }
+        return DEFAULT_MET
+    }
+
+    /** Energy for one interval using the trapezoid rule on the two endpoint rates. */
+    fun intervalKcal(
+        model: EnergyModel,
+        durationMillis: Long,
+        startHeartRate: Int,
+        endHeartRate: Int,
+        met: Float
+    ): Float {
+        if (durationMillis <= 0) return 0f
+        val rate = (model.kcalPerMinute(startHeartRate, met) + model.kcalPerMinute(endHeartRate, met)) * 0.5f
+        return rate * durationMillis / MILLIS_PER_MINUTE
+    }
+
+    /**
+     * Integrates a whole session. When [cumulativeOut] is given it receives the running total
+     * at each sample, so charts can be rebuilt in the same pass.
+     */
+    fun integrate(log: SessionSampleLog, model: EnergyModel, cumulativeOut: FloatArray? = null): Float {
+        val count = log.size
+        if (count == 0) return 0f
+        val timestamps = log.timestampsMillis
+        val heartRates = log.heartRates
+        val mets = log.mets
+
+        var total = 0f
+        var previousRate = model.kcalPerMinute(heartRates[0], mets[0])
+        cumulativeOut?.set(0, 0f)
+        for (i in 1 until count) {
+            val rate = model.kcalPerMinute(heartRates[i], mets[i - 1])
+            val duration = timestamps[i] - timestamps[i - 1]
+            if (duration > 0) total += (previousRate + rate) * 0.5f * duration / MILLIS_PER_MINUTE
+            previousRate = model.kcalPerMinute(heartRates[i], mets[i])
+            cumulativeOut?.set(i, total)
+        }
+        return total
+    }
+
+    /** Recomputes every session with one model; returns per-session totals in [totalsOut]. */
+    fun recomputeHistory(sessions: List<SessionSampleLog>, model: EnergyModel, totalsOut: FloatArray): Float {
+        var grandTotal = 0f
+        for (index in sessions.indices) {
+            val total = integrate(sessions[index], model)
+            totalsOut[index] = total
+            grandTotal += total
+        }
+        return grandTotal
+    }
+
+    companion object {
+        const val REST_MET = 1.3f
+        const val DEFAULT_MET = 5.0f
+        private const val MILLIS_PER_MINUTE = 60_000f
+
+        // Values from the Compendium of Physical Activities for names the catalog does not
+        // know, matched by keyword, most specific first
+        private val MET_KEYWORDS = listOf(
+            "sprint" to 10.0f,
+            "jump rope" to 11.0f,
+            "run" to 9.8f,
+            "burpee" to 8.0f,
+            "hiit" to 8.0f,
+            "jump" to 8.0f,
+            "climber" to 8.0f,
+            "push-up" to 8.0f,
+            "pull-up" to 8.0f,
+            "row" to 7.0f,
+            "cycl" to 7.5f,
+            "bike" to 7.5f,
+            "dumbbell" to 5.0f,
+            "barbell" to 6.0f,
+            "squat" to 5.0f,
+            "deadlift" to 6.0f,
+            "press" to 5.0f,
+            "lunge" to 3.8f,
+            "plank" to 3.8f,
+            "bridge" to 3.5f,
+            "walk" to 3.5f,
+            "yoga" to 2.5f,
+            "pilates" to 3.0f,
+            "stretch" to 2.3f,
+            "breathing" to 1.3f
+        )
+    }
+}
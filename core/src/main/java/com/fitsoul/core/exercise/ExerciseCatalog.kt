@@ -0,0 +1,216 @@
+package com.fitsoul.core.exercise
+
+import kotlinx.serialization.Serializable
+import kotlinx.serialization.builtins.ListSerializer
+import kotlinx.serialization.json.Json
+
+/**
+ * Exercise metadata shared by generation, the workout screens, form tips and calorie estimates,
+ * loaded once from the bundled `exercises.json`. Entries live in parallel arrays indexed by an
+ * int id; names and aliases resolve to that id through one hash lookup on their [normalize]d
+ * form. Muscles and equipment are also kept as bitmasks over small per-catalog vocabularies.
+ *
+ * Accessors accept [NO_ID] and return the generic defaults used for unknown exercises.
+ */
+class ExerciseCatalog private constructor(records: List<ExerciseRecord>) {
+
+    val size = records.size
+
+    private val names = Array(size) { records[it].name }
+    private val sets = ByteArray(size) { records[it].sets.toByte() }
+    private val restSeconds = ShortArray(size) { records[it].restSeconds.toShort() }
+    private val mets = FloatArray(size) { records[it].met }
+    private val secondsPerRep = FloatArray(size) { records[it].secondsPerRep }
+    private val reps = Array(size) { records[it].reps }
+    private val instructions = Array(size) { records[it].instructions }
+    // LEVEL_COUNT slots per exercise, null where the entry has no level-specific value
+    private val levelReps = arrayOfNulls<String>(size * LEVEL_COUNT)
+    private val formTips = arrayOfNulls<String>(size)
+
+    private val muscleNames = ArrayList<String>()
+    private val equipmentNames = ArrayList<String>()
+    private val muscleMasks = IntArray(size)
+    // Index of each entry's first-listed muscle in [muscleGroups]
+    private val primaryMuscles = ByteArray(size)
+    private val equipmentMasks = IntArray(size)
+    // Decoded lists, one shared instance per distinct mask
+    private val muscleLists = arrayOfNulls<List<String>>(size)
+    private val equipmentLists = arrayOfNulls<List<String>>(size)
+
+    private val ids = HashMap<String, Int>(size * 4)
+
+    /** Muscle groups in bit order of [muscleMask]. */
+    val muscleGroups: List<String> get() = muscleNames
+
+    /** Equipment types in bit order of [equipmentMask]. */
+    val equipmentTypes: List<String> get() = equipmentNames
+
+    init {
+        val decoded = HashMap<Long, List<String>>()
+        for ((id, record) in records.withIndex()) {
+            muscleMasks[id] = maskOf(record.muscles, muscleNames)
+            primaryMuscles[id] = muscleNames.indexOf(record.muscles.first()).toByte()
+            equipmentMasks[id] = maskOf(record.equipment, equipmentNames)
+            muscleLists[id] = decoded.getOrPut(muscleMasks[id].toLong()) { record.muscles }
+            equipmentLists[id] = decoded.getOrPut(equipmentMasks[id].toLong() or EQUIPMENT_KEY) { record.equipment }
+
+            record.levelReps.forEachIndexed { level, value -> levelReps[id * LEVEL_COUNT + level] = value }
+            if (record.formTip.isNotEmpty()) formTips[id] = record.formTip.joinToString("\n")
+
+            index(record.name, id)
+            record.aliases.forEach { index(it, id) }
+        }
+    }
+
+    /** Id for an exercise name or alias, or [NO_ID] when the catalog does not know it. */
+    fun idOf(name: String): Int = ids[normalize(name)] ?: NO_ID
+
+    fun name(id: Int): String = names[id]
+
+    fun sets(id: Int): Int = if (id == NO_ID) DEFAULT_SETS else sets[id].toInt()
+
+    fun reps(id: Int): String = if (id == NO_ID) DEFAULT_REPS else reps[id]
+
+    fun restSeconds(id: Int): Int = if (id == NO_ID) DEFAULT_REST_SECONDS else restSeconds[id].toInt()
+
+    fun instructions(id: Int): String = if (id == NO_ID) DEFAULT_INSTRUCTIONS else instructions[id]
+
+    fun muscles(id: Int): List<String> = if (id == NO_ID) DEFAULT_MUSCLES else muscleLists[id]!!
+
+    fun equipment(id: Int): List<String> = if (id == NO_ID) DEFAULT_EQUIPMENT else equipmentLists[id]!!
+
+    fun muscleMask(id: Int): Int = if (id == NO_ID) 0 else muscleMasks[id]
+
+    /** Index in [muscleGroups] of the muscle the exercise mainly works, or -1 for [NO_ID]. */
+    fun primaryMuscle(id: Int): Int = if (id == NO_ID) -1 else primaryMuscles[id].toInt()
+
+    fun equipmentMask(id: Int): Int = if (id == NO_ID) 0 else equipmentMasks[id]
+
+    /** Bit for a muscle group in [muscleMask], or 0 when no exercise targets it. */
+    fun muscleBit(muscle: String): Int = bitOf(muscle, muscleNames)
+
+    /** Bit for a piece of equipment in [equipmentMask], or 0 when no exercise uses it. */
+    fun equipmentBit(equipment: String): Int = bitOf(equipment, equipmentNames)
+
+    /** MET value for calorie estimates; [DEFAULT_MET] for unknown exercises. */
+    fun met(id: Int): Float = if (id == NO_ID) DEFAULT_MET else mets[id]
+
+    /** Typical pace of one rep, for estimating how long a set takes. */
+    fun secondsPerRep(id: Int): Float = if (id == NO_ID) DEFAULT_SECONDS_PER_REP else secondsPerRep[id]
+
+    /** Reps or hold time for a training level, or null when the entry or level has none. */
+    fun levelReps(id: Int, level: String): String? {
+        val levelIndex = levelIndex(level)
+        if (id == NO_ID || levelIndex < 0) return null
+        return levelReps[id * LEVEL_COUNT + levelIndex]
+    }
+
+    fun formTip(id: Int): String? = if (id == NO_ID) null else formTips[id]
+
+    /** Id for a key that is already [normalize]d. */
+    internal fun idOfKey(key: String): Int = ids[key] ?: NO_ID
+
+    internal fun forEachKey(action: (key: String, id: Int) -> Unit) {
+        for ((key, id) in ids) action(key, id)
+    }
+
+    private fun index(name: String, id: Int) {
+        val previous = ids.put(normalize(name), id)
+        require(previous == null || previous == id) { "\"$name\" names both ${names[previous!!]} and ${names[id]}" }
+    }
+
+    @Serializable
+    private class ExerciseRecord(
+        val name: String,
+        val aliases: List<String> = emptyList(),
+        val sets: Int,
+        val reps: String,
+        val restSeconds: Int,
+        val instructions: String,
+        val muscles: List<String>,
+        val equipment: List<String>,
+        val met: Float,
+        val secondsPerRep: Float = DEFAULT_SECONDS_PER_REP,
+        val levelReps: List<String> = emptyList(),
+        val formTip: List<String> = emptyList()
+    )
+
+    companion object {
+        const val NO_ID = -1
+        const val DEFAULT_SETS = 3
+        const val DEFAULT_REPS = "10-15"
+        const val DEFAULT_REST_SECONDS = 60
+        const val DEFAULT_INSTRUCTIONS = "Focus on proper form and controlled movement"
+        const val DEFAULT_MET = 5.0f
+        const val DEFAULT_SECONDS_PER_REP = 3f
+        const val LEVEL_COUNT = 3
+        val DEFAULT_MUSCLES = listOf("Full Body")
+        val DEFAULT_EQUIPMENT = listOf("Bodyweight")
+
+        private const val RESOURCE = "exercises.json"
+        private val LEVELS = listOf("beginner", "intermediate", "advanced")
+        // Keeps equipment masks apart from muscle masks in the shared decode cache
+        private const val EQUIPMENT_KEY = 1L shl 32
+        private val json = Json { ignoreUnknownKeys = true }
+
+        /** 0 for beginner, 1 intermediate, 2 advanced; -1 for anything else. */
+        fun levelIndex(level: String): Int = LEVELS.indexOf(level.lowercase())
+
+        /** The bundled catalog, parsed on first use. */
+        @JvmStatic
+        val default: ExerciseCatalog by lazy {
+            val stream = ExerciseCatalog::class.java.getResourceAsStream(RESOURCE)
+                ?: throw IllegalStateException("$RESOURCE missing from the classpath")
+            fromJson(stream.bufferedReader().use { it.readText() })
+        }
+
+        fun fromJson(text: String): ExerciseCatalog =
+            ExerciseCatalog(json.decodeFromString(ListSerializer(ExerciseRecord.serializer()), text))
+
+        /**
+         * Lookup key for a name: lowercase letters and digits only, each word's plural "s"
+         * dropped, and anything after a ':' or '(' ignored, so "Push-ups", "push up" and
+         * "Pushups: 3 x 10" share a key.
+         */
+        fun normalize(name: String): String {
+            val key = StringBuilder(name.length)
+            var wordStart = 0
+            for (ch in name) {
+                if (ch == ':' || ch == '(') break
+                if (ch.isLetterOrDigit()) {
+                    key.append(ch.lowercaseChar())
+                } else {
+                    singularize(key, wordStart)
+                    wordStart = key.length
+                }
+            }
+            singularize(key, wordStart)
+            return key.toString()
+        }
+
+        // Words are joined without separators, so "push-ups" and "pushups" must both lose the "s"
+        private fun singularize(key: StringBuilder, wordStart: Int) {
+            val end = key.length
+            if (end > 3 && end - wordStart >= 2 && key[end - 1] == 's' && key[end - 2] != 's') key.setLength(end - 1)
+        }
+
+        private fun maskOf(values: List<String>, vocabulary: MutableList<String>): Int {
+            var mask = 0
+            for (value in values) {
+                var bit = vocabulary.indexOf(value)
+                if (bit < 0) {
+                    check(vocabulary.size < Int.SIZE_BITS) { "More than ${Int.SIZE_BITS} distinct values" }
+                    vocabulary.add(value)
+                    bit = vocabulary.size - 1
+                }
+                mask = mask or (1 shl bit)
+            }
+            return mask
+        }
+
+        private fun bitOf(value: String, vocabulary: List<String>): Int {
+            val bit = vocabulary.indexOfFirst { it.equals(value, ignoreCase = true) }
+            return if (bit < 0) 0 else 1 shl bit
+        }
+    }
+}
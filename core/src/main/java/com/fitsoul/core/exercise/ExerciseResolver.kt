@@ -0,0 +1,203 @@
+package com.fitsoul.core.exercise
+
+import com.fitsoul.core.exercise.ExerciseCatalog.Companion.NO_ID
+import java.util.TreeMap
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.math.abs
+
+/**
+ * Maps free-form exercise names from model output ("DB bench", "Push up", "Bulgarian split
+ * squats: 10 each leg") onto [ExerciseCatalog] ids. Tried in order:
+ * - the whole name after expanding abbreviations and dropping set/rep counts
+ * - its trailing words, so variants such as "wide push-ups" land on the base movement
+ * - the closest catalog key by edit distance, among keys sharing enough trigrams
+ *
+ * Results, misses included, are cached per input string.
+ */
+class ExerciseResolver(
+    private val catalog: ExerciseCatalog,
+    private val cacheSize: Int = DEFAULT_CACHE_SIZE
+) {
+
+    private val keys: Array<String>
+    private val keyIds: IntArray
+    private val keyTrigramCounts: IntArray
+    // Sorted trigram codes; postings[i] lists the keys containing trigrams[i]
+    private val trigrams: IntArray
+    private val postings: Array<IntArray>
+
+    private val cache = ConcurrentHashMap<String, Int>()
+
+    init {
+        val entries = ArrayList<Pair<String, Int>>()
+        catalog.forEachKey { key, id -> entries.add(key to id) }
+        keys = Array(entries.size) { entries[it].first }
+        keyIds = IntArray(entries.size) { entries[it].second }
+        keyTrigramCounts = IntArray(entries.size)
+
+        val byTrigram = TreeMap<Int, MutableList<Int>>()
+        for (key in keys.indices) {
+            val codes = trigramsOf(keys[key])
+            keyTrigramCounts[key] = codes.size
+            for (code in codes) byTrigram.getOrPut(code) { ArrayList() }.add(key)
+        }
+        trigrams = byTrigram.keys.toIntArray()
+        postings = byTrigram.values.map { it.toIntArray() }.toTypedArray()
+    }
+
+    /** Catalog id for [name], or [NO_ID] when nothing is close enough. */
+    fun resolve(name: String): Int {
+        cache[name]?.let { return it }
+        val id = lookup(name)
+        // Names repeat heavily, so a full reset on overflow costs little and keeps reads lock-free
+        if (cache.size >= cacheSize) cache.clear()
+        cache[name] = id
+        return id
+    }
+
+    private fun lookup(name: String): Int {
+        val words = wordsOf(name)
+        if (words.isEmpty()) return NO_ID
+        for (start in words.indices) {
+            val id = catalog.idOfKey(ExerciseCatalog.normalize(words.subList(start, words.size).joinToString(" ")))
+            if (id != NO_ID) return id
+        }
+        return closest(ExerciseCatalog.normalize(words.joinToString(" ")))
+    }
+
+    private fun closest(query: String): Int {
+        val maxDistance = query.length / CHARS_PER_EDIT
+        if (maxDistance == 0) return NO_ID
+
+        val queryTrigrams = trigramsOf(query)
+        val shared = IntArray(keys.size)
+        for (code in queryTrigrams) {
+            val slot = trigrams.binarySearch(code)
+            if (slot >= 0) for (key in postings[slot]) shared[key]++
+        }
+
+        var bestId = NO_ID
+        var bestDistance = Int.MAX_VALUE
+        var bestSimilarity = 0f
+        for (key in keys.indices) {
+            if (shared[key] == 0) continue
+            // Dice coefficient over trigram sets
+            val similarity = 2f * shared[key] / (queryTrigrams.size + keyTrigramCounts[key])
+            if (similarity < MIN_SIMILARITY) continue
+            val distance = editDistance(query, keys[key], maxDistance)
+            if (distance > maxDistance) continue
+            if (distance < bestDistance || (distance == bestDistance && similarity > bestSimilarity)) {
+                bestId = keyIds[key]
+                bestDistance = distance
+                bestSimilarity = similarity
+            }
+        }
+        return bestId
+    }
+
+    companion object {
+        const val DEFAULT_CACHE_SIZE = 512
+        private const val MIN_SIMILARITY = 0.5f
+        // One edit allowed per this many characters of the query
+        private const val CHARS_PER_EDIT = 4
+        private const val ALPHABET = 38
+        private const val BOUNDARY = 0
+
+        private val ABBREVIATIONS = mapOf(
+            "db" to listOf("dumbbell"),
+            "dbs" to listOf("dumbbell"),
+            "bb" to listOf("barbell"),
+            "kb" to listOf("kettlebell"),
+            "bw" to listOf("bodyweight"),
+            "ohp" to listOf("overhead", "press"),
+            "rdl" to listOf("romanian", "deadlift"),
+            "rdls" to listOf("romanian", "deadlift")
+        )
+
+        /** Resolver over [ExerciseCatalog.default], built on first use. */
+        @JvmStatic
+        val default: ExerciseResolver by lazy { ExerciseResolver(ExerciseCatalog.default) }
+
+        /**
+         * Lowercase words of the name with abbreviations expanded. Stops at ':' or '(' and at
+         * the first count after the name ("Push-ups 3 x 12"); leading counts are skipped.
+         */
+        private fun wordsOf(name: String): List<String> {
+            val words = ArrayList<String>(4)
+            val word = StringBuilder()
+            fun endWord(): Boolean {
+                if (word.isEmpty()) return true
+                val text = word.toString()
+                word.setLength(0)
+                if (text[0].isDigit() || text == "x") return words.isEmpty()
+                words.addAll(ABBREVIATIONS[text] ?: listOf(text))
+                return true
+            }
+            for (ch in name) {
+                if (ch == ':' || ch == '(') break
+                if (ch.isLetterOrDigit()) {
+                    word.append(ch.lowercaseChar())
+                } else if (!endWord()) {
+                    return words
+                }
+            }
+            endWord()
+            return words
+        }
+
+        // Distinct trigram codes of the key padded with a boundary marker on each side
+        private fun trigramsOf(key: String): IntArray {
+            val codes = IntArray(key.length)
+            var a = BOUNDARY
+            var b = symbol(key, 0)
+            for (i in codes.indices) {
+                val c = if (i + 1 < key.length) symbol(key, i + 1) else BOUNDARY
+                codes[i] = (a * ALPHABET + b) * ALPHABET + c
+                a = b
+                b = c
+            }
+            codes.sort()
+            var distinct = 0
+            for (i in codes.indices) {
+                if (i == 0 || codes[i] != codes[i - 1]) codes[distinct++] = codes[i]
+            }
+            return codes.copyOf(distinct)
+        }
+
+        private fun symbol(key: String, index: Int): Int {
+            val ch = key[index]
+            return when (ch) {
+                in 'a'..'z' -> ch - 'a' + 1
+                in '0'..'9' -> ch - '0' + 27
+                else -> ALPHABET - 1
+            }
+        }
+
+        // Optimal string alignment distance; gives up with limit + 1 once a row exceeds the limit
+        private fun editDistance(a: String, b: String, limit: Int): Int {
+            if (abs(a.length - b.length) > limit) return limit + 1
+            var beforePrevious = IntArray(b.length + 1)
+            var previous = IntArray(b.length + 1) { it }
+            var current = IntArray(b.length + 1)
+            for (i in 1..a.length) {
+                current[0] = i
+                var rowMin = i
+                for (j in 1..b.length) {
+                    val cost = if (a[i - 1] == b[j - 1]) 0 else 1
+                    var distance = minOf(previous[j] + 1, current[j - 1] + 1, previous[j - 1] + cost)
+                    if (i > 1 && j > 1 && a[i - 1] == b[j - 2] && a[i - 2] == b[j - 1]) {
+                        distance = minOf(distance, beforePrevious[j - 2] + 1)
+                    }
+                    current[j] = distance
+                    if (distance < rowMin) rowMin = distance
+                }
+                if (rowMin > limit) return limit + 1
+                val recycled = beforePrevious
+                beforePrevious = previous
+                previous = current
+                current = recycled
+            }
+            return previous[b.length]
+        }
+    }
+}
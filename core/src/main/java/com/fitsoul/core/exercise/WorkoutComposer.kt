@@ -0,0 +1,298 @@
+package com.fitsoul.core.exercise
+
+import kotlin.random.Random
+
+/** What an offline plan optimises for. */
+enum class TrainingGoal {
+    STRENGTH,
+    CARDIO,
+    FAT_LOSS,
+    GENERAL;
+
+    companion object {
+        fun from(goals: String): TrainingGoal = when {
+            goals.contains("strength", ignoreCase = true) || goals.contains("muscle", ignoreCase = true) -> STRENGTH
+            goals.contains("cardio", ignoreCase = true) || goals.contains("endurance", ignoreCase = true) -> CARDIO
+            goals.contains("weight", ignoreCase = true) || goals.contains("fat", ignoreCase = true) -> FAT_LOSS
+            else -> GENERAL
+        }
+    }
+}
+
+data class ComposedExercise(
+    val id: Int,
+    val name: String,
+    val sets: Int,
+    val reps: String,
+    val workSeconds: Int,
+    val restSeconds: Int
+)
+
+/**
+ * A session whose three phases add up to exactly the requested time. [finalRestSeconds] is the
+ * part of [mainSeconds] that did not divide into the per-set rests, taken after the last set.
+ */
+data class ComposedWorkout(
+    val goal: TrainingGoal,
+    val warmupSeconds: Int,
+    val mainSeconds: Int,
+    val cooldownSeconds: Int,
+    val exercises: List<ComposedExercise>,
+    val finalRestSeconds: Int = 0
+) {
+    val totalSeconds: Int get() = warmupSeconds + mainSeconds + cooldownSeconds
+}
+
+/**
+ * Builds offline workouts from the [ExerciseCatalog] as a multiple-choice bounded knapsack over
+ * the main block: each primary muscle group contributes at most one exercise, each exercise
+ * 1 to a level-dependent number of sets, and every set costs its work plus rest time. Set values
+ * shrink as sets are added, so the optimum spreads time across groups before stacking sets.
+ * Leftover seconds all stay in the main block as rest, so the cool-down always matches the
+ * warm-up. Lengths outside [MIN_MINUTES]..[MAX_MINUTES] are rejected rather than clamped.
+ *
+ * Everything that does not depend on the request (per-equipment and per-group candidate
+ * bitsets, set durations per level) is computed once. Results are deterministic per seed; the
+ * seed only jitters exercise values, so different seeds vary among near-equal plans.
+ */
+class WorkoutComposer(private val catalog: ExerciseCatalog) {
+
+    private val words = (catalog.size + Long.SIZE_BITS - 1) / Long.SIZE_BITS
+    private val bodyweight = catalog.equipmentTypes.indexOf(BODYWEIGHT)
+    // Exercises usable with each equipment type, and exercises in each primary muscle group
+    private val equipmentCandidates = Array(catalog.equipmentTypes.size) { LongArray(words) }
+    private val groupMembers = Array(catalog.muscleGroups.size) { LongArray(words) }
+    private val cardioBit = catalog.muscleBit("Cardio")
+    private val fullBodyBit = catalog.muscleBit("Full Body")
+
+    // Per exercise and level, in UNIT_SECONDS steps
+    private val workUnits = IntArray(catalog.size * ExerciseCatalog.LEVEL_COUNT)
+    private val restUnits = IntArray(catalog.size * ExerciseCatalog.LEVEL_COUNT)
+    private val levelReps = arrayOfNulls<String>(catalog.size * ExerciseCatalog.LEVEL_COUNT)
+
+    init {
+        for (id in 0 until catalog.size) {
+            val equipment = catalog.equipmentMask(id)
+            for (type in equipmentCandidates.indices) {
+                if (equipment and (1 shl type) != 0) setBit(equipmentCandidates[type], id)
+            }
+            setBit(groupMembers[catalog.primaryMuscle(id)], id)
+
+            for (level in 0 until ExerciseCatalog.LEVEL_COUNT) {
+                val slot = id * ExerciseCatalog.LEVEL_COUNT + level
+                val reps = catalog.levelReps(id, LEVEL_NAMES[level]) ?: catalog.reps(id)
+                levelReps[slot] = reps
+                workUnits[slot] = units(workSeconds(reps, catalog.secondsPerRep(id)))
+                restUnits[slot] = units(catalog.restSeconds(id) * REST_FACTORS[level])
+            }
+        }
+    }
+
+    fun compose(
+        goal: TrainingGoal,
+        level: String,
+        minutes: Int,
+        equipment: List<String>,
+        seed: Long = seedFor(goal, level, minutes, equipment)
+    ): ComposedWorkout {
+        require(minutes in MIN_MINUTES..MAX_MINUTES) { "minutes must be in $MIN_MINUTES..$MAX_MINUTES, was $minutes" }
+        val totalSeconds = minutes * 60
+        val warmupSeconds = warmupMinutes(totalSeconds / 60) * 60
+        val capacity = (totalSeconds - 2 * warmupSeconds) / UNIT_SECONDS
+        val levelIndex = ExerciseCatalog.levelIndex(level).let { if (it < 0) 1 else it }
+        val maxSets = MAX_SETS[levelIndex]
+        // Single sets only when the main block is too short for anything else
+        val minSets = if (capacity * UNIT_SECONDS >= MULTI_SET_SECONDS) 2 else 1
+
+        val available = availableExercises(equipment)
+        val random = Random(seed)
+        val values = FloatArray(catalog.size) { id ->
+            if (isSet(available, id)) value(goal, id) * (1f + JITTER * (2f * random.nextFloat() - 1f)) else 0f
+        }
+
+        // best[c]: highest value using exactly c units over the groups seen so far
+        var best = FloatArray(capacity + 1) { UNREACHABLE }
+        best[0] = 0f
+        val groups = groupMembers.size
+        val chosenId = IntArray(groups * (capacity + 1)) { ExerciseCatalog.NO_ID }
+        val chosenSets = ByteArray(groups * (capacity + 1))
+        for (group in 0 until groups) {
+            val next = best.copyOf()
+            val row = group * (capacity + 1)
+            forEachBit(groupMembers[group], available) { id ->
+                val setUnits = workUnits[id * ExerciseCatalog.LEVEL_COUNT + levelIndex] +
+                    restUnits[id * ExerciseCatalog.LEVEL_COUNT + levelIndex]
+                var setsValue = 0f
+                for (sets in 1..maxSets) {
+                    setsValue += values[id] * SET_WEIGHTS[sets - 1]
+                    if (sets < minSets) continue
+                    val weight = sets * setUnits
+                    for (c in weight..capacity) {
+                        val previous = best[c - weight]
+                        if (previous != UNREACHABLE && previous + setsValue > next[c]) {
+                            next[c] = previous + setsValue
+                            chosenId[row + c] = id
+                            chosenSets[row + c] = sets.toByte()
+                        }
+                    }
+                }
+            }
+            best = next
+        }
+
+        // Highest value wins, then the fuller plan
+        var used = 0
+        for (c in 1..capacity) {
+            if (best[c] != UNREACHABLE && best[c] >= best[used]) used = c
+        }
+
+        val picks = ArrayList<Pair<Int, Int>>()
+        var remaining = used
+        for (group in groups - 1 downTo 0) {
+            val id = chosenId[group * (capacity + 1) + remaining]
+            if (id == ExerciseCatalog.NO_ID) continue
+            val sets = chosenSets[group * (capacity + 1) + remaining].toInt()
+            picks.add(id to sets)
+            remaining -= sets * (workUnits[id * ExerciseCatalog.LEVEL_COUNT + levelIndex] +
+                restUnits[id * ExerciseCatalog.LEVEL_COUNT + levelIndex])
+        }
+        picks.reverse()
+
+        // Spread the unused units evenly over every set's rest, then one more unit per set to
+        // whichever exercises the rest still covers; anything smaller is rest after the last set
+        val totalSets = picks.sumOf { it.second }
+        var spareUnits = capacity - used
+        val extraRestUnits = IntArray(picks.size) { if (totalSets == 0) 0 else spareUnits / totalSets }
+        if (totalSets > 0) spareUnits %= totalSets
+        var placed = totalSets > 0
+        while (placed) {
+            placed = false
+            for (i in picks.indices) {
+                val sets = picks[i].second
+                if (sets <= spareUnits) {
+                    extraRestUnits[i]++
+                    spareUnits -= sets
+                    placed = true
+                }
+            }
+        }
+        val exercises = picks.mapIndexed { i, (id, sets) ->
+            val slot = id * ExerciseCatalog.LEVEL_COUNT + levelIndex
+            ComposedExercise(
+                id = id,
+                name = catalog.name(id),
+                sets = sets,
+                reps = levelReps[slot]!!,
+                workSeconds = workUnits[slot] * UNIT_SECONDS,
+                restSeconds = (restUnits[slot] + extraRestUnits[i]) * UNIT_SECONDS
+            )
+        }
+        return ComposedWorkout(
+            goal = goal,
+            warmupSeconds = warmupSeconds,
+            mainSeconds = capacity * UNIT_SECONDS,
+            cooldownSeconds = warmupSeconds,
+            exercises = exercises,
+            finalRestSeconds = spareUnits * UNIT_SECONDS
+        )
+    }
+
+    private fun availableExercises(equipment: List<String>): LongArray {
+        val available = LongArray(words)
+        if (bodyweight >= 0) or(available, equipmentCandidates[bodyweight])
+        val fullGym = equipment.any { it.contains("gym", ignoreCase = true) }
+        val requested = equipment.map(ExerciseCatalog::normalize)
+        for ((type, name) in catalog.equipmentTypes.withIndex()) {
+            val key = ExerciseCatalog.normalize(name)
+            if (fullGym || requested.any { it.isNotEmpty() && (key.contains(it) || it.contains(key)) }) {
+                or(available, equipmentCandidates[type])
+            }
+        }
+        return available
+    }
+
+    private fun value(goal: TrainingGoal, id: Int): Float {
+        val met = catalog.met(id)
+        val muscles = catalog.muscleMask(id)
+        return when (goal) {
+            // Loaded movements first when the equipment allows them
+            TrainingGoal.STRENGTH -> 6f +
+                (if (bodyweight < 0 || catalog.equipmentMask(id) and (1 shl bodyweight) == 0) 3f else 0f) -
+                (if (muscles and cardioBit != 0) 3f else 0f)
+            TrainingGoal.CARDIO -> met + (if (muscles and cardioBit != 0) 3f else 0f)
+            TrainingGoal.FAT_LOSS -> met + (if (muscles and (cardioBit or fullBodyBit) != 0) 1f else 0f)
+            TrainingGoal.GENERAL -> 5f + met / 4f
+        }
+    }
+
+    private inline fun forEachBit(members: LongArray, available: LongArray, action: (Int) -> Unit) {
+        for (word in members.indices) {
+            var bits = members[word] and available[word]
+            while (bits != 0L) {
+                val bit = java.lang.Long.numberOfTrailingZeros(bits)
+                action(word * Long.SIZE_BITS + bit)
+                bits = bits and (bits - 1)
+            }
+        }
+    }
+
+    companion object {
+        const val MIN_MINUTES = 3
+        const val MAX_MINUTES = 180
+        private const val UNIT_SECONDS = 5
+        private const val MULTI_SET_SECONDS = 10 * 60
+        private const val JITTER = 0.15f
+        private const val UNREACHABLE = Float.NEGATIVE_INFINITY
+        private const val BODYWEIGHT = "Bodyweight"
+        private val LEVEL_NAMES = listOf("beginner", "intermediate", "advanced")
+        private val REST_FACTORS = floatArrayOf(1.25f, 1f, 0.75f)
+        private val MAX_SETS = intArrayOf(3, 4, 5)
+        // Value of the n-th set of an exercise relative to the first
+        private val SET_WEIGHTS = floatArrayOf(1f, 0.8f, 0.6f, 0.45f, 0.35f)
+
+        /** Composer over [ExerciseCatalog.default], built on first use. */
+        @JvmStatic
+        val default: WorkoutComposer by lazy { WorkoutComposer(ExerciseCatalog.default) }
+
+        /** Warm-up length, and the same again for cool-down, in a session of [minutes]. */
+        fun warmupMinutes(minutes: Int): Int = (minutes / 6).coerceIn(0, 5)
+
+        fun seedFor(goal: TrainingGoal, level: String, minutes: Int, equipment: List<String>): Long =
+            listOf(goal.name, level.lowercase(), minutes, equipment.map { it.lowercase() }.sorted()).hashCode().toLong()
+
+        /** Seconds for one set: the midpoint of a "30-45 seconds" hold, or of a rep range times [secondsPerRep]. */
+        private fun workSeconds(reps: String, secondsPerRep: Float): Float {
+            var low = -1
+            var high = -1
+            var number = -1
+            for (ch in "$reps ") {
+                if (ch.isDigit()) {
+                    number = (if (number < 0) 0 else number * 10) + (ch - '0')
+                } else if (number >= 0) {
+                    if (low < 0) low = number else if (high < 0) high = number
+                    number = -1
+                }
+            }
+            if (low < 0) return 30f
+            val middle = if (high < 0) low.toFloat() else (low + high) / 2f
+            val trimmed = reps.trimEnd()
+            val timed = trimmed.contains("sec") ||
+                (trimmed.length > 1 && trimmed.endsWith('s') && trimmed[trimmed.length - 2].isDigit())
+            val perSide = if (reps.contains("each")) 2 else 1
+            return if (timed) middle * perSide else middle * secondsPerRep * perSide
+        }
+
+        private fun units(seconds: Float): Int = maxOf(1, ((seconds + UNIT_SECONDS - 1) / UNIT_SECONDS).toInt())
+
+        private fun setBit(bits: LongArray, index: Int) {
+            bits[index / Long.SIZE_BITS] = bits[index / Long.SIZE_BITS] or (1L shl (index % Long.SIZE_BITS))
+        }
+
+        private fun isSet(bits: LongArray, index: Int): Boolean =
+            bits[index / Long.SIZE_BITS] and (1L shl (index % Long.SIZE_BITS)) != 0L
+
+        private fun or(target: LongArray, bits: LongArray) {
+            for (i in target.indices) target[i] = target[i] or bits[i]
+        }
+    }
+}
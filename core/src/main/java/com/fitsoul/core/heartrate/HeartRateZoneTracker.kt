@@ -0,0 +1,153 @@
+package com.fitsoul.core.heartrate
+
+import com.fitsoul.core.model.UserProfile
+import kotlinx.serialization.Serializable
+import kotlin.math.exp
+import kotlin.math.roundToInt
+
+/**
+ * Compact per-session heart-rate record: seconds spent in each of the five zones plus the
+ * derived load metrics. This is all that is persisted; raw samples are never stored.
+ */
+@Serializable
+data class HeartRateZoneSummary(
+    val sessionId: String,
+    val startedAt: Long,
+    val zoneSeconds: List<Int>,
+    val trimp: Float,
+    val driftBpmPerHour: Float,
+    val averageHeartRate: Int,
+    val maxHeartRate: Int
+)
+
+/** Zone totals aggregated over any number of sessions. */
+data class ZoneDistribution(
+    val zoneSeconds: List<Int> = List(HeartRateZoneTracker.ZONE_COUNT) { 0 },
+    val trimp: Float = 0f,
+    val sessionCount: Int = 0
+) {
+    val totalSeconds: Int get() = zoneSeconds.sum()
+
+    fun fractionIn(zone: Int): Float =
+        if (totalSeconds == 0) 0f else zoneSeconds[zone].toFloat() / totalSeconds
+}
+
+/**
+ * Streaming heart-rate analytics: time-in-zone, Banister TRIMP and cardiac drift, updated per
+ * sample in O(1) time and memory. Zones use the heart-rate reserve (Karvonen) between the
+ * profile's resting and max heart rate.
+ */
+class HeartRateZoneTracker(profile: UserProfile?) {
+
+    private val restingHr: Float
+    private val reserve: Float
+    private val trimpFactor: Float
+    private val trimpExponent: Float
+
+    private val zoneMillis = LongArray(ZONE_COUNT)
+    private var trimp = 0.0
+    private var lastTimestamp = -1L
+    private var lastHeartRate = 0
+    private var peakHeartRate = 0
+
+    // Duration-weighted sums for the least-squares slope of HR over time (cardiac drift)
+    private var sumW = 0.0
+    private var sumWT = 0.0
+    private var sumWH = 0.0
+    private var sumWTT = 0.0
+    private var sumWTH = 0.0
+    private var firstTimestamp = -1L
+
+    init {
+        val age = profile?.age?.takeIf { it > 0 } ?: DEFAULT_AGE
+        // Tanaka et al. (2001) when no measured max is available
+        val maxHr = profile?.maxHeartRate?.takeIf { it > 0 }?.toFloat() ?: (208f - 0.7f * age)
+        restingHr = profile?.restingHeartRate?.takeIf { it > 0 }?.toFloat() ?: DEFAULT_RESTING_HR
+        reserve = (maxHr - restingHr).coerceAtLeast(1f)
+
+        val female = profile?.gender?.lowercase()?.let { it.startsWith("f") || it.startsWith("w") } == true
+        trimpFactor = if (female) 0.86f else 0.64f
+        trimpExponent = if (female) 1.67f else 1.92f
+    }
+
+    fun addSample(timestampMillis: Long, heartRate: Int) {
+        if (heartRate < MIN_VALID_HEART_RATE) return
+        if (heartRate > peakHeartRate) peakHeartRate = heartRate
+        if (firstTimestamp < 0) firstTimestamp = timestampMillis
+
+        if (lastTimestamp >= 0) {
+            // Cap gaps so a sensor dropout is not credited to the last zone
+            val duration = (timestampMillis - lastTimestamp).coerceIn(0L, MAX_INTERVAL_MS)
+            if (duration > 0) accumulate(duration, (lastHeartRate + heartRate) * 0.5f, timestampMillis)
+        }
+        lastTimestamp = timestampMillis
+        lastHeartRate = heartRate
+    }
+
+    fun zoneOf(heartRate: Float): Int {
+        val fraction = (heartRate - restingHr) / reserve
+        return when {
+            fraction < 0.6f -> 0
+            fraction < 0.7f -> 1
+            fraction < 0.8f -> 2
+            fraction < 0.9f -> 3
+            else -> 4
+        }
+    }
+
+    fun currentDistribution(): ZoneDistribution =
+        ZoneDistribution(zoneSecondsList(), trimp.toFloat(), 1)
+
+    fun summary(sessionId: String, startedAt: Long): HeartRateZoneSummary = HeartRateZoneSummary(
+        sessionId = sessionId,
+        startedAt = startedAt,
+        zoneSeconds = zoneSecondsList(),
+        trimp = trimp.toFloat(),
+        driftBpmPerHour = driftBpmPerHour(),
+        averageHeartRate = if (sumW > 0) (sumWH / sumW).roundToInt() else 0,
+        maxHeartRate = peakHeartRate
+    )
+
+    /** Slope of the duration-weighted regression of heart rate on time, in bpm per hour. */
+    fun driftBpmPerHour(): Float {
+        val denominator = sumW * sumWTT - sumWT * sumWT
+        if (sumW <= 0 || denominator <= 0.0) return 0f
+        val slopePerMinute = (sumW * sumWTH - sumWT * sumWH) / denominator
+        return (slopePerMinute * 60.0).toFloat()
+    }
+
+    private fun accumulate(durationMillis: Long, heartRate: Float, endTimestamp: Long) {
+        zoneMillis[zoneOf(heartRate)] += durationMillis
+
+        val minutes = durationMillis / 60_000.0
+        val hrr = ((heartRate - restingHr) / reserve).coerceIn(0f, 1f)
+        trimp += minutes * hrr * trimpFactor * exp((trimpExponent * hrr).toDouble())
+
+        val midpointMinutes = (endTimestamp - firstTimestamp - durationMillis / 2) / 60_000.0
+        sumW += minutes
+        sumWT += minutes * midpointMinutes
+        sumWH += minutes * heartRate
+        sumWTT += minutes * midpointMinutes * midpointMinutes
+        sumWTH += minutes * midpointMinutes * heartRate
+    }
+
+    private fun zoneSecondsList(): List<Int> = zoneMillis.map { (it / 1000).toInt() }
+
+    companion object {
+        const val ZONE_COUNT = 5
+        private const val DEFAULT_AGE = 30
+        private const val DEFAULT_RESTING_HR = 60f
+        private const val MIN_VALID_HEART_RATE = 30
+        private const val MAX_INTERVAL_MS = 30_000L
+
+        fun aggregate(summaries: List<HeartRateZoneSummary>): ZoneDistribution {
+            val totals = IntArray(ZONE_COUNT)
+            var trimp = 0f
+            for (summary in summaries) {
+                for (zone in 0 until ZONE_COUNT) totals[zone] += summary.zoneSeconds.getOrElse(zone) { 0 }
+                trimp += summary.trimp
+            }
+            return ZoneDistribution(totals.toList(), trimp, summaries.size)
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.fitsoul.core.metrics
+
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.atomic.AtomicLongArray
+import kotlin.math.ceil
+
+/**
+ * Lock-free latency histogram in the HdrHistogram layout: exact buckets below 32 µs, then 16
+ * linear sub-buckets per power of two, so any recorded value is reported within ~6% using a
+ * fixed 608-slot array however many samples arrive. Values are microseconds, clamped to ~25 days.
+ */
+class LatencyHistogram {
+
+    private val counts = AtomicLongArray(BUCKET_COUNT)
+    private val totalCount = AtomicLong()
+    private val totalMicros = AtomicLong()
+    private val maxMicros = AtomicLong()
+
+    fun recordNanos(nanos: Long) = recordMicros(nanos / 1_000)
+
+    fun recordMicros(micros: Long) {
+        val value = micros.coerceIn(0L, MAX_TRACKABLE_MICROS)
+        counts.incrementAndGet(bucketOf(value))
+        totalCount.incrementAndGet()
+        totalMicros.addAndGet(value)
+        var max = maxMicros.get()
+        while (value > max && !maxMicros.compareAndSet(max, value)) max = maxMicros.get()
+    }
+
+    /** Consistent enough for display: buckets are copied once and every percentile read from the copy. */
+    fun snapshot(name: String): HistogramSnapshot {
+        val copy = LongArray(BUCKET_COUNT) { counts.get(it) }
+        val count = copy.sum()
+        val recorded = totalCount.get()
+        return HistogramSnapshot(
+            name = name,
+            count = count,
+            meanMicros = if (recorded == 0L) 0L else totalMicros.get() / recorded,
+            maxMicros = maxMicros.get(),
+            p50Micros = percentile(copy, count, 0.50),
+            p90Micros = percentile(copy, count, 0.90),
+            p95Micros = percentile(copy, count, 0.95),
+            p99Micros = percentile(copy, count, 0.99)
+        )
+    }
+
+    fun reset() {
+        for (i in 0 until BUCKET_COUNT) counts.set(i, 0L)
+        totalCount.set(0L)
+        totalMicros.set(0L)
+        maxMicros.set(0L)
+    }
+
+    private fun percentile(copy: LongArray, count: Long, fraction: Double): Long {
+        if (count == 0L) return 0L
+        val rank = maxOf(1L, ceil(fraction * count).toLong())
+        var seen = 0L
+        for (bucket in copy.indices) {
+            seen += copy[bucket]
+            if (seen >= rank) return highestValueIn(bucket)
+        }
+        return highestValueIn(BUCKET_COUNT - 1)
+    }
+
+    companion object {
+        private const val LINEAR_LIMIT = 32
+        private const val SUB_BUCKETS = 16
+        private const val MAX_SHIFT = 36
+        private const val BUCKET_COUNT = LINEAR_LIMIT + MAX_SHIFT * SUB_BUCKETS
+        private const val MAX_TRACKABLE_MICROS = (1L shl (MAX_SHIFT + 5)) - 1
+
+        internal fun bucketOf(value: Long): Int {
+            if (value < LINEAR_LIMIT) return value.toInt()
+            val shift = 63 - java.lang.Long.numberOfLeadingZeros(value) - 4
+            return LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (value ushr shift).toInt() - SUB_BUCKETS
+        }
+
+        internal fun highestValueIn(bucket: Int): Long {
+            if (bucket < LINEAR_LIMIT) return bucket.toLong()
+            val offset = bucket - LINEAR_LIMIT
+            val shift = offset / SUB_BUCKETS + 1
+            val subBucket = (offset % SUB_BUCKETS + SUB_BUCKETS).toLong()
+            return ((subBucket + 1) shl shift) - 1
+        }
+    }
+}
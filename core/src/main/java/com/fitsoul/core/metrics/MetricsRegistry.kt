@@ -0,0 +1,53 @@
+package com.fitsoul.core.metrics
+
+import kotlinx.serialization.Serializable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
+
+@Serializable
+data class HistogramSnapshot(
+    val name: String,
+    val count: Long,
+    val meanMicros: Long,
+    val maxMicros: Long,
+    val p50Micros: Long,
+    val p90Micros: Long,
+    val p95Micros: Long,
+    val p99Micros: Long
+)
+
+@Serializable
+data class MetricsSnapshot(
+    val capturedAtMillis: Long,
+    val counters: Map<String, Long>,
+    val histograms: List<HistogramSnapshot>
+)
+
+/**
+ * Process-wide named counters and latency histograms. Recording is lock-free after a name's
+ * first use, so it is cheap enough to leave on in release builds.
+ */
+class MetricsRegistry {
+
+    private val counters = ConcurrentHashMap<String, AtomicLong>()
+    private val histograms = ConcurrentHashMap<String, LatencyHistogram>()
+
+    fun increment(name: String, by: Long = 1) {
+        counters.getOrPut(name) { AtomicLong() }.addAndGet(by)
+    }
+
+    fun recordNanos(name: String, nanos: Long) {
+        histograms.getOrPut(name) { LatencyHistogram() }.recordNanos(nanos)
+    }
+
+    fun snapshot(nowMillis: Long = System.currentTimeMillis()): MetricsSnapshot = MetricsSnapshot(
+        capturedAtMillis = nowMillis,
+        counters = counters.entries.associate { it.key to it.value.get() }.toSortedMap(),
+        histograms = histograms.entries.map { it.value.snapshot(it.key) }.sortedBy { it.name }
+    )
+
+    fun reset() {
+        counters.values.forEach { it.set(0L) }
+        histograms.values.forEach { it.reset() }
+    }
+}
@@ -1,4 +1,4 @@
-package com.fitsoul.app.domain.model;
+package com.fitsoul.core.model;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -1,4 +1,4 @@
-package com.fitsoul.app.domain.model;
+package com.fitsoul.core.model;
 
 public class UserProfile {
     private int age;
@@ -6,6 +6,9 @@ public class UserProfile {
     private int heightCm;
     private float weightKg;
     private String fitnessLevel;
+    // 0 means unknown; heart-rate analytics then fall back to age-based estimates
+    private int maxHeartRate;
+    private int restingHeartRate;
 
     public UserProfile() {
         // Default constructor for Firebase
@@ -25,6 +28,8 @@ public class UserProfile {
     public int getHeightCm() { return heightCm; }
     public float getWeightKg() { return weightKg; }
     public String getFitnessLevel() { return fitnessLevel; }
+    public int getMaxHeartRate() { return maxHeartRate; }
+    public int getRestingHeartRate() { return restingHeartRate; }
 
     // Setters
     public void setAge(int age) { this.age = age; }
@@ -32,4 +37,6 @@ public class UserProfile {
     public void setHeightCm(int heightCm) { this.heightCm = heightCm; }
     public void setWeightKg(float weightKg) { this.weightKg = weightKg; }
     public void setFitnessLevel(String fitnessLevel) { this.fitnessLevel = fitnessLevel; }
+    public void setMaxHeartRate(int maxHeartRate) { this.maxHeartRate = maxHeartRate; }
+    public void setRestingHeartRate(int restingHeartRate) { this.restingHeartRate = restingHeartRate; }
 }
@@ -0,0 +1,20 @@
+package com.fitsoul.core.workout
+
+import kotlinx.serialization.Serializable
+
+/** A saved workout as shown in the library and stored in the workout CRDT. */
+@Serializable
+data class AIWorkout(
+    val id: String,
+    val name: String,
+    val description: String,
+    val duration: Int, // minutes
+    val difficulty: String,
+    val exercises: List<String>,
+    val targetMuscleGroups: List<String>,
+    val caloriesEstimate: Int,
+    val isGenerating: Boolean = false,
+    val dateGenerated: Long = System.currentTimeMillis(),
+    val completionCount: Int = 0,
+    val lastCompleted: Long? = null
+)
@@ -0,0 +1,59 @@
+package com.fitsoul.core.workout
+
+import com.fitsoul.core.exercise.ComposedExercise
+
+/** "5 minutes", "45 seconds" or "12 min 30 sec" for a phase length. */
+internal fun formatDuration(seconds: Int): String {
+    val minutes = seconds / 60
+    val rest = seconds % 60
+    return when {
+        minutes == 0 -> "$rest seconds"
+        rest == 0 -> if (minutes == 1) "1 minute" else "$minutes minutes"
+        else -> "$minutes min $rest sec"
+    }
+}
+
+/** One bullet line, in the "Name: details" shape [WorkoutTextParser] reads back. */
+internal fun ComposedExercise.describe(): String =
+    "$name: $sets ${if (sets == 1) "set" else "sets"} of $reps, ${restSeconds}s rest"
+
+/** A timed warm-up or cool-down drill; [side] ("leg", "arm") splits [seconds] over both sides. */
+internal class Drill(val name: String, val seconds: Int, val side: String? = null) {
+    val step: Int get() = if (side == null) 5 else 10
+
+    fun describe(seconds: Int): String =
+        if (side == null) "$name: ${formatDuration(seconds)}" else "$name: ${formatDuration(seconds / 2)} each $side"
+}
+
+/**
+ * Bullet lines for [drills] filling exactly [phaseSeconds]. Drills are taken in order while their
+ * usual lengths fit, then stretched in 5-second steps so the phase adds up; drills that do not
+ * fit a short phase are left out.
+ */
+internal fun fitDrills(drills: List<Drill>, phaseSeconds: Int): List<String> {
+    if (phaseSeconds <= 0 || drills.isEmpty()) return emptyList()
+    var baseSeconds = drills[0].seconds
+    var count = 1
+    while (count < drills.size && baseSeconds + drills[count].seconds <= phaseSeconds) {
+        baseSeconds += drills[count].seconds
+        count++
+    }
+    val chosen = drills.subList(0, count)
+
+    // One drill takes whatever rounding leaves over; a one-sided one keeps per-side times whole
+    val absorber = chosen.indexOfLast { it.side == null }.let { if (it < 0) count - 1 else it }
+    val scale = phaseSeconds.toFloat() / baseSeconds
+    val seconds = IntArray(count) { i ->
+        val step = chosen[i].step
+        if (i == absorber) 0 else maxOf(step, (chosen[i].seconds * scale).toInt() / step * step)
+    }
+    seconds[absorber] = phaseSeconds - seconds.sum()
+    return chosen.mapIndexed { i, drill -> drill.describe(seconds[i]) }
+}
+
+/** Why the planned length differs from [requested], or null when it does not. */
+internal fun durationNote(requested: Int, planned: Int): String? = when {
+    requested > planned -> "Offline plans go up to $planned minutes, so this one is $planned rather than $requested."
+    requested < planned -> "Offline plans start at $planned minutes, so this one is $planned rather than $requested."
+    else -> null
+}
@@ -0,0 +1,89 @@
+package com.fitsoul.core.workout
+
+import com.fitsoul.core.exercise.TrainingGoal
+import com.fitsoul.core.exercise.WorkoutComposer
+
+/**
+ * Builds a complete warm-up / main / cool-down session from goals, level, time and equipment
+ * when the AI service cannot answer. The main block comes from [WorkoutComposer] and the drill
+ * lists are fitted to the warm-up and cool-down, so the three phases add up to exactly the
+ * requested time. Lengths the composer does not support are planned at the nearest one it
+ * does, and the plan says so.
+ */
+object FallbackWorkoutGenerator {
+
+    fun generate(
+        goals: List<String>, 
+        level: String, 
+        time: Int,
+        equipment: List<String>
+    ): String {
+        val equipmentAvailable = equipment.isNotEmpty()
+        val minutes = time.coerceIn(WorkoutComposer.MIN_MINUTES, WorkoutComposer.MAX_MINUTES)
+        val plan = WorkoutComposer.default.compose(TrainingGoal.from(goals.joinToString(" ")), level, minutes, equipment)
+        
+        return buildString {
+            appendLine("🏋️‍♀️ FitSoul Personalized Workout")
+            appendLine()
+            appendLine("🎯 YOUR PROFILE:")
+            appendLine("• Goals: ${goals.joinToString(", ")}")
+            appendLine("• Level: $level")
+            appendLine("• Duration: $minutes minutes")
+            durationNote(time, minutes)?.let { appendLine(it) }
+            appendLine("• Equipment: ${if (equipmentAvailable) equipment.joinToString(", ") else "Bodyweight only"}")
+            appendLine()
+            if (plan.warmupSeconds > 0) {
+                appendLine("🔥 WARM-UP (${formatDuration(plan.warmupSeconds)})")
+                fitDrills(WARMUP_DRILLS, plan.warmupSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            appendLine("💪 MAIN WORKOUT (${formatDuration(plan.mainSeconds)})")
+            appendLine("Complete all sets of each exercise before moving on:")
+            appendLine()
+            plan.exercises.forEach { appendLine("• ${it.describe()}") }
+            if (plan.finalRestSeconds > 0) appendLine("Then rest ${formatDuration(plan.finalRestSeconds)} before the cool-down.")
+            appendLine()
+            if (plan.cooldownSeconds > 0) {
+                appendLine("🧘‍♀️ COOL-DOWN (${formatDuration(plan.cooldownSeconds)})")
+                fitDrills(COOLDOWN_DRILLS, plan.cooldownSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            appendLine("💡 EXPERT TIPS:")
+            appendLine("• Focus on controlled movements and proper form")
+            appendLine("• Breathe consistently - exhale on exertion")
+            appendLine("• Stay hydrated throughout your workout")
+            appendLine("• ${getGoalSpecificTip(goals)}")
+            appendLine("• Track your reps and sets for progression")
+            appendLine()
+            append("🌟 You've got this! Every rep counts toward your goals!")
+        }
+    }
+    
+    private fun getGoalSpecificTip(goals: List<String>): String {
+        return when {
+            goals.any { it.contains("strength", ignoreCase = true) } -> 
+                "Focus on progressive overload - gradually increase weight or reps"
+            goals.any { it.contains("weight", ignoreCase = true) } -> 
+                "Maintain a slight calorie deficit and combine with cardio"
+            goals.any { it.contains("endurance", ignoreCase = true) } -> 
+                "Gradually increase workout duration and intensity"
+            goals.any { it.contains("muscle", ignoreCase = true) } -> 
+                "Eat adequate protein and allow proper rest between sessions"
+            else -> "Consistency is key - aim for 3-4 workouts per week"
+        }
+    }
+
+    private val WARMUP_DRILLS = listOf(
+        Drill("Arm circles", 30),
+        Drill("Leg swings", 60, side = "leg"),
+        Drill("Jumping jacks", 60),
+        Drill("Dynamic stretching", 120)
+    )
+
+    private val COOLDOWN_DRILLS = listOf(
+        Drill("Forward fold stretch", 30),
+        Drill("Quad stretch", 60, side = "leg"),
+        Drill("Shoulder stretch", 60, side = "arm"),
+        Drill("Deep breathing", 120)
+    )
+}
@@ -0,0 +1,43 @@
+package com.fitsoul.core.workout
+
+import com.fitsoul.core.exercise.ExerciseCatalog
+import com.fitsoul.core.exercise.ExerciseResolver
+
+/**
+ * Static coaching cues for an exercise, looked up in the [ExerciseCatalog] through
+ * [ExerciseResolver] with generic advice for names it does not cover. Used when the remote model is not configured or its form-tip
+ * request fails.
+ */
+object FormTips {
+
+    /** The catalog's own cues for [exercise], or null when it has none. */
+    fun curated(exercise: String): String? =
+        ExerciseCatalog.default.formTip(ExerciseResolver.default.resolve(exercise))
+
+    fun forExercise(exercise: String): String {
+        return curated(exercise) ?: """
+            🏋️ Perfect Form: $exercise
+            
+            ✅ FUNDAMENTAL PRINCIPLES:
+            • Maintain proper posture and alignment
+            • Control the movement in both directions
+            • Engage your core throughout
+            • Use full range of motion when possible
+            
+            🎯 BREATHING PATTERN:
+            • Exhale during the exertion phase
+            • Inhale during the lowering/easier phase
+            • Never hold your breath during exercise
+            
+            ⚠️ SAFETY REMINDERS:
+            • Quality always trumps quantity
+            • Stop if you feel sharp pain
+            • Warm up before and stretch after
+            
+            💡 PROGRESSION TIPS:
+            • Master bodyweight before adding resistance
+            • Gradually increase difficulty over time
+            • Focus on consistency rather than perfection
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,1072 @@
+package com.fitsoul.core.workout
+
+import com.fitsoul.core.exercise.TrainingGoal
+import com.fitsoul.core.exercise.WorkoutComposer
+
+/**
+ * Template-based workout generator used while the remote model is disabled or unreachable.
+ * Picks a prebuilt session when the prompt names one (push day, yoga, HIIT...), otherwise
+ * builds one from the goals, level, time and equipment with [WorkoutComposer]. No I/O.
+ */
+object OfflineWorkoutGenerator {
+
+    fun generate(
+        prompt: String,
+        goals: String,
+        fitnessLevel: String,
+        availableTime: Int,
+        equipment: String
+    ): String {
+        // Check for specific prebuilt workout requests first
+        val lowerPrompt = prompt.lowercase()
+        when {
+            lowerPrompt.contains("push day") || lowerPrompt.contains("push workout") -> {
+                return getPrebuiltWorkout("push", fitnessLevel)
+            }
+            lowerPrompt.contains("pull day") || lowerPrompt.contains("pull workout") -> {
+                return getPrebuiltWorkout("pull", fitnessLevel)
+            }
+            lowerPrompt.contains("leg day") || lowerPrompt.contains("leg workout") -> {
+                return getPrebuiltWorkout("legs", fitnessLevel)
+            }
+            lowerPrompt.contains("core") || lowerPrompt.contains("abs") -> {
+                return getPrebuiltWorkout("core", fitnessLevel)
+            }
+            lowerPrompt.contains("hiit") || lowerPrompt.contains("high intensity") -> {
+                return getPrebuiltWorkout("hiit", fitnessLevel)
+            }
+            lowerPrompt.contains("yoga") || lowerPrompt.contains("mindful") -> {
+                return getPrebuiltWorkout("yoga", fitnessLevel)
+            }
+            lowerPrompt.contains("pilates") -> {
+                return getPrebuiltWorkout("pilates", fitnessLevel)
+            }
+            lowerPrompt.contains("upper body") || lowerPrompt.contains("upper") -> {
+                return getPrebuiltWorkout("upper", fitnessLevel)
+            }
+            lowerPrompt.contains("lower body") || lowerPrompt.contains("lower") -> {
+                return getPrebuiltWorkout("lower", fitnessLevel)
+            }
+            lowerPrompt.contains("functional") -> {
+                return getPrebuiltWorkout("functional", fitnessLevel)
+            }
+        }
+        
+        // Flexibility keeps its stretch sequence; every other goal is composed from the catalog
+        val goal = TrainingGoal.from(goals)
+        if (goal == TrainingGoal.GENERAL &&
+            (goals.contains("flexibility", ignoreCase = true) || goals.contains("stretch", ignoreCase = true))
+        ) {
+            return generateFlexibilityWorkout(availableTime)
+        }
+        val style = when (goal) {
+            TrainingGoal.STRENGTH -> SessionStyle.STRENGTH
+            TrainingGoal.CARDIO -> SessionStyle.CARDIO
+            TrainingGoal.FAT_LOSS -> SessionStyle.FAT_BURNING
+            TrainingGoal.GENERAL -> if (availableTime <= 20) SessionStyle.QUICK else SessionStyle.BALANCED
+        }
+        return generateComposedWorkout(style, goal, fitnessLevel, availableTime, equipment)
+    }
+    
+    private fun generateComposedWorkout(
+        style: SessionStyle,
+        goal: TrainingGoal,
+        level: String,
+        time: Int,
+        equipment: String
+    ): String {
+        val minutes = time.coerceIn(WorkoutComposer.MIN_MINUTES, WorkoutComposer.MAX_MINUTES)
+        val plan = WorkoutComposer.default.compose(goal, level, minutes, equipment.split(',').map { it.trim() })
+        return buildString {
+            appendLine("${style.title} ($minutes minutes)")
+            durationNote(time, minutes)?.let { appendLine(it) }
+            appendLine()
+            if (plan.warmupSeconds > 0) {
+                appendLine("${style.warmupHeader} (${formatDuration(plan.warmupSeconds)})")
+                fitDrills(style.warmup, plan.warmupSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            appendLine("${style.mainHeader} (${formatDuration(plan.mainSeconds)})")
+            appendLine()
+            appendLine("**Straight sets** (finish every set of an exercise before the next):")
+            plan.exercises.forEach { appendLine("• ${it.describe()}") }
+            if (plan.finalRestSeconds > 0) appendLine("Then rest ${formatDuration(plan.finalRestSeconds)} before the cool-down.")
+            appendLine()
+            if (plan.cooldownSeconds > 0) {
+                appendLine("${style.cooldownHeader} (${formatDuration(plan.cooldownSeconds)})")
+                fitDrills(style.cooldown, plan.cooldownSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            appendLine(style.tipsHeader)
+            style.tips.forEach { appendLine("• $it") }
+            appendLine()
+            appendLine("**Equipment**: $equipment")
+            appendLine("**Level**: $level")
+            append(style.footer)
+        }
+    }
+    
+    private fun generateFlexibilityWorkout(time: Int): String {
+        val minutes = time.coerceIn(WorkoutComposer.MIN_MINUTES, WorkoutComposer.MAX_MINUTES)
+        val edgeSeconds = WorkoutComposer.warmupMinutes(minutes) * 60
+        
+        return buildString {
+            appendLine("🧘 **FLEXIBILITY & MOBILITY FLOW** ($minutes minutes)")
+            durationNote(time, minutes)?.let { appendLine(it) }
+            appendLine()
+            if (edgeSeconds > 0) {
+                appendLine("🌅 **GENTLE WARM-UP** (${formatDuration(edgeSeconds)})")
+                fitDrills(FLEXIBILITY_WARMUP, edgeSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            append(
+                """
+                🧘‍♀️ **FLEXIBILITY SEQUENCE** (${formatDuration(minutes * 60 - 2 * edgeSeconds)})
+                
+                **Upper Body Flow** (Hold each 45-60 seconds):
+                • Chest doorway stretch
+                • Tricep overhead stretch (each arm)
+                • Cross-body shoulder stretch (each arm)
+                • Neck side stretch (each side)
+                • Upper trap stretch (each side)
+                
+                **Core & Spine Mobility**:
+                • Seated spinal twist: 60 seconds each side
+                • Cat-cow pose: 10 slow repetitions
+                • Child's pose: 90 seconds
+                • Cobra stretch: 45 seconds
+                • Knee-to-chest: 45 seconds each leg
+                
+                **Lower Body Deep Stretch**:
+                • Forward fold: 90 seconds
+                • Seated figure-4 stretch: 60 seconds each leg
+                • Pigeon pose (modified): 90 seconds each side
+                • Happy baby pose: 60 seconds
+                • Butterfly stretch: 90 seconds
+                
+                **Hip & Leg Focus**:
+                • Hip flexor stretch: 60 seconds each leg
+                • Hamstring stretch: 60 seconds each leg
+                • Calf stretch: 45 seconds each leg
+                • IT band stretch: 45 seconds each leg
+                """.trimIndent()
+            )
+            appendLine()
+            appendLine()
+            if (edgeSeconds > 0) {
+                appendLine("🌙 **RELAXATION** (${formatDuration(edgeSeconds)})")
+                fitDrills(FLEXIBILITY_RELAXATION, edgeSeconds).forEach { appendLine("• $it") }
+                appendLine()
+            }
+            append(
+                """
+                💡 **FLEXIBILITY TIPS**:
+                • Never stretch to pain - mild tension only
+                • Breathe deeply into each stretch
+                • Hold consistent pressure, don't bounce
+                • Practice daily for best results
+                • Listen to your body's limits
+                
+                **Benefits**: Improved range of motion, reduced stiffness, better sleep 🌟
+                """.trimIndent()
+            )
+        }
+    }
+    
+    private val FLEXIBILITY_WARMUP = listOf(
+        Drill("Neck rolls", 40, side = "direction"),
+        Drill("Shoulder shrugs", 30),
+        Drill("Arm circles", 40, side = "direction"),
+        Drill("Gentle torso twists", 40, side = "side"),
+        Drill("Cat-cow stretches", 60)
+    )
+    
+    private val FLEXIBILITY_RELAXATION = listOf(
+        Drill("Legs up the wall pose", 120),
+        Drill("Deep breathing with body scan", 180)
+    )
+    
+    // Headings, drills and tips around the composed main block, per kind of session
+    private enum class SessionStyle(
+        val title: String,
+        val warmupHeader: String,
+        val warmup: List<Drill>,
+        val mainHeader: String,
+        val cooldownHeader: String,
+        val cooldown: List<Drill>,
+        val tipsHeader: String,
+        val tips: List<String>,
+        val footer: String
+    ) {
+        STRENGTH(
+            title = "💪 **STRENGTH BUILDER WORKOUT**",
+            warmupHeader = "🔥 **WARM-UP**",
+            warmup = listOf(
+                Drill("Arm circles", 60, side = "direction"),
+                Drill("Bodyweight squats", 45),
+                Drill("Push-up position hold", 30),
+                Drill("Torso twists", 40, side = "side"),
+                Drill("Light jumping jacks", 45)
+            ),
+            mainHeader = "💪 **STRENGTH TRAINING**",
+            cooldownHeader = "🧘‍♀️ **COOL-DOWN**",
+            cooldown = listOf(
+                Drill("Chest doorway stretch", 30),
+                Drill("Quad stretch", 60, side = "leg"),
+                Drill("Hamstring stretch", 60, side = "leg"),
+                Drill("Shoulder rolls", 20, side = "direction"),
+                Drill("Deep breathing", 60)
+            ),
+            tipsHeader = "💡 **STRENGTH TIPS**:",
+            tips = listOf(
+                "Focus on controlled movements",
+                "Progressive overload: add reps weekly",
+                "Rest 48 hours before training same muscles",
+                "Proper form beats speed every time"
+            ),
+            footer = "**Focus**: Building functional strength 💪"
+        ),
+        CARDIO(
+            title = "🏃 **CARDIO BLAST WORKOUT**",
+            warmupHeader = "🔥 **DYNAMIC WARM-UP**",
+            warmup = listOf(
+                Drill("March in place", 45),
+                Drill("Arm swings", 30),
+                Drill("Leg swings", 40, side = "leg"),
+                Drill("Light bouncing", 30),
+                Drill("Gentle jumping jacks", 45)
+            ),
+            mainHeader = "🏃 **CARDIO INTERVALS**",
+            cooldownHeader = "🧘‍♀️ **COOL-DOWN**",
+            cooldown = listOf(
+                Drill("Slow walking", 120),
+                Drill("Calf stretch", 60, side = "leg"),
+                Drill("Hip flexor stretch", 60, side = "leg"),
+                Drill("Deep breathing exercises", 60)
+            ),
+            tipsHeader = "💡 **CARDIO TIPS**:",
+            tips = listOf(
+                "Monitor your heart rate",
+                "Stay hydrated throughout",
+                "Land softly during jumps",
+                "Modify intensity as needed"
+            ),
+            footer = "**Target**: Cardiovascular endurance 🫀"
+        ),
+        FAT_BURNING(
+            title = "🔥 **FAT BURNING METABOLIC WORKOUT**",
+            warmupHeader = "⚡ **METABOLIC ACTIVATION**",
+            warmup = listOf(
+                Drill("Light jogging in place", 60),
+                Drill("Dynamic arm swings", 30),
+                Drill("Bodyweight squats", 45),
+                Drill("Standing knee-to-elbow crunches", 40),
+                Drill("Jumping jacks", 45)
+            ),
+            mainHeader = "🔥 **FAT BURNING CIRCUITS**",
+            cooldownHeader = "🧘‍♀️ **RECOVERY STRETCH**",
+            cooldown = listOf(
+                Drill("Child's pose", 60),
+                Drill("Spinal twists", 60, side = "side"),
+                Drill("Hip flexor stretch", 90, side = "leg"),
+                Drill("Deep breathing", 90)
+            ),
+            tipsHeader = "💡 **FAT BURNING TIPS**:",
+            tips = listOf(
+                "Keep intensity high during work periods",
+                "Minimal rest between exercises",
+                "Stay hydrated - drink water throughout",
+                "This creates \"afterburn\" effect for hours!"
+            ),
+            footer = "**Goal**: Maximum calorie burn 🔥"
+        ),
+        QUICK(
+            title = "⚡ **QUICK FULL-BODY BLAST**",
+            warmupHeader = "🔥 **RAPID WARM-UP**",
+            warmup = listOf(
+                Drill("Jumping jacks", 30),
+                Drill("Arm circles", 40, side = "direction"),
+                Drill("Bodyweight squats", 45),
+                Drill("Push-up position hold", 30)
+            ),
+            mainHeader = "💪 **FULL-BODY CIRCUIT**",
+            cooldownHeader = "🧘‍♀️ **QUICK RECOVERY**",
+            cooldown = listOf(
+                Drill("Standing forward fold", 45),
+                Drill("Chest stretch", 30),
+                Drill("Hip flexor stretch", 60, side = "leg"),
+                Drill("Deep breathing", 45)
+            ),
+            tipsHeader = "💡 **QUICK WORKOUT TIPS**:",
+            tips = listOf(
+                "Maximize intensity in short bursts",
+                "Keep rests to the times listed",
+                "Perfect for busy schedules",
+                "Consistency beats perfection!"
+            ),
+            footer = "**Perfect for**: Busy days, travel, quick energy boost ⚡"
+        ),
+        BALANCED(
+            title = "🎯 **BALANCED FULL-BODY TRANSFORMATION**",
+            warmupHeader = "🔥 **COMPLETE WARM-UP**",
+            warmup = listOf(
+                Drill("Light jogging in place", 90),
+                Drill("Dynamic arm swings", 45),
+                Drill("Leg swings", 40, side = "leg"),
+                Drill("Torso rotations", 40, side = "direction"),
+                Drill("Jumping jacks", 60),
+                Drill("Joint mobility", 60)
+            ),
+            mainHeader = "💪 **FULL-BODY TRAINING**",
+            cooldownHeader = "🧘‍♀️ **COMPLETE RECOVERY**",
+            cooldown = listOf(
+                Drill("Walking recovery", 90),
+                Drill("Quad stretch", 90, side = "leg"),
+                Drill("Hamstring stretch", 90, side = "leg"),
+                Drill("Chest doorway stretch", 45),
+                Drill("Spinal twist", 60, side = "side"),
+                Drill("Deep breathing meditation", 90)
+            ),
+            tipsHeader = "💡 **TRANSFORMATION TIPS**:",
+            tips = listOf(
+                "Progressive overload weekly",
+                "Perfect form creates lasting results",
+                "Consistency over perfection",
+                "Track your improvements",
+                "Fuel your body properly"
+            ),
+            footer = "**Goal**: Complete fitness transformation 🎯"
+        )
+    }
+    
+    // 💪 PREBUILT WORKOUT COLLECTION - Expert-designed templates
+    private fun getPrebuiltWorkout(workoutType: String, level: String = "intermediate"): String {
+        return when (workoutType.lowercase()) {
+            "push" -> getPrebuiltPushWorkout(level)
+            "pull" -> getPrebuiltPullWorkout(level)
+            "legs" -> getPrebuiltLegWorkout(level)
+            "abs", "core" -> getPrebuiltCoreWorkout(level)
+            "hiit" -> getPrebuiltHIITWorkout(level)
+            "yoga" -> getPrebuiltYogaFlow(level)
+            "pilates" -> getPrebuiltPilatesWorkout(level)
+            "upper" -> getPrebuiltUpperBodyWorkout(level)
+            "lower" -> getPrebuiltLowerBodyWorkout(level)
+            "functional" -> getPrebuiltFunctionalWorkout(level)
+            else -> getPrebuiltFullBodyWorkout(level)
+        }
+    }
+    
+    private fun getPrebuiltPushWorkout(level: String): String {
+        return """
+            💪 **PUSH DAY POWERHOUSE** (35 minutes)
+            
+            🔥 **ACTIVATION WARM-UP** (5 minutes)
+            • Arm circles: 30 seconds each direction
+            • Shoulder dislocations (with towel): 15 reps
+            • Push-up position holds: 30 seconds
+            • Scapular wall slides: 15 reps
+            • Light push-ups: 10 reps
+            
+            💪 **PUSH STRENGTH CIRCUIT** (25 minutes)
+            
+            **Round 1: Chest Focus** (4 sets, 90s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Wall push-ups: 10-12 reps
+                • Incline push-ups (stairs/chair): 8-10 reps
+                • Knee push-ups: 6-8 reps
+                • Push-up hold: 15-20 seconds
+                """
+                "intermediate" -> """
+                • Standard push-ups: 12-15 reps
+                • Diamond push-ups: 8-10 reps
+                • Archer push-ups: 5 each side
+                • Push-up to T: 6 each side
+                """
+                else -> """
+                • One-arm push-ups progression: 3-5 each side
+                • Handstand push-ups: 5-8 reps
+                • Explosive push-ups: 8-10 reps
+                • Hindu push-ups: 10-12 reps
+                """
+            }}
+            
+            **Round 2: Shoulder Power** (3 sets, 60s rest):
+            • Pike push-ups: ${if(level == "beginner") "6-8" else if(level == "intermediate") "8-12" else "12-15"} reps
+            • Lateral raises (water bottles): ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-20" else "20-25"} reps
+            • Front raises: ${if(level == "beginner") "10-12" else if(level == "intermediate") "12-15" else "15-18"} reps
+            • Overhead press (bottles): ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-12" else "12-15"} reps
+            
+            **Round 3: Tricep Finisher** (3 sets, 45s rest):
+            • Tricep dips (chair): ${if(level == "beginner") "8-12" else if(level == "intermediate") "12-15" else "15-20"} reps
+            • Close-grip push-ups: ${if(level == "beginner") "5-8" else if(level == "intermediate") "8-12" else "12-15"} reps
+            • Tricep extensions (bottle): ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-22"} reps
+            
+            🧘‍♀️ **RECOVERY STRETCH** (5 minutes)
+            • Chest doorway stretch: 45 seconds
+            • Cross-body shoulder stretch: 30 seconds each
+            • Tricep overhead stretch: 30 seconds each
+            • Cobra stretch: 45 seconds
+            • Child's pose: 60 seconds
+            
+            💡 **PUSH DAY TIPS**:
+            • Focus on controlled eccentric (lowering) phase
+            • Keep core tight throughout all movements
+            • Progressive overload: add reps or difficulty weekly
+            • Perfect form beats high reps every time
+            
+            **Target**: Chest, shoulders, triceps development 💪
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltPullWorkout(level: String): String {
+        return """
+            🎯 **PULL DAY DOMINATION** (35 minutes)
+            
+            🔥 **DYNAMIC WARM-UP** (5 minutes)
+            • Band pull-aparts (or arm swings): 20 reps
+            • Shoulder blade squeezes: 15 reps
+            • Cat-cow stretches: 10 reps
+            • Dead hangs (if possible): 20-30 seconds
+            • Reverse fly motions: 15 reps
+            
+            🎯 **PULL STRENGTH SEQUENCE** (25 minutes)
+            
+            **Phase 1: Back Foundation** (4 sets, 90s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Inverted rows (table/bar): 6-10 reps
+                • Reverse snow angels: 12-15 reps
+                • Superman holds: 20-30 seconds
+                • Wall slides: 12-15 reps
+                """
+                "intermediate" -> """
+                • Pull-ups/chin-ups: 5-8 reps (assisted if needed)
+                • Single-arm rows (bottle): 10-12 each
+                • Reverse flies: 12-15 reps
+                • Superman + Y raises: 10-12 reps
+                """
+                else -> """
+                • Wide-grip pull-ups: 8-12 reps
+                • Archer pull-ups: 4-6 each side
+                • Single-arm rows (heavy): 12-15 each
+                • L-sits/tuck holds: 20-30 seconds
+                """
+            }}
+            
+            **Phase 2: Posterior Chain** (3 sets, 60s rest):
+            • Face pulls (band/towel): ${if(level == "beginner") "15-20" else if(level == "intermediate") "20-25" else "25-30"} reps
+            • Rear delt flies: ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-22"} reps
+            • Prone Y-T-W: ${if(level == "beginner") "8 each" else if(level == "intermediate") "10 each" else "12 each"} reps
+            • Reverse planks: ${if(level == "beginner") "20-30s" else if(level == "intermediate") "30-45s" else "45-60s"}
+            
+            **Phase 3: Bicep Focus** (3 sets, 45s rest):
+            • Bicep curls (bottles): ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-22"} reps
+            • Hammer curls: ${if(level == "beginner") "10-12" else if(level == "intermediate") "12-15" else "15-18"} reps
+            • Isometric holds: ${if(level == "beginner") "15-20s" else if(level == "intermediate") "20-30s" else "30-40s"}
+            
+            🧘‍♀️ **MOBILITY COOLDOWN** (5 minutes)
+            • Lat stretches: 45 seconds each side
+            • Upper trap stretch: 30 seconds each side
+            • Thoracic spine twists: 10 each side
+            • Doorway chest stretch: 60 seconds
+            • Seated forward fold: 60 seconds
+            
+            💡 **PULL DAY MASTERY**:
+            • Squeeze shoulder blades at top of each rep
+            • Control the negative portion of movements
+            • Focus on lat engagement, not just arm pulling
+            • Build to full pull-ups progressively
+            
+            **Target**: Back, lats, rear delts, biceps 🎯
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltLegWorkout(level: String): String {
+        return """
+            🦵 **LEG DAY ANNIHILATION** (40 minutes)
+            
+            🔥 **LOWER BODY ACTIVATION** (6 minutes)
+            • Leg swings: 15 each direction
+            • Hip circles: 10 each direction  
+            • Bodyweight squats: 15 reps
+            • Reverse lunges: 10 each leg
+            • Calf raises: 20 reps
+            • Glute bridges: 15 reps
+            
+            🦵 **QUAD DOMINANT PHASE** (12 minutes)
+            
+            **Squat Complex** (4 sets, 2 min rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Assisted squats (chair support): 12-15 reps
+                • Wall sits: 30-45 seconds
+                • Step-ups (low step): 10 each leg
+                • Squat pulses: 15-20 reps
+                """
+                "intermediate" -> """
+                • Bodyweight squats: 15-20 reps
+                • Jump squats: 12-15 reps
+                • Bulgarian split squats: 10 each leg
+                • Single-leg box step-ups: 12 each leg
+                """
+                else -> """
+                • Pistol squat progression: 5-8 each leg
+                • Jump squats with 180° turn: 10-12 reps
+                • Shrimp squats: 3-5 each leg
+                • Single-leg squats: 8-10 each leg
+                """
+            }}
+            
+            🍑 **GLUTE & HAMSTRING PHASE** (12 minutes)
+            
+            **Hip Hinge Complex** (4 sets, 90s rest):
+            • Single-leg deadlifts: ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-12" else "12-15"} each leg
+            • Glute bridges: ${if(level == "beginner") "15-20" else if(level == "intermediate") "20-25" else "25-30"} reps
+            • Reverse lunges: ${if(level == "beginner") "10-12" else if(level == "intermediate") "12-15" else "15-18"} each leg
+            • Lateral lunges: ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-12" else "12-15"} each leg
+            
+            ⚡ **EXPLOSIVE FINISHER** (5 minutes)
+            **Plyometric Blast** (3 rounds, 60s rest):
+            • Jump lunges: ${if(level == "beginner") "16 total" else if(level == "intermediate") "20 total" else "24 total"} reps
+            • Broad jumps: ${if(level == "beginner") "5-8" else if(level == "intermediate") "8-10" else "10-12"} reps
+            • Lateral bounds: ${if(level == "beginner") "10 total" else if(level == "intermediate") "12 total" else "16 total"} reps
+            
+            🧘‍♀️ **LOWER BODY RECOVERY** (5 minutes)
+            • Quad stretch: 45 seconds each leg
+            • Hamstring stretch: 45 seconds each leg
+            • Hip flexor stretch: 45 seconds each leg
+            • Figure-4 stretch: 45 seconds each leg
+            • Pigeon pose: 60 seconds each side
+            
+            💡 **LEG DAY EXCELLENCE**:
+            • Full range of motion on all movements
+            • Control the eccentric (lowering) phase
+            • Drive through heels on squats/deadlifts
+            • Keep knees tracking over toes
+            • Progressive overload weekly
+            
+            **Target**: Quadriceps, glutes, hamstrings, calves 🦵
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltCoreWorkout(level: String): String {
+        return """
+            🔥 **CORE CRUSHER CIRCUIT** (30 minutes)
+            
+            🌅 **CORE ACTIVATION** (4 minutes)
+            • Dead bugs: 10 each side
+            • Bird dogs: 10 each side
+            • Cat-cow stretches: 10 reps
+            • Pelvic tilts: 15 reps
+            • Knee-to-chest: 10 each leg
+            
+            🎯 **ANTERIOR CORE PHASE** (8 minutes)
+            **Plank Progression** (4 sets, 45s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Modified plank (knees): 20-30 seconds
+                • Wall plank: 30-45 seconds
+                • Dead bug holds: 15 seconds each side
+                • Glute bridge hold: 30 seconds
+                """
+                "intermediate" -> """
+                • Standard plank: 45-60 seconds
+                • Plank up-downs: 10-12 reps
+                • Single-arm plank: 20 seconds each
+                • Plank jacks: 15-20 reps
+                """
+                else -> """
+                • Plank to push-up: 12-15 reps
+                • Single-arm single-leg plank: 15s each
+                • Plank with leg lifts: 20 total
+                • RKC plank: 30-45 seconds
+                """
+            }}
+            
+            🌪️ **ROTATIONAL POWER** (8 minutes)
+            **Anti-Rotation Circuit** (3 sets, 60s rest):
+            • Russian twists: ${if(level == "beginner") "20-30" else if(level == "intermediate") "30-40" else "40-50"} total
+            • Bicycle crunches: ${if(level == "beginner") "20-30" else if(level == "intermediate") "30-40" else "40-50"} total
+            • Side planks: ${if(level == "beginner") "15-20s" else if(level == "intermediate") "20-30s" else "30-45s"} each
+            • Wood chops (bottle): ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-22"} each side
+            
+            ⚡ **DYNAMIC CORE BLAST** (6 minutes)
+            **High-Intensity Circuit** (3 rounds, 30s rest):
+            • Mountain climbers: ${if(level == "beginner") "30 seconds" else if(level == "intermediate") "40 seconds" else "50 seconds"}
+            • Leg raises: ${if(level == "beginner") "8-12" else if(level == "intermediate") "12-15" else "15-20"} reps
+            • Flutter kicks: ${if(level == "beginner") "20 total" else if(level == "intermediate") "30 total" else "40 total"}
+            • V-ups: ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-15" else "15-20"} reps
+            
+            🧘‍♀️ **CORE RELEASE** (4 minutes)
+            • Child's pose: 60 seconds
+            • Cobra stretch: 45 seconds
+            • Knee rocks: 30 seconds
+            • Spinal twists: 30 seconds each side
+            • Happy baby pose: 45 seconds
+            
+            💡 **CORE MASTERY TIPS**:
+            • Breathe consistently - don't hold breath
+            • Quality over quantity - perfect form first
+            • Engage deep core muscles, not just abs
+            • Progress holds before adding reps
+            • Core strength supports all other movements
+            
+            **Target**: Rectus abdominis, obliques, transverse abdominis, deep core 🔥
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltHIITWorkout(level: String): String {
+        return """
+            ⚡ **HIGH-INTENSITY INTERVAL TRAINING** (25 minutes)
+            
+            🔥 **HIIT PREP** (4 minutes)
+            • Marching in place: 60 seconds
+            • Arm circles: 30 seconds each direction
+            • Leg swings: 15 each leg
+            • Light jumping jacks: 60 seconds
+            • Bodyweight squats: 15 reps
+            
+            ⚡ **HIIT PHASE 1: POWER** (8 minutes)
+            **Tabata Protocol** (4 rounds, 20s work / 10s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                Round 1: Modified jumping jacks
+                Round 2: Step-ups (low step)
+                Round 3: Modified burpees (no jump)
+                Round 4: High knees (moderate pace)
+                Rest 2 minutes between phases
+                """
+                "intermediate" -> """
+                Round 1: Jumping jacks
+                Round 2: Burpees
+                Round 3: Jump squats
+                Round 4: Mountain climbers
+                Rest 90 seconds between phases
+                """
+                else -> """
+                Round 1: Burpee box jumps
+                Round 2: Jump squat to tuck jump
+                Round 3: Burpee broad jumps
+                Round 4: Sprint in place
+                Rest 60 seconds between phases
+                """
+            }}
+            
+            🏃 **HIIT PHASE 2: ENDURANCE** (8 minutes)
+            **EMOM (Every Minute On Minute)** for 8 minutes:
+            • Minute 1: ${if(level == "beginner") "10 squats + 5 push-ups" else if(level == "intermediate") "15 squats + 8 push-ups" else "20 squats + 12 push-ups"}
+            • Minute 2: ${if(level == "beginner") "20 high knees + 10 lunges" else if(level == "intermediate") "30 high knees + 12 lunges" else "40 high knees + 16 lunges"}
+            • Minute 3: ${if(level == "beginner") "15 jumping jacks + plank 15s" else if(level == "intermediate") "25 jumping jacks + plank 30s" else "35 jumping jacks + plank 45s"}
+            • Minute 4: ${if(level == "beginner") "8 burpees (modified)" else if(level == "intermediate") "12 burpees" else "15 burpees"}
+            
+            **Repeat this 4-minute cycle twice**
+            
+            🧘‍♀️ **ACTIVE RECOVERY** (5 minutes)
+            • Walking in place: 90 seconds
+            • Gentle arm swings: 45 seconds
+            • Hip circles: 30 seconds each direction
+            • Calf stretch: 30 seconds each leg
+            • Deep breathing: 90 seconds
+            
+            💡 **HIIT OPTIMIZATION**:
+            • Push maximum effort during work periods
+            • Use rest periods for complete recovery
+            • Modify exercises to maintain intensity
+            • Stay hydrated throughout
+            • Track improvements weekly
+            
+            **Benefits**: Maximum calorie burn, improved VO2 max, time-efficient ⚡
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltYogaFlow(level: String): String {
+        return """
+            🧘‍♀️ **MINDFUL YOGA FLOW** (35 minutes)
+            
+            🌅 **CENTERING & BREATH** (5 minutes)
+            • Comfortable seated position: 2 minutes
+            • Deep belly breathing: 2 minutes
+            • Gentle neck rolls: 5 each direction
+            • Shoulder shrugs: 10 reps
+            
+            🌊 **WARM-UP FLOW** (8 minutes)
+            **Sun Salutation Prep**:
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Mountain Pose: 1 minute
+                • Forward fold (bent knees): 1 minute
+                • Half lift: 30 seconds
+                • Low lunge (each leg): 1 minute each
+                • Downward dog (knees down): 1 minute
+                • Child's pose: 2 minutes
+                """
+                "intermediate" -> """
+                • Mountain Pose to Forward Fold: 2 minutes
+                • Low lunge to High lunge: 1 minute each leg
+                • Warrior I flow: 1 minute each side  
+                • Downward dog: 2 minutes
+                • Child's pose: 1 minute
+                """
+                else -> """
+                • Full Sun Salutation A: 3 rounds
+                • Sun Salutation B with Warriors: 2 rounds
+                • Advanced arm balances prep: 2 minutes
+                """
+            }}
+            
+            🔥 **STRENGTH & FLOW** (15 minutes)
+            **Standing Sequence**:
+            • Warrior II: ${if(level == "beginner") "1 min" else if(level == "intermediate") "90s" else "2 min"} each side
+            • Extended side angle: ${if(level == "beginner") "45s" else if(level == "intermediate") "60s" else "90s"} each
+            • Triangle pose: ${if(level == "beginner") "45s" else if(level == "intermediate") "60s" else "90s"} each
+            • Revolved triangle: ${if(level == "beginner") "30s" else if(level == "intermediate") "45s" else "60s"} each
+            
+            **Floor Sequence**:
+            • Cat-cow flows: ${if(level == "beginner") "10" else if(level == "intermediate") "15" else "20"} reps
+            • Low lunge twists: ${if(level == "beginner") "30s" else if(level == "intermediate") "45s" else "60s"} each
+            • Pigeon prep: ${if(level == "beginner") "1 min" else if(level == "intermediate") "90s" else "2 min"} each side
+            • Bridge pose: ${if(level == "beginner") "45s" else if(level == "intermediate") "60s" else "90s"}
+            
+            🧘‍♀️ **DEEP STRETCH & RESTORE** (7 minutes)
+            • Seated forward fold: 2 minutes
+            • Seated spinal twist: 1 minute each side
+            • Legs up the wall: 2 minutes
+            • Happy baby: 1 minute
+            • Final savasana: As long as desired
+            
+            💡 **YOGA WISDOM**:
+            • Listen to your body's limits
+            • Breath guides the movement
+            • Modifications are always available
+            • Focus inward, not on others
+            • Progress is measured in peace, not poses
+            
+            **Benefits**: Flexibility, balance, mindfulness, stress relief 🧘‍♀️
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltPilatesWorkout(level: String): String {
+        return """
+            🎯 **PILATES PRECISION** (30 minutes)
+            
+            🌅 **PILATES WARM-UP** (5 minutes)
+            • Hundred prep breathing: 2 minutes
+            • Pelvic tilts: 15 reps
+            • Spine articulation: 10 roll downs
+            • Shoulder blade isolation: 15 reps
+            • Hip circles: 10 each direction
+            
+            💪 **CORE FOUNDATION** (10 minutes)
+            **Classical Series**:
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Modified Hundred: 50 pumps
+                • Single leg stretches: 10 each leg
+                • Double leg stretch prep: 10 reps
+                • Spine stretch forward: 10 reps
+                • Rolling like a ball prep: 10 reps
+                """
+                "intermediate" -> """
+                • The Hundred: 100 pumps
+                • Single leg stretches: 10 each leg
+                • Double leg stretches: 10 reps
+                • Single straight leg: 10 each leg
+                • Criss-cross: 10 each side
+                """
+                else -> """
+                • The Hundred: 100 pumps
+                • Roll up: 10 reps
+                • Single leg circles: 5 each direction/leg
+                • Rolling like a ball: 10 reps
+                • Series of 5: Complete sequence
+                """
+            }}
+            
+            🏃 **STRENGTH & STABILITY** (10 minutes)
+            **Full Body Integration**:
+            • Plank series: ${if(level == "beginner") "3 x 20s" else if(level == "intermediate") "3 x 45s" else "3 x 60s"}
+            • Side planks: ${if(level == "beginner") "20s each" else if(level == "intermediate") "30s each" else "45s each"}
+            • Swimming: ${if(level == "beginner") "10 reps" else if(level == "intermediate") "15 reps" else "20 reps"}
+            • Leg pull front: ${if(level == "beginner") "5 reps" else if(level == "intermediate") "8 reps" else "10 reps"}
+            • Teaser prep: ${if(level == "beginner") "8 reps" else if(level == "intermediate") "10 reps" else "12 reps"}
+            
+            🧘‍♀️ **STRETCH & RELEASE** (5 minutes)
+            • Spine twist: 5 each side
+            • Saw: 5 each side
+            • Hip flexor stretch: 45 seconds each
+            • Chest expansion: 1 minute
+            • Child's pose: 2 minutes
+            
+            💡 **PILATES PRINCIPLES**:
+            • Quality over quantity always
+            • Engage deep core throughout
+            • Precise, controlled movements
+            • Mind-body connection essential
+            • Breath coordinates with movement
+            
+            **Target**: Deep core, posture, body awareness 🎯
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltUpperBodyWorkout(level: String): String {
+        return """
+            💪 **UPPER BODY SCULPT** (35 minutes)
+            
+            🔥 **UPPER BODY PREP** (5 minutes)
+            • Arm circles: 20 each direction
+            • Shoulder shrugs: 15 reps
+            • Cross-body stretches: 30s each arm
+            • Wall push-ups: 10 reps
+            • Band pull-aparts: 20 reps (or arm swings)
+            
+            💪 **PUSH COMPLEX** (10 minutes)
+            **Circuit A** (3 rounds, 90s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Wall push-ups: 12-15 reps
+                • Incline push-ups: 8-10 reps
+                • Tricep dips (chair): 8-10 reps
+                • Overhead press (bottles): 10-12 reps
+                """
+                "intermediate" -> """
+                • Standard push-ups: 12-15 reps
+                • Diamond push-ups: 8-10 reps
+                • Pike push-ups: 8-10 reps
+                • Tricep dips: 12-15 reps
+                """
+                else -> """
+                • One-arm push-up progression: 5 each
+                • Handstand push-ups: 5-8 reps
+                • Archer push-ups: 6 each side
+                • Hindu push-ups: 10 reps
+                """
+            }}
+            
+            🎯 **PULL COMPLEX** (10 minutes)
+            **Circuit B** (3 rounds, 90s rest):
+            • Inverted rows: ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-12" else "12-15"} reps
+            • Reverse flies: ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-20"} reps
+            • Bicep curls (bottles): ${if(level == "beginner") "12-15" else if(level == "intermediate") "15-18" else "18-22"} reps
+            • Face pulls: ${if(level == "beginner") "15-18" else if(level == "intermediate") "18-22" else "22-25"} reps
+            
+            ⚡ **UPPER BODY FINISHER** (5 minutes)
+            **Burnout Round** (2 sets, 60s rest):
+            • Max push-ups: ${if(level == "beginner") "AMRAP 30s" else if(level == "intermediate") "AMRAP 45s" else "AMRAP 60s"}
+            • Plank hold: ${if(level == "beginner") "30s" else if(level == "intermediate") "45s" else "60s"}
+            • Arm circles: 20 each direction
+            
+            🧘‍♀️ **UPPER BODY STRETCH** (5 minutes)
+            • Doorway chest stretch: 60 seconds
+            • Overhead tricep stretch: 30s each
+            • Cross-body shoulder: 30s each
+            • Neck side stretches: 30s each
+            • Eagle arms: 45 seconds
+            
+            💡 **UPPER BODY EXCELLENCE**:
+            • Full range of motion on all exercises
+            • Control the negative (lowering) phase
+            • Maintain proper shoulder positioning
+            • Progressive overload weekly
+            • Balance push/pull movements
+            
+            **Target**: Chest, back, shoulders, arms 💪
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltLowerBodyWorkout(level: String): String {
+        return """
+            🦵 **LOWER BODY TRANSFORMATION** (35 minutes)
+            
+            🔥 **LOWER BODY MOBILITY** (6 minutes)
+            • Hip circles: 10 each direction
+            • Leg swings: 15 each direction
+            • Walking lunges: 10 each leg
+            • Calf raises: 20 reps
+            • Glute activation: 15 bridges
+            • Ankle circles: 10 each direction
+            
+            🏋️ **GLUTE & HAMSTRING FOCUS** (12 minutes)
+            **Posterior Chain Circuit** (3 rounds, 2 min rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Glute bridges: 15-20 reps
+                • Single-leg deadlift (assisted): 8 each leg
+                • Wall sits: 30-45 seconds
+                • Clamshells: 15 each side
+                """
+                "intermediate" -> """
+                • Single-leg glute bridges: 12 each leg
+                • Single-leg deadlifts: 10 each leg
+                • Bulgarian split squats: 10 each leg
+                • Lateral lunges: 12 each leg
+                """
+                else -> """
+                • Single-leg hip thrusts: 15 each leg
+                • Single-leg RDL (weighted): 12 each leg
+                • Curtsy to reverse lunge: 10 each leg
+                • Single-leg wall sits: 30s each leg
+                """
+            }}
+            
+            💥 **QUAD DOMINANT PHASE** (12 minutes)
+            **Squat Complex** (3 rounds, 90s rest):
+            • Bodyweight squats: ${if(level == "beginner") "15-20" else if(level == "intermediate") "20-25" else "25-30"} reps
+            • Jump squats: ${if(level == "beginner") "8-10" else if(level == "intermediate") "10-15" else "15-20"} reps
+            • Pulse squats: ${if(level == "beginner") "15" else if(level == "intermediate") "20" else "25"} reps
+            • Single-leg squats: ${if(level == "beginner") "5 assisted" else if(level == "intermediate") "5-8 each" else "8-12 each"} leg
+            
+            ⚡ **PLYOMETRIC BLAST** (5 minutes)
+            **Power Circuit** (3 rounds, 45s rest):
+            • Broad jumps: ${if(level == "beginner") "5-8" else if(level == "intermediate") "8-10" else "10-12"} reps
+            • Lateral bounds: ${if(level == "beginner") "10 total" else if(level == "intermediate") "12 total" else "16 total"}
+            • Jump lunges: ${if(level == "beginner") "12 total" else if(level == "intermediate") "16 total" else "20 total"}
+            
+            🧘‍♀️ **LOWER BODY RELEASE** (5 minutes)
+            • Quad stretch: 45 seconds each leg
+            • Hamstring stretch: 45 seconds each leg
+            • Hip flexor stretch: 45 seconds each leg
+            • Figure-4 stretch: 45 seconds each leg
+            • Child's pose: 60 seconds
+            
+            💡 **LOWER BODY MASTERY**:
+            • Activate glutes before squatting
+            • Keep knees tracking over toes
+            • Full depth on all movements
+            • Control eccentric phase
+            • Progressive overload essential
+            
+            **Target**: Glutes, quads, hamstrings, calves 🦵
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltFunctionalWorkout(level: String): String {
+        return """
+            🏃‍♂️ **FUNCTIONAL FITNESS** (30 minutes)
+            
+            🔥 **MOVEMENT PREP** (5 minutes)
+            • Arm circles: 15 each direction
+            • Leg swings: 12 each direction
+            • Hip circles: 10 each direction
+            • Torso twists: 15 each side
+            • Light bouncing: 45 seconds
+            
+            💪 **FUNCTIONAL PATTERNS** (20 minutes)
+            
+            **Circuit 1: Push/Pull/Squat** (3 rounds, 90s rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Push-ups (modified): 8-10 reps
+                • Inverted rows (table): 8-10 reps
+                • Squats: 12-15 reps
+                • Plank: 30 seconds
+                """
+                "intermediate" -> """
+                • Push-ups: 12-15 reps
+                • Pull-ups/chin-ups: 5-8 reps
+                • Jump squats: 12-15 reps
+                • Mountain climbers: 30 seconds
+                """
+                else -> """
+                • One-arm push-ups: 5 each arm
+                • Wide-grip pull-ups: 8-10 reps
+                • Pistol squats: 5 each leg
+                • Burpees: 10 reps
+                """
+            }}
+            
+            **Circuit 2: Hinge/Lunge/Carry** (3 rounds, 90s rest):
+            • Single-leg deadlift: ${if(level == "beginner") "8 each leg" else if(level == "intermediate") "10 each leg" else "12 each leg"}
+            • Walking lunges: ${if(level == "beginner") "16 total" else if(level == "intermediate") "20 total" else "24 total"}
+            • Farmer's walk (bottles): ${if(level == "beginner") "30 seconds" else if(level == "intermediate") "45 seconds" else "60 seconds"}
+            • Bear crawl: ${if(level == "beginner") "20 seconds" else if(level == "intermediate") "30 seconds" else "45 seconds"}
+            
+            **Circuit 3: Rotation/Gait** (2 rounds, 60s rest):
+            • Wood chops: ${if(level == "beginner") "12 each side" else if(level == "intermediate") "15 each side" else "18 each side"}
+            • Crab walk: ${if(level == "beginner") "10 steps each way" else if(level == "intermediate") "15 steps each way" else "20 steps each way"}
+            • Lateral shuffles: ${if(level == "beginner") "20 seconds" else if(level == "intermediate") "30 seconds" else "40 seconds"}
+            
+            🧘‍♀️ **MOBILITY FLOW** (5 minutes)
+            • Hip flexor stretch: 45 seconds each leg
+            • Thoracic spine rotation: 30 seconds each side
+            • Calf stretch: 30 seconds each leg
+            • Shoulder crossover: 30 seconds each arm
+            • Deep breathing: 90 seconds
+            
+            💡 **FUNCTIONAL TRAINING**:
+            • Movement quality over quantity
+            • Train patterns, not just muscles
+            • Multi-planar movement essential
+            • Real-world strength and mobility
+            • Injury prevention through movement
+            
+            **Benefits**: Real-world strength, movement quality, injury prevention 🏃‍♂️
+        """.trimIndent()
+    }
+    
+    private fun getPrebuiltFullBodyWorkout(level: String): String {
+        return """
+            🎯 **COMPLETE FULL-BODY TRAINING** (40 minutes)
+            
+            🔥 **TOTAL BODY WARM-UP** (6 minutes)
+            • Jumping jacks: 60 seconds
+            • Arm circles: 30 seconds each direction
+            • Leg swings: 15 each direction
+            • Hip circles: 10 each direction
+            • Bodyweight squats: 15 reps
+            • Push-up position hold: 30 seconds
+            
+            💪 **COMPOUND MOVEMENTS** (28 minutes)
+            
+            **Round 1: Foundation** (4 sets, 2 min rest):
+            ${when(level.lowercase()) {
+                "beginner" -> """
+                • Push-ups (modified): 8-12 reps
+                • Bodyweight squats: 12-15 reps
+                • Inverted rows (table): 8-10 reps
+                • Plank hold: 30-45 seconds
+                """
+                "intermediate" -> """
+                • Push-ups: 12-15 reps
+                • Jump squats: 12-15 reps
+                • Pull-ups/chin-ups: 6-10 reps
+                • Single-leg deadlifts: 8 each leg
+                """
+                else -> """
+                • One-arm push-ups: 5 each arm
+                • Pistol squats: 5 each leg
+                • Muscle-ups: 3-5 reps
+                • Single-leg RDL (weighted): 10 each leg
+                """
+            }}
+            
+            **Round 2: Power & Conditioning** (3 sets, 90s rest):
+            • Burpees: ${if(level == "beginner") "5-8" else if(level == "intermediate") "8-12" else "12-15"} reps
+            • Mountain climbers: ${if(level == "beginner") "30 seconds" else if(level == "intermediate") "45 seconds" else "60 seconds"}
+            • Lunges: ${if(level == "beginner") "16 total" else if(level == "intermediate") "20 total" else "24 total"}
+            • Russian twists: ${if(level == "beginner") "20" else if(level == "intermediate") "30" else "40"} total
+            
+            **Round 3: Strength Endurance** (3 sets, 60s rest):
+            • Wall sits: ${if(level == "beginner") "30-45s" else if(level == "intermediate") "45-60s" else "60-90s"}
+            • Pike push-ups: ${if(level == "beginner") "5-8" else if(level == "intermediate") "8-12" else "12-15"} reps
+            • Single-leg glute bridges: ${if(level == "beginner") "10 each" else if(level == "intermediate") "12 each" else "15 each"}
+            • Dead bugs: ${if(level == "beginner") "10 each side" else if(level == "intermediate") "12 each side" else "15 each side"}
+            
+            🧘‍♀️ **TOTAL BODY STRETCH** (6 minutes)
+            • Child's pose: 90 seconds
+            • Downward dog: 60 seconds
+            • Hip flexor stretch: 45 seconds each leg
+            • Spinal twist: 30 seconds each side
+            • Deep breathing meditation: 90 seconds
+            
+            💡 **FULL-BODY TRAINING**:
+            • Compound movements maximize efficiency
+            • Balance pushing and pulling patterns
+            • Include uni-lateral (single-limb) work
+            • Progressive overload for continued gains
+            • Recovery is when adaptation occurs
+            
+            **Target**: Complete muscular and cardiovascular development 🎯
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,48 @@
+package com.fitsoul.core.workout
+
+import com.fitsoul.core.exercise.WorkoutComposer
+
+/** Prompt asking the model for a structured workout plan in the app's section format. */
+fun workoutPlanPrompt(goals: String, level: String, time: Int, equipment: String): String {
+    // Same phase split as the offline composer, so short sessions are not all warm-up
+    val edgeTime = WorkoutComposer.warmupMinutes(time)
+    return """
+        You are FitSoul's expert AI trainer with 15+ years of experience. Create a comprehensive, personalized workout plan.
+
+        🎯 USER PROFILE:
+        • Fitness Goals: $goals
+        • Experience Level: $level
+        • Available Time: $time minutes
+        • Equipment: $equipment
+
+        📋 MANDATORY STRUCTURE (use exactly this format):
+
+        🔥 WARM-UP ($edgeTime minutes)
+        [List 3-4 dynamic warm-up exercises with duration]
+
+        💪 MAIN WORKOUT (${time - 2 * edgeTime} minutes)
+        [Create 3-4 exercises based on goals and level]
+        For each exercise include:
+        • Exercise name
+        • Sets x Reps (adjusted for $level level)
+        • Rest period
+        • Quick form tip
+
+        🧘‍♀️ COOL-DOWN ($edgeTime minutes)
+        [List 3-4 stretching/recovery exercises]
+
+        💡 PRO TIPS:
+        [3-4 specific tips for this workout]
+
+        IMPORTANT GUIDELINES:
+        - Adjust intensity for $level level
+        - Focus primarily on: $goals
+        - All exercises must be possible with: $equipment
+        - Use emojis throughout for engagement
+        - Be specific with sets, reps, and rest times
+        - Include safety reminders
+        - Make it motivational and actionable
+        
+        Generate a complete, ready-to-use workout that takes exactly $time minutes.
+    """.trimIndent()
+}
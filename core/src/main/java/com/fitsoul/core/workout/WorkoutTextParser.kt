@@ -0,0 +1,75 @@
+package com.fitsoul.core.workout
+
+import java.util.UUID
+
+/**
+ * Turns free-form workout text from the model or the offline generators into an [AIWorkout].
+ * Fields the text does not mention fall back to values derived from what was found. Exercise
+ * names are kept exactly as written; screens that need catalog metadata resolve them with
+ * [com.fitsoul.core.exercise.ExerciseResolver] at that point. The patterns are compiled once;
+ * parsing runs on every saved AI response.
+ */
+object WorkoutTextParser {
+
+    private val TITLE = """(?:^|\n)\s*(?:🔥|💪|🏋️|📋|Workout:\s*)?([A-Z][^.\n]{10,80})""".toRegex()
+    private val EXERCISE = """(?:•|-|▪|[0-9]+\.)\s*([A-Za-z][^:\n]{5,50})""".toRegex()
+    private val MUSCLE = """(chest|back|legs|arms|shoulders|core|abs|cardio|full body|glutes|biceps|triceps)"""
+        .toRegex(RegexOption.IGNORE_CASE)
+    private val DURATION = """(\d+)\s*(?:min|minutes?)""".toRegex(RegexOption.IGNORE_CASE)
+    private val DIFFICULTY = """(beginner|intermediate|advanced)""".toRegex(RegexOption.IGNORE_CASE)
+
+    fun parse(
+        content: String,
+        id: String = UUID.randomUUID().toString(),
+        generatedAt: Long = System.currentTimeMillis()
+    ): AIWorkout {
+        val name = TITLE.find(content)?.groupValues?.get(1)?.trim() ?: "AI Generated Workout"
+
+        val exercises = EXERCISE.findAll(content)
+            .map { it.groupValues[1].trim() }
+            .filter { it.length > 3 }
+            .take(10)
+            .toList()
+
+        val targetMuscleGroups = MUSCLE.findAll(content)
+            .map { it.value.lowercase().replaceFirstChar { char -> char.uppercaseChar() } }
+            .distinct()
+            .take(3)
+            .toList()
+            .ifEmpty { listOf("Full Body") }
+
+        val duration = DURATION.find(content)?.groupValues?.get(1)?.toIntOrNull() ?: when {
+            exercises.size <= 4 -> 20
+            exercises.size <= 6 -> 30
+            exercises.size <= 8 -> 45
+            else -> 60
+        }
+
+        val difficulty = DIFFICULTY.find(content)?.value?.replaceFirstChar { it.uppercaseChar() } ?: "Intermediate"
+
+        val caloriesEstimate = when (duration) {
+            in 0..20 -> 150
+            in 21..35 -> 250
+            in 36..50 -> 350
+            else -> 450
+        }
+
+        // First substantial line that is not a decorated heading
+        val description = content.lineSequence()
+            .find { it.trim().length > 20 && !it.contains("🔥") && !it.contains("💪") }
+            ?.trim()?.take(120)
+            ?: "AI-generated personalized workout plan"
+
+        return AIWorkout(
+            id = id,
+            name = name.take(60),
+            description = description,
+            duration = duration,
+            difficulty = difficulty,
+            exercises = exercises.ifEmpty { listOf("Push-ups", "Squats", "Plank", "Jumping Jacks") },
+            targetMuscleGroups = targetMuscleGroups,
+            caloriesEstimate = caloriesEstimate,
+            dateGenerated = generatedAt
+        )
+    }
+}
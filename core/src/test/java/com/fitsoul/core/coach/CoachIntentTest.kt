@@ -0,0 +1,40 @@
+package com.fitsoul.core.coach
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class CoachIntentTest {
+
+    @Test
+    fun programmesWinOverTheBodyPartTheyMention() {
+        assertEquals(CoachIntent.PUSH_DAY, CoachIntent.match("Give me a push day"))
+        assertEquals(CoachIntent.PULL_DAY, CoachIntent.match("I want a pull workout"))
+    }
+
+    @Test
+    fun firstDeclaredIntentWinsWhenSeveralMatch() {
+        assertEquals(CoachIntent.HIIT, CoachIntent.match("quick hiit for cardio"))
+        assertEquals(CoachIntent.YOGA, CoachIntent.match("yoga to stretch"))
+        assertEquals(CoachIntent.CHEST, CoachIntent.match("back and chest"))
+        assertEquals(CoachIntent.LEGS, CoachIntent.match("legs and arms"))
+    }
+
+    @Test
+    fun matchingIgnoresCase() {
+        assertEquals(CoachIntent.PUSH_DAY, CoachIntent.match("PUSH DAY"))
+        assertEquals(CoachIntent.SHOULDERS, CoachIntent.match("Shoulders please"))
+    }
+
+    @Test
+    fun unmatchedInputIsGeneral() {
+        assertEquals(CoachIntent.GENERAL, CoachIntent.match("hello there"))
+        assertEquals(CoachIntent.GENERAL, CoachIntent.match(""))
+    }
+
+    @Test
+    fun focusAreaNamesTheBodyPart() {
+        assertEquals("legs and lower body", CoachIntent.focusArea("leg day"))
+        assertEquals("core and abs", CoachIntent.focusArea("Abs burner"))
+        assertEquals("", CoachIntent.focusArea("hello there"))
+    }
+}
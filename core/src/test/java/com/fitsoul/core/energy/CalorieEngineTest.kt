@@ -0,0 +1,121 @@
+package com.fitsoul.core.energy
+
+import com.fitsoul.core.exercise.ExerciseCatalog
+import com.fitsoul.core.model.UserProfile
+import org.junit.Assert.assertArrayEquals
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class CalorieEngineTest {
+
+    private val engine = CalorieEngine(ExerciseCatalog.default)
+    // No profile: 70 kg default, MET only, so 1 MET is 3.5 * 70 / 200 = 1.225 kcal/min
+    private val metOnly = EnergyModel.from(null)
+
+    @Test
+    fun metFallsBackFromCatalogToKeywordsToDefault() {
+        assertEquals(CalorieEngine.REST_MET, engine.metFor("Burpees", isResting = true), 0f)
+        assertEquals(CalorieEngine.DEFAULT_MET, engine.metFor(null), 0f)
+        assertEquals(CalorieEngine.DEFAULT_MET, engine.metFor("mystery move"), 0f)
+        assertEquals(10.0f, engine.metFor("Sprints"), 0f)
+        assertEquals(8.0f, engine.metFor("stair climber machine"), 0f)
+    }
+
+    @Test
+    fun integratesConstantEffortOverElapsedTime() {
+        val log = SessionSampleLog()
+        log.add(0L, 0, 5f)
+        log.add(60_000L, 0, 5f)
+        log.add(120_000L, 0, 5f)
+        val cumulative = FloatArray(log.size)
+
+        val total = engine.integrate(log, metOnly, cumulative)
+
+        assertEquals(12.25f, total, 1e-3f)
+        assertArrayEquals(floatArrayOf(0f, 6.125f, 12.25f), cumulative, 1e-3f)
+    }
+
+    @Test
+    fun eachIntervalIsChargedAtTheMetItStartedWith() {
+        val log = SessionSampleLog()
+        log.add(0L, 0, 8f)
+        log.add(60_000L, 0, 2f)
+        log.add(120_000L, 0, 2f)
+
+        assertEquals(8f * 1.225f + 2f * 1.225f, engine.integrate(log, metOnly), 1e-3f)
+    }
+
+    @Test
+    fun integrateMatchesSummedIntervals() {
+        val model = EnergyModel.from(UserProfile(35, "female", 165, 60f, "intermediate"))
+        val log = SessionSampleLog()
+        val heartRates = intArrayOf(95, 120, 150, 160, 130)
+        for (i in heartRates.indices) log.add(i * 15_000L, heartRates[i], 6f)
+
+        var summed = 0f
+        for (i in 1 until heartRates.size) {
+            summed += engine.intervalKcal(model, 15_000L, heartRates[i - 1], heartRates[i], 6f)
+        }
+        assertEquals(summed, engine.integrate(log, model), 1e-3f)
+    }
+
+    @Test
+    fun heartRateModelNeedsBodyDataAndAValidReading() {
+        val model = EnergyModel.from(UserProfile(30, "male", 180, 80f, "beginner"))
+
+        assertTrue(model.kcalPerMinute(160, 5f) > model.kcalPerMinute(120, 5f))
+        // Below a plausible heart rate the MET estimate is used: 5 * 3.5 * 80 / 200
+        assertEquals(7f, model.kcalPerMinute(0, 5f), 1e-3f)
+        assertEquals(metOnly.kcalPerMinute(0, 5f), metOnly.kcalPerMinute(160, 5f), 0f)
+    }
+
+    @Test
+    fun emptyAndGrowingLogs() {
+        assertEquals(0f, engine.integrate(SessionSampleLog(), metOnly), 0f)
+
+        val log = SessionSampleLog(initialCapacity = 2)
+        repeat(5) { log.add(it * 1_000L, 100, 4f) }
+        assertEquals(5, log.size)
+        assertEquals(4_000L, log.timestampsMillis[4])
+        log.clear()
+        assertEquals(0, log.size)
+    }
+
+    @Test
+    fun recomputeHistoryIntegratesEverySessionWithTheNewModel() {
+        val model = EnergyModel.from(UserProfile(30, "male", 180, 80f, "beginner"))
+        val short = SessionSampleLog.wrap(longArrayOf(0L, 60_000L), intArrayOf(0, 0), floatArrayOf(5f, 5f))
+        val long = SessionSampleLog.wrap(
+            longArrayOf(0L, 60_000L, 120_000L),
+            intArrayOf(0, 0, 0),
+            floatArrayOf(5f, 5f, 5f)
+        )
+        val totals = FloatArray(2)
+
+        val grandTotal = engine.recomputeHistory(listOf(short, long), model, totals)
+
+        // 5 MET at 80 kg is 7 kcal/min
+        assertArrayEquals(floatArrayOf(7f, 14f), totals, 1e-3f)
+        assertEquals(21f, grandTotal, 1e-3f)
+    }
+
+    @Test
+    fun wrappedLogsKeepGrowing() {
+        val log = SessionSampleLog.wrap(LongArray(0), IntArray(0), FloatArray(0))
+        log.add(0L, 100, 4f)
+        log.add(1_000L, 100, 4f)
+        assertEquals(2, log.size)
+        assertEquals(1_000L, log.timestampsMillis[1])
+    }
+
+    @Test
+    fun signatureChangesOnlyWithTheResolvedInputs() {
+        val signature = EnergyModel.from(UserProfile(30, "male", 180, 80f, "beginner")).signature
+
+        assertEquals(signature, EnergyModel.from(UserProfile(30, "Male", 170, 80f, "advanced")).signature)
+        assertNotEquals(signature, EnergyModel.from(UserProfile(30, "male", 180, 75f, "beginner")).signature)
+        assertNotEquals(signature, metOnly.signature)
+    }
+}
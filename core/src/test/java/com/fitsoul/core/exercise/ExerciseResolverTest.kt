@@ -0,0 +1,59 @@
+package com.fitsoul.core.exercise
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class ExerciseResolverTest {
+
+    private val catalog = ExerciseCatalog.default
+    private val resolver = ExerciseResolver(catalog)
+
+    private fun resolvedName(name: String): String? =
+        resolver.resolve(name).takeIf { it != ExerciseCatalog.NO_ID }?.let(catalog::name)
+
+    @Test
+    fun expandsAbbreviations() {
+        assertEquals("Chest Press", resolvedName("DB bench"))
+    }
+
+    @Test
+    fun spellingsOfOneExerciseShareAnId() {
+        assertEquals("Push-ups", resolvedName("Push up"))
+        assertEquals("Push-ups", resolvedName("pushups"))
+        assertEquals("Push-ups", resolvedName("Push-ups"))
+    }
+
+    @Test
+    fun ignoresSetAndRepDetails() {
+        assertEquals("Bulgarian Split Squats", resolvedName("Bulgarian split squats: 10 each leg"))
+        assertEquals("Push-ups", resolvedName("Push-ups 3 x 12"))
+        assertEquals("Squats", resolvedName("3 x Squats"))
+    }
+
+    @Test
+    fun variantsFallBackToTheBaseMovement() {
+        assertEquals("Push-ups", resolvedName("Wide push-ups"))
+    }
+
+    @Test
+    fun closeMisspellingsResolve() {
+        assertEquals("Jumping Jacks", resolvedName("Jumping jakcs"))
+    }
+
+    @Test
+    fun unknownNamesMissConsistently() {
+        assertEquals(null, resolvedName("Underwater basket weaving"))
+        assertEquals(null, resolvedName("Underwater basket weaving"))
+        assertEquals(null, resolvedName(""))
+        assertEquals(null, resolvedName("12"))
+    }
+
+    @Test
+    fun smallCacheStillResolves() {
+        val uncached = ExerciseResolver(catalog, cacheSize = 1)
+        repeat(3) {
+            assertEquals(catalog.idOf("Push-ups"), uncached.resolve("push up"))
+            assertEquals(catalog.idOf("Squats"), uncached.resolve("squats"))
+        }
+    }
+}
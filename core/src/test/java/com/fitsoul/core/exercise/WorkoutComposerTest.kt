@@ -0,0 +1,66 @@
+package com.fitsoul.core.exercise
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertThrows
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class WorkoutComposerTest {
+
+    private val catalog = ExerciseCatalog.default
+    private val composer = WorkoutComposer(catalog)
+    private val levels = listOf("beginner", "intermediate", "advanced")
+    private val equipmentSets = listOf(emptyList<String>(), listOf("Full Gym")) + catalog.equipmentTypes.map { listOf(it) }
+
+    @Test
+    fun phasesAddUpToTheRequestedMinutes() {
+        for (minutes in listOf(3, 5, 9, 10, 180)) {
+            for (goal in TrainingGoal.values()) {
+                for (level in levels) {
+                    for (equipment in equipmentSets) {
+                        val plan = composer.compose(goal, level, minutes, equipment)
+                        val case = "$minutes min, $goal, $level, $equipment"
+
+                        assertEquals(case, minutes * 60, plan.totalSeconds)
+                        assertEquals(case, plan.warmupSeconds, plan.cooldownSeconds)
+                        assertEquals(
+                            case,
+                            plan.mainSeconds,
+                            plan.exercises.sumOf { it.sets * (it.workSeconds + it.restSeconds) } + plan.finalRestSeconds
+                        )
+                        assertTrue(case, plan.exercises.isNotEmpty())
+                        // Only what no exercise's sets can absorb is left over, in 5-second units
+                        assertTrue(case, plan.finalRestSeconds < 5 * plan.exercises.minOf { it.sets })
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    fun samePlanForTheSameSeed() {
+        val equipment = listOf("Dumbbells")
+        for (goal in TrainingGoal.values()) {
+            for (level in levels) {
+                assertEquals(
+                    composer.compose(goal, level, 30, equipment, seed = 7L),
+                    WorkoutComposer(catalog).compose(goal, level, 30, equipment, seed = 7L)
+                )
+                assertEquals(
+                    composer.compose(goal, level, 45, equipment),
+                    composer.compose(goal, level, 45, equipment)
+                )
+            }
+        }
+    }
+
+    @Test
+    fun rejectsLengthsOutsideTheSupportedRange() {
+        assertThrows(IllegalArgumentException::class.java) {
+            composer.compose(TrainingGoal.GENERAL, "beginner", WorkoutComposer.MAX_MINUTES + 1, emptyList())
+        }
+        assertThrows(IllegalArgumentException::class.java) {
+            composer.compose(TrainingGoal.GENERAL, "beginner", WorkoutComposer.MIN_MINUTES - 1, emptyList())
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fitsoul.core.heartrate
+
+import com.fitsoul.core.model.UserProfile
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class HeartRateZoneTrackerTest {
+
+    // Reserve of 100 bpm, so zone boundaries fall on 120, 130, 140 and 150
+    private val profile = UserProfile().apply {
+        maxHeartRate = 160
+        restingHeartRate = 60
+    }
+
+    @Test
+    fun zoneBoundariesAreInclusiveBelow() {
+        val tracker = HeartRateZoneTracker(profile)
+
+        assertEquals(0, tracker.zoneOf(40f))
+        assertEquals(0, tracker.zoneOf(119.9f))
+        assertEquals(1, tracker.zoneOf(120f))
+        assertEquals(1, tracker.zoneOf(129.9f))
+        assertEquals(2, tracker.zoneOf(130f))
+        assertEquals(3, tracker.zoneOf(140f))
+        assertEquals(3, tracker.zoneOf(149.9f))
+        assertEquals(4, tracker.zoneOf(150f))
+        assertEquals(4, tracker.zoneOf(200f))
+    }
+
+    @Test
+    fun intervalIsCreditedToTheZoneOfItsAverageHeartRate() {
+        val tracker = HeartRateZoneTracker(profile)
+        tracker.addSample(0L, 125)
+        tracker.addSample(10_000L, 135)
+
+        assertEquals(listOf(0, 0, 10, 0, 0), tracker.summary("s", 0L).zoneSeconds)
+    }
+
+    @Test
+    fun sensorGapsAreCappedAndInvalidReadingsIgnored() {
+        val tracker = HeartRateZoneTracker(profile)
+        tracker.addSample(0L, 20)
+        tracker.addSample(5_000L, 145)
+        tracker.addSample(125_000L, 145)
+
+        val summary = tracker.summary("s", 0L)
+        assertEquals(listOf(0, 0, 0, 30, 0), summary.zoneSeconds)
+        assertEquals(145, summary.averageHeartRate)
+        assertEquals(145, summary.maxHeartRate)
+    }
+
+    @Test
+    fun aggregateSumsZonesAcrossSessions() {
+        val first = HeartRateZoneSummary("a", 0L, listOf(10, 20, 0, 0, 0), 1.5f, 0f, 110, 125)
+        val second = HeartRateZoneSummary("b", 0L, listOf(0, 5, 5, 0, 30), 2.5f, 0f, 140, 170)
+
+        val distribution = HeartRateZoneTracker.aggregate(listOf(first, second))
+
+        assertEquals(listOf(10, 25, 5, 0, 30), distribution.zoneSeconds)
+        assertEquals(4f, distribution.trimp, 1e-6f)
+        assertEquals(2, distribution.sessionCount)
+        assertEquals(30f / 70f, distribution.fractionIn(4), 1e-6f)
+    }
+}
@@ -0,0 +1,52 @@
+package com.fitsoul.core.workout
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class ComposedWorkoutTextTest {
+
+    private val drills = listOf(
+        Drill("Arm circles", 30),
+        Drill("Leg swings", 60, side = "leg"),
+        Drill("Jumping jacks", 60),
+        Drill("Dynamic stretching", 120)
+    )
+
+    @Test
+    fun drillsFillThePhaseExactly() {
+        for (minutes in 1..5) {
+            val lines = fitDrills(drills, minutes * 60)
+            assertEquals(lines.toString(), minutes * 60, lines.sumOf(::secondsOf))
+        }
+    }
+
+    @Test
+    fun shortPhasesLeaveDrillsOut() {
+        assertEquals(listOf("Arm circles: 1 minute"), fitDrills(drills, 60))
+        assertEquals(listOf("Arm circles: 40 seconds", "Leg swings: 40 seconds each leg"), fitDrills(drills, 120))
+        assertTrue(fitDrills(drills, 0).isEmpty())
+    }
+
+    @Test
+    fun durationNoteOnlyWhenTheLengthChanged() {
+        assertEquals(null, durationNote(30, 30))
+        assertTrue(durationNote(240, 180)!!.contains("180"))
+        assertTrue(durationNote(1, 3)!!.contains("3"))
+    }
+
+    // Total seconds a "Name: 1 min 30 sec each leg" line asks for
+    private fun secondsOf(line: String): Int {
+        val text = line.substringAfter(": ")
+        val seconds = MIN_SEC.find(text)?.let { it.groupValues[1].toInt() * 60 + it.groupValues[2].toInt() }
+            ?: MINUTES.find(text)?.let { it.groupValues[1].toInt() * 60 }
+            ?: SECONDS.find(text)!!.groupValues[1].toInt()
+        return if (" each " in text) seconds * 2 else seconds
+    }
+
+    private companion object {
+        val MIN_SEC = """(\d+) min (\d+) sec""".toRegex()
+        val MINUTES = """(\d+) minutes?""".toRegex()
+        val SECONDS = """(\d+) seconds""".toRegex()
+    }
+}
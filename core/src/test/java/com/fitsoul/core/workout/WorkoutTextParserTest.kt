@@ -0,0 +1,57 @@
+package com.fitsoul.core.workout
+
+import org.junit.Assert.assertEquals
+import org.junit.Test
+
+class WorkoutTextParserTest {
+
+    @Test
+    fun readsFieldsFromModelText() {
+        val text = """
+            Upper Body Strength Builder
+            A balanced session for chest, back and shoulders.
+            Duration: 30 minutes
+            Difficulty: Advanced
+
+            • Wide push-ups: 3 sets of 12
+            • DB bench press: 4 sets of 8
+            • Bent over rows: 3 sets of 10
+        """.trimIndent()
+
+        val workout = WorkoutTextParser.parse(text, id = "w1", generatedAt = 42L)
+
+        assertEquals("w1", workout.id)
+        assertEquals(42L, workout.dateGenerated)
+        assertEquals("Upper Body Strength Builder", workout.name)
+        assertEquals(listOf("Wide push-ups", "DB bench press", "Bent over rows"), workout.exercises)
+        assertEquals(listOf("Chest", "Back", "Shoulders"), workout.targetMuscleGroups)
+        assertEquals(30, workout.duration)
+        assertEquals("Advanced", workout.difficulty)
+        assertEquals(250, workout.caloriesEstimate)
+    }
+
+    @Test
+    fun missingFieldsFallBackToDefaults() {
+        val workout = WorkoutTextParser.parse("ok", id = "w2", generatedAt = 0L)
+
+        assertEquals("AI Generated Workout", workout.name)
+        assertEquals(listOf("Push-ups", "Squats", "Plank", "Jumping Jacks"), workout.exercises)
+        assertEquals(listOf("Full Body"), workout.targetMuscleGroups)
+        assertEquals(20, workout.duration)
+        assertEquals("Intermediate", workout.difficulty)
+        assertEquals(150, workout.caloriesEstimate)
+        assertEquals("AI-generated personalized workout plan", workout.description)
+    }
+
+    @Test
+    fun readsBulletsInTheComposedShape() {
+        val text = listOf("• Squats: 3 sets of 12, 60s rest", "• Glute bridges: 3 sets of 15, 45s rest")
+            .joinToString("\n", prefix = "Lower Body Builder Session\n45 minutes, beginner\n")
+
+        val workout = WorkoutTextParser.parse(text)
+
+        assertEquals(listOf("Squats", "Glute bridges"), workout.exercises)
+        assertEquals(45, workout.duration)
+        assertEquals("Beginner", workout.difficulty)
+    }
+}
@@ -0,0 +1,60 @@
+package com.fitsoul.core.workout
+
+/** A single offline generation request, as the app issues it. */
+data class GenerationInput(
+    val goals: List<String>,
+    val level: String,
+    val time: Int,
+    val equipment: List<String>
+) {
+    val goalsText: String get() = goals.joinToString(", ")
+    val equipmentText: String
+        get() = if (equipment.isEmpty()) "No equipment (bodyweight exercises only)" else equipment.joinToString(", ")
+}
+
+/** Input space shared by the JMH benchmarks in `:core` and the on-device ones in `:microbenchmark`. */
+object BenchmarkInputs {
+    val GOALS = listOf("Strength", "Muscle Gain", "Cardio", "Endurance", "Weight Loss", "Flexibility", "General Fitness")
+    val LEVELS = listOf("Beginner", "Intermediate", "Advanced")
+    val TIMES = listOf(15, 20, 30, 45, 60)
+    val EQUIPMENT = listOf(emptyList(), listOf("Dumbbells"), listOf("Resistance Bands"), listOf("Full Gym"))
+
+    /** Every goal × level × time × equipment combination. */
+    val ALL: List<GenerationInput> = GOALS.flatMap { goal ->
+        LEVELS.flatMap { level ->
+            TIMES.flatMap { time ->
+                EQUIPMENT.map { equipment -> GenerationInput(listOf(goal), level, time, equipment) }
+            }
+        }
+    }
+
+    const val COMBINATIONS = 7 * 3 * 5 * 4
+
+    fun forGoal(goal: String): List<GenerationInput> = ALL.filter { it.goals.single() == goal }
+
+    /**
+     * Workout text of about [kilobytes] KB made of consecutive generator outputs, i.e. the
+     * responses users actually receive, cut to a controlled size.
+     */
+    fun response(kilobytes: Int): String {
+        val target = kilobytes * 1024
+        val text = StringBuilder(target + 4096)
+        var i = 0
+        while (text.length < target) {
+            val input = ALL[i++ % ALL.size]
+            text.append(
+                OfflineWorkoutGenerator.generate(
+                    workoutPlanPrompt(input.goalsText, input.level, input.time, input.equipmentText),
+                    input.goalsText, input.level, input.time, input.equipmentText
+                )
+            ).append("\n\n")
+        }
+        return text.substring(0, target)
+    }
+
+    /** A library of [count] saved workouts with varied content. */
+    fun library(count: Int): List<AIWorkout> = List(count) { i ->
+        WorkoutTextParser.parse(response(1 + i % 3), id = "workout_$i", generatedAt = 1_700_000_000_000L + i)
+            .copy(completionCount = i % 7)
+    }
+}
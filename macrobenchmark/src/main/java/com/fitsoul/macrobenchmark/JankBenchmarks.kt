@@ -0,0 +1,135 @@
+package com.fitsoul.macrobenchmark
+
+import android.content.Intent
+import android.os.SystemClock
+import androidx.benchmark.macro.BaselineProfileMode
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.FrameTimingMetric
+import androidx.benchmark.macro.MacrobenchmarkScope
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import androidx.test.uiautomator.By
+import androidx.test.uiautomator.Direction
+import androidx.test.uiautomator.UiObject2
+import androidx.test.uiautomator.Until
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Frame timing for the heaviest screens. Each scenario opens the benchmark build's
+ * `BenchmarkActivity` straight onto one screen over seeded data (200 chat messages, 500 saved
+ * workouts), so no sign-in or navigation is measured. [FrameTimingMetric] reports P50, P90,
+ * P95 and P99 of frame CPU time and frame overrun.
+ *
+ * Run with `./gradlew :macrobenchmark:connectedBenchmarkAndroidTest`.
+ */
+@RunWith(AndroidJUnit4::class)
+@LargeTest
+class JankBenchmarks {
+
+    @get:Rule
+    val rule = MacrobenchmarkRule()
+
+    @Test
+    fun scrollChat() = measureScreen(SCREEN_CHAT, readyTag = "chat_list") {
+        // Newest messages are at the bottom; flinging up pages in older history
+        val list = list("chat_list")
+        repeat(FLINGS) { list.fling(Direction.UP) }
+        repeat(FLINGS) { list.fling(Direction.DOWN) }
+    }
+
+    @Test
+    fun scrollSavedWorkouts() = measureScreen(SCREEN_WORKOUTS, readyTag = "workout_list") {
+        val list = list("workout_list")
+        repeat(FLINGS) { list.fling(Direction.DOWN) }
+        repeat(FLINGS) { list.fling(Direction.UP) }
+    }
+
+    @Test
+    fun activeWorkout() = measureScreen(
+        SCREEN_WORKOUT_SESSION,
+        readyTag = "start_workout",
+        setup = {
+            device.findObject(By.res("start_workout")).click()
+            device.wait(Until.hasObject(By.res("complete_set")), UI_TIMEOUT_MS)
+        }
+    ) {
+        // Elapsed time ticks throughout; completing a set also starts the rest countdown
+        device.findObject(By.res("complete_set")).click()
+        SystemClock.sleep(TIMER_TICK_WINDOW_MS)
+        val list = list("workout_session_list")
+        list.fling(Direction.DOWN)
+        list.fling(Direction.UP)
+    }
+
+    @Test
+    fun switchProgressTimeRanges() = measureScreen(SCREEN_PROGRESS, readyTag = "progress_list") {
+        for (range in TIME_RANGES) {
+            device.findObject(By.res("range_$range")).click()
+            device.waitForIdle()
+        }
+        val list = list("progress_list")
+        list.fling(Direction.DOWN)
+        list.fling(Direction.UP)
+    }
+
+    @Test
+    fun scrollDashboard() = measureScreen(SCREEN_DASHBOARD, readyTag = "dashboard_list") {
+        val list = list("dashboard_list")
+        list.fling(Direction.DOWN)
+        list.fling(Direction.UP)
+    }
+
+    private fun measureScreen(
+        screen: String,
+        readyTag: String,
+        setup: MacrobenchmarkScope.() -> Unit = {},
+        measure: MacrobenchmarkScope.() -> Unit
+    ) = rule.measureRepeated(
+        packageName = TARGET_PACKAGE,
+        metrics = listOf(FrameTimingMetric()),
+        // Same as the startup benchmarks: Require throws until a profile is committed
+        compilationMode = CompilationMode.Partial(BaselineProfileMode.UseIfAvailable),
+        startupMode = StartupMode.WARM,
+        iterations = ITERATIONS,
+        setupBlock = {
+            pressHome()
+            startActivityAndWait(
+                Intent()
+                    .setClassName(TARGET_PACKAGE, BENCHMARK_ACTIVITY)
+                    .putExtra(EXTRA_SCREEN, screen)
+            )
+            // The first iteration seeds storage before the screen appears
+            device.wait(Until.hasObject(By.res(readyTag)), SEED_TIMEOUT_MS)
+            setup()
+        },
+        measureBlock = measure
+    )
+
+    private fun MacrobenchmarkScope.list(tag: String): UiObject2 =
+        device.findObject(By.res(tag)).apply {
+            // Keep gestures clear of the system navigation area
+            setGestureMargin(device.displayWidth / 5)
+        }
+
+    private companion object {
+        const val TARGET_PACKAGE = "com.fitsoul.app"
+        const val BENCHMARK_ACTIVITY = "com.fitsoul.app.benchmark.BenchmarkActivity"
+        const val EXTRA_SCREEN = "screen"
+        const val SCREEN_CHAT = "chat"
+        const val SCREEN_WORKOUTS = "workouts"
+        const val SCREEN_WORKOUT_SESSION = "workout_session"
+        const val SCREEN_PROGRESS = "progress"
+        const val SCREEN_DASHBOARD = "dashboard"
+
+        val TIME_RANGES = listOf("Month", "3 Months", "Year", "Week")
+        const val ITERATIONS = 5
+        const val FLINGS = 3
+        const val TIMER_TICK_WINDOW_MS = 5_000L
+        const val UI_TIMEOUT_MS = 10_000L
+        const val SEED_TIMEOUT_MS = 120_000L
+    }
+}
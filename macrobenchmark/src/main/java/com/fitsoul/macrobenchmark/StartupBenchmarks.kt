@@ -0,0 +1,61 @@
+package com.fitsoul.macrobenchmark
+
+import androidx.benchmark.macro.BaselineProfileMode
+import androidx.benchmark.macro.CompilationMode
+import androidx.benchmark.macro.StartupMode
+import androidx.benchmark.macro.StartupTimingMetric
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import androidx.test.filters.LargeTest
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+
+/**
+ * Time to initial display and, via `ReportDrawn`, time to full display for each startup type.
+ * The `Compiled` variants use the shipped baseline profile; `None` is the no-profile floor,
+ * so the gap between them is what the profile buys.
+ *
+ * Run with `./gradlew :macrobenchmark:connectedBenchmarkAndroidTest`.
+ */
+@RunWith(AndroidJUnit4::class)
+@LargeTest
+class StartupBenchmarks {
+
+    @get:Rule
+    val rule = MacrobenchmarkRule()
+
+    @Test
+    fun coldStartupNoCompilation() = startup(StartupMode.COLD, CompilationMode.None())
+
+    @Test
+    fun coldStartupBaselineProfile() = startup(StartupMode.COLD, baselineProfile())
+
+    @Test
+    fun warmStartupBaselineProfile() = startup(StartupMode.WARM, baselineProfile())
+
+    @Test
+    fun hotStartupBaselineProfile() = startup(StartupMode.HOT, baselineProfile())
+
+    // UseIfAvailable until app/src/main/baseline-prof.txt is generated and committed; Require
+    // throws on a build that has no profile
+    private fun baselineProfile() = CompilationMode.Partial(BaselineProfileMode.UseIfAvailable)
+
+    private fun startup(startupMode: StartupMode, compilationMode: CompilationMode) =
+        rule.measureRepeated(
+            packageName = TARGET_PACKAGE,
+            metrics = listOf(StartupTimingMetric()),
+            compilationMode = compilationMode,
+            startupMode = startupMode,
+            iterations = ITERATIONS,
+            setupBlock = { pressHome() }
+        ) {
+            // TTFD ends at ReportDrawn on login or, for a restored session, main_app
+            startActivityAndWait()
+        }
+
+    private companion object {
+        const val TARGET_PACKAGE = "com.fitsoul.app"
+        const val ITERATIONS = 10
+    }
+}
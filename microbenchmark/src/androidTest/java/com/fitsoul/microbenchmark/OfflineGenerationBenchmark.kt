@@ -0,0 +1,51 @@
+package com.fitsoul.microbenchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.filters.LargeTest
+import com.fitsoul.core.workout.BenchmarkInputs
+import com.fitsoul.core.workout.FallbackWorkoutGenerator
+import com.fitsoul.core.workout.OfflineWorkoutGenerator
+import com.fitsoul.core.workout.workoutPlanPrompt
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/**
+ * On-device twin of the `:core` JMH generation benchmark, one result per goal. Each
+ * measurement generates a workout for every level, time and equipment combination of that
+ * goal; time and allocations are reported per measurement.
+ *
+ * Run with `./gradlew :microbenchmark:connectedReleaseAndroidTest`.
+ */
+@LargeTest
+@RunWith(Parameterized::class)
+class OfflineGenerationBenchmark(private val goal: String) {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val inputs = BenchmarkInputs.forGoal(goal)
+
+    @Test
+    fun offlineResponse() = benchmarkRule.measureRepeated {
+        for (input in inputs) {
+            val prompt = workoutPlanPrompt(input.goalsText, input.level, input.time, input.equipmentText)
+            OfflineWorkoutGenerator.generate(prompt, input.goalsText, input.level, input.time, input.equipmentText)
+        }
+    }
+
+    @Test
+    fun fallbackWorkout() = benchmarkRule.measureRepeated {
+        for (input in inputs) {
+            FallbackWorkoutGenerator.generate(input.goals, input.level, input.time, input.equipment)
+        }
+    }
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "{0}")
+        fun goals(): List<String> = BenchmarkInputs.GOALS
+    }
+}
@@ -0,0 +1,49 @@
+package com.fitsoul.microbenchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.filters.LargeTest
+import com.fitsoul.core.workout.AIWorkout
+import com.fitsoul.core.workout.BenchmarkInputs
+import kotlinx.serialization.decodeFromString
+import kotlinx.serialization.encodeToString
+import kotlinx.serialization.json.Json
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/** Saved-workouts JSON round trip on device, by library size. */
+@LargeTest
+@RunWith(Parameterized::class)
+class WorkoutJsonBenchmark(workouts: Int) {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    // Same configuration as WorkoutRepository
+    private val json = Json { ignoreUnknownKeys = true }
+    private val library = BenchmarkInputs.library(workouts)
+    private val encoded = json.encodeToString(library)
+
+    @Test
+    fun encode() = benchmarkRule.measureRepeated {
+        json.encodeToString(library)
+    }
+
+    @Test
+    fun decode() = benchmarkRule.measureRepeated {
+        json.decodeFromString<List<AIWorkout>>(encoded)
+    }
+
+    @Test
+    fun roundTrip() = benchmarkRule.measureRepeated {
+        json.decodeFromString<List<AIWorkout>>(json.encodeToString(library))
+    }
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "{0}")
+        fun sizes(): List<Int> = listOf(1, 100, 500)
+    }
+}
@@ -0,0 +1,33 @@
+package com.fitsoul.microbenchmark
+
+import androidx.benchmark.junit4.BenchmarkRule
+import androidx.benchmark.junit4.measureRepeated
+import androidx.test.filters.LargeTest
+import com.fitsoul.core.workout.BenchmarkInputs
+import com.fitsoul.core.workout.WorkoutTextParser
+import org.junit.Rule
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.Parameterized
+
+/** Parsing a saved AI response of 1–10 KB into a workout, on device. */
+@LargeTest
+@RunWith(Parameterized::class)
+class WorkoutParsingBenchmark(private val responseKb: Int) {
+
+    @get:Rule
+    val benchmarkRule = BenchmarkRule()
+
+    private val response = BenchmarkInputs.response(responseKb)
+
+    @Test
+    fun parse() = benchmarkRule.measureRepeated {
+        WorkoutTextParser.parse(response, id = "benchmark", generatedAt = 0L)
+    }
+
+    companion object {
+        @JvmStatic
+        @Parameterized.Parameters(name = "{0}KB")
+        fun sizes(): List<Int> = listOf(1, 2, 5, 10)
+    }
+}
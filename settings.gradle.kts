@@ -24,3 +24,7 @@ dependencyResolutionManagement {
 
 rootProject.name = "Fitsoul"
 include(":app")
+include(":core")
+include(":baselineprofile")
+include(":macrobenchmark")
+include(":microbenchmark")